@@ -43,4 +43,12 @@ allprojects {
         configDirectory.set(rootProject.file("resources"))
     }
 
+    // generates the injection descriptors of the service extensions at build time, so that they do not need to be
+    // scanned reflectively on boot
+    if (path != ":core:common:boot-processor") {
+        plugins.withType<JavaPlugin> {
+            dependencies.add(JavaPlugin.ANNOTATION_PROCESSOR_CONFIGURATION_NAME, project(":core:common:boot-processor"))
+        }
+    }
+
 }
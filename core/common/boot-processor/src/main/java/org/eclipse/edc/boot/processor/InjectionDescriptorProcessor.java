@@ -0,0 +1,356 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates an {@code InjectionDescriptor} for every concrete {@code ServiceExtension} class
+ * of the compilation, and registers the descriptors in
+ * {@code META-INF/services/org.eclipse.edc.spi.system.injection.InjectionDescriptor}. A descriptor lists the
+ * {@code @Inject}, {@code @Setting} (with a key) and {@code @Configuration} fields and the {@code @Provider} methods
+ * declared by the extension, together with a setter for every field and an invoker for every provider method, so the
+ * runtime does not need to scan the extension reflectively on boot.
+ * <p>
+ * Classes the generated code could not access, or that declare members the runtime would reject (for example
+ * non-public provider methods), get no descriptor: the runtime falls back to the reflective scan for them, which also
+ * reports the errors. The annotations are matched by name, the processor has no dependency on the runtime metamodel.
+ */
+@SupportedAnnotationTypes("*")
+public class InjectionDescriptorProcessor extends AbstractProcessor {
+
+    public static final String DESCRIPTOR_SUFFIX = "_InjectionDescriptor";
+
+    static final String DESCRIPTOR = "org.eclipse.edc.spi.system.injection.InjectionDescriptor";
+    static final String SERVICE_EXTENSION = "org.eclipse.edc.spi.system.ServiceExtension";
+    static final String SERVICE_EXTENSION_CONTEXT = "org.eclipse.edc.spi.system.ServiceExtensionContext";
+    static final String INJECT = "org.eclipse.edc.runtime.metamodel.annotation.Inject";
+    static final String SETTING = "org.eclipse.edc.runtime.metamodel.annotation.Setting";
+    static final String CONFIGURATION = "org.eclipse.edc.runtime.metamodel.annotation.Configuration";
+    static final String PROVIDER = "org.eclipse.edc.runtime.metamodel.annotation.Provider";
+
+    private final Set<String> descriptors = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        var elements = processingEnv.getElementUtils();
+        var serviceExtension = elements.getTypeElement(SERVICE_EXTENSION);
+        if (serviceExtension == null || elements.getTypeElement(DESCRIPTOR) == null) {
+            return false;
+        }
+
+        var types = processingEnv.getTypeUtils();
+        var extensionType = types.erasure(serviceExtension.asType());
+        ElementFilter.typesIn(roundEnv.getRootElements()).stream()
+                .flatMap(this::withMemberTypes)
+                .filter(type -> type.getKind() == ElementKind.CLASS && types.isAssignable(types.erasure(type.asType()), extensionType))
+                .forEach(type -> describe(type).ifPresent(descriptor -> write(type, descriptor)));
+
+        return false;
+    }
+
+    private Stream<TypeElement> withMemberTypes(TypeElement type) {
+        return Stream.concat(Stream.of(type), ElementFilter.typesIn(type.getEnclosedElements()).stream().flatMap(this::withMemberTypes));
+    }
+
+    /**
+     * Renders the body of the descriptor of the given class, or nothing if the class must be scanned reflectively.
+     */
+    private Optional<String> describe(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !isDescribable(type)) {
+            return Optional.empty();
+        }
+
+        var target = type.getQualifiedName() + ".class";
+        var nullValue = settingNullValue();
+        var fieldMembers = new LinkedHashMap<String, List<String>>();
+        fieldMembers.put("services", new ArrayList<>());
+        fieldMembers.put("settings", new ArrayList<>());
+        fieldMembers.put("configurations", new ArrayList<>());
+        var providers = new ArrayList<String>();
+
+        for (var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            var inject = annotationValues(field, INJECT);
+            var setting = annotationValues(field, SETTING);
+            var configuration = annotationValues(field, CONFIGURATION);
+            if (inject.isEmpty() && setting.isEmpty() && configuration.isEmpty()) {
+                continue;
+            }
+
+            var settingKey = setting.map(values -> (String) values.get("key"));
+            if (settingKey.isPresent() && nullValue == null) {
+                return Optional.empty();
+            }
+            var isSettingInjected = settingKey.isPresent() && !settingKey.get().equals(nullValue);
+            if (inject.isEmpty() && configuration.isEmpty() && !isSettingInjected) {
+                continue;
+            }
+
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL) || !isAccessible(field.asType(), type)) {
+                return Optional.empty();
+            }
+
+            var name = constant(field.getSimpleName().toString());
+            var fieldType = classLiteral(field.asType());
+            var setter = "%s.setter(LOOKUP, %s, %s, %s)".formatted(DESCRIPTOR, target, name, fieldType);
+
+            inject.ifPresent(values -> fieldMembers.get("services")
+                    .add("new ServiceField(%s, %s, %s, %s)".formatted(name, fieldType, values.get("required"), setter)));
+            if (isSettingInjected) {
+                var values = setting.get();
+                fieldMembers.get("settings")
+                        .add("new SettingField(%s, %s, %s, %s, %s, %s, %s)".formatted(name, fieldType, constant(settingKey.get()), values.get("required"),
+                                constant((String) values.get("defaultValue")), values.get("warnOnMissingConfig"), setter));
+            }
+            configuration.ifPresent(values -> fieldMembers.get("configurations")
+                    .add("new ConfigurationField(%s, %s, %s)".formatted(name, fieldType, setter)));
+        }
+
+        for (var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            var provider = annotationValues(method, PROVIDER);
+            if (provider.isEmpty()) {
+                continue;
+            }
+            var invocation = invocation(method);
+            if (invocation == null || !isAccessible(method.getReturnType(), type)) {
+                return Optional.empty();
+            }
+            providers.add("new ServiceProviderMethod(%s, %s, %s, (target, context) -> ((%s) target).%s)"
+                    .formatted(constant(method.getSimpleName().toString()), classLiteral(method.getReturnType()), provider.get().get("isDefault"),
+                            type.getQualifiedName(), invocation));
+        }
+
+        var body = new StringBuilder();
+        body.append(method("java.lang.Class<?>", "target", target));
+        fieldMembers.forEach((name, members) -> body.append(method("java.util.List<%s>".formatted(recordName(name)), name, list(members))));
+        body.append(method("java.util.List<ServiceProviderMethod>", "providers", list(providers)));
+        return Optional.of(body.toString());
+    }
+
+    private void write(TypeElement type, String body) {
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var simpleName = descriptorSimpleName(type);
+        var qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        if (!descriptors.add(qualifiedName)) {
+            return;
+        }
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(DESCRIPTOR).append(" {\n\n")
+                .append("    private static final java.lang.invoke.MethodHandles.Lookup LOOKUP = java.lang.invoke.MethodHandles.lookup();\n")
+                .append(body)
+                .append("}\n");
+
+        try (var writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write injection descriptor: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeServiceFile() {
+        if (descriptors.isEmpty()) {
+            return;
+        }
+        try (var writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + DESCRIPTOR).openWriter()) {
+            for (var descriptor : descriptors) {
+                writer.write(descriptor + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot register injection descriptors: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The class must be instantiable by the runtime and reachable from a class in its own package.
+     */
+    private boolean isDescribable(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement current; element = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE) || current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (current.getNestingKind() == NestingKind.MEMBER && !current.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the generated descriptor, which lives in the package of {@code target}, can name the given type.
+     */
+    private boolean isAccessible(TypeMirror type, TypeElement target) {
+        var erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return true;
+        }
+        if (erased instanceof ArrayType arrayType) {
+            return isAccessible(arrayType.getComponentType(), target);
+        }
+        if (erased.getKind() == TypeKind.ERROR || !(erased instanceof DeclaredType declaredType)) {
+            return false;
+        }
+        var elements = processingEnv.getElementUtils();
+        var targetPackage = elements.getPackageOf(target);
+        for (Element element = declaredType.asElement(); element instanceof TypeElement current; element = current.getEnclosingElement()) {
+            var modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(targetPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders the call of a provider method, or returns null if the runtime could not call it: provider methods must be
+     * public, non-void, and take either no argument or a single {@code ServiceExtensionContext}.
+     */
+    private String invocation(ExecutableElement method) {
+        var modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) || method.getReturnType().getKind() == TypeKind.VOID || !method.getThrownTypes().isEmpty()) {
+            return null;
+        }
+        var parameters = method.getParameters();
+        if (parameters.isEmpty()) {
+            return method.getSimpleName() + "()";
+        }
+        if (parameters.size() == 1 && SERVICE_EXTENSION_CONTEXT.equals(typeName(parameters.get(0).asType()))) {
+            return method.getSimpleName() + "(context)";
+        }
+        return null;
+    }
+
+    /**
+     * The values of the given annotation on the element, including the default ones, by attribute name.
+     */
+    private Optional<Map<String, Object>> annotationValues(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                .findFirst()
+                .map(mirror -> processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet().stream()
+                        .collect(Collectors.toMap(entry -> entry.getKey().getSimpleName().toString(), entry -> entry.getValue().getValue())));
+    }
+
+    /**
+     * The {@code Setting.NULL} marker, that denotes a setting without key or without default value.
+     */
+    private String settingNullValue() {
+        var setting = processingEnv.getElementUtils().getTypeElement(SETTING);
+        if (setting == null) {
+            return null;
+        }
+        return ElementFilter.fieldsIn(setting.getEnclosedElements()).stream()
+                .filter(field -> field.getSimpleName().contentEquals("NULL"))
+                .map(VariableElement::getConstantValue)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private String classLiteral(TypeMirror type) {
+        return typeName(type) + ".class";
+    }
+
+    /**
+     * The canonical name of the erasure of the given type, as it can be used in source code.
+     */
+    private String typeName(TypeMirror type) {
+        var erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase();
+        }
+        if (erased instanceof ArrayType arrayType) {
+            return typeName(arrayType.getComponentType()) + "[]";
+        }
+        return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+    }
+
+    private String descriptorSimpleName(TypeElement type) {
+        var name = type.getSimpleName().toString();
+        for (var element = type.getEnclosingElement(); element instanceof TypeElement enclosing; element = enclosing.getEnclosingElement()) {
+            name = enclosing.getSimpleName() + "_" + name;
+        }
+        return name + DESCRIPTOR_SUFFIX;
+    }
+
+    private String recordName(String method) {
+        return switch (method) {
+            case "services" -> "ServiceField";
+            case "settings" -> "SettingField";
+            default -> "ConfigurationField";
+        };
+    }
+
+    private String constant(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String method(String returnType, String name, String expression) {
+        return "\n    @Override\n    public %s %s() {\n        return %s;\n    }\n".formatted(returnType, name, expression);
+    }
+
+    private String list(List<String> members) {
+        if (members.isEmpty()) {
+            return "java.util.List.of()";
+        }
+        return members.stream().collect(Collectors.joining(",\n                ", "java.util.List.of(\n                ", "\n        )"));
+    }
+}
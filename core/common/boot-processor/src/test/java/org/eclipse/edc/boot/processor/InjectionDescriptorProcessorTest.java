@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.processor;
+
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor.ConfigurationField;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor.ServiceField;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor.ServiceProviderMethod;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor.SettingField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+class InjectionDescriptorProcessorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldGenerateDescriptor() throws Exception {
+        var output = compile("""
+                package sample;
+
+                import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+                import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+                import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+                import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+                import org.eclipse.edc.spi.system.ServiceExtension;
+                import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+                import java.util.List;
+
+                public class SampleExtension implements ServiceExtension {
+                    @Setting(description = "documentation only")
+                    public static final String DOCUMENTED = "edc.documented";
+
+                    @Inject
+                    private List<String> service;
+                    @Inject(required = false)
+                    private Integer optionalService;
+                    @Setting(key = "edc.sample.value", defaultValue = "42", warnOnMissingConfig = true)
+                    private int value;
+                    @Configuration
+                    private Object config;
+
+                    @Provider
+                    public String provider() {
+                        return "provided";
+                    }
+
+                    @Provider(isDefault = true)
+                    public ServiceExtensionContext defaultProvider(ServiceExtensionContext context) {
+                        return context;
+                    }
+                }
+                """);
+
+        try (var classLoader = new URLClassLoader(new URL[]{ output.toUri().toURL() }, getClass().getClassLoader())) {
+            var descriptors = ServiceLoader.load(InjectionDescriptor.class, classLoader).stream().map(ServiceLoader.Provider::get).toList();
+
+            assertThat(descriptors).hasSize(1);
+            var descriptor = descriptors.get(0);
+            var target = classLoader.loadClass("sample.SampleExtension");
+            assertThat(descriptor.target()).isEqualTo(target);
+            assertThat(descriptor.services()).extracting(ServiceField::name, ServiceField::type, ServiceField::required)
+                    .containsExactly(tuple("service", List.class, true), tuple("optionalService", Integer.class, false));
+            assertThat(descriptor.settings()).extracting(SettingField::name, SettingField::type, SettingField::key, SettingField::required, SettingField::defaultValue, SettingField::warnOnMissingConfig)
+                    .containsExactly(tuple("value", int.class, "edc.sample.value", true, "42", true));
+            assertThat(descriptor.configurations()).extracting(ConfigurationField::name, ConfigurationField::type)
+                    .containsExactly(tuple("config", Object.class));
+            assertThat(descriptor.providers()).extracting(ServiceProviderMethod::name, ServiceProviderMethod::returnType, ServiceProviderMethod::isDefault)
+                    .containsExactly(tuple("provider", String.class, false), tuple("defaultProvider", ServiceExtensionContext.class, true));
+
+            var extension = target.getConstructor().newInstance();
+            descriptor.settings().get(0).setter().accept(extension, 7);
+            var field = target.getDeclaredField("value");
+            field.setAccessible(true);
+            assertThat(field.get(extension)).isEqualTo(7);
+
+            var context = mock(ServiceExtensionContext.class);
+            assertThat(descriptor.providers().get(0).invoker().apply(extension, context)).isEqualTo("provided");
+            assertThat(descriptor.providers().get(1).invoker().apply(extension, context)).isSameAs(context);
+        }
+    }
+
+    @Test
+    void shouldNotGenerateDescriptor_whenExtensionCannotBeDescribed() throws IOException {
+        var output = compile("""
+                package sample;
+
+                import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+                import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+                import org.eclipse.edc.spi.system.ServiceExtension;
+
+                public class SampleExtension {
+                    public abstract static class AbstractExtension implements ServiceExtension {
+                    }
+
+                    private static class PrivateExtension implements ServiceExtension {
+                        @Inject
+                        private String service;
+                    }
+
+                    public class InnerExtension implements ServiceExtension {
+                    }
+
+                    public static class NonPublicProviderExtension implements ServiceExtension {
+                        @Provider
+                        String provider() {
+                            return "";
+                        }
+                    }
+
+                    public static class PrivateTypeExtension implements ServiceExtension {
+                        @Inject
+                        private PrivateType service;
+                    }
+
+                    private static class PrivateType {
+                    }
+                }
+                """);
+
+        assertThat(output.resolve("META-INF/services/" + InjectionDescriptor.class.getName())).doesNotExist();
+        assertThat(output.resolve("sample")).isDirectoryNotContaining("glob:**" + InjectionDescriptorProcessor.DESCRIPTOR_SUFFIX + "*");
+    }
+
+    @Test
+    void shouldNotGenerateDescriptor_whenClassIsNoExtension() throws IOException {
+        var output = compile("""
+                package sample;
+
+                import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+
+                public class SampleExtension {
+                    @Inject
+                    private String service;
+                }
+                """);
+
+        assertThat(output.resolve("META-INF/services/" + InjectionDescriptor.class.getName())).doesNotExist();
+    }
+
+    private Path compile(String source) throws IOException {
+        var sourceFile = tempDir.resolve("sample/SampleExtension.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+        var output = Files.createDirectories(tempDir.resolve("out"));
+
+        var result = ToolProvider.getSystemJavaCompiler().run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", InjectionDescriptorProcessor.class.getName(),
+                "-d", output.toString(),
+                sourceFile.toString());
+
+        assertThat(result).isZero();
+        return output;
+    }
+}
@@ -23,6 +23,7 @@ dependencies {
     implementation(project(":core:common:lib:boot-lib"))
 
     implementation(libs.opentelemetry.api)
+    implementation(libs.crac)
 }
 
 
@@ -23,6 +23,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.apiversion.ApiVersionService;
@@ -46,6 +47,15 @@ public class BootServicesExtension implements ServiceExtension {
     @Setting(description = "Configures this component's ID. This should be a unique, stable and deterministic identifier.", defaultValue = "<random UUID>")
     public static final String COMPONENT_ID = "edc.component.id";
 
+    @Setting(description = "Prepares and starts independent extensions in parallel. Set to false to prepare and start them one at a time in dependency order.", defaultValue = "true", type = "boolean")
+    public static final String BOOT_PARALLEL_ENABLED = "edc.boot.parallel.enabled";
+
+    @Setting(description = "Maximum number of threads used to prepare and start extensions in parallel.", defaultValue = "<available processors>", type = "int")
+    public static final String BOOT_PARALLELISM = "edc.boot.parallelism";
+
+    @Setting(description = "Exits right after the runtime has booted. Meant for training runs, e.g. to record a class data sharing archive with -XX:ArchiveClassesAtExit.", defaultValue = "false", type = "boolean")
+    public static final String BOOT_EXIT_AFTER_START = "edc.boot.exit-after-start";
+
     private HealthCheckServiceImpl healthCheckService;
 
     @Override
@@ -84,6 +94,11 @@ public class BootServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public MetricsRecorder defaultMetricsRecorder() {
+        return MetricsRecorder.noop();
+    }
+
     @Provider(isDefault = true)
     public Vault createInmemVault(ServiceExtensionContext context) {
         context.getMonitor().warning("Using the InMemoryVault is not suitable for production scenarios and should be replaced with an actual Vault!");
@@ -26,6 +26,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Requires;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -38,7 +39,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 
 /**
@@ -48,6 +51,10 @@ import static java.util.stream.Collectors.toList;
 public class DependencyGraph {
 
     private final List<InjectionContainer<ServiceExtension>> injectionContainers;
+    /**
+     * the same containers grouped in layers, containers of one layer do not depend on each other
+     */
+    private final List<List<InjectionContainer<ServiceExtension>>> layers;
     /**
      * contains all missing dependencies that were expressed as injection points
      */
@@ -57,9 +64,11 @@ public class DependencyGraph {
      */
     private final ArrayList<Class<?>> unsatisfiedRequirements;
 
-    private DependencyGraph(List<InjectionContainer<ServiceExtension>> injectionContainers, HashMap<Class<? extends ServiceExtension>, List<InjectionFailure>> unsatisfiedInjectionPoints, ArrayList<Class<?>> unsatisfiedRequirements) {
+    private DependencyGraph(List<InjectionContainer<ServiceExtension>> injectionContainers, List<List<InjectionContainer<ServiceExtension>>> layers,
+                            HashMap<Class<? extends ServiceExtension>, List<InjectionFailure>> unsatisfiedInjectionPoints, ArrayList<Class<?>> unsatisfiedRequirements) {
 
         this.injectionContainers = injectionContainers;
+        this.layers = layers;
         this.unsatisfiedInjectionPoints = unsatisfiedInjectionPoints;
         this.unsatisfiedRequirements = unsatisfiedRequirements;
     }
@@ -80,7 +89,24 @@ public class DependencyGraph {
      * @see InjectionContainer
      */
     public static DependencyGraph of(ServiceExtensionContext context, List<ServiceExtension> extensions) {
-        var injectionPointScanner = new InjectionPointScanner();
+        return of(context, extensions, List.of());
+    }
+
+    /**
+     * Builds the DependencyGraph like {@link #of(ServiceExtensionContext, List)}, but takes the injection points and
+     * provider methods of the extensions from the given {@link InjectionDescriptor}s that were generated at build time.
+     * Extensions whose class has no descriptor are scanned reflectively.
+     *
+     * @param context     An instance of the (fully-initialized) {@link ServiceExtensionContext} which is used to resolve services and configuration.
+     * @param extensions  A list of {@link ServiceExtension} instances that were picked up by the {@link ServiceLocator}
+     * @param descriptors The generated injection descriptors that were picked up by the {@link ServiceLocator}
+     * @return A list of {@link InjectionContainer}s that are sorted topologically according to their dependencies.
+     * @throws CyclicDependencyException when there is a dependency cycle
+     */
+    public static DependencyGraph of(ServiceExtensionContext context, List<ServiceExtension> extensions, List<InjectionDescriptor> descriptors) {
+        Map<Class<?>, InjectionDescriptor> descriptorsByTarget = descriptors.stream()
+                .collect(toMap(InjectionDescriptor::target, identity(), (first, second) -> first));
+        var injectionPointScanner = new InjectionPointScanner(descriptorsByTarget);
 
         Map<Class<?>, ServiceProvider> defaultServiceProviders = new HashMap<>();
         Map<Class<?>, List<InjectionContainer<ServiceExtension>>> dependencyMap = new HashMap<>();
@@ -91,7 +117,7 @@ public class DependencyGraph {
                             .forEach(feature -> dependencyMap.computeIfAbsent(feature, k -> new ArrayList<>()).add(injectionContainer));
 
                     // check all @Provider methods
-                    new ProviderMethodScanner(injectionContainer.getInjectionTarget()).allProviders()
+                    new ProviderMethodScanner(injectionContainer.getInjectionTarget(), descriptorsByTarget).allProviders()
                             .peek(providerMethod -> {
                                 var serviceProvider = new ServiceProvider(providerMethod, injectionContainer.getInjectionTarget());
                                 if (providerMethod.isDefault()) {
@@ -145,13 +171,23 @@ public class DependencyGraph {
 
         sort.sort(injectionContainers);
 
-        return new DependencyGraph(injectionContainers, unsatisfiedInjectionPoints, unsatisfiedRequirements);
+        return new DependencyGraph(injectionContainers, sort.layers(injectionContainers), unsatisfiedInjectionPoints, unsatisfiedRequirements);
     }
 
     public List<InjectionContainer<ServiceExtension>> getInjectionContainers() {
         return injectionContainers;
     }
 
+    /**
+     * Returns the injection containers grouped in dependency layers: every container only depends on containers of the
+     * previous layers, so the containers of a single layer can be booted concurrently.
+     *
+     * @return the layers, in dependency order.
+     */
+    public List<List<InjectionContainer<ServiceExtension>>> getLayers() {
+        return layers;
+    }
+
     /**
      * Returns a list of extension instances that were found on the classpath
      */
@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.MonitorExtension;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
@@ -80,11 +81,12 @@ public class ExtensionLoader {
     }
 
     /**
-     * Loads and orders the service extensions.
+     * Loads and orders the service extensions, using the injection descriptors generated at build time where available.
      */
     public DependencyGraph buildDependencyGraph(ServiceExtensionContext context) {
         var serviceExtensions = loadExtensions(ServiceExtension.class, true);
-        return DependencyGraph.of(context, serviceExtensions);
+        var descriptors = loadExtensions(InjectionDescriptor.class, false);
+        return DependencyGraph.of(context, serviceExtensions, descriptors);
     }
 
     /**
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.ValueProvider;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -49,13 +50,27 @@ import java.util.stream.Stream;
  */
 public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
     private final T targetInstance;
-    private final Field configurationObject;
+    private final String fieldName;
+    private final Class<?> configurationType;
+    private final FieldSetter setter;
 
     public ConfigurationInjectionPoint(T instance, Field configurationObject) {
+        configurationObject.setAccessible(true);
         this.targetInstance = instance;
-        this.configurationObject = configurationObject;
-        this.configurationObject.setAccessible(true);
+        this.fieldName = configurationObject.getName();
+        this.configurationType = configurationObject.getType();
+        this.setter = configurationObject::set;
+    }
 
+    /**
+     * Creates the injection point of a field recorded by a generated {@link InjectionDescriptor}. The settings of the
+     * configuration object itself are still resolved reflectively.
+     */
+    public ConfigurationInjectionPoint(T instance, InjectionDescriptor.ConfigurationField configurationObject) {
+        this.targetInstance = instance;
+        this.fieldName = configurationObject.name();
+        this.configurationType = configurationObject.type();
+        this.setter = configurationObject.setter()::accept;
     }
 
     @Override
@@ -65,12 +80,12 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public Class<?> getType() {
-        return configurationObject.getType();
+        return configurationType;
     }
 
     @Override
     public boolean isRequired() {
-        return Arrays.stream(configurationObject.getType().getDeclaredFields())
+        return Arrays.stream(configurationType.getDeclaredFields())
                 .filter(f -> f.getAnnotation(Setting.class) != null)
                 .anyMatch(f -> f.getAnnotation(Setting.class).required());
     }
@@ -78,10 +93,10 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
     @Override
     public Result<Void> setTargetValue(Object value) {
         try {
-            configurationObject.set(targetInstance, value);
+            setter.set(targetInstance, value);
             return Result.success();
         } catch (IllegalAccessException e) {
-            return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, configurationObject, e.getMessage()));
+            return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, fieldName, e.getMessage()));
         }
     }
 
@@ -105,16 +120,16 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
     public Object resolve(ServiceExtensionContext context, DefaultServiceSupplier defaultServiceSupplier) {
 
         // all fields annotated with the @Setting annotation
-        var settingsFields = resolveSettingsFields(context, configurationObject.getType().getDeclaredFields());
+        var settingsFields = resolveSettingsFields(context, configurationType.getDeclaredFields());
 
         // records are treated specially, because they only contain final fields, and must be constructed with a non-default CTOR
         // where every constructor arg MUST be named the same as the field value. We can't rely on this with normal classes
-        if (configurationObject.getType().isRecord()) {
+        if (configurationType.isRecord()) {
             // find matching constructor
-            var constructor = Stream.of(configurationObject.getType().getDeclaredConstructors())
+            var constructor = Stream.of(configurationType.getDeclaredConstructors())
                     .filter(constructorFilter(settingsFields))
                     .findFirst()
-                    .orElseThrow(() -> new EdcInjectionException("No suitable constructor found on record class '%s'".formatted(configurationObject.getType())));
+                    .orElseThrow(() -> new EdcInjectionException("No suitable constructor found on record class '%s'".formatted(configurationType)));
 
             try {
                 // invoke CTor with the previously resolved config values
@@ -126,7 +141,7 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
 
         } else { // all other classes MUST have a default constructor.
             try {
-                var pojoClass = configurationObject.getType();
+                var pojoClass = configurationType;
                 var defaultCtor = pojoClass.getDeclaredConstructor();
                 defaultCtor.setAccessible(true);
                 var instance = defaultCtor.newInstance();
@@ -144,7 +159,7 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
 
                 return instance;
             } catch (NoSuchMethodException e) {
-                throw new EdcInjectionException("Configuration objects must declare a default constructor, but '%s' does not.".formatted(configurationObject.getType()));
+                throw new EdcInjectionException("Configuration objects must declare a default constructor, but '%s' does not.".formatted(configurationType));
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                 throw new EdcInjectionException(e);
             }
@@ -153,7 +168,7 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public Result<List<InjectionContainer<T>>> getProviders(Map<Class<?>, List<InjectionContainer<T>>> dependencyMap, ServiceExtensionContext context) {
-        var violators = injectionPointsFrom(configurationObject.getType().getDeclaredFields())
+        var violators = injectionPointsFrom(configurationType.getDeclaredFields())
                 .map(ip -> ip.getProviders(dependencyMap, context))
                 .filter(Result::failed)
                 .map(AbstractResult::getFailureDetail)
@@ -169,7 +184,7 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
     @Override
     public String toString() {
         return "Configuration object \"%s\" of type [%s]"
-                .formatted(configurationObject.getName(), configurationObject.getType());
+                .formatted(fieldName, configurationType);
     }
 
     private Predicate<Constructor<?>> constructorFilter(List<FieldValue> args) {
@@ -183,7 +198,7 @@ public class ConfigurationInjectionPoint<T> implements InjectionPoint<T> {
         return injectionPointsFrom(fields)
                 .map(ip -> {
                     var val = ip.resolve(context, new InjectionPointDefaultServiceSupplier());
-                    var fieldName = ip.getTargetField().getName();
+                    var fieldName = ip.getFieldName();
                     return new FieldValue(fieldName, val);
                 })
                 .toList();
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection;
+
+/**
+ * Sets the value of an injected field on a target instance, either through {@link java.lang.reflect.Field#set} or
+ * through the setter of a generated {@link org.eclipse.edc.spi.system.injection.InjectionDescriptor}.
+ */
+@FunctionalInterface
+interface FieldSetter {
+
+    void set(Object instance, Object value) throws IllegalAccessException;
+
+}
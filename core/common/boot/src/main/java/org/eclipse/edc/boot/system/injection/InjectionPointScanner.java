@@ -17,22 +17,47 @@ package org.eclipse.edc.boot.system.injection;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * Scans a particular (partly constructed) object for fields that are annotated with {@link Inject} and returns them
- * in a {@link Set}
+ * in a {@link Set}. If a generated {@link InjectionDescriptor} exists for the class of the object, the fields it
+ * records are used instead.
  */
 public class InjectionPointScanner {
 
+    private final Map<Class<?>, InjectionDescriptor> descriptors;
+
+    public InjectionPointScanner() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a scanner that uses the given descriptors, by target class.
+     */
+    public InjectionPointScanner(Map<Class<?>, InjectionDescriptor> descriptors) {
+        this.descriptors = descriptors;
+    }
+
     public <T> Stream<InjectionPoint<T>> getInjectionPoints(T instance) {
 
         var targetClass = instance.getClass();
 
+        var descriptor = descriptors.get(targetClass);
+        if (descriptor != null) {
+            return Stream.of(
+                    descriptor.services().stream().map(f -> new ServiceInjectionPoint<>(instance, f)),
+                    descriptor.settings().stream().map(f -> new ValueInjectionPoint<>(instance, f, targetClass)),
+                    descriptor.configurations().stream().map(f -> new ConfigurationInjectionPoint<>(instance, f))
+            ).flatMap(Function.identity());
+        }
+
         // scan service injection points
         var fields = Arrays.stream(targetClass.getDeclaredFields())
                 .filter(f -> f.getAnnotation(Inject.class) != null)
@@ -16,27 +16,48 @@ package org.eclipse.edc.boot.system.injection;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiFunction;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 
 /**
- * Represents a {@link Method} that is annotated with the {@link Provider} annotation.
+ * Represents a {@link Method} that is annotated with the {@link Provider} annotation, either found reflectively or
+ * recorded by a generated {@link InjectionDescriptor}.
  */
 public class ProviderMethod {
     private final Method method;
+    private final String name;
+    private final Class<?> returnType;
     private final boolean isDefault;
+    private final BiFunction<Object, ServiceExtensionContext, Object> invoker;
 
     public ProviderMethod(Method method) {
         this.method = method;
+        this.name = method.getName();
+        this.returnType = method.getReturnType();
+        this.invoker = null;
         isDefault = ofNullable(method.getAnnotation(Provider.class)).map(Provider::isDefault)
                 .orElseThrow(() -> new IllegalArgumentException(format("Method %s is not annotated with @Provider!", method)));
     }
 
-    public Method getMethod() {
+    public ProviderMethod(InjectionDescriptor.ServiceProviderMethod method) {
+        this.method = null;
+        this.name = method.name();
+        this.returnType = method.returnType();
+        this.invoker = method.invoker();
+        this.isDefault = method.isDefault();
+    }
+
+    /**
+     * The annotated method, null if the provider was recorded by a generated {@link InjectionDescriptor}.
+     */
+    public @Nullable Method getMethod() {
         return method;
     }
 
@@ -49,10 +70,17 @@ public class ProviderMethod {
 
     @SuppressWarnings("unchecked")
     public <T> Class<T> getReturnType() {
-        return (Class<T>) method.getReturnType();
+        return (Class<T>) returnType;
     }
 
     public Object invoke(Object target, Object... params) {
+        if (invoker != null) {
+            try {
+                return invoker.apply(target, params.length == 0 ? null : (ServiceExtensionContext) params[0]);
+            } catch (RuntimeException e) {
+                throw new EdcInjectionException(e);
+            }
+        }
         try {
             if (method.getParameterTypes().length == 0) {
                 return method.invoke(target);
@@ -69,6 +97,6 @@ public class ProviderMethod {
 
     @Override
     public String toString() {
-        return getMethod().getName() + " :: " + getReturnType().getSimpleName();
+        return name + " :: " + getReturnType().getSimpleName();
     }
 }
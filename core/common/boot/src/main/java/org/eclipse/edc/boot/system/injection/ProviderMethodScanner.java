@@ -16,26 +16,43 @@ package org.eclipse.edc.boot.system.injection;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static java.lang.reflect.Modifier.isPublic;
 
 /**
- * Scans a given object for methods annotated with the {@link Provider} annotation.
+ * Scans a given object for methods annotated with the {@link Provider} annotation. If a generated
+ * {@link InjectionDescriptor} exists for the class of the object, the methods it records are used instead.
  */
 public class ProviderMethodScanner {
     private final Object target;
+    private final Map<Class<?>, InjectionDescriptor> descriptors;
 
     public ProviderMethodScanner(ServiceExtension target) {
+        this(target, Map.of());
+    }
+
+    /**
+     * Creates a scanner that uses the given descriptors, by target class.
+     */
+    public ProviderMethodScanner(ServiceExtension target, Map<Class<?>, InjectionDescriptor> descriptors) {
         this.target = target;
+        this.descriptors = descriptors;
     }
 
     /**
      * Returns all methods annotated with {@link Provider}.
      */
     public Stream<ProviderMethod> allProviders() {
+        var descriptor = descriptors.get(target.getClass());
+        if (descriptor != null) {
+            return descriptor.providers().stream().map(ProviderMethod::new);
+        }
+
         return Arrays.stream(target.getClass().getDeclaredMethods())
                 .filter(m -> m.getAnnotation(Provider.class) != null)
                 .map(ProviderMethod::new)
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.ValueProvider;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
@@ -35,7 +36,9 @@ import static java.util.Optional.ofNullable;
  */
 public class ServiceInjectionPoint<T> implements InjectionPoint<T> {
     private final T instance;
-    private final Field injectedField;
+    private final String fieldName;
+    private final Class<?> type;
+    private final FieldSetter setter;
     private final boolean isRequired;
     private ValueProvider defaultServiceProvider;
 
@@ -44,12 +47,25 @@ public class ServiceInjectionPoint<T> implements InjectionPoint<T> {
     }
 
     public ServiceInjectionPoint(T instance, Field injectedField, boolean isRequired) {
+        injectedField.setAccessible(true);
         this.instance = instance;
-        this.injectedField = injectedField;
-        this.injectedField.setAccessible(true);
+        this.fieldName = injectedField.getName();
+        this.type = injectedField.getType();
+        this.setter = injectedField::set;
         this.isRequired = isRequired;
     }
 
+    /**
+     * Creates the injection point of a field recorded by a generated {@link InjectionDescriptor}.
+     */
+    public ServiceInjectionPoint(T instance, InjectionDescriptor.ServiceField field) {
+        this.instance = instance;
+        this.fieldName = field.name();
+        this.type = field.type();
+        this.setter = field.setter()::accept;
+        this.isRequired = field.required();
+    }
+
     @Override
     public T getTargetInstance() {
         return instance;
@@ -57,7 +73,7 @@ public class ServiceInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public Class<?> getType() {
-        return injectedField.getType();
+        return type;
     }
 
     @Override
@@ -68,9 +84,9 @@ public class ServiceInjectionPoint<T> implements InjectionPoint<T> {
     @Override
     public Result<Void> setTargetValue(Object value) {
         try {
-            injectedField.set(instance, value);
+            setter.set(instance, value);
         } catch (IllegalAccessException e) {
-            return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, injectedField, e.getMessage()));
+            return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, fieldName, e.getMessage()));
         }
         return Result.success();
     }
@@ -118,6 +134,6 @@ public class ServiceInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public String toString() {
-        return format("Field \"%s\" of type [%s]", injectedField.getName(), getType());
+        return format("Field \"%s\" of type [%s]", fieldName, getType());
     }
 }
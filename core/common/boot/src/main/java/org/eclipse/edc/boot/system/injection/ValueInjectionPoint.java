@@ -18,6 +18,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.ValueProvider;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
@@ -45,7 +46,13 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
     public final List<InjectionContainer<T>> emptyProviderlist = List.of();
     private final T objectInstance;
     private final Field targetField;
-    private final Setting annotationValue;
+    private final String fieldName;
+    private final Class<?> type;
+    private final FieldSetter setter;
+    private final String key;
+    private final boolean required;
+    private final String defaultValue;
+    private final boolean warnOnMissingConfig;
     private final Class<?> declaringClass;
 
     /**
@@ -57,17 +64,50 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
      * @param declaringClass  The class where the annotated field is declared. Usually, this is {@code objectInstance.getClass()}.
      */
     public ValueInjectionPoint(T objectInstance, Field targetField, Setting annotationValue, Class<?> declaringClass) {
+        targetField.setAccessible(true);
         this.objectInstance = objectInstance;
         this.targetField = targetField;
+        this.fieldName = targetField.getName();
+        this.type = targetField.getType();
+        this.setter = targetField::set;
+        this.key = annotationValue.key();
+        this.required = annotationValue.required();
+        this.defaultValue = annotationValue.defaultValue();
+        this.warnOnMissingConfig = annotationValue.warnOnMissingConfig();
         this.declaringClass = declaringClass;
-        this.targetField.setAccessible(true);
-        this.annotationValue = annotationValue;
     }
 
-    public Field getTargetField() {
+    /**
+     * Constructs a new ValueInjectionPoint instance from a field recorded by a generated {@link InjectionDescriptor}.
+     *
+     * @param objectInstance The object instance that contains the annotated field.
+     * @param field          The recorded field
+     * @param declaringClass The class where the annotated field is declared. Usually, this is {@code objectInstance.getClass()}.
+     */
+    public ValueInjectionPoint(T objectInstance, InjectionDescriptor.SettingField field, Class<?> declaringClass) {
+        this.objectInstance = objectInstance;
+        this.targetField = null;
+        this.fieldName = field.name();
+        this.type = field.type();
+        this.setter = field.setter()::accept;
+        this.key = field.key();
+        this.required = field.required();
+        this.defaultValue = field.defaultValue();
+        this.warnOnMissingConfig = field.warnOnMissingConfig();
+        this.declaringClass = declaringClass;
+    }
+
+    /**
+     * The annotated field, null if the injection point was created from a generated {@link InjectionDescriptor}.
+     */
+    public @Nullable Field getTargetField() {
         return targetField;
     }
 
+    public String getFieldName() {
+        return fieldName;
+    }
+
     @Override
     public T getTargetInstance() {
         return objectInstance;
@@ -75,21 +115,21 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public Class<?> getType() {
-        return targetField.getType();
+        return type;
     }
 
     @Override
     public boolean isRequired() {
-        return annotationValue.required();
+        return required;
     }
 
     @Override
     public Result<Void> setTargetValue(Object value) {
         if (objectInstance != null) {
             try {
-                targetField.set(objectInstance, value);
+                setter.set(objectInstance, value);
             } catch (IllegalAccessException e) {
-                return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, targetField, e.getMessage()));
+                return Result.failure("Could not assign value '%s' to field '%s'. Reason: %s".formatted(value, fieldName, e.getMessage()));
             }
             return Result.success();
         }
@@ -103,8 +143,8 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
      */
     @Override
     public @Nullable ValueProvider getDefaultValueProvider() {
-        if (!Setting.NULL.equals(annotationValue.defaultValue())) {
-            return context -> annotationValue.defaultValue();
+        if (!Setting.NULL.equals(defaultValue)) {
+            return context -> defaultValue;
         }
         return null;
     }
@@ -122,8 +162,6 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
     @Override
     public Object resolve(ServiceExtensionContext context, DefaultServiceSupplier defaultServiceSupplier) {
         var config = context.getConfig();
-        var type = getType();
-        var key = annotationValue.key();
 
         // value is found in the config
         if (config.hasKey(key)) {
@@ -135,20 +173,20 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
                 .map(s -> s.provideFor(this, context))
                 .map(Object::toString);
         if (def.isPresent()) {
-            var defaultValue = def.get();
-            if (!defaultValue.trim().equals(Setting.NULL)) {
-                var msg = "Config value: no setting found for '%s', falling back to default value '%s'".formatted(key, defaultValue);
-                if (annotationValue.warnOnMissingConfig()) {
+            var fallbackValue = def.get();
+            if (!fallbackValue.trim().equals(Setting.NULL)) {
+                var msg = "Config value: no setting found for '%s', falling back to default value '%s'".formatted(key, fallbackValue);
+                if (warnOnMissingConfig) {
                     context.getMonitor().warning(msg);
                 } else {
                     context.getMonitor().debug(msg);
                 }
-                return parseEntry(defaultValue, type);
+                return parseEntry(fallbackValue, type);
             }
         }
 
         // neither in config, nor default val
-        if (annotationValue.required()) {
+        if (required) {
             throw new EdcInjectionException("No config value and no default value found for injected field " + this);
         }
         return null;
@@ -164,18 +202,16 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
     @Override
     public Result<List<InjectionContainer<T>>> getProviders(Map<Class<?>, List<InjectionContainer<T>>> ignoredMap, ServiceExtensionContext context) {
 
-        if (!annotationValue.required()) {
+        if (!required) {
             return Result.success(emptyProviderlist); // optional configs are always satisfied
         }
 
-        var defaultVal = annotationValue.defaultValue();
-
-        if (defaultVal != null && !defaultVal.trim().equals(Setting.NULL)) {
+        if (defaultValue != null && !defaultValue.trim().equals(Setting.NULL)) {
             return Result.success(emptyProviderlist); // a default value means the value injection point can always be satisfied
         }
 
         // no default value, the required value may be found in the config
-        return context.getConfig().hasKey(annotationValue.key())
+        return context.getConfig().hasKey(key)
                 ? Result.success(emptyProviderlist)
                 : Result.failure(toString());
     }
@@ -187,7 +223,7 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
 
     @Override
     public String toString() {
-        return "Configuration value \"%s\" of type [%s] (property '%s')".formatted(targetField.getName(), getType(), annotationValue.key());
+        return "Configuration value \"%s\" of type [%s] (property '%s')".formatted(fieldName, getType(), key);
     }
 
     private Object parseEntry(String string, Class<?> valueType) {
@@ -202,7 +238,7 @@ public class ValueInjectionPoint<T> implements InjectionPoint<T> {
                 return Double.parseDouble(string);
             }
         } catch (NumberFormatException e) {
-            throw new EdcInjectionException("Config field '%s' is of type '%s', but the value resolved from key '%s' is \"%s\" which cannot be interpreted as %s.".formatted(targetField.getName(), valueType, annotationValue.key(), string, valueType));
+            throw new EdcInjectionException("Config field '%s' is of type '%s', but the value resolved from key '%s' is \"%s\" which cannot be interpreted as %s.".formatted(fieldName, valueType, key, string, valueType));
         }
         if (valueType == Boolean.class || valueType == boolean.class) {
             return Boolean.parseBoolean(string);
@@ -19,10 +19,21 @@ import org.eclipse.edc.boot.system.injection.InjectionPointDefaultServiceSupplie
 import org.eclipse.edc.boot.system.injection.InjectorImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * {@link ServiceExtension} implementors should not be constructed by just invoking their constructors, instead they need to go through
@@ -37,6 +48,9 @@ import java.util.List;
  * <p>
  * It is advisable to put all {@link ServiceExtension} instances through their initialization lifecycle <em>before</em> invoking their
  * {@linkplain ServiceExtension#start()} method!
+ * <p>
+ * Extensions that do not depend on each other can optionally be prepared and started concurrently, see
+ * {@link #bootServiceExtensions(List, List, ServiceExtensionContext, int)}.
  */
 public class ExtensionLifecycleManager {
 
@@ -44,37 +58,112 @@ public class ExtensionLifecycleManager {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, List.of(), context, 1);
+    }
+
+    /**
+     * Loads service extensions. Injection, initialization and service providers always run one extension at a time in
+     * the order of {@code containers}, because they populate the shared context. With a {@code parallelism} greater
+     * than 1 the prepare and start phases go through the dependency layers in order, and the extensions of a single
+     * layer, which do not depend on each other, run concurrently on at most {@code parallelism} threads. Otherwise
+     * they run in the order of {@code containers} as well.
+     *
+     * @param containers  the containers, in dependency order.
+     * @param layers      the same containers, grouped in dependency layers, only used when {@code parallelism} is greater than 1.
+     * @param context     the service extension context.
+     * @param parallelism the maximum number of extensions prepared or started at the same time, 1 means sequential.
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, List<List<InjectionContainer<ServiceExtension>>> layers,
+                                             ServiceExtensionContext context, int parallelism) {
         var injector = new InjectorImpl(new InjectionPointDefaultServiceSupplier());
         var monitor = context.getMonitor();
 
         for (var container : containers) {
             var target = container.getInjectionTarget();
+            var start = System.nanoTime();
             injector.inject(container, context);
 
             target.initialize(context);
-            monitor.debug("Initialized " + target.name());
 
             var serviceProviders = container.getServiceProviders();
             if (serviceProviders != null) {
                 serviceProviders.forEach(serviceProvider -> serviceProvider.get(context));
             }
+            monitor.debug("Initialized %s in %d ms".formatted(target.name(), elapsedMillis(start)));
         }
 
         context.freeze();
 
-        for (var container : containers) {
-            var target = container.getInjectionTarget();
-            target.prepare();
-            monitor.debug("Prepared " + target.name());
+        if (parallelism > 1) {
+            var executor = Executors.newFixedThreadPool(parallelism, new BootThreadFactory());
+            try {
+                runPhase(layers, executor, monitor, "Prepared", ServiceExtension::prepare);
+                runPhase(layers, executor, monitor, "Started", ServiceExtension::start);
+            } finally {
+                executor.shutdownNow();
+            }
+        } else {
+            containers.forEach(container -> run(container.getInjectionTarget(), monitor, "Prepared", ServiceExtension::prepare));
+            containers.forEach(container -> run(container.getInjectionTarget(), monitor, "Started", ServiceExtension::start));
         }
 
-        for (var container : containers) {
-            var target = container.getInjectionTarget();
-            target.start();
-            monitor.debug("Started " + target.name());
+        monitor.info(containers.size() + " service extensions started");
+    }
+
+    private static void runPhase(List<List<InjectionContainer<ServiceExtension>>> layers, ExecutorService executor, Monitor monitor,
+                                 String phase, Consumer<ServiceExtension> action) {
+        for (var layer : layers) {
+            if (layer.size() == 1) {
+                layer.forEach(container -> run(container.getInjectionTarget(), monitor, phase, action));
+                continue;
+            }
+
+            var futures = layer.stream()
+                    .map(container -> executor.submit(() -> run(container.getInjectionTarget(), monitor, phase, action)))
+                    .toList();
+
+            for (var future : futures) {
+                await(future);
+            }
         }
+    }
 
-        monitor.info(containers.size() + " service extensions started");
+    private static void run(ServiceExtension target, Monitor monitor, String phase, Consumer<ServiceExtension> action) {
+        var start = System.nanoTime();
+        action.accept(target);
+        monitor.debug("%s %s in %d ms".formatted(phase, target.name(), elapsedMillis(start)));
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new EdcException(e.getCause());
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static class BootThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            var thread = new Thread(runnable, "edc-boot-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
 }
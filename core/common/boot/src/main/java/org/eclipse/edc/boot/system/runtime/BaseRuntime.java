@@ -16,6 +16,10 @@
 package org.eclipse.edc.boot.system.runtime;
 
 
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.eclipse.edc.boot.BootServicesExtension;
 import org.eclipse.edc.boot.config.ConfigurationLoader;
 import org.eclipse.edc.boot.config.EnvironmentVariables;
 import org.eclipse.edc.boot.config.SystemProperties;
@@ -54,6 +58,8 @@ import static java.lang.String.format;
  *     By default, this calls {@link ExtensionLifecycleManager#bootServiceExtensions(List, ServiceExtensionContext)} </li>
  *     <li>{@link BaseRuntime#onError(Exception)}: receives any Exception that was raised during initialization</li>
  * </ul>
+ * Once booted, the runtime registers itself for checkpoint/restore (CRaC) notifications, which are forwarded to the
+ * extensions through {@link ServiceExtension#beforeCheckpoint()} and {@link ServiceExtension#afterRestore()}.
  */
 public class BaseRuntime {
 
@@ -61,6 +67,8 @@ public class BaseRuntime {
     private final ExtensionLoader extensionLoader;
     private final ConfigurationLoader configurationLoader;
     private List<ServiceExtension> serviceExtensions = new ArrayList<>();
+    // CRaC keeps weak references to the registered resources
+    private final Resource checkpointResource = new CheckpointResource();
     protected Monitor monitor;
     protected ServiceExtensionContext context;
 
@@ -77,6 +85,11 @@ public class BaseRuntime {
         programArgs = args;
         var runtime = new BaseRuntime();
         runtime.boot(true);
+
+        if (runtime.context.getConfig().getBoolean(BootServicesExtension.BOOT_EXIT_AFTER_START, false)) {
+            runtime.monitor.info("Exiting after start, as configured by %s".formatted(BootServicesExtension.BOOT_EXIT_AFTER_START));
+            System.exit(0);
+        }
     }
 
     /**
@@ -106,6 +119,8 @@ public class BaseRuntime {
                 getRuntime().addShutdownHook(new Thread(this::shutdown));
             }
 
+            Core.getGlobalContext().register(checkpointResource);
+
             if (context.hasService(HealthCheckService.class)) {
                 var startupStatusRef = new AtomicReference<>(HealthCheckResult.Builder.newInstance().component("BaseRuntime").success().build());
                 var healthCheckService = context.getService(HealthCheckService.class);
@@ -137,6 +152,33 @@ public class BaseRuntime {
         monitor.info("Shutdown complete");
     }
 
+    /**
+     * Signals all the extensions, in reverse boot order, that a checkpoint is about to be taken. If an extension fails,
+     * the extensions already notified are restored before the exception is rethrown, which aborts the checkpoint.
+     */
+    public void beforeCheckpoint() {
+        monitor.info("Preparing runtime for checkpoint");
+        for (var i = serviceExtensions.size() - 1; i >= 0; i--) {
+            var extension = serviceExtensions.get(i);
+            try {
+                monitor.debug("Before checkpoint " + extension.name());
+                extension.beforeCheckpoint();
+            } catch (RuntimeException e) {
+                monitor.severe("Error while preparing extension %s (%s) for checkpoint".formatted(extension.name(), extension.getClass().getSimpleName()), e);
+                restore(serviceExtensions.subList(i + 1, serviceExtensions.size()));
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Signals all the extensions, in boot order, that the runtime has been restored from a checkpoint.
+     */
+    public void afterRestore() {
+        restore(serviceExtensions);
+        monitor.info(format("Runtime %s restored", context.getRuntimeId()));
+    }
+
     protected Monitor getMonitor() {
         return monitor;
     }
@@ -157,13 +199,20 @@ public class BaseRuntime {
     }
 
     /**
-     * Starts all service extensions by invoking {@link ExtensionLifecycleManager#bootServiceExtensions(List, ServiceExtensionContext)}
+     * Starts all service extensions by invoking {@link ExtensionLifecycleManager#bootServiceExtensions(List, List, ServiceExtensionContext, int)}.
+     * Independent extensions are prepared and started in parallel unless {@value BootServicesExtension#BOOT_PARALLEL_ENABLED} is set to false.
      *
      * @param context The {@code ServiceExtensionContext} that is used in this runtime.
      * @param graph   a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, DependencyGraph graph) {
-        ExtensionLifecycleManager.bootServiceExtensions(graph.getInjectionContainers(), context);
+        var parallel = context.getConfig().getBoolean(BootServicesExtension.BOOT_PARALLEL_ENABLED, true);
+        if (!parallel) {
+            ExtensionLifecycleManager.bootServiceExtensions(graph.getInjectionContainers(), context);
+            return;
+        }
+        var parallelism = context.getConfig().getInteger(BootServicesExtension.BOOT_PARALLELISM, getRuntime().availableProcessors());
+        ExtensionLifecycleManager.bootServiceExtensions(graph.getInjectionContainers(), graph.getLayers(), context, parallelism);
     }
 
     /**
@@ -201,4 +250,23 @@ public class BaseRuntime {
         return extensionLoader.loadMonitor(programArgs);
     }
 
+    private void restore(List<ServiceExtension> extensions) {
+        for (var extension : extensions) {
+            monitor.debug("After restore " + extension.name());
+            extension.afterRestore();
+        }
+    }
+
+    private class CheckpointResource implements Resource {
+        @Override
+        public void beforeCheckpoint(Context<? extends Resource> context) {
+            BaseRuntime.this.beforeCheckpoint();
+        }
+
+        @Override
+        public void afterRestore(Context<? extends Resource> context) {
+            BaseRuntime.this.afterRestore();
+        }
+    }
+
 }
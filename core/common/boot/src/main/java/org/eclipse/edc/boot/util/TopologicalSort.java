@@ -83,6 +83,40 @@ public class TopologicalSort<T> {
         list.addAll(sorted);
     }
 
+    /**
+     * Groups an already sorted list into layers: every item is placed in the first layer that comes after all the
+     * layers holding its dependencies, so items of the same layer do not depend on each other. Dependencies that are
+     * not contained in the list are ignored. The relative order of the items is preserved within each layer.
+     *
+     * @param sorted the list, sorted with {@link #sort(Collection)}.
+     * @return the layers, in dependency order.
+     */
+    public List<List<T>> layers(List<T> sorted) {
+        Map<T, Integer> depths = new HashMap<>();
+        List<List<T>> layers = new ArrayList<>();
+
+        for (T item : sorted) {
+            int depth = 0;
+            Set<T> dependencies = this.dependencies.get(item);
+            if (dependencies != null) {
+                for (T d : dependencies) {
+                    Integer dependencyDepth = depths.get(d);
+                    if (dependencyDepth != null) {
+                        depth = Math.max(depth, dependencyDepth + 1);
+                    }
+                }
+            }
+            depths.put(item, depth);
+
+            if (layers.size() <= depth) {
+                layers.add(new ArrayList<>());
+            }
+            layers.get(depth).add(item);
+        }
+
+        return layers;
+    }
+
     /**
      * Visit an item to be sorted.
      *
@@ -17,6 +17,8 @@ package org.eclipse.edc.boot.system;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.boot.system.TestFunctions.createDependentExtension;
 import static org.eclipse.edc.boot.system.TestFunctions.createProviderExtension;
@@ -67,4 +69,17 @@ class DependencyGraphTest {
                 .extracting(InjectionContainer::getInjectionTarget)
                 .containsExactly(dependentExtension);
     }
+
+    @Test
+    void getExtensions_withDescriptors() {
+        var providerExtension = createProviderExtension(false);
+        var dependentExtension = createDependentExtension(true);
+        var descriptors = List.of(TestInjectionDescriptor.providerExtension(), TestInjectionDescriptor.requiredDependentExtension());
+
+        var dependencyGraph = DependencyGraph.of(mock(), mutableListOf(dependentExtension, providerExtension), descriptors);
+
+        assertThat(dependencyGraph.isValid()).isTrue();
+        assertThat(dependencyGraph.getInjectionContainers()).extracting(InjectionContainer::getInjectionTarget)
+                .containsExactly(providerExtension, dependentExtension);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system;
+
+import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
+import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Hand-written equivalent of the descriptors generated by the boot processor.
+ */
+public record TestInjectionDescriptor(Class<?> target, List<ServiceField> services, List<SettingField> settings,
+                                      List<ConfigurationField> configurations, List<ServiceProviderMethod> providers)
+        implements InjectionDescriptor {
+
+    public static InjectionDescriptor requiredDependentExtension() {
+        var lookup = MethodHandles.lookup();
+        var target = RequiredDependentExtension.class;
+        return new TestInjectionDescriptor(target,
+                List.of(new ServiceField("testObject", TestObject.class, true, InjectionDescriptor.setter(lookup, target, "testObject", TestObject.class))),
+                List.of(new SettingField("fooBar", String.class, "foo.bar", false, Setting.NULL, false, InjectionDescriptor.setter(lookup, target, "fooBar", String.class))),
+                List.of(),
+                List.of());
+    }
+
+    public static InjectionDescriptor providerExtension() {
+        return new TestInjectionDescriptor(ProviderExtension.class, List.of(), List.of(), List.of(),
+                List.of(new ServiceProviderMethod("testObject", TestObject.class, false, (target, context) -> ((ProviderExtension) target).testObject())));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.boot.system.injection;
+
+import org.eclipse.edc.boot.system.TestInjectionDescriptor;
+import org.eclipse.edc.boot.system.TestObject;
+import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InjectionPointScannerTest {
+
+    @Test
+    void getInjectionPoints() {
+        var extension = new RequiredDependentExtension();
+
+        var injectionPoints = new InjectionPointScanner().getInjectionPoints(extension).toList();
+
+        assertThat(injectionPoints).hasSize(2);
+        assertThat(injectionPoints.get(0)).isInstanceOf(ServiceInjectionPoint.class)
+                .satisfies(ip -> assertThat(ip.getType()).isEqualTo(TestObject.class))
+                .satisfies(ip -> assertThat(ip.isRequired()).isTrue());
+        assertThat(injectionPoints.get(1)).isInstanceOf(ValueInjectionPoint.class)
+                .satisfies(ip -> assertThat(ip.getType()).isEqualTo(String.class))
+                .satisfies(ip -> assertThat(ip.isRequired()).isFalse());
+    }
+
+    @Test
+    void getInjectionPoints_fromDescriptor() {
+        var extension = new RequiredDependentExtension();
+        var descriptor = TestInjectionDescriptor.requiredDependentExtension();
+        var scanner = new InjectionPointScanner(Map.<Class<?>, InjectionDescriptor>of(RequiredDependentExtension.class, descriptor));
+
+        var injectionPoints = scanner.getInjectionPoints(extension).toList();
+
+        assertThat(injectionPoints).hasSize(2);
+        assertThat(injectionPoints.get(0)).isInstanceOf(ServiceInjectionPoint.class)
+                .hasToString("Field \"testObject\" of type [%s]".formatted(TestObject.class))
+                .satisfies(ip -> assertThat(ip.isRequired()).isTrue());
+        assertThat(injectionPoints.get(1)).isInstanceOf(ValueInjectionPoint.class)
+                .hasToString("Configuration value \"fooBar\" of type [%s] (property 'foo.bar')".formatted(String.class))
+                .satisfies(ip -> assertThat(ip.isRequired()).isFalse());
+
+        var testObject = new TestObject("test");
+        assertThat(injectionPoints.get(0).setTargetValue(testObject).succeeded()).isTrue();
+        assertThat(extension.getTestObject()).isSameAs(testObject);
+    }
+
+    @Test
+    void getInjectionPoints_shouldScanReflectively_whenNoDescriptorForClass() {
+        var descriptor = TestInjectionDescriptor.providerExtension();
+        var scanner = new InjectionPointScanner(Map.<Class<?>, InjectionDescriptor>of(descriptor.target(), descriptor));
+
+        var injectionPoints = scanner.getInjectionPoints(new RequiredDependentExtension()).toList();
+
+        assertThat(injectionPoints).hasSize(2);
+    }
+}
@@ -14,12 +14,18 @@
 
 package org.eclipse.edc.boot.system.injection;
 
+import org.eclipse.edc.boot.system.TestInjectionDescriptor;
+import org.eclipse.edc.boot.system.TestObject;
+import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -41,6 +47,20 @@ class ProviderMethodScannerTest {
                 .containsOnly(TestExtension.class.getMethod("providerDefault"));
     }
 
+    @Test
+    void allProviders_fromDescriptor() {
+        var extension = new ProviderExtension();
+        var descriptor = TestInjectionDescriptor.providerExtension();
+        var scanner = new ProviderMethodScanner(extension, Map.<Class<?>, InjectionDescriptor>of(ProviderExtension.class, descriptor));
+
+        var providers = scanner.allProviders().toList();
+
+        assertThat(providers).hasSize(1).first()
+                .satisfies(provider -> assertThat(provider.isDefault()).isFalse())
+                .satisfies(provider -> assertThat(provider.getReturnType()).isEqualTo(TestObject.class))
+                .satisfies(provider -> assertThat(provider.invoke(extension)).isInstanceOf(TestObject.class));
+    }
+
     @Test
     void verifyInvalidReturnType() {
         var scanner = new ProviderMethodScanner(new InvalidTestExtension());
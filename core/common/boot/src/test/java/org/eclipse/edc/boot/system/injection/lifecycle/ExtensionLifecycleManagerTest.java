@@ -22,6 +22,7 @@ import org.eclipse.edc.boot.system.testextensions.DependentExtension;
 import org.eclipse.edc.boot.system.testextensions.ProviderDefaultServicesExtension;
 import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
 import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.Test;
@@ -29,9 +30,14 @@ import org.mockito.Mockito;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.boot.system.TestFunctions.mutableListOf;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -118,6 +124,51 @@ class ExtensionLifecycleManagerTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    void shouldStartIndependentExtensionsInParallel() {
+        var latch = new CountDownLatch(2);
+        var first = extensionThatAwaitsOnStart(latch);
+        var second = extensionThatAwaitsOnStart(latch);
+        List<InjectionContainer<ServiceExtension>> containers = List.of(
+                new InjectionContainer<>(first, Collections.emptySet(), Collections.emptyList()),
+                new InjectionContainer<>(second, Collections.emptySet(), Collections.emptyList()));
+        var layers = List.of(containers);
+
+        ExtensionLifecycleManager.bootServiceExtensions(containers, layers, context, 2);
+
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    void shouldInitializeInContainersOrder_whenBootingInParallel() {
+        ServiceExtension first = mock();
+        ServiceExtension second = mock();
+        List<InjectionContainer<ServiceExtension>> containers = List.of(
+                new InjectionContainer<>(first, Collections.emptySet(), Collections.emptyList()),
+                new InjectionContainer<>(second, Collections.emptySet(), Collections.emptyList()));
+        var layers = List.of(List.of(containers.get(1), containers.get(0)));
+
+        ExtensionLifecycleManager.bootServiceExtensions(containers, layers, context, 2);
+
+        var inOrder = inOrder(first, second);
+        inOrder.verify(first).initialize(context);
+        inOrder.verify(second).initialize(context);
+    }
+
+    @Test
+    void shouldPropagateStartFailure_whenBootingInParallel() {
+        ServiceExtension failing = mock();
+        doThrow(new EdcException("start failed")).when(failing).start();
+        ServiceExtension other = mock();
+        List<InjectionContainer<ServiceExtension>> containers = List.of(
+                new InjectionContainer<>(failing, Collections.emptySet(), Collections.emptyList()),
+                new InjectionContainer<>(other, Collections.emptySet(), Collections.emptyList()));
+        var layers = List.of(containers);
+
+        assertThatThrownBy(() -> ExtensionLifecycleManager.bootServiceExtensions(containers, layers, context, 2))
+                .isInstanceOf(EdcException.class).hasMessage("start failed");
+    }
+
     public void boot(ServiceExtension... serviceExtensions) {
         var injectionContainers = createInjectionContainers(mutableListOf(serviceExtensions));
         ExtensionLifecycleManager.bootServiceExtensions(injectionContainers, context);
@@ -127,4 +178,20 @@ class ExtensionLifecycleManagerTest {
         return DependencyGraph.of(context, extensions).getInjectionContainers();
     }
 
+    private ServiceExtension extensionThatAwaitsOnStart(CountDownLatch latch) {
+        return new ServiceExtension() {
+            @Override
+            public void start() {
+                latch.countDown();
+                try {
+                    if (!latch.await(5, TimeUnit.SECONDS)) {
+                        throw new EdcException("the other extension was not started concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    throw new EdcException(e);
+                }
+            }
+        };
+    }
+
 }
@@ -34,6 +34,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -102,6 +103,39 @@ public class BaseRuntimeTest {
         verify(unsuccessful).shutdown();
     }
 
+    @Test
+    void shouldNotifyExtensionsOfCheckpointAndRestore() {
+        ServiceExtension first = mock();
+        ServiceExtension second = mock();
+        when(serviceLocator.loadImplementors(eq(ServiceExtension.class), anyBoolean()))
+                .thenReturn(mutableListOf(first, second));
+        runtime.boot(false);
+
+        runtime.beforeCheckpoint();
+        runtime.afterRestore();
+
+        var inOrder = inOrder(first, second);
+        inOrder.verify(second).beforeCheckpoint();
+        inOrder.verify(first).beforeCheckpoint();
+        inOrder.verify(first).afterRestore();
+        inOrder.verify(second).afterRestore();
+    }
+
+    @Test
+    void shouldRestoreNotifiedExtensions_whenCheckpointFails() {
+        ServiceExtension first = mock();
+        ServiceExtension second = mock();
+        doThrow(new EdcException("cannot checkpoint")).when(first).beforeCheckpoint();
+        when(serviceLocator.loadImplementors(eq(ServiceExtension.class), anyBoolean()))
+                .thenReturn(mutableListOf(first, second));
+        runtime.boot(false);
+
+        assertThatThrownBy(runtime::beforeCheckpoint).isInstanceOf(EdcException.class);
+
+        verify(second).afterRestore();
+        verify(first, never()).afterRestore();
+    }
+
     @NotNull
     private <T> ServiceExtension extensionThatRegisters(Class<T> serviceClass, T service) {
         return new ServiceExtension() {
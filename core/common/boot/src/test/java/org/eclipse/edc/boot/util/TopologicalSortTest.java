@@ -43,6 +43,27 @@ class TopologicalSortTest {
         assertEquals("foo", list.get(2));
     }
 
+    @Test
+    void verifyLayers() {
+        var sort = new TopologicalSort<String>();
+        sort.addDependency("foo", "bar");
+        sort.addDependency("foo", "baz");
+        sort.addDependency("bar", "baz");
+        sort.addDependency("quux", "baz");
+
+        List<String> list = new ArrayList<>();
+        list.add("foo");
+        list.add("bar");
+        list.add("baz");
+        list.add("quux");
+        list.add("corge");
+
+        sort.sort(list);
+        var layers = sort.layers(list);
+
+        assertEquals(List.of(List.of("baz", "corge"), List.of("bar", "quux"), List.of("foo")), layers);
+    }
+
     @Test
     void verifyCyclicDependency() {
         var sort = new TopologicalSort<String>();
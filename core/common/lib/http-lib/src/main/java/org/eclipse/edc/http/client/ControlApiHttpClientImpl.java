@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -63,6 +64,11 @@ public class ControlApiHttpClientImpl implements ControlApiHttpClient {
         }
     }
 
+    @Override
+    public ControlApiHttpClient withCallTimeout(Duration timeout) {
+        return new ControlApiHttpClientImpl(httpClient.withCallTimeout(timeout), authenticationProvider);
+    }
+
     private @NotNull ServiceResult<String> mapToFailure(int statusCode, String responseBody) {
         return switch (statusCode) {
             case 400 -> ServiceResult.badRequest("Remote API returned HTTP 400. " + responseBody);
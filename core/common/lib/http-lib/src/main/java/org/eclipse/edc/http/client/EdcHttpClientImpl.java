@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -97,4 +98,9 @@ public class EdcHttpClientImpl implements EdcHttpClient {
         return new EdcHttpClientImpl(okHttpClient.newBuilder().dns(dns).build(), retryPolicy, monitor);
     }
 
+    @Override
+    public EdcHttpClient withCallTimeout(Duration timeout) {
+        return new EdcHttpClientImpl(okHttpClient.newBuilder().callTimeout(timeout).build(), retryPolicy, monitor);
+    }
+
 }
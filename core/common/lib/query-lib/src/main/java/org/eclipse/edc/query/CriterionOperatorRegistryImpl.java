@@ -19,22 +19,27 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.OperatorPredicate;
 import org.eclipse.edc.spi.query.PropertyLookup;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
 
 /**
- * Implementation for {@link CriterionOperatorRegistry}
+ * Implementation for {@link CriterionOperatorRegistry}. Predicates converted from a list of criteria are cached, so
+ * stores evaluating the same query repeatedly (e.g. the state machines' {@code nextNotLeased} or the contract
+ * definition asset selectors) do not rebuild them on every call.
  */
 public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry {
 
+    private static final int MAX_CACHED_PREDICATES = 1024;
+
     private final Map<String, OperatorPredicate> operatorPredicates = new HashMap<>();
-    private final List<PropertyLookup> propertyLookups = new ArrayList<>();
+    private final List<PropertyLookup> propertyLookups = new CopyOnWriteArrayList<>();
+    private final Map<List<Criterion>, Predicate<?>> compiledCriteria = new ConcurrentHashMap<>();
 
     public static CriterionOperatorRegistry ofDefaults() {
         var registry = new CriterionOperatorRegistryImpl();
@@ -52,16 +57,19 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
     @Override
     public void registerOperatorPredicate(String operator, OperatorPredicate converter) {
         operatorPredicates.put(operator.toLowerCase(), converter);
+        compiledCriteria.clear();
     }
 
     @Override
     public void registerPropertyLookup(PropertyLookup propertyLookup) {
         propertyLookups.add(0, propertyLookup);
+        compiledCriteria.clear();
     }
 
     @Override
     public void unregister(String operator) {
         operatorPredicates.remove(operator.toLowerCase());
+        compiledCriteria.clear();
     }
 
     @Override
@@ -71,25 +79,62 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
+        var operandLeft = criterion.getOperandLeft();
+        var operandRight = criterion.getOperandRight();
+        var lookups = propertyLookups.toArray(PropertyLookup[]::new);
 
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        return t -> {
+            Object property = null;
+            for (var lookup : lookups) {
+                property = lookup.getProperty((String) operandLeft, t);
+                if (property != null) {
+                    break;
+                }
+            }
 
             if (property == null) {
                 return false;
             }
 
-            return predicate.test(property, criterion.getOperandRight());
+            return predicate.test(property, operandRight);
         };
 
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<T> toPredicate(List<Criterion> criteria) {
+        var cached = compiledCriteria.get(criteria);
+        if (cached != null) {
+            return (Predicate<T>) cached;
+        }
+
+        var compiled = this.<T>compile(criteria);
+        if (compiledCriteria.size() >= MAX_CACHED_PREDICATES) {
+            compiledCriteria.clear();
+        }
+        compiledCriteria.put(List.copyOf(criteria), compiled);
+        return compiled;
+    }
+
+    private <T> Predicate<T> compile(List<Criterion> criteria) {
+        var predicates = criteria.stream().map(this::<T>toPredicate).toList();
+        if (predicates.isEmpty()) {
+            return t -> true;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return t -> {
+            for (var predicate : predicates) {
+                if (!predicate.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
     @Override
     public boolean isSupported(String operator) {
         return operatorPredicates.containsKey(operator.toLowerCase());
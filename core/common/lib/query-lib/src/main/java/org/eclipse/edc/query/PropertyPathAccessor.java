@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled form of a property path, e.g. {@code "contractAgreement.assetId"} or {@code "properties.'key'"}, that
+ * resolves the value of the property on an object with the same semantics as
+ * {@link ReflectionUtil#getFieldValue(String, Object)}.
+ * <p>
+ * The path is parsed only once and the fields are resolved once per class into {@link MethodHandle} getters, so
+ * evaluating the same path on many objects does not go through the reflective field lookup every time.
+ */
+public final class PropertyPathAccessor {
+
+    private static final int MAX_CACHED_PATHS = 4096;
+    private static final Map<String, PropertyPathAccessor> PATHS = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<ConcurrentMap<String, Optional<MethodHandle>>> GETTERS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Segment[] segments;
+
+    private PropertyPathAccessor(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the compiled accessor for the path, compiling it on first use.
+     *
+     * @param path the property path.
+     * @return the accessor.
+     */
+    public static PropertyPathAccessor of(String path) {
+        Objects.requireNonNull(path, "propertyName");
+        var accessor = PATHS.get(path);
+        if (accessor != null) {
+            return accessor;
+        }
+        if (PATHS.size() >= MAX_CACHED_PATHS) {
+            PATHS.clear();
+        }
+        return PATHS.computeIfAbsent(path, PropertyPathAccessor::compile);
+    }
+
+    /**
+     * Resolves the property value on the object.
+     *
+     * @param object the object.
+     * @return the value, null if an intermediate value is null.
+     * @throws ReflectionException if a field does not exist.
+     */
+    public Object get(Object object) {
+        Objects.requireNonNull(object, "object");
+        var current = object;
+        for (var i = 0; i < segments.length; i++) {
+            if (i > 0 && current == null) {
+                return null;
+            }
+            current = segments[i].get(current);
+        }
+        return current;
+    }
+
+    private static PropertyPathAccessor compile(String path) {
+        var items = PathItem.parse(path);
+        var segments = new Segment[items.size()];
+        for (var i = 0; i < segments.length; i++) {
+            segments[i] = Segment.of(items.get(i).toString());
+        }
+        return new PropertyPathAccessor(segments);
+    }
+
+    private static Object fieldValue(String name, Object object) {
+        var getter = GETTERS.get(object.getClass())
+                .computeIfAbsent(name, n -> Optional.ofNullable(ReflectionUtil.getFieldRecursive(object.getClass(), n)).map(PropertyPathAccessor::getter))
+                .orElseThrow(() -> new ReflectionException(name));
+        try {
+            return getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            field.setAccessible(true);
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    /**
+     * A single item of the path: a plain name, or a name followed by a list index, e.g. {@code "items[2]"}.
+     */
+    private record Segment(String name, int index) {
+
+        private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+
+        static Segment of(String item) {
+            if (item.matches(ARRAY_INDEXER_REGEX)) {
+                var openingBracketIx = item.indexOf('[');
+                var closingBracketIx = item.indexOf(']');
+                return new Segment(item.substring(0, openingBracketIx), Integer.parseInt(item.substring(openingBracketIx + 1, closingBracketIx)));
+            }
+            return new Segment(item, -1);
+        }
+
+        Object get(Object object) {
+            var value = valueOf(object);
+            return index < 0 ? value : ((List<?>) value).get(index);
+        }
+
+        private Object valueOf(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> fieldValue(name, it)).toList();
+            } else {
+                return fieldValue(name, object);
+            }
+        }
+    }
+}
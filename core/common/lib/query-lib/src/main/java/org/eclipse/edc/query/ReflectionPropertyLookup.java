@@ -16,13 +16,15 @@ package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.PropertyLookup;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+/**
+ * {@link PropertyLookup} that resolves the property by reflection, through a cached {@link PropertyPathAccessor}.
+ */
 public class ReflectionPropertyLookup implements PropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return PropertyPathAccessor.of(key).get(object);
         } catch (ReflectionException e) {
             return null;
         }
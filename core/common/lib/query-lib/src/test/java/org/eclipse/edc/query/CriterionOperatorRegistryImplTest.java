@@ -18,6 +18,9 @@ import org.eclipse.edc.spi.query.OperatorPredicate;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -121,6 +124,46 @@ class CriterionOperatorRegistryImplTest {
         }
     }
 
+    @Nested
+    class ConvertList {
+
+        @Test
+        void shouldMatch_whenAllCriteriaMatch() {
+            registry.registerOperatorPredicate("=", Object::equals);
+            registry.registerPropertyLookup((key, object) -> key);
+            var criteria = List.of(criterion("a", "=", "a"), criterion("b", "=", "b"));
+
+            assertThat(registry.toPredicate(criteria).test("any")).isTrue();
+            assertThat(registry.toPredicate(List.of(criterion("a", "=", "a"), criterion("b", "=", "c"))).test("any")).isFalse();
+        }
+
+        @Test
+        void shouldAlwaysMatch_whenCriteriaAreEmpty() {
+            assertThat(registry.toPredicate(List.of()).test("any")).isTrue();
+        }
+
+        @Test
+        void shouldReuseCompiledPredicate_whenCriteriaAreEqual() {
+            registry.registerOperatorPredicate("=", Object::equals);
+
+            var first = registry.toPredicate(List.of(criterion("a", "=", "a")));
+            var second = registry.toPredicate(new ArrayList<>(List.of(criterion("a", "=", "a"))));
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        void shouldRecompile_whenRegistryChanges() {
+            registry.registerOperatorPredicate("=", Object::equals);
+            var criteria = List.of(criterion("a", "=", "a"));
+            var first = registry.toPredicate(criteria);
+
+            registry.registerPropertyLookup((key, object) -> key);
+
+            assertThat(registry.toPredicate(criteria)).isNotSameAs(first);
+        }
+    }
+
     @Nested
     class RegisterPropertyLookup {
 
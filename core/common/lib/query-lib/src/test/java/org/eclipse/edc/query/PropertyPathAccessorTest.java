@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathAccessorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "id", "count", "child.name", "children.name", "children[1].name", "properties.'edc:key'" })
+    void shouldResolveLikeReflectionUtil(String path) {
+        var entity = new Entity();
+
+        Object expected = ReflectionUtil.getFieldValue(path, entity);
+
+        assertThat(PropertyPathAccessor.of(path).get(entity)).isEqualTo(expected);
+        assertThat(PropertyPathAccessor.of(path).get(entity)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "id", "child.name" })
+    void shouldResolveOnDifferentClasses(String path) {
+        assertThat(PropertyPathAccessor.of(path).get(new Entity())).isNotNull();
+        assertThat(PropertyPathAccessor.of(path).get(Map.of("id", "value", "child", Map.of("name", "value")))).isEqualTo("value");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "missing", "child.missing" })
+    void shouldThrow_whenFieldDoesNotExist(String path) {
+        assertThatThrownBy(() -> PropertyPathAccessor.of(path).get(new Entity())).isInstanceOf(ReflectionException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "nothing.name" })
+    void shouldReturnNull_whenIntermediateValueIsNull(String path) {
+        assertThat(PropertyPathAccessor.of(path).get(new Entity())).isNull();
+    }
+
+    private static class BaseEntity {
+        private final String id = "id";
+    }
+
+    private static class Entity extends BaseEntity {
+        private final int count = 3;
+        private final Child child = new Child("child");
+        private final Child nothing = null;
+        private final List<Child> children = List.of(new Child("first"), new Child("second"));
+        private final Map<String, Object> properties = Map.of("edc:key", "value");
+    }
+
+    private record Child(String name) {
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches prepared statements per physical connection, so that a statement executed repeatedly on the same pooled
+ * connection is prepared only once.
+ * <p>
+ * Connections handed out by pools and transaction contexts are usually wrappers, so the cache is keyed by the
+ * connection obtained through {@link Connection#unwrap(Class)}. A statement is removed from the cache while it is in
+ * use and put back when released, so the same SQL can run concurrently on one connection (e.g. nested queries). At most
+ * {@code maxStatementsPerConnection} statements are retained per connection: the least recently used one is closed when
+ * the limit is exceeded. Entries of closed connections are purged, and their statements closed, when a new connection
+ * is seen. A connection whose state cannot be determined is kept until it is reported as closed.
+ */
+class PreparedStatementCache {
+
+    private final int maxStatementsPerConnection;
+    private final Map<Connection, Map<String, PreparedStatement>> statementsByConnection = new HashMap<>();
+
+    PreparedStatementCache(int maxStatementsPerConnection) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /**
+     * Takes the statement for the given SQL out of the cache, or prepares a new one.
+     *
+     * @param connection the connection.
+     * @param sql        the SQL.
+     * @return the prepared statement, that must be given back with {@link #release(Connection, String, PreparedStatement)}.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    PreparedStatement acquire(Connection connection, String sql) throws SQLException {
+        if (isDisabled()) {
+            return connection.prepareStatement(sql);
+        }
+
+        PreparedStatement cached;
+        var key = physicalConnection(connection);
+        synchronized (statementsByConnection) {
+            var statements = statementsByConnection.get(key);
+            cached = statements != null ? statements.remove(sql) : null;
+        }
+
+        if (cached != null && !cached.isClosed()) {
+            return cached;
+        }
+        return connection.prepareStatement(sql);
+    }
+
+    /**
+     * Gives a statement back to the cache, or closes it if the cache is disabled.
+     *
+     * @param connection the connection the statement has been acquired from.
+     * @param sql        the SQL.
+     * @param statement  the statement.
+     * @throws SQLException if the statement cannot be reset or closed.
+     */
+    void release(Connection connection, String sql, PreparedStatement statement) throws SQLException {
+        if (isDisabled() || statement.isClosed()) {
+            statement.close();
+            return;
+        }
+
+        statement.clearParameters();
+        PreparedStatement previous;
+        var purged = new ArrayList<PreparedStatement>();
+        var key = physicalConnection(connection);
+        synchronized (statementsByConnection) {
+            var statements = statementsByConnection.get(key);
+            if (statements == null) {
+                purgeClosedConnections(purged);
+                statements = new LruStatements();
+                statementsByConnection.put(key, statements);
+            }
+            previous = statements.put(sql, statement);
+        }
+
+        purged.forEach(this::closeQuietly);
+        if (previous != null && previous != statement) {
+            previous.close();
+        }
+    }
+
+    private boolean isDisabled() {
+        return maxStatementsPerConnection <= 0;
+    }
+
+    /**
+     * Removes the entries of the closed connections, must be called while holding the cache lock. The statements of
+     * the removed entries are added to {@code purged}, to be closed once the lock is released.
+     */
+    private void purgeClosedConnections(List<PreparedStatement> purged) {
+        statementsByConnection.entrySet().removeIf(entry -> {
+            if (isClosed(entry.getKey())) {
+                purged.addAll(entry.getValue().values());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // the statement is discarded anyway
+        }
+    }
+
+    private Connection physicalConnection(Connection connection) {
+        try {
+            var unwrapped = connection.unwrap(Connection.class);
+            return unwrapped != null ? unwrapped : connection;
+        } catch (SQLException e) {
+            return connection;
+        }
+    }
+
+    private class LruStatements extends LinkedHashMap<String, PreparedStatement> {
+
+        LruStatements() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= maxStatementsPerConnection) {
+                return false;
+            }
+            closeQuietly(eldest.getValue());
+            return true;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,19 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that have to be executed once per set of arguments, e.g. multi-row inserts.
+     * Implementations should send all the rows to the database in a single round trip.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param argumentsList the parameters of every execution of the query
+     * @return rowsChanged by every execution
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        return argumentsList.stream().mapToInt(arguments -> execute(connection, sql, arguments)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -16,13 +16,15 @@
 package org.eclipse.edc.sql;
 
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -33,17 +35,32 @@ import static java.util.stream.StreamSupport.stream;
 
 /**
  * The SqlQueryExecutor is capable of executing parametrized SQL queries
+ * <p>
+ * The execution time of every statement is reported to the {@link MetricsRecorder}, tagged with the operation
+ * ({@code execute}, {@code batch} or {@code query}) and the statement kind ({@code select}, {@code insert}, ...).
  */
 public class SqlQueryExecutor implements QueryExecutor {
 
+    public static final String STATEMENT_METRIC = "edc.sql.statement";
+    public static final String STATEMENT_ERRORS_METRIC = "edc.sql.statement.errors";
+    public static final String BATCH_SIZE_METRIC = "edc.sql.batch.size";
+
     private final SqlQueryExecutorConfiguration configuration;
+    private final PreparedStatementCache statementCache;
+    private final MetricsRecorder metrics;
 
     public SqlQueryExecutor() {
         this(SqlQueryExecutorConfiguration.ofDefaults());
     }
 
     public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration) {
+        this(configuration, MetricsRecorder.noop());
+    }
+
+    public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration, MetricsRecorder metrics) {
         this.configuration = configuration;
+        this.statementCache = new PreparedStatementCache(configuration.statementCacheSize());
+        this.metrics = metrics;
     }
 
     @Override
@@ -52,10 +69,54 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            setArguments(statement, arguments);
-            return statement.execute() ? 0 : statement.getUpdateCount();
+        var start = System.nanoTime();
+        try {
+            var statement = statementCache.acquire(connection, sql);
+            try {
+                setArguments(statement, arguments);
+                var result = statement.execute() ? 0 : statement.getUpdateCount();
+                recordStatement("execute", sql, start);
+                return result;
+            } finally {
+                statementCache.release(connection, sql, statement);
+            }
+        } catch (Exception exception) {
+            recordError("execute", sql);
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(argumentsList, "argumentsList");
+
+        if (argumentsList.isEmpty()) {
+            return new int[0];
+        }
+
+        var start = System.nanoTime();
+        try {
+            var statement = statementCache.acquire(connection, sql);
+            try {
+                for (var arguments : argumentsList) {
+                    setArguments(statement, arguments);
+                    statement.addBatch();
+                }
+                var result = statement.executeBatch();
+                recordStatement("batch", sql, start);
+                metrics.recordValue(BATCH_SIZE_METRIC, argumentsList.size(), "statement", statementKind(sql));
+                return result;
+            } finally {
+                try {
+                    statement.clearBatch();
+                } finally {
+                    statementCache.release(connection, sql, statement);
+                }
+            }
         } catch (Exception exception) {
+            recordError("batch", sql);
             throw new EdcPersistenceException(exception.getMessage(), exception);
         }
     }
@@ -74,20 +135,23 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
+        var start = System.nanoTime();
         var doorKeeper = new DoorKeeper();
         try {
             if (closeConnection) {
                 doorKeeper.takeCareOf(connection);
             }
-            var statement = connection.prepareStatement(sql);
-            doorKeeper.takeCareOf(statement);
+            var statement = statementCache.acquire(connection, sql);
+            doorKeeper.takeCareOf(() -> statementCache.release(connection, sql, statement));
             statement.setFetchSize(configuration.fetchSize());
             setArguments(statement, arguments);
             var resultSet = statement.executeQuery();
+            recordStatement("query", sql, start);
             doorKeeper.takeCareOf(resultSet);
             var splititerator = createSpliterator(resultSetMapper, resultSet);
             return stream(splititerator, false).onClose(doorKeeper::close);
         } catch (SQLException sqlEx) {
+            recordError("query", sql);
             try {
                 doorKeeper.close();
             } catch (Exception ex) {
@@ -98,6 +162,29 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    private void recordStatement(String operation, String sql, long start) {
+        metrics.recordNanos(STATEMENT_METRIC, System.nanoTime() - start, "operation", operation, "statement", statementKind(sql));
+    }
+
+    private void recordError(String operation, String sql) {
+        metrics.increment(STATEMENT_ERRORS_METRIC, 1, "operation", operation, "statement", statementKind(sql));
+    }
+
+    /**
+     * The leading keyword of the statement, lower case, e.g. {@code select}.
+     */
+    private String statementKind(String sql) {
+        var begin = 0;
+        while (begin < sql.length() && !Character.isLetter(sql.charAt(begin))) {
+            begin++;
+        }
+        var end = begin;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(begin, end).toLowerCase(Locale.ROOT);
+    }
+
     private void setArguments(PreparedStatement statement, Object[] arguments) throws SQLException {
         for (var index = 0; index < arguments.length; index++) {
             var position = index + 1;
@@ -106,8 +193,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -100,6 +101,27 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var sql = format("INSERT INTO %s (k, v) values (?, ?)", table);
+        var rows = List.of(new Object[]{ "k1", "v1" }, new Object[]{ "k2", "v2" }, new Object[]{ "k3", "v3" });
+
+        var result = executor.executeBatch(connection, sql, rows);
+
+        assertThat(result).containsExactly(1, 1, 1);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    void execute_reusesCachedStatement(Connection connection) {
+        insertRow(connection);
+        insertRow(connection);
+
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(2);
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
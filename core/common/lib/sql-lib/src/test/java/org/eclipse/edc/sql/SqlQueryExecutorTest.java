@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -25,13 +26,18 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SqlQueryExecutorTest {
@@ -43,7 +49,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
@@ -51,6 +57,109 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void execute_shouldReuseStatementOnSameConnection() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+
+        executor.execute(connection, DUMMY_SQL, "first");
+        executor.execute(connection, DUMMY_SQL, "second");
+
+        verify(connection, times(1)).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement, times(2)).clearParameters();
+        verify(preparedStatement, never()).close();
+    }
+
+    @Test
+    void execute_shouldCloseStatement_whenCacheDisabled() throws SQLException {
+        var executor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 0));
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+
+        executor.execute(connection, DUMMY_SQL, "first");
+        executor.execute(connection, DUMMY_SQL, "second");
+
+        verify(connection, times(2)).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement, times(2)).close();
+    }
+
+    @Test
+    void execute_shouldCloseCachedStatements_whenConnectionIsClosed() throws SQLException {
+        var closedConnection = Mockito.mock(Connection.class);
+        var cachedStatement = Mockito.mock(PreparedStatement.class);
+        when(closedConnection.prepareStatement(DUMMY_SQL)).thenReturn(cachedStatement);
+        var connection = Mockito.mock(Connection.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(Mockito.mock(PreparedStatement.class));
+
+        executor.execute(closedConnection, DUMMY_SQL, "first");
+        when(closedConnection.isClosed()).thenReturn(true);
+        executor.execute(connection, DUMMY_SQL, "second");
+
+        verify(cachedStatement).close();
+    }
+
+    @Test
+    void execute_shouldKeepCachedStatements_whenConnectionStateIsUnknown() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var cachedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(cachedStatement);
+        var otherConnection = Mockito.mock(Connection.class);
+        when(otherConnection.prepareStatement(DUMMY_SQL)).thenReturn(Mockito.mock(PreparedStatement.class));
+
+        executor.execute(connection, DUMMY_SQL, "first");
+        when(connection.isClosed()).thenThrow(new SQLException("unknown"));
+        executor.execute(otherConnection, DUMMY_SQL, "second");
+        executor.execute(connection, DUMMY_SQL, "third");
+
+        verify(connection, times(1)).prepareStatement(DUMMY_SQL);
+        verify(cachedStatement, never()).close();
+    }
+
+    @Test
+    void query_shouldPrepareNewStatement_whenCachedOneIsInUse() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var first = Mockito.mock(PreparedStatement.class);
+        var second = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(first, second);
+        when(first.executeQuery()).thenReturn(Mockito.mock(ResultSet.class));
+        when(second.executeQuery()).thenReturn(Mockito.mock(ResultSet.class));
+
+        try (var outer = executor.query(connection, false, rs -> rs, DUMMY_SQL);
+             var inner = executor.query(connection, false, rs -> rs, DUMMY_SQL)) {
+            verify(connection, times(2)).prepareStatement(DUMMY_SQL);
+        }
+    }
+
+    @Test
+    void executeBatch_shouldAddOneBatchEntryPerRow() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a", 1 }, new Object[]{ "b", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(preparedStatement).setString(1, "a");
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setString(1, "b");
+        verify(preparedStatement).setInt(2, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+
+    @Test
+    void executeBatch_shouldDoNothing_whenNoRows() {
+        var connection = Mockito.mock(Connection.class);
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(connection);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
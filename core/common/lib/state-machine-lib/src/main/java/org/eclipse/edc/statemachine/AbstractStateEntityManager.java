@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
@@ -46,6 +47,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected int batchSize = DEFAULT_BATCH_SIZE;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    protected MetricsRecorder metricsRecorder = MetricsRecorder.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
@@ -56,7 +58,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     @Override
     public void start() {
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .metrics(metricsRecorder);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -69,6 +72,20 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         }
     }
 
+    @Override
+    public void pause() {
+        if (stateMachineManager != null) {
+            stateMachineManager.pause();
+        }
+    }
+
+    @Override
+    public void resume() {
+        if (stateMachineManager != null) {
+            stateMachineManager.resume();
+        }
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -133,6 +150,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B metricsRecorder(MetricsRecorder metricsRecorder) {
+            manager.metricsRecorder = metricsRecorder;
+            return self();
+        }
+
         public B entityRetryProcessConfiguration(EntityRetryProcessConfiguration entityRetryProcessConfiguration) {
             manager.entityRetryProcessConfiguration = entityRetryProcessConfiguration;
             return self();
@@ -147,7 +169,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             Objects.requireNonNull(manager.store, "store");
             Objects.requireNonNull(manager.monitor, "monitor");
 
-            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration, manager.metricsRecorder);
 
             return manager;
         }
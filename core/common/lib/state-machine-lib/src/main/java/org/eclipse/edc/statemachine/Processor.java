@@ -28,4 +28,13 @@ public interface Processor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Name of the processor, used to tag its metrics.
+     *
+     * @return the name, null if the processor has not been named.
+     */
+    default String name() {
+        return null;
+    }
 }
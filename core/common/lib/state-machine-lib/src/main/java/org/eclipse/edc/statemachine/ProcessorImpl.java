@@ -33,6 +33,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - A beforeProcess listener can be registered, that will be called with all the fetched entities before they get
+ * processed one by one, e.g. to coalesce remote calls.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +44,8 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private Consumer<Collection<E>> beforeProcess = entities -> {};
+    private String name;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,7 +53,11 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
+        var batch = entities.get();
+        if (!batch.isEmpty()) {
+            beforeProcess.accept(batch);
+        }
+        return batch.stream()
                 .map(entity -> {
                     var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
                     var hasBeenProcessed = actualProcess.apply(entity);
@@ -62,6 +70,11 @@ public class ProcessorImpl<E> implements Processor {
                 .count();
     }
 
+    @Override
+    public String name() {
+        return name;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -79,6 +92,17 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Names the processor, e.g. after the state of the entities it processes.
+         *
+         * @param name the name.
+         * @return the builder.
+         */
+        public Builder<E> name(String name) {
+            processor.name = name;
+            return this;
+        }
+
         public Builder<E> guard(Predicate<E> predicate, Function<E, Boolean> process) {
             processor.guard = new Guard<>(predicate, process);
             return this;
@@ -95,6 +119,17 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines a listener that will be invoked with the fetched entities before they get processed.
+         *
+         * @param beforeProcess the listener.
+         * @return the builder.
+         */
+        public Builder<E> beforeProcess(Consumer<Collection<E>> beforeProcess) {
+            processor.beforeProcess = beforeProcess;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
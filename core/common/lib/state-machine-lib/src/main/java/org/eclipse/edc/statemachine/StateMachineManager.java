@@ -17,14 +17,17 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
@@ -35,16 +38,26 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * Duration of iterations and processors, processed entities and processor errors are reported to the
+ * {@link MetricsRecorder}, tagged with the state machine name and the processor name.
  */
 public class StateMachineManager {
 
-    private final List<Processor> processors = new ArrayList<>();
+    public static final String ITERATION_METRIC = "edc.statemachine.iteration";
+    public static final String PROCESSOR_METRIC = "edc.statemachine.processor";
+    public static final String PROCESSED_METRIC = "edc.statemachine.processed";
+    public static final String PROCESSOR_ERRORS_METRIC = "edc.statemachine.processor.errors";
+
+    private final List<NamedProcessor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
     private int shutdownTimeout = 10;
+    private MetricsRecorder metrics = MetricsRecorder.noop();
+    private volatile Future<?> nextIteration;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
@@ -68,6 +81,34 @@ public class StateMachineManager {
         return scheduleNextIterationIn(0L);
     }
 
+    /**
+     * Pause the loop, e.g. before a checkpoint is taken: waits for the running iteration, if any, to complete and
+     * cancels the next one. Unlike {@link #stop()} the loop can be resumed.
+     */
+    public void pause() {
+        if (!active.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            executor.submit(() -> nextIteration.cancel(false)).get(shutdownTimeout, SECONDS);
+        } catch (InterruptedException e) {
+            monitor.severe(format("StateMachineManager [%s] pause interrupted", name), e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            monitor.severe(format("StateMachineManager [%s] could not wait for the running iteration to complete", name), e);
+        }
+    }
+
+    /**
+     * Resume a loop paused with {@link #pause()}.
+     */
+    public void resume() {
+        if (!executor.isShutdown() && active.compareAndSet(false, true)) {
+            scheduleNextIterationIn(0L);
+        }
+    }
+
     /**
      * Stop the loop gracefully as suggested in the {@link ExecutorService} documentation
      */
@@ -111,16 +152,11 @@ public class StateMachineManager {
     }
 
     private void performLogic() {
+        var start = System.nanoTime();
         var processed = processors.stream()
-                .mapToLong(processor -> {
-                    try {
-                        return processor.process();
-                    } catch (Exception e) {
-                        monitor.severe("StateMachineManager [%s] error caught during processor".formatted(name), e);
-                        return 0;
-                    }
-                })
+                .mapToLong(this::process)
                 .sum();
+        metrics.recordNanos(ITERATION_METRIC, System.nanoTime() - start, "machine", name);
 
         waitStrategy.success();
 
@@ -130,9 +166,26 @@ public class StateMachineManager {
 
     }
 
+    private long process(NamedProcessor entry) {
+        var start = System.nanoTime();
+        try {
+            var processed = entry.processor().process();
+            metrics.recordNanos(PROCESSOR_METRIC, System.nanoTime() - start, "machine", name, "processor", entry.name());
+            if (processed > 0) {
+                metrics.increment(PROCESSED_METRIC, processed, "machine", name, "processor", entry.name());
+            }
+            return processed;
+        } catch (Exception e) {
+            metrics.increment(PROCESSOR_ERRORS_METRIC, 1, "machine", name, "processor", entry.name(), "error", e.getClass().getSimpleName());
+            monitor.severe("StateMachineManager [%s] error caught during processor".formatted(name), e);
+            return 0;
+        }
+    }
+
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(this::logic, delayMillis, MILLISECONDS);
+        nextIteration = executor.schedule(this::logic, delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -148,7 +201,19 @@ public class StateMachineManager {
         }
 
         public Builder processor(Processor processor) {
-            loop.processors.add(processor);
+            var processorName = processor.name() != null ? processor.name() : "processor-" + loop.processors.size();
+            loop.processors.add(new NamedProcessor(processor, processorName));
+            return this;
+        }
+
+        /**
+         * Sets the recorder the state machine metrics are reported to.
+         *
+         * @param metrics the metrics recorder.
+         * @return the builder.
+         */
+        public Builder metrics(MetricsRecorder metrics) {
+            loop.metrics = metrics;
             return this;
         }
 
@@ -161,4 +226,7 @@ public class StateMachineManager {
             return loop;
         }
     }
+
+    private record NamedProcessor(Processor processor, String name) {
+    }
 }
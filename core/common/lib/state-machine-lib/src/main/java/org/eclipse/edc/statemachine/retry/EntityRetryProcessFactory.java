@@ -17,6 +17,7 @@ package org.eclipse.edc.statemachine.retry;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.statemachine.retry.processor.RetryProcessor;
 
 import java.time.Clock;
@@ -30,11 +31,17 @@ public class EntityRetryProcessFactory {
     private final Monitor monitor;
     private final EntityRetryProcessConfiguration configuration;
     private final Clock clock;
+    private final MetricsRecorder metrics;
 
     public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
+        this(monitor, clock, configuration, MetricsRecorder.noop());
+    }
+
+    public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, MetricsRecorder metrics) {
         this.monitor = monitor;
         this.clock = clock;
         this.configuration = configuration;
+        this.metrics = metrics;
     }
 
     /**
@@ -44,7 +51,7 @@ public class EntityRetryProcessFactory {
      * @return a retry processor.
      */
     public <E extends StatefulEntity<E>, C> RetryProcessor<E, C> retryProcessor(E entity) {
-        return new RetryProcessor<>(entity, monitor, clock, configuration);
+        return new RetryProcessor<>(entity, monitor, clock, configuration, metrics);
     }
 
     /**
@@ -16,6 +16,7 @@ package org.eclipse.edc.statemachine.retry.processor;
 
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 
 import java.time.Clock;
@@ -35,6 +36,8 @@ import java.util.function.Function;
  * </ul>
  *
  * The component has been designed with a process chain component on which multiple processes can be chained.
+ * <p>
+ * Every outcome is counted and timed on the {@link MetricsRecorder}, tagged with the entity type and the outcome.
  *
  * @param <E> entity type.
  * @param <C> content type that is returned by the {@link #processChain} and that will be available in the {@link #onSuccess} handler.
@@ -42,10 +45,14 @@ import java.util.function.Function;
  */
 public class RetryProcessor<E extends StatefulEntity<E>, C> {
 
+    public static final String OUTCOME_METRIC = "edc.statemachine.retry.outcome";
+    public static final String DURATION_METRIC = "edc.statemachine.retry.duration";
+
     private final E entity;
     private final Monitor monitor;
     private final Clock clock;
     private final EntityRetryProcessConfiguration configuration;
+    private final MetricsRecorder metrics;
     private final Function<Void, CompletableFuture<ProcessContext<E, C>>> processChain;
 
     private BiConsumer<E, C> onSuccess;
@@ -53,19 +60,25 @@ public class RetryProcessor<E extends StatefulEntity<E>, C> {
     private BiConsumer<E, Throwable> onFinalFailure;
 
     public RetryProcessor(E entity, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
-        this(entity, monitor, clock, configuration, v -> CompletableFuture.completedFuture(new ProcessContext<>(entity, null)));
+        this(entity, monitor, clock, configuration, MetricsRecorder.noop());
+    }
+
+    public RetryProcessor(E entity, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, MetricsRecorder metrics) {
+        this(entity, monitor, clock, configuration, metrics, v -> CompletableFuture.completedFuture(new ProcessContext<>(entity, null)));
     }
 
-    private RetryProcessor(E entity, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, Function<Void, CompletableFuture<ProcessContext<E, C>>> processChain) {
+    private RetryProcessor(E entity, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, MetricsRecorder metrics,
+                           Function<Void, CompletableFuture<ProcessContext<E, C>>> processChain) {
         this.entity = entity;
         this.monitor = monitor;
         this.clock = clock;
         this.configuration = configuration;
+        this.metrics = metrics;
         this.processChain = processChain;
     }
 
     public <C1> RetryProcessor<E, C1> doProcess(Process<E, C, C1> process) {
-        return new RetryProcessor<>(entity, monitor, clock, configuration, c -> processChain.apply(c).thenCompose(process::execute));
+        return new RetryProcessor<>(entity, monitor, clock, configuration, metrics, c -> processChain.apply(c).thenCompose(process::execute));
     }
 
     public RetryProcessor<E, C> onSuccess(BiConsumer<E, C> onSuccess) {
@@ -94,31 +107,38 @@ public class RetryProcessor<E extends StatefulEntity<E>, C> {
             var delay = delayMillis(entity);
             if (delay > 0) {
                 monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                metrics.increment(OUTCOME_METRIC, 1, "entity", entity.getClass().getSimpleName(), "outcome", "delayed");
                 return false;
             } else {
                 monitor.debug(String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.retryLimit()));
             }
         }
 
+        var start = System.nanoTime();
         processChain.apply(null)
                 .whenComplete((content, throwable) -> {
                     if (throwable == null) {
+                        record("success", start);
                         onSuccess.accept(content.entity(), content.content());
                     } else {
                         var cause = throwable.getCause();
                         if (cause instanceof UnrecoverableEntityStateException unrecoverable) {
+                            record("final-failure", start);
                             monitor.severe(unrecoverable.getUnrecoverableMessage());
                             onFinalFailure.accept(entity, unrecoverable);
                         } else if (cause instanceof EntityStateException entityStateException) {
                             var exceptionEntity = entityStateException.getEntity();
                             if (exceptionEntity.getStateCount() > configuration.retryLimit()) {
+                                record("final-failure", start);
                                 monitor.severe(entityStateException.getRetryLimitExceededMessage());
                                 onFinalFailure.accept(entity, entityStateException);
                             } else {
+                                record("failure", start);
                                 monitor.debug(entityStateException.getRetryFailedMessage());
                                 onFailure.accept(entity, entityStateException);
                             }
                         } else {
+                            record("final-failure", start);
                             monitor.severe("Runtime exception caught by retry processor: %s".formatted(cause.getMessage()), cause);
                             onFinalFailure.accept(entity, cause);
                         }
@@ -128,6 +148,12 @@ public class RetryProcessor<E extends StatefulEntity<E>, C> {
         return true;
     }
 
+    private void record(String outcome, long start) {
+        var entityType = entity.getClass().getSimpleName();
+        metrics.increment(OUTCOME_METRIC, 1, "entity", entityType, "outcome", outcome);
+        metrics.recordNanos(DURATION_METRIC, System.nanoTime() - start, "entity", entityType, "outcome", outcome);
+    }
+
     private boolean isRetry(E entity) {
         return entity.getStateCount() - 1 > 0;
     }
@@ -17,6 +17,8 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -117,4 +119,32 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldExecuteBeforeProcess_beforeProcessingEntities() {
+        var first = TestEntity.Builder.newInstance().id("first").build();
+        var second = TestEntity.Builder.newInstance().id("second").build();
+        var events = new ArrayList<String>();
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(first, second))
+                .beforeProcess(entities -> events.add("before:" + entities.size()))
+                .process(e -> events.add("process:" + e.getId()))
+                .build();
+
+        processor.process();
+
+        assertThat(events).containsExactly("before:2", "process:first", "process:second");
+    }
+
+    @Test
+    void shouldNotExecuteBeforeProcess_whenNoEntities() {
+        Consumer<Collection<TestEntity>> beforeProcess = mock();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(List::of)
+                .beforeProcess(beforeProcess)
+                .process(e -> true)
+                .build();
+
+        processor.process();
+
+        verifyNoInteractions(beforeProcess);
+    }
 }
@@ -18,17 +18,23 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -69,6 +75,30 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldStopProcessing_whenPaused_andRestart_whenResumed() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor, atLeastOnce()).process());
+
+        stateMachine.pause();
+
+        assertThat(stateMachine.isActive()).isFalse();
+        clearInvocations(processor);
+        await().pollDelay(200, MILLISECONDS).untilAsserted(() -> verifyNoInteractions(processor));
+
+        stateMachine.resume();
+
+        assertThat(stateMachine.isActive()).isTrue();
+        await().untilAsserted(() -> verify(processor, atLeastOnce()).process());
+        stateMachine.stop();
+    }
+
     @Test
     void shouldNotWaitForSomeTimeIfTheresAtLeastOneProcessedEntity() {
         var processor = mock(Processor.class);
@@ -151,4 +181,26 @@ class StateMachineManagerTest {
             verify(successful, atLeastOnce()).process();
         });
     }
+
+    @Test
+    void shouldRecordProcessorMetrics() {
+        var processor = mock(Processor.class);
+        when(processor.name()).thenReturn("STATE");
+        when(processor.process()).thenReturn(2L);
+        var metrics = mock(MetricsRecorder.class);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .metrics(metrics)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(metrics, atLeastOnce()).recordNanos(eq(StateMachineManager.PROCESSOR_METRIC), anyLong(), eq("machine"), eq("test"), eq("processor"), eq("STATE"));
+            verify(metrics, atLeastOnce()).increment(StateMachineManager.PROCESSED_METRIC, 2L, "machine", "test", "processor", "STATE");
+            verify(metrics, atLeastOnce()).recordNanos(eq(StateMachineManager.ITERATION_METRIC), anyLong(), eq("machine"), eq("test"));
+        });
+
+        stateMachine.stop();
+    }
 }
@@ -37,8 +37,6 @@ public class AndOperatorCriteriaToPredicate<T> implements CriteriaToPredicate<T>
 
     @Override
     public Predicate<T> convert(List<Criterion> criteria) {
-        return criteria.stream()
-                .map(criterionOperatorRegistry::<T>toPredicate)
-                .reduce(x -> true, Predicate::and);
+        return criterionOperatorRegistry.toPredicate(criteria);
     }
 }
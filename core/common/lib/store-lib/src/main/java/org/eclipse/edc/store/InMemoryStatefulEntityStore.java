@@ -23,37 +23,43 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state and ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)}
+ * filtering by state only visits the entities in that state, oldest first, and stops once the batch is full. Leases
+ * are acquired atomically per entity, without a store-wide lock.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<String, IndexEntry> indexEntries = new ConcurrentHashMap<>();
+    private final NavigableSet<IndexEntry> timestampIndex = new ConcurrentSkipListSet<>();
+    private final Map<Integer, NavigableSet<IndexEntry>> stateIndex = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry, StateResolver stateResolver) {
@@ -74,40 +80,50 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        var filterPredicate = criterionOperatorRegistry.<T>toPredicate(Arrays.asList(criteria));
+        var entities = new ArrayList<T>();
+        for (var entry : candidates(criteria)) {
+            if (entities.size() >= max) {
+                break;
+            }
+            var lease = tryLease(entry.id());
+            if (lease == null) {
+                continue;
+            }
+            // the entity is read and tested only once leased, so that it cannot be saved in between anymore
+            var entity = entitiesById.get(entry.id());
+            if (entity != null && filterPredicate.test(entity)) {
+                entities.add(entity.copy());
+            } else {
+                leases.remove(entry.id(), lease);
+            }
+        }
+        return entities;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        try {
+            acquireLease(id);
+            return StoreResult.success(entity);
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
     }
 
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var copy = entity.copy();
+        entitiesById.compute(entity.getId(), (id, previous) -> {
+            reindex(id, new IndexEntry(copy.getStateTimestamp(), id, copy.getState()));
+            return copy;
+        });
         freeLease(entity.getId());
     }
 
@@ -115,7 +131,10 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            reindex(key, null);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -127,15 +146,57 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        leases.compute(id, (key, lease) -> {
+            if (lease == null || lease.isExpired(clock.millis()) || lease.getLeasedBy().equals(lockId)) {
+                return new Lease(lockId, clock.millis(), leaseTime.toMillis());
+            }
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
-        }
+        });
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
+    }
+
+    /**
+     * Entities to be considered by {@link #nextNotLeased(int, Criterion...)}, oldest state timestamp first: the ones
+     * in the requested state if the criteria contain an equality on the state, all of them otherwise.
+     */
+    private Iterable<IndexEntry> candidates(Criterion... criteria) {
+        for (var criterion : criteria) {
+            if ("state".equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()) && criterion.getOperandRight() instanceof Integer state) {
+                return stateIndex.getOrDefault(state, Collections.emptyNavigableSet());
+            }
+        }
+        return timestampIndex;
+    }
+
+    /**
+     * Replaces the index entry of the entity, must be called while holding the entity's map entry.
+     */
+    private void reindex(String id, @Nullable IndexEntry entry) {
+        var previous = entry == null ? indexEntries.remove(id) : indexEntries.put(id, entry);
+        if (previous != null) {
+            timestampIndex.remove(previous);
+            var states = stateIndex.get(previous.state());
+            if (states != null) {
+                states.remove(previous);
+            }
+        }
+        if (entry != null) {
+            timestampIndex.add(entry);
+            stateIndex.computeIfAbsent(entry.state(), s -> new ConcurrentSkipListSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Leases the entity to this store if it is not leased at all, returns null otherwise.
+     */
+    private @Nullable Lease tryLease(String id) {
+        var now = clock.millis();
+        var newLease = new Lease(lockId, now, DEFAULT_LEASE_TIME.toMillis());
+        return leases.compute(id, (key, lease) -> lease == null || lease.isExpired(now) ? newLease : lease) == newLease ? newLease : null;
     }
 
     private void freeLease(String id) {
@@ -147,7 +208,17 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private record IndexEntry(long stateTimestamp, String id, int state) implements Comparable<IndexEntry> {
+        private static final Comparator<IndexEntry> ORDER = comparingLong(IndexEntry::stateTimestamp).thenComparing(IndexEntry::id);
+
+        @Override
+        public int compareTo(@NotNull IndexEntry other) {
+            return ORDER.compare(this, other);
+        }
     }
 
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.query.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.mockito.Mockito.mock;
+
+class InMemoryStatefulEntityStoreTest {
+
+    private final InMemoryStatefulEntityStore<TestEntity> store = new InMemoryStatefulEntityStore<>(TestEntity.class,
+            "lock-id", Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults(), mock());
+
+    @Test
+    void nextNotLeased_shouldReturnEntitiesInStateOldestFirst() {
+        store.save(entity("newer", 100, 3000));
+        store.save(entity("older", 100, 1000));
+        store.save(entity("other-state", 200, 500));
+        store.save(entity("middle", 100, 2000));
+
+        var result = store.nextNotLeased(2, hasState(100));
+
+        assertThat(result).extracting(StatefulEntity::getId).containsExactly("older", "middle");
+    }
+
+    @Test
+    void nextNotLeased_shouldFollowStateChanges() {
+        store.save(entity("id", 100, 1000));
+        store.save(entity("id", 200, 2000));
+
+        assertThat(store.nextNotLeased(10, hasState(100))).isEmpty();
+        assertThat(store.nextNotLeased(10, hasState(200))).extracting(StatefulEntity::getId).containsExactly("id");
+    }
+
+    @Test
+    void nextNotLeased_shouldSkipLeasedEntities() {
+        store.save(entity("leased", 100, 1000));
+        store.save(entity("free", 100, 2000));
+        store.acquireLease("leased", "someone-else", Duration.ofMinutes(1));
+
+        var result = store.nextNotLeased(10, hasState(100));
+
+        assertThat(result).extracting(StatefulEntity::getId).containsExactly("free");
+    }
+
+    @Test
+    void nextNotLeased_shouldScanAllEntities_whenNoStateCriterion() {
+        store.save(entity("second", 200, 2000));
+        store.save(entity("first", 100, 1000));
+
+        var result = store.nextNotLeased(10);
+
+        assertThat(result).extracting(StatefulEntity::getId).containsExactly("first", "second");
+    }
+
+    @Test
+    void nextNotLeased_shouldReleaseLease_whenEntityDoesNotMatchCriteria() {
+        store.save(entity("id", 100, 1000));
+
+        var result = store.nextNotLeased(10, hasState(100), new Criterion("id", "=", "another-id"));
+
+        assertThat(result).isEmpty();
+        assertThat(store.isLeasedBy("id", "lock-id")).isFalse();
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnSameEntityToConcurrentCallers() {
+        IntStream.range(0, 1000).forEach(i -> store.save(entity("id-" + i, 100, i + 1)));
+        var returned = ConcurrentHashMap.<String>newKeySet();
+        var duplicates = new ArrayList<String>();
+
+        var futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    List<TestEntity> batch;
+                    while (!(batch = store.nextNotLeased(10, hasState(100))).isEmpty()) {
+                        batch.forEach(e -> {
+                            if (!returned.add(e.getId())) {
+                                synchronized (duplicates) {
+                                    duplicates.add(e.getId());
+                                }
+                            }
+                        });
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        assertThat(returned).hasSize(1000);
+        assertThat(duplicates).isEmpty();
+    }
+
+    private TestEntity entity(String id, int state, long stateTimestamp) {
+        return TestEntity.Builder.newInstance().id(id).state(state).stateTimestamp(stateTimestamp).build();
+    }
+
+    private static class TestEntity extends StatefulEntity<TestEntity> {
+
+        @Override
+        public TestEntity copy() {
+            return copy(Builder.newInstance());
+        }
+
+        @Override
+        public String stateAsString() {
+            return String.valueOf(state);
+        }
+
+        private static class Builder extends StatefulEntity.Builder<TestEntity, Builder> {
+
+            private Builder(TestEntity entity) {
+                super(entity);
+            }
+
+            static Builder newInstance() {
+                return new Builder(new TestEntity());
+            }
+
+            @Override
+            public Builder self() {
+                return this;
+            }
+
+            @Override
+            public TestEntity build() {
+                return super.build();
+            }
+        }
+    }
+}
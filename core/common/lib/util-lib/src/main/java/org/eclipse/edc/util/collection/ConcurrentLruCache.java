@@ -74,11 +74,12 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        // in access order a get moves the entry to the tail of the list, so it needs exclusive access
+        lock.writeLock().lock();
         try {
             return super.get(key);
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
         }
     }
 
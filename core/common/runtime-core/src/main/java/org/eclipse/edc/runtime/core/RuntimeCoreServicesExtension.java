@@ -23,17 +23,20 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.runtime.core.command.CommandHandlerRegistryImpl;
 import org.eclipse.edc.runtime.core.event.EventRouterImpl;
+import org.eclipse.edc.runtime.core.event.OverflowPolicy;
 import org.eclipse.edc.runtime.core.message.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.runtime.core.validator.JsonObjectValidatorRegistryImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -41,8 +44,10 @@ import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.util.Arrays;
 import java.util.concurrent.Executors;
 
+import static java.lang.String.format;
 import static org.eclipse.edc.runtime.core.RuntimeDefaultCoreServicesExtension.NAME;
 
 @Extension(NAME)
@@ -50,6 +55,7 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Runtime Core Services";
     private static final String DEFAULT_EDC_HOSTNAME = "localhost";
+    private static final String EVENT_QUEUE_OVERFLOW_POLICY = "edc.events.subscriber.queue.overflow";
 
     @Setting(
             key = "edc.hostname",
@@ -59,10 +65,26 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
     )
     public String hostname;
 
+    @Setting(
+            key = "edc.events.subscriber.queue.capacity",
+            description = "Capacity of the event queue of every asynchronous event subscriber",
+            defaultValue = EventRouterImpl.DEFAULT_QUEUE_CAPACITY + ""
+    )
+    private int eventQueueCapacity;
+
+    @Setting(
+            key = EVENT_QUEUE_OVERFLOW_POLICY,
+            description = "What happens when the event queue of an asynchronous subscriber is full: BLOCK the publisher, DROP the event or SPILL it to an unbounded overflow queue",
+            defaultValue = "SPILL"
+    )
+    private String eventQueueOverflowPolicy;
+
     @Inject
     private OkHttpClient okHttpClient;
     @Inject
     private RetryPolicy<Response> retryPolicy;
+    @Inject
+    private MetricsRecorder metricsRecorder;
 
     @Override
     public String name() {
@@ -92,7 +114,9 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), Executors.newFixedThreadPool(1));
+        // every asynchronous subscriber is served by at most one thread at a time, so the pool is bounded by the subscribers count
+        var executor = Executors.newCachedThreadPool();
+        return new EventRouterImpl(context.getMonitor(), executor, eventQueueCapacity, overflowPolicy(), metricsRecorder);
     }
 
     @Provider
@@ -115,4 +139,13 @@ public class RuntimeCoreServicesExtension implements ServiceExtension {
         return new RemoteMessageDispatcherRegistryImpl();
     }
 
+    private OverflowPolicy overflowPolicy() {
+        try {
+            return OverflowPolicy.valueOf(eventQueueOverflowPolicy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(format("Invalid value '%s' for setting %s, valid values are %s", eventQueueOverflowPolicy,
+                    EVENT_QUEUE_OVERFLOW_POLICY, Arrays.toString(OverflowPolicy.values())));
+        }
+    }
+
 }
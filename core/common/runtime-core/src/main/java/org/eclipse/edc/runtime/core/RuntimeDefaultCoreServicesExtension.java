@@ -50,11 +50,23 @@ public class RuntimeDefaultCoreServicesExtension implements ServiceExtension {
     @Inject(required = false)
     private EventListener okHttpEventListener;
 
+    private OkHttpClient okHttpClient;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    /**
+     * Open connections cannot survive a checkpoint, they are dropped so that new ones get opened after the restore.
+     */
+    @Override
+    public void beforeCheckpoint() {
+        if (okHttpClient != null) {
+            okHttpClient.connectionPool().evictAll();
+        }
+    }
+
     @Provider(isDefault = true)
     public TransactionContext defaultTransactionContext(ServiceExtensionContext context) {
         context.getMonitor().warning("No TransactionContext registered, a no-op implementation will be used, not suitable for production environments");
@@ -74,7 +86,8 @@ public class RuntimeDefaultCoreServicesExtension implements ServiceExtension {
 
     @Provider
     public OkHttpClient okHttpClient(ServiceExtensionContext context) {
-        return OkHttpClientFactory.create(configuration, okHttpEventListener, context.getMonitor());
+        okHttpClient = OkHttpClientFactory.create(configuration, okHttpEventListener, context.getMonitor());
+        return okHttpClient;
     }
 
 }
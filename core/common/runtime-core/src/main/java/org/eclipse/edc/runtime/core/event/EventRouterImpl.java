@@ -20,68 +20,111 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
-
-import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Routes events to the subscribers registered for the event class or any of its superclasses.
+ * <p>
+ * The subscribers of an event class are resolved once and cached until a new subscriber is registered. Every
+ * asynchronous subscriber gets its own bounded queue, that is drained on the executor: the executor should be able to
+ * run one task per asynchronous subscriber, otherwise a slow subscriber still delays the others.
+ * <p>
+ * The depth of the queues and the events dropped or spilled because a queue was full are reported to the
+ * {@link MetricsRecorder}, tagged with the subscriber name.
+ */
 public class EventRouterImpl implements EventRouter {
 
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.SPILL;
+    public static final String QUEUE_DEPTH_METRIC = "edc.events.subscriber.queue.depth";
+    public static final String DROPPED_EVENTS_METRIC = "edc.events.subscriber.dropped";
+    public static final String SPILLED_EVENTS_METRIC = "edc.events.subscriber.spilled";
+
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, SubscriberQueue> queues = new ConcurrentHashMap<>();
+    // replaced on registration, so that a resolution running concurrently cannot store a stale result in the new cache
+    private volatile Map<Class<?>, List<SubscriberQueue>> resolvedSubscribers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriber>> resolvedSyncSubscribers = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final MetricsRecorder metrics;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, DEFAULT_QUEUE_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this(monitor, executor, queueCapacity, overflowPolicy, MetricsRecorder.noop());
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int queueCapacity, OverflowPolicy overflowPolicy, MetricsRecorder metrics) {
         this.monitor = monitor;
         this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        resolvedSyncSubscribers = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        queues.computeIfAbsent(subscriber, s -> new SubscriberQueue(s, queueCapacity, overflowPolicy, executor, monitor, metrics));
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        resolvedSubscribers = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
-    }
+        var eventClass = event.getPayload().getClass();
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+        resolvedSyncSubscribers.computeIfAbsent(eventClass, c -> resolve(c, syncSubscribers))
+                .forEach(subscriber -> subscriber.on(event));
+
+        resolvedSubscribers.computeIfAbsent(eventClass, c -> resolve(c, subscribers).stream().map(queues::get).toList())
+                .forEach(queue -> queue.enqueue(event));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    /**
+     * Returns the queue metrics of every asynchronous subscriber.
+     *
+     * @return the queue metrics.
+     */
+    public List<SubscriberQueueMetrics> getQueueMetrics() {
+        return queues.values().stream().map(SubscriberQueue::metrics).toList();
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
+    private List<EventSubscriber> resolve(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> registrations) {
+        return registrations.entrySet()
                 .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+                .filter(entry -> entry.getKey().isAssignableFrom(eventClass))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+    }
+
+    /**
+     * Queue metrics of an asynchronous subscriber.
+     *
+     * @param subscriber the subscriber name.
+     * @param depth      the number of events waiting to be delivered.
+     * @param delivered  the number of events delivered.
+     * @param dropped    the number of events dropped because the queue was full.
+     * @param spilled    the number of events put on the overflow queue because the queue was full.
+     */
+    public record SubscriberQueueMetrics(String subscriber, int depth, long delivered, long dropped, long spilled) {
     }
 }
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.runtime.core.event;
+
+/**
+ * What happens when an event is published to an asynchronous subscriber whose queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The publisher waits until the subscriber queue has room for the event.
+     */
+    BLOCK,
+
+    /**
+     * The event is discarded for that subscriber and a warning is logged.
+     */
+    DROP,
+
+    /**
+     * The event is put on an unbounded overflow queue, that is delivered once the bounded queue has been drained.
+     */
+    SPILL
+}
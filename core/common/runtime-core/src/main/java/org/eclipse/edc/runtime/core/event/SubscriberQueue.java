@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.runtime.core.event;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.runtime.core.event.EventRouterImpl.DROPPED_EVENTS_METRIC;
+import static org.eclipse.edc.runtime.core.event.EventRouterImpl.QUEUE_DEPTH_METRIC;
+import static org.eclipse.edc.runtime.core.event.EventRouterImpl.SPILLED_EVENTS_METRIC;
+
+/**
+ * Bounded queue of events for a single asynchronous subscriber. Events are delivered in publishing order by a worker
+ * that runs on the executor only while the queue contains events, so at most one thread at a time serves a subscriber
+ * and a slow subscriber only delays its own events.
+ */
+class SubscriberQueue {
+
+    private final EventSubscriber subscriber;
+    private final BlockingQueue<EventEnvelope<?>> queue;
+    private final Queue<EventEnvelope<?>> spill = new ConcurrentLinkedQueue<>();
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final Monitor monitor;
+    private final MetricsRecorder metrics;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile Thread worker;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    SubscriberQueue(EventSubscriber subscriber, int capacity, OverflowPolicy overflowPolicy, Executor executor, Monitor monitor, MetricsRecorder metrics) {
+        this.subscriber = subscriber;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.metrics = metrics;
+    }
+
+    void enqueue(EventEnvelope<?> event) {
+        if (!queue.offer(event)) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    if (Thread.currentThread() == worker) {
+                        // the subscriber is publishing to itself: waiting for its own worker would never end
+                        spill(event);
+                    } else {
+                        put(event);
+                    }
+                }
+                case DROP -> {
+                    drop();
+                    monitor.warning(format("Queue of subscriber %s is full, event %s dropped", name(), event.getPayload().name()));
+                }
+                case SPILL -> spill(event);
+                default -> throw new IllegalStateException("Unexpected overflow policy: " + overflowPolicy);
+            }
+        }
+        metrics.recordValue(QUEUE_DEPTH_METRIC, queue.size() + spill.size(), "subscriber", name());
+        scheduleDrain();
+    }
+
+    EventRouterImpl.SubscriberQueueMetrics metrics() {
+        return new EventRouterImpl.SubscriberQueueMetrics(name(), queue.size() + spill.size(), delivered.get(), dropped.get(), spilled.get());
+    }
+
+    private void put(EventEnvelope<?> event) {
+        try {
+            // the worker must be running, otherwise the publisher could wait forever
+            scheduleDrain();
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop();
+            monitor.warning(format("Interrupted while waiting on the queue of subscriber %s, event %s dropped", name(), event.getPayload().name()));
+        }
+    }
+
+    private void spill(EventEnvelope<?> event) {
+        spilled.incrementAndGet();
+        metrics.increment(SPILLED_EVENTS_METRIC, 1, "subscriber", name());
+        spill.add(event);
+    }
+
+    private void drop() {
+        dropped.incrementAndGet();
+        metrics.increment(DROPPED_EVENTS_METRIC, 1, "subscriber", name());
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        worker = Thread.currentThread();
+        try {
+            EventEnvelope<?> event;
+            while ((event = next()) != null) {
+                deliver(event);
+            }
+        } finally {
+            worker = null;
+            draining.set(false);
+        }
+
+        // an event could have been enqueued after the last poll but before the flag was reset
+        if (!queue.isEmpty() || !spill.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private EventEnvelope<?> next() {
+        var event = queue.poll();
+        return event != null ? event : spill.poll();
+    }
+
+    private void deliver(EventEnvelope<?> event) {
+        try {
+            subscriber.on(event);
+            delivered.incrementAndGet();
+        } catch (Throwable throwable) {
+            monitor.severe(format("Subscriber %s failed to handle event %s", name(), event.getPayload().getClass().getSimpleName()), throwable);
+        }
+    }
+
+    private String name() {
+        return subscriber.getClass().getSimpleName();
+    }
+}
@@ -24,6 +24,13 @@ public class OkHttpClientConfiguration {
     public static final int DEFAULT_OK_HTTP_CLIENT_TIMEOUT_READ = 30;
     public static final int DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE = 0;
     public static final int DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = 0;
+    public static final int DEFAULT_OK_HTTP_CLIENT_MAX_REQUESTS = 128;
+    public static final int DEFAULT_OK_HTTP_CLIENT_MAX_REQUESTS_PER_HOST = 32;
+    public static final int DEFAULT_OK_HTTP_CLIENT_POOL_MAX_IDLE = 32;
+    public static final int DEFAULT_OK_HTTP_CLIENT_POOL_KEEP_ALIVE = 300;
+    public static final boolean DEFAULT_OK_HTTP_CLIENT_HTTP2_ENABLED = true;
+    public static final boolean DEFAULT_OK_HTTP_CLIENT_HTTP2_PRIOR_KNOWLEDGE = false;
+    public static final boolean DEFAULT_OK_HTTP_CLIENT_COMPRESSION_ENABLED = true;
 
     @Setting(description = "OkHttpClient: If true, enable HTTPS call enforcement", defaultValue = DEFAULT_OK_HTTP_CLIENT_HTTPS_ENFORCE + "", key = "edc.http.client.https.enforce")
     private boolean enforceHttps;
@@ -32,10 +39,26 @@ public class OkHttpClientConfiguration {
     private int connectTimeout;
     @Setting(description = "OkHttpClient: read timeout, in seconds", defaultValue = DEFAULT_OK_HTTP_CLIENT_TIMEOUT_READ + "", key = "edc.http.client.timeout.read")
     private int readTimeout;
-    @Setting(description = "OkHttpClient: send buffer size, in bytes", defaultValue = DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE + "", key = "edc.http.client.send.buffer.size", min = 1)
+    @Setting(description = "OkHttpClient: send buffer size, in bytes, 0 to use the system default", defaultValue = DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE + "", key = "edc.http.client.send.buffer.size")
     private int sendBufferSize;
-    @Setting(description = "OkHttpClient: receive buffer size, in bytes", defaultValue = DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE + "", key = "edc.http.client.receive.buffer.size", min = 1)
+    @Setting(description = "OkHttpClient: receive buffer size, in bytes, 0 to use the system default", defaultValue = DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE + "", key = "edc.http.client.receive.buffer.size")
     private int receiveBufferSize;
+    @Setting(description = "OkHttpClient: maximum number of asynchronous requests executed concurrently, 0 to use the OkHttp default", defaultValue = DEFAULT_OK_HTTP_CLIENT_MAX_REQUESTS + "", key = "edc.http.client.dispatcher.max.requests")
+    private int maxRequests;
+    @Setting(description = "OkHttpClient: maximum number of asynchronous requests executed concurrently against the same host, 0 to use the OkHttp default", defaultValue = DEFAULT_OK_HTTP_CLIENT_MAX_REQUESTS_PER_HOST + "", key = "edc.http.client.dispatcher.max.requests.per.host")
+    private int maxRequestsPerHost;
+    @Setting(description = "OkHttpClient: maximum number of idle connections kept in the connection pool, 0 to use the OkHttp connection pool defaults", defaultValue = DEFAULT_OK_HTTP_CLIENT_POOL_MAX_IDLE + "", key = "edc.http.client.pool.max.idle")
+    private int maxIdleConnections;
+    @Setting(description = "OkHttpClient: time an idle connection is kept in the connection pool, in seconds, 0 to use the OkHttp connection pool defaults", defaultValue = DEFAULT_OK_HTTP_CLIENT_POOL_KEEP_ALIVE + "", key = "edc.http.client.pool.keep.alive")
+    private int keepAlive;
+    @Setting(description = "OkHttpClient: if true, HTTP/2 is negotiated through ALPN on TLS connections", defaultValue = DEFAULT_OK_HTTP_CLIENT_HTTP2_ENABLED + "", key = "edc.http.client.http2.enabled")
+    private boolean http2Enabled;
+    @Setting(description = "OkHttpClient: if true, cleartext HTTP/2 (h2c) with prior knowledge is used for every call. " +
+            "Only meant for runtimes that talk exclusively to internal endpoints supporting h2c, e.g. control-plane to data-plane traffic",
+            defaultValue = DEFAULT_OK_HTTP_CLIENT_HTTP2_PRIOR_KNOWLEDGE + "", key = "edc.http.client.http2.prior.knowledge")
+    private boolean http2PriorKnowledge;
+    @Setting(description = "OkHttpClient: if true, gzip response compression is requested and transparently decoded", defaultValue = DEFAULT_OK_HTTP_CLIENT_COMPRESSION_ENABLED + "", key = "edc.http.client.compression.enabled")
+    private boolean compressionEnabled;
 
     public OkHttpClientConfiguration() {
     }
@@ -60,6 +83,34 @@ public class OkHttpClientConfiguration {
         return receiveBufferSize;
     }
 
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public int getKeepAlive() {
+        return keepAlive;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public boolean isHttp2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
     public Builder toBuilder() {
         return new Builder(this);
     }
@@ -101,6 +152,41 @@ public class OkHttpClientConfiguration {
             return this;
         }
 
+        public Builder maxRequests(int maxRequests) {
+            instance.maxRequests = maxRequests;
+            return this;
+        }
+
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            instance.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            instance.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder keepAlive(int keepAlive) {
+            instance.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder http2Enabled(boolean http2Enabled) {
+            instance.http2Enabled = http2Enabled;
+            return this;
+        }
+
+        public Builder http2PriorKnowledge(boolean http2PriorKnowledge) {
+            instance.http2PriorKnowledge = http2PriorKnowledge;
+            return this;
+        }
+
+        public Builder compressionEnabled(boolean compressionEnabled) {
+            instance.compressionEnabled = compressionEnabled;
+            return this;
+        }
+
         public OkHttpClientConfiguration build() {
             return instance;
         }
@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.runtime.core.http;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Response;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -25,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.util.List;
 import javax.net.SocketFactory;
 
 import static java.lang.String.format;
@@ -33,6 +37,8 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class OkHttpClientFactory {
 
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
     /**
      * Create an OkHttpClient instance
      *
@@ -43,6 +49,8 @@ public class OkHttpClientFactory {
      */
     @NotNull
     public static OkHttpClient create(OkHttpClientConfiguration configuration, EventListener okHttpEventListener, Monitor monitor) {
+        validate(configuration);
+
         var builder = new OkHttpClient.Builder()
                 .connectTimeout(configuration.getConnectTimeout(), SECONDS)
                 .readTimeout(configuration.getReadTimeout(), SECONDS);
@@ -51,6 +59,34 @@ public class OkHttpClientFactory {
             builder.socketFactory(new CustomSocketFactory(configuration.getSendBufferSize(), configuration.getReceiveBufferSize()));
         }
 
+        if (configuration.getMaxRequests() > 0 || configuration.getMaxRequestsPerHost() > 0) {
+            var dispatcher = new Dispatcher();
+            if (configuration.getMaxRequests() > 0) {
+                dispatcher.setMaxRequests(configuration.getMaxRequests());
+            }
+            if (configuration.getMaxRequestsPerHost() > 0) {
+                dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+            }
+            builder.dispatcher(dispatcher);
+        }
+
+        if (configuration.getMaxIdleConnections() > 0 && configuration.getKeepAlive() > 0) {
+            builder.connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAlive(), SECONDS));
+        }
+
+        if (configuration.isHttp2PriorKnowledge()) {
+            builder.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+            monitor.info("HTTP client configured to use cleartext HTTP/2 with prior knowledge, every called endpoint must support h2c");
+        } else if (configuration.isHttp2Enabled()) {
+            builder.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        } else {
+            builder.protocols(List.of(Protocol.HTTP_1_1));
+        }
+
+        if (!configuration.isCompressionEnabled()) {
+            builder.addInterceptor(new DisableCompression());
+        }
+
         ofNullable(okHttpEventListener).ifPresent(builder::eventListener);
 
         if (configuration.isEnforceHttps()) {
@@ -62,6 +98,45 @@ public class OkHttpClientFactory {
         return builder.build();
     }
 
+    /**
+     * Sizes and limits must not be negative, 0 keeps the OkHttp (or, for socket buffers, the system) default.
+     */
+    private static void validate(OkHttpClientConfiguration configuration) {
+        requireNotNegative(configuration.getSendBufferSize(), "edc.http.client.send.buffer.size");
+        requireNotNegative(configuration.getReceiveBufferSize(), "edc.http.client.receive.buffer.size");
+        requireNotNegative(configuration.getMaxRequests(), "edc.http.client.dispatcher.max.requests");
+        requireNotNegative(configuration.getMaxRequestsPerHost(), "edc.http.client.dispatcher.max.requests.per.host");
+        requireNotNegative(configuration.getMaxIdleConnections(), "edc.http.client.pool.max.idle");
+        requireNotNegative(configuration.getKeepAlive(), "edc.http.client.pool.keep.alive");
+
+        if (configuration.getMaxRequests() > 0 && configuration.getMaxRequestsPerHost() > configuration.getMaxRequests()) {
+            throw new EdcException(format("HTTP client max requests per host (%s) cannot be greater than max requests (%s)",
+                    configuration.getMaxRequestsPerHost(), configuration.getMaxRequests()));
+        }
+
+        if (configuration.isHttp2PriorKnowledge() && configuration.isEnforceHttps()) {
+            throw new EdcException("HTTP client cannot use cleartext HTTP/2 with prior knowledge when HTTPS enforcement is enabled");
+        }
+    }
+
+    private static void requireNotNegative(int value, String key) {
+        if (value < 0) {
+            throw new EdcException(format("Invalid value for %s: %s, it must not be negative", key, value));
+        }
+    }
+
+    private static class DisableCompression implements Interceptor {
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Chain chain) throws IOException {
+            var request = chain.request();
+            if (request.header(ACCEPT_ENCODING) != null) {
+                return chain.proceed(request);
+            }
+            return chain.proceed(request.newBuilder().header(ACCEPT_ENCODING, "identity").build());
+        }
+    }
+
     private static class EnforceHttps implements Interceptor {
         @NotNull
         @Override
@@ -18,18 +18,24 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +155,125 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldNotDelayOtherSubscribers_whenSubscriberIsSlow() {
+        var router = new EventRouterImpl(monitor, Executors.newCachedThreadPool());
+        var blocked = new CountDownLatch(1);
+        var slowSubscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            blocked.await();
+            return null;
+        }).when(slowSubscriber).on(any());
+        var subscriber = mock(EventSubscriber.class);
+        router.register(TestEvent.class, slowSubscriber);
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(envelope());
+        router.publish(envelope());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+        blocked.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(slowSubscriber, times(2)).on(any()));
+    }
+
+    @Test
+    void shouldDropEvents_whenQueueIsFullAndPolicyIsDrop() {
+        var router = new EventRouterImpl(monitor, Executors.newCachedThreadPool(), 1, OverflowPolicy.DROP);
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(envelope());
+        await().atMost(1, TimeUnit.SECONDS).until(() -> started.getCount() == 0);
+        router.publish(envelope());
+        router.publish(envelope());
+
+        assertThat(router.getQueueMetrics()).hasSize(1).first().satisfies(metrics -> {
+            assertThat(metrics.depth()).isEqualTo(1);
+            assertThat(metrics.dropped()).isEqualTo(1);
+        });
+        blocked.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+    }
+
+    @Test
+    void shouldReportQueueDepthAndDroppedEventsToMetrics() {
+        var metrics = mock(MetricsRecorder.class);
+        var router = new EventRouterImpl(monitor, Executors.newCachedThreadPool(), 1, OverflowPolicy.DROP, metrics);
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(envelope());
+        await().atMost(1, TimeUnit.SECONDS).until(() -> started.getCount() == 0);
+        router.publish(envelope());
+        router.publish(envelope());
+
+        var subscriberName = subscriber.getClass().getSimpleName();
+        verify(metrics).increment(EventRouterImpl.DROPPED_EVENTS_METRIC, 1, "subscriber", subscriberName);
+        verify(metrics, atLeastOnce()).recordValue(EventRouterImpl.QUEUE_DEPTH_METRIC, 1, "subscriber", subscriberName);
+        blocked.countDown();
+    }
+
+    @Test
+    void shouldSpillEvents_whenQueueIsFullAndPolicyIsSpill() {
+        var router = new EventRouterImpl(monitor, Executors.newCachedThreadPool(), 1, OverflowPolicy.SPILL);
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(envelope());
+        await().atMost(1, TimeUnit.SECONDS).until(() -> started.getCount() == 0);
+        router.publish(envelope());
+        router.publish(envelope());
+
+        assertThat(router.getQueueMetrics()).first().satisfies(metrics -> {
+            assertThat(metrics.depth()).isEqualTo(2);
+            assertThat(metrics.spilled()).isEqualTo(1);
+        });
+        blocked.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(3)).on(any()));
+    }
+
+    @Test
+    void shouldNotifySubscriberRegisteredAfterFirstPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        eventRouter.publish(envelope());
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(envelope());
+
+        verify(subscriberA, times(2)).on(any());
+        verify(subscriberB).on(any());
+    }
+
+    private EventEnvelope<TestEvent> envelope() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.runtime.core.http;
 
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -91,6 +93,95 @@ class OkHttpClientFactoryTest {
         });
     }
 
+    @Test
+    void shouldConfigureDispatcherAndConnectionPool() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxRequests(100)
+                .maxRequestsPerHost(50)
+                .maxIdleConnections(10)
+                .keepAlive(60)
+                .build();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(100);
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(50);
+        assertThat(okHttpClient.connectionPool()).isNotNull();
+    }
+
+    @Test
+    void shouldFail_whenMaxRequestsPerHostGreaterThanMaxRequests() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxRequests(10)
+                .maxRequestsPerHost(20)
+                .build();
+
+        assertThatThrownBy(() -> OkHttpClientFactory.create(configuration, eventListener, monitor)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldKeepOkHttpDefaults_whenZero() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxRequests(0)
+                .maxRequestsPerHost(0)
+                .maxIdleConnections(0)
+                .keepAlive(0)
+                .build();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(new Dispatcher().getMaxRequests());
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(new Dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    void shouldFail_whenNegativeValue() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .maxIdleConnections(-1)
+                .build();
+
+        assertThatThrownBy(() -> OkHttpClientFactory.create(configuration, eventListener, monitor)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldConfigureProtocols() {
+        var http2 = OkHttpClientFactory.create(OkHttpClientConfiguration.Builder.newInstance().http2Enabled(true).build(), eventListener, monitor);
+        var http1 = OkHttpClientFactory.create(OkHttpClientConfiguration.Builder.newInstance().http2Enabled(false).build(), eventListener, monitor);
+        var h2c = OkHttpClientFactory.create(OkHttpClientConfiguration.Builder.newInstance().http2PriorKnowledge(true).build(), eventListener, monitor);
+
+        assertThat(http2.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        assertThat(http1.protocols()).containsExactly(Protocol.HTTP_1_1);
+        assertThat(h2c.protocols()).containsExactly(Protocol.H2_PRIOR_KNOWLEDGE);
+    }
+
+    @Test
+    void shouldFail_whenPriorKnowledgeAndHttpsEnforced() {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance()
+                .http2PriorKnowledge(true)
+                .enforceHttps(true)
+                .build();
+
+        assertThatThrownBy(() -> OkHttpClientFactory.create(configuration, eventListener, monitor)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldRequestIdentityEncoding_whenCompressionDisabled() throws IOException {
+        var configuration = OkHttpClientConfiguration.Builder.newInstance().compressionEnabled(false).build();
+        var acceptEncoding = new AtomicReference<String>();
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor)
+                .newBuilder()
+                .addInterceptor(chain -> {
+                    acceptEncoding.set(chain.request().header("Accept-Encoding"));
+                    return dummySuccessfulResponse().intercept(chain);
+                })
+                .build();
+
+        call(okHttpClient, HTTP_URL);
+
+        assertThat(acceptEncoding.get()).isEqualTo("identity");
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.definition.observe.ContractDefinitionObservableImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
@@ -32,6 +33,7 @@ import org.eclipse.edc.connector.controlplane.services.asset.AssetQueryValidator
 import org.eclipse.edc.connector.controlplane.services.asset.AssetServiceImpl;
 import org.eclipse.edc.connector.controlplane.services.catalog.CatalogProtocolServiceImpl;
 import org.eclipse.edc.connector.controlplane.services.catalog.CatalogServiceImpl;
+import org.eclipse.edc.connector.controlplane.services.catalog.RemoteCatalogCache;
 import org.eclipse.edc.connector.controlplane.services.contractagreement.ContractAgreementServiceImpl;
 import org.eclipse.edc.connector.controlplane.services.contractdefinition.ContractDefinitionEventListener;
 import org.eclipse.edc.connector.controlplane.services.contractdefinition.ContractDefinitionServiceImpl;
@@ -90,6 +92,7 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.policy.context.request.spi.RequestCatalogPolicyContext.CATALOGING_REQUEST_SCOPE;
 import static org.eclipse.edc.policy.context.request.spi.RequestContractNegotiationPolicyContext.CONTRACT_NEGOTIATION_REQUEST_SCOPE;
@@ -101,9 +104,22 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane Services";
 
+    private static final long DEFAULT_CATALOG_CACHE_TTL = 0;
+    private static final long DEFAULT_CATALOG_CACHE_STALE_WHILE_REVALIDATE = 60000;
+    private static final int DEFAULT_CATALOG_CACHE_MAX_ENTRIES = 100;
+
     @Setting(description = "If true enables the policy validation when creating and updating policy definitions", defaultValue = "false", key = "edc.policy.validation.enabled")
     private Boolean validatePolicy;
 
+    @Setting(description = "the time in milliseconds a catalog requested to another participant is cached for, 0 disables the cache", defaultValue = DEFAULT_CATALOG_CACHE_TTL + "", key = "edc.catalog.cache.ttl-millis")
+    private long catalogCacheTtl;
+
+    @Setting(description = "the time in milliseconds an expired cached catalog is still served while it gets refreshed in background", defaultValue = DEFAULT_CATALOG_CACHE_STALE_WHILE_REVALIDATE + "", key = "edc.catalog.cache.stale-while-revalidate-millis")
+    private long catalogCacheStaleWhileRevalidate;
+
+    @Setting(description = "the maximum number of catalogs kept in the cache", defaultValue = DEFAULT_CATALOG_CACHE_MAX_ENTRIES + "", key = "edc.catalog.cache.max-entries")
+    private int catalogCacheMaxEntries;
+
     @Inject
     private Clock clock;
 
@@ -126,6 +142,9 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Inject
     private ContractNegotiationStore contractNegotiationStore;
 
+    @Inject
+    private ContractAgreementCache contractAgreementCache;
+
     @Inject
     private ConsumerContractNegotiationManager consumerContractNegotiationManager;
 
@@ -216,7 +235,12 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     @Provider
     public CatalogService catalogService() {
-        return new CatalogServiceImpl(dispatcher);
+        RemoteCatalogCache cache = null;
+        if (catalogCacheTtl > 0) {
+            cache = new RemoteCatalogCache(clock, Duration.ofMillis(catalogCacheTtl), Duration.ofMillis(catalogCacheStaleWhileRevalidate),
+                    catalogCacheMaxEntries, monitor);
+        }
+        return new CatalogServiceImpl(dispatcher, cache);
     }
 
     @Provider
@@ -227,7 +251,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     @Provider
     public ContractAgreementService contractAgreementService() {
-        return new ContractAgreementServiceImpl(contractNegotiationStore, transactionContext, QueryValidators.contractAgreement());
+        return new ContractAgreementServiceImpl(contractNegotiationStore, contractAgreementCache, transactionContext, QueryValidators.contractAgreement());
     }
 
     @Provider
@@ -53,8 +53,8 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     @Override
     @NotNull
     public ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new, message)
-                .map(agent -> {
+        return protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new, message)
+                .map(agent -> transactionContext.execute(() -> {
                     try (var datasets = datasetResolver.query(agent, message.getQuerySpec(), message.getProtocol())) {
                         var dataServices = dataServiceRegistry.getDataServices(message.getProtocol());
 
@@ -64,15 +64,14 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                                 .participantId(participantId)
                                 .build();
                     }
-                })
-        );
+                }));
     }
 
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation, String protocol) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new)
-                .map(agent -> datasetResolver.getById(agent, datasetId, protocol))
-                .compose(dataset -> {
+        return protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new)
+                .compose(agent -> transactionContext.execute(() -> {
+                    var dataset = datasetResolver.getById(agent, datasetId, protocol);
                     if (dataset == null) {
                         return ServiceResult.notFound(format("Dataset %s does not exist", datasetId));
                     }
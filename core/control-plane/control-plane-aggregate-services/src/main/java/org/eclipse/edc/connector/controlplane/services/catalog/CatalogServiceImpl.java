@@ -21,15 +21,28 @@ import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogServic
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
 public class CatalogServiceImpl implements CatalogService {
 
     private final RemoteMessageDispatcherRegistry dispatcher;
+    private final RemoteCatalogCache cache;
 
     public CatalogServiceImpl(RemoteMessageDispatcherRegistry dispatcher) {
+        this(dispatcher, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dispatcher the dispatcher.
+     * @param cache      the cache for the requested catalogs, null if catalogs should always be requested.
+     */
+    public CatalogServiceImpl(RemoteMessageDispatcherRegistry dispatcher, @Nullable RemoteCatalogCache cache) {
         this.dispatcher = dispatcher;
+        this.cache = cache;
     }
 
     @Override
@@ -42,7 +55,12 @@ public class CatalogServiceImpl implements CatalogService {
                 .additionalScopes(additionalScopes)
                 .build();
 
-        return dispatcher.dispatch(byte[].class, request);
+        if (cache == null) {
+            return dispatcher.dispatch(byte[].class, request);
+        }
+
+        var key = RemoteCatalogCache.Key.of(counterPartyId, counterPartyAddress, protocol, querySpec, additionalScopes);
+        return cache.get(key, () -> dispatcher.dispatch(byte[].class, request));
     }
 
     @Override
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.catalog;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Bounded cache of the catalogs requested to other participants.
+ * <p>
+ * A catalog is served from the cache for {@code ttl} after it has been fetched. For a further
+ * {@code staleWhileRevalidate} period the stale catalog is still served, while a refresh is requested in the
+ * background. After that, the caller waits for a new request. Concurrent requests for the same key share the same
+ * remote request. Failed requests are not cached. When the cache holds more than {@code maxEntries} catalogs, the
+ * least recently used one is evicted.
+ */
+public class RemoteCatalogCache {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+    private final Monitor monitor;
+    private final Map<Key, Entry> entries;
+    private final Map<Key, CompletableFuture<StatusResult<byte[]>>> inFlight = new ConcurrentHashMap<>();
+
+    public RemoteCatalogCache(Clock clock, Duration ttl, Duration staleWhileRevalidate, int maxEntries, Monitor monitor) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries);
+        }
+        this.clock = clock;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.monitor = monitor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached catalog for the key, requesting it with the loader when it is missing or expired.
+     *
+     * @param key    the cache key.
+     * @param loader requests the catalog to the counter-party.
+     * @return the catalog.
+     */
+    public CompletableFuture<StatusResult<byte[]>> get(Key key, Supplier<CompletableFuture<StatusResult<byte[]>>> loader) {
+        var entry = find(key);
+        if (entry != null) {
+            var now = clock.instant();
+            var expiresAt = entry.fetchedAt().plus(ttl);
+            if (now.isBefore(expiresAt)) {
+                return completedFuture(StatusResult.success(entry.catalog()));
+            }
+            if (now.isBefore(expiresAt.plus(staleWhileRevalidate))) {
+                load(key, loader).whenComplete((result, throwable) -> {
+                    if (throwable != null || result.failed()) {
+                        monitor.debug(() -> "Background refresh of catalog from %s failed: %s"
+                                .formatted(key.counterPartyAddress(), throwable != null ? throwable.getMessage() : result.getFailureDetail()));
+                    }
+                });
+                return completedFuture(StatusResult.success(entry.catalog()));
+            }
+        }
+
+        return load(key, loader);
+    }
+
+    /**
+     * Number of catalogs currently cached.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CompletableFuture<StatusResult<byte[]>> load(Key key, Supplier<CompletableFuture<StatusResult<byte[]>>> loader) {
+        var future = new CompletableFuture<StatusResult<byte[]>>();
+        var pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) {
+            return pending;
+        }
+
+        try {
+            loader.get().whenComplete((result, throwable) -> {
+                if (throwable == null && result.succeeded()) {
+                    put(key, new Entry(result.getContent(), clock.instant()));
+                }
+                inFlight.remove(key, future);
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Entry find(Key key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Identifies a catalog request.
+     */
+    public record Key(String counterPartyId, String counterPartyAddress, String protocol, QuerySpec querySpec, List<String> additionalScopes) {
+
+        public static Key of(String counterPartyId, String counterPartyAddress, String protocol, QuerySpec querySpec, String... additionalScopes) {
+            var scopes = additionalScopes == null ? List.<String>of() : Arrays.stream(additionalScopes).sorted().toList();
+            return new Key(counterPartyId, counterPartyAddress, protocol, querySpec, scopes);
+        }
+    }
+
+    private record Entry(byte[] catalog, Instant fetchedAt) {
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.services.contractagreement;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
@@ -30,18 +31,24 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class ContractAgreementServiceImpl implements ContractAgreementService {
     private final ContractNegotiationStore store;
+    private final ContractAgreementCache agreementCache;
     private final TransactionContext transactionContext;
     private final QueryValidator queryValidator;
 
     public ContractAgreementServiceImpl(ContractNegotiationStore store, TransactionContext transactionContext, QueryValidator queryValidator) {
+        this(store, store::findContractAgreement, transactionContext, queryValidator);
+    }
+
+    public ContractAgreementServiceImpl(ContractNegotiationStore store, ContractAgreementCache agreementCache, TransactionContext transactionContext, QueryValidator queryValidator) {
         this.store = store;
+        this.agreementCache = agreementCache;
         this.transactionContext = transactionContext;
         this.queryValidator = queryValidator;
     }
 
     @Override
     public ContractAgreement findById(String contractAgreementId) {
-        return transactionContext.execute(() -> store.findContractAgreement(contractAgreementId));
+        return transactionContext.execute(() -> agreementCache.findContractAgreement(contractAgreementId));
     }
 
     @Override
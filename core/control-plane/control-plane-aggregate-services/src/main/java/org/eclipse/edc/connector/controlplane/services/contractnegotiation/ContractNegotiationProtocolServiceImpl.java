@@ -82,34 +82,34 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(message)
+        return transactionContext.execute(() -> fetchValidatableOffer(message))
                 .compose(validatableOffer -> verifyRequest(tokenRepresentation, validatableOffer.getContractPolicy(), message)
-                        .compose(agent -> validateOffer(agent, validatableOffer))
-                        .compose(validatedOffer -> {
-                            var result = message.getProviderPid() == null
-                                    ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
-                                    : getAndLeaseNegotiation(message.getProviderPid());
-
-                            return result.onSuccess(negotiation -> {
-                                if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
-                                    return;
-                                }
-                                negotiation.protocolMessageReceived(message.getId());
-                                negotiation.addContractOffer(validatedOffer.getOffer());
-                                negotiation.transitionRequested();
-                                update(negotiation);
-                                observable.invokeForEach(l -> l.requested(negotiation));
-                            });
-                        })
-                ));
+                        .compose(agent -> transactionContext.execute(() -> validateOffer(agent, validatableOffer)
+                                .compose(validatedOffer -> {
+                                    var result = message.getProviderPid() == null
+                                            ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
+                                            : getAndLeaseNegotiation(message.getProviderPid());
+
+                                    return result.onSuccess(negotiation -> {
+                                        if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
+                                            return;
+                                        }
+                                        negotiation.protocolMessageReceived(message.getId());
+                                        negotiation.addContractOffer(validatedOffer.getOffer());
+                                        negotiation.transitionRequested();
+                                        update(negotiation);
+                                        observable.invokeForEach(l -> l.requested(negotiation));
+                                    });
+                                })
+                        )));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
-                .compose(agent -> {
+        return verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
+                .compose(agent -> transactionContext.execute(() -> {
                     ServiceResult<ContractNegotiation> result = message.getConsumerPid() == null
                             ? createNegotiation(message, agent.getIdentity(), CONSUMER, message.getCallbackAddress())
                             : getAndLeaseNegotiation(message.getConsumerPid())
@@ -132,10 +132,8 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
+        return verifyNegotiationRequest(message.getProcessId(), tokenRepresentation, message)
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
 
     }
 
@@ -143,50 +141,55 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateAgreed(message, agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
+        return verifyNegotiationRequest(message.getProcessId(), tokenRepresentation, message)
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
+        return verifyNegotiationRequest(message.getProcessId(), tokenRepresentation, message)
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
+        return verifyNegotiationRequest(message.getProcessId(), tokenRepresentation, message)
+                .compose(agent -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> findById(String id, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(id)
+        return transactionContext.execute(() -> getNegotiation(id))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), null)
                         .compose(agent -> validateRequest(agent, contractNegotiation)
-                                .map(it -> contractNegotiation))));
+                                .map(it -> contractNegotiation)));
+    }
+
+    /**
+     * Reads the negotiation in a short transaction, then verifies the token and validates the counter-party outside
+     * any transaction, as the token verification could involve remote calls.
+     */
+    @NotNull
+    private ServiceResult<Void> verifyNegotiationRequest(String negotiationId, TokenRepresentation tokenRepresentation, RemoteMessage message) {
+        return transactionContext.execute(() -> getNegotiation(negotiationId))
+                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
+                        .compose(agent -> validateRequest(agent, contractNegotiation)));
     }
 
     @NotNull
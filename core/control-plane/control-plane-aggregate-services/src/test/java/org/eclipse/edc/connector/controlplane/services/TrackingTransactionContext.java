@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services;
+
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+
+/**
+ * {@link NoopTransactionContext} that tells whether a transaction block is currently executing, used to assert that
+ * work happens outside a transaction.
+ */
+public class TrackingTransactionContext extends NoopTransactionContext {
+
+    private int depth;
+
+    @Override
+    public void execute(TransactionBlock block) {
+        depth++;
+        try {
+            super.execute(block);
+        } finally {
+            depth--;
+        }
+    }
+
+    @Override
+    public <T> T execute(ResultTransactionBlock<T> block) {
+        depth++;
+        try {
+            return super.execute(block);
+        } finally {
+            depth--;
+        }
+    }
+
+    public boolean isActive() {
+        return depth > 0;
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.services.TrackingTransactionContext;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.participant.spi.ParticipantAgent;
 import org.eclipse.edc.policy.model.Policy;
@@ -27,13 +28,13 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.ServiceResult;
-import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -44,6 +45,7 @@ import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,7 +55,7 @@ class CatalogProtocolServiceImplTest {
     private final DatasetResolver datasetResolver = mock();
     private final DataServiceRegistry dataServiceRegistry = mock();
     private final ProtocolTokenValidator protocolTokenValidator = mock();
-    private final TransactionContext transactionContext = spy(new NoopTransactionContext());
+    private final TrackingTransactionContext transactionContext = spy(new TrackingTransactionContext());
 
     private final CatalogProtocolServiceImpl service = new CatalogProtocolServiceImpl(datasetResolver,
             dataServiceRegistry, protocolTokenValidator, "participantId", transactionContext);
@@ -112,6 +114,25 @@ class CatalogProtocolServiceImplTest {
             var result = service.getCatalog(message, tokenRepresentation);
 
             assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+            verify(transactionContext, never()).execute(any(TransactionContext.ResultTransactionBlock.class));
+        }
+
+        @Test
+        void shouldVerifyTokenOutsideTransaction() {
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+            var tokenRepresentation = createTokenRepresentation();
+            var verifiedInTransaction = new AtomicBoolean(true);
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(transactionContext.isActive());
+                return ServiceResult.success(createParticipantAgent());
+            });
+            when(datasetResolver.query(any(), any(), any())).thenReturn(Stream.empty());
+
+            var result = service.getCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded();
+            assertThat(verifiedInTransaction).isFalse();
+            verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
         }
     }
 
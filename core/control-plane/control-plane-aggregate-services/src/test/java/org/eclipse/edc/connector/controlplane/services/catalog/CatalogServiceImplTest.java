@@ -22,6 +22,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +54,21 @@ class CatalogServiceImplTest {
         verify(dispatcher).dispatch(eq(byte[].class), isA(CatalogRequestMessage.class));
     }
 
+    @Test
+    void requestCatalog_shouldReturnCachedCatalog_whenCacheIsConfigured() {
+        var cache = new RemoteCatalogCache(Clock.systemUTC(), Duration.ofMinutes(1), Duration.ZERO, 10, mock());
+        var cachingService = new CatalogServiceImpl(dispatcher, cache);
+        when(dispatcher.dispatch(eq(byte[].class), any())).thenReturn(completedFuture(StatusResult.success("content".getBytes())));
+
+        cachingService.requestCatalog("counterPartyId", "http://provider/url", "protocol", QuerySpec.none()).join();
+        var result = cachingService.requestCatalog("counterPartyId", "http://provider/url", "protocol", QuerySpec.none());
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(statusResult -> {
+            assertThat(statusResult).isSucceeded().isEqualTo("content".getBytes());
+        });
+        verify(dispatcher, times(1)).dispatch(eq(byte[].class), isA(CatalogRequestMessage.class));
+    }
+
     @Test
     void requestDataset_shouldDispatchRequestAndReturnResult() {
         when(dispatcher.dispatch(eq(byte[].class), any())).thenReturn(completedFuture(StatusResult.success("content".getBytes())));
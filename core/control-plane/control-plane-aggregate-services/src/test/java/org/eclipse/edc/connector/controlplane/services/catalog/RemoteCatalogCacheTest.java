@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.catalog;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RemoteCatalogCacheTest {
+
+    private final Clock clock = mock();
+    private final Supplier<CompletableFuture<StatusResult<byte[]>>> loader = mock();
+    private final RemoteCatalogCache cache = new RemoteCatalogCache(clock, Duration.ofSeconds(10), Duration.ofSeconds(20), 2, mock());
+
+    @Test
+    void get_shouldReturnCachedCatalog_whenFresh() {
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(9));
+        when(loader.get()).thenReturn(completedFuture(StatusResult.success("catalog".getBytes())));
+
+        cache.get(key("provider"), loader);
+        var result = cache.get(key("provider"), loader);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(it -> assertThat(it).isSucceeded().isEqualTo("catalog".getBytes()));
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void get_shouldDistinguishKeys() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(loader.get()).thenReturn(completedFuture(StatusResult.success("catalog".getBytes())));
+
+        cache.get(RemoteCatalogCache.Key.of("id", "http://provider", "protocol", QuerySpec.none()), loader);
+        cache.get(RemoteCatalogCache.Key.of("id", "http://provider", "protocol", QuerySpec.Builder.newInstance().limit(10).build()), loader);
+        cache.get(RemoteCatalogCache.Key.of("id", "http://provider", "protocol", QuerySpec.none(), "scope"), loader);
+
+        verify(loader, times(3)).get();
+    }
+
+    @Test
+    void get_shouldServeStaleCatalogAndRefreshInBackground_whenExpiredWithinStaleWindow() {
+        var refresh = new CompletableFuture<StatusResult<byte[]>>();
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(15));
+        when(loader.get()).thenReturn(completedFuture(StatusResult.success("old".getBytes())), refresh);
+
+        cache.get(key("provider"), loader);
+        var result = cache.get(key("provider"), loader);
+
+        assertThat(result).isCompleted();
+        assertThat(result.join()).isSucceeded().isEqualTo("old".getBytes());
+        verify(loader, times(2)).get();
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(16));
+        refresh.complete(StatusResult.success("new".getBytes()));
+
+        assertThat(cache.get(key("provider"), loader).join()).isSucceeded().isEqualTo("new".getBytes());
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void get_shouldRequestCatalog_whenExpiredAfterStaleWindow() {
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(30));
+        when(loader.get()).thenReturn(completedFuture(StatusResult.success("old".getBytes())), completedFuture(StatusResult.success("new".getBytes())));
+
+        cache.get(key("provider"), loader);
+        var result = cache.get(key("provider"), loader);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(it -> assertThat(it).isSucceeded().isEqualTo("new".getBytes()));
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(loader.get()).thenReturn(completedFuture(StatusResult.failure(FATAL_ERROR, "error")), completedFuture(StatusResult.success("catalog".getBytes())));
+
+        var failed = cache.get(key("provider"), loader);
+        var result = cache.get(key("provider"), loader);
+
+        assertThat(failed).succeedsWithin(5, SECONDS).satisfies(it -> assertThat(it).isFailed());
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(it -> assertThat(it).isSucceeded());
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void get_shouldShareInFlightRequest() {
+        var pending = new CompletableFuture<StatusResult<byte[]>>();
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(loader.get()).thenReturn(pending);
+
+        var first = cache.get(key("provider"), loader);
+        var second = cache.get(key("provider"), loader);
+        pending.complete(StatusResult.success("catalog".getBytes()));
+
+        assertThat(first).succeedsWithin(5, SECONDS);
+        assertThat(second).succeedsWithin(5, SECONDS);
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsed_whenMaxEntriesExceeded() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(loader.get()).thenReturn(completedFuture(StatusResult.success("catalog".getBytes())));
+
+        cache.get(key("first"), loader);
+        cache.get(key("second"), loader);
+        cache.get(key("first"), loader);
+        cache.get(key("third"), loader);
+        cache.get(key("first"), loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(loader, times(3)).get();
+    }
+
+    private RemoteCatalogCache.Key key(String counterPartyId) {
+        return RemoteCatalogCache.Key.of(counterPartyId, "http://" + counterPartyId, "protocol", QuerySpec.none());
+    }
+}
@@ -32,6 +32,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractO
 import org.eclipse.edc.connector.controlplane.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.controlplane.contract.spi.validation.ValidatableConsumerOffer;
 import org.eclipse.edc.connector.controlplane.contract.spi.validation.ValidatedConsumerOffer;
+import org.eclipse.edc.connector.controlplane.services.TrackingTransactionContext;
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationProtocolService;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.participant.spi.ParticipantAgent;
@@ -43,7 +44,6 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.message.ProcessRemoteMessage;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
-import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +59,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -98,7 +99,7 @@ class ContractNegotiationProtocolServiceImplTest {
     private static final String CONSUMER_ID = "consumer";
 
     private final ContractNegotiationStore store = mock();
-    private final TransactionContext transactionContext = spy(new NoopTransactionContext());
+    private final TrackingTransactionContext transactionContext = spy(new TrackingTransactionContext());
     private final ContractValidationService validationService = mock();
     private final ConsumerOfferResolver consumerOfferResolver = mock();
     private final ContractNegotiationListener listener = mock();
@@ -144,6 +145,36 @@ class ContractNegotiationProtocolServiceImplTest {
         verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
 
+    @Test
+    void notifyAccepted_shouldVerifyTokenOutsideTransaction() {
+        var contractNegotiation = createContractNegotiationOffered();
+        var participantAgent = participantAgent();
+        var tokenRepresentation = tokenRepresentation();
+        var message = ContractNegotiationEventMessage.Builder.newInstance()
+                .protocol("protocol")
+                .counterPartyAddress("http://any")
+                .processId("processId")
+                .consumerPid("consumerPid")
+                .providerPid("providerPid")
+                .type(ContractNegotiationEventMessage.Type.ACCEPTED)
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+        var verifiedInTransaction = new AtomicBoolean(true);
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(i -> {
+            verifiedInTransaction.set(transactionContext.isActive());
+            return ServiceResult.success(participantAgent);
+        });
+        when(store.findById(any())).thenReturn(contractNegotiation);
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(contractNegotiation));
+        when(validationService.validateRequest(eq(participantAgent), any(ContractNegotiation.class))).thenReturn(Result.success());
+
+        var result = service.notifyAccepted(message, tokenRepresentation);
+
+        assertThat(result).isSucceeded();
+        assertThat(verifiedInTransaction).isFalse();
+        verify(store).save(argThat(negotiation -> negotiation.getState() == ACCEPTED.code()));
+    }
+
     @Test
     void notifyAgreed_shouldTransitionToAgreed() {
         var negotiationConsumerRequested = createContractNegotiationRequested();
@@ -18,6 +18,7 @@ package org.eclipse.edc.connector.controlplane.services.transferprocess;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.validation.ContractValidationService;
+import org.eclipse.edc.connector.controlplane.services.TrackingTransactionContext;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessProtocolService;
 import org.eclipse.edc.connector.controlplane.transfer.observe.TransferProcessObservableImpl;
@@ -43,7 +44,6 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.message.ProcessRemoteMessage;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
-import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.ValidationResult;
@@ -58,6 +58,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -97,7 +98,7 @@ import static org.mockito.Mockito.when;
 class TransferProcessProtocolServiceImplTest {
 
     private final TransferProcessStore store = mock();
-    private final TransactionContext transactionContext = spy(new NoopTransactionContext());
+    private final TrackingTransactionContext transactionContext = spy(new TrackingTransactionContext());
     private final ContractNegotiationStore negotiationStore = mock();
     private final ContractValidationService validationService = mock();
     private final DataAddressValidatorRegistry dataAddressValidator = mock();
@@ -146,6 +147,35 @@ class TransferProcessProtocolServiceImplTest {
         verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
 
+    @Test
+    void notifyRequested_shouldVerifyTokenOutsideTransaction() {
+        var participantAgent = participantAgent();
+        var tokenRepresentation = tokenRepresentation();
+        var message = TransferRequestMessage.Builder.newInstance()
+                .consumerPid("consumerPid")
+                .processId("consumerPid")
+                .contractId("agreementId")
+                .protocol("protocol")
+                .callbackAddress("http://any")
+                .dataDestination(DataAddress.Builder.newInstance().type("any").build())
+                .build();
+        var verifiedInTransaction = new AtomicBoolean(true);
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), any(), any(), eq(message))).thenAnswer(i -> {
+            verifiedInTransaction.set(transactionContext.isActive());
+            return ServiceResult.success(participantAgent);
+        });
+        when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+        when(validationService.validateAgreement(any(ParticipantAgent.class), any())).thenReturn(Result.success(null));
+        when(dataAddressValidator.validateDestination(any())).thenReturn(ValidationResult.success());
+
+        var result = service.notifyRequested(message, tokenRepresentation);
+
+        assertThat(result).isSucceeded();
+        assertThat(verifiedInTransaction).isFalse();
+        verify(store).save(argThat(t -> t.getState() == INITIAL.code()));
+        verify(transactionContext, times(2)).execute(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
     @Test
     void notifyRequested_doNothingIfProcessAlreadyExist() {
         var message = TransferRequestMessage.Builder.newInstance()
@@ -914,5 +944,4 @@ class TransferProcessProtocolServiceImplTest {
             return builder.protocol("protocol").counterPartyAddress("http://any").processId("correlationId").build();
         }
     }
-
 }
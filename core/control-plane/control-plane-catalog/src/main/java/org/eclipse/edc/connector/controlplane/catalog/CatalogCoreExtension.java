@@ -14,20 +14,28 @@
 
 package org.eclipse.edc.connector.controlplane.catalog;
 
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
 
 @Extension(CatalogCoreExtension.NAME)
@@ -35,6 +43,18 @@ public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    private static final long DEFAULT_MATERIALIZED_MAX_AGE = 300_000;
+    private static final long DEFAULT_MATERIALIZED_SETTLE_PERIOD = 10_000;
+
+    @Setting(description = "If true the datasets offered in the catalog are kept in memory for every access class, i.e. set of contract definitions a participant qualifies for", defaultValue = "false", key = "edc.catalog.materialized.enabled")
+    private boolean materializedEnabled;
+
+    @Setting(description = "the time in milliseconds after which the datasets of an access class are resolved again from the stores", defaultValue = DEFAULT_MATERIALIZED_MAX_AGE + "", key = "edc.catalog.materialized.max-age-millis")
+    private long materializedMaxAge;
+
+    @Setting(description = "the time in milliseconds during which the changes notified by an event are resolved again on every request, as the transaction that published the event could still be uncommitted", defaultValue = DEFAULT_MATERIALIZED_SETTLE_PERIOD + "", key = "edc.catalog.materialized.settle-millis")
+    private long materializedSettlePeriod;
+
     @Inject
     private AssetIndex assetIndex;
 
@@ -53,6 +73,12 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private PolicyEngine policyEngine;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -66,8 +92,18 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Provider
     public DatasetResolver datasetResolver() {
         var contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry);
+        if (!materializedEnabled) {
+            return datasetResolver;
+        }
+
+        var materialized = new MaterializedDatasetResolver(datasetResolver, contractDefinitionResolver, assetIndex, clock,
+                Duration.ofMillis(materializedMaxAge), Duration.ofMillis(materializedSettlePeriod));
+        eventRouter.register(AssetEvent.class, materialized);
+        eventRouter.register(ContractDefinitionEvent.class, materialized);
+        eventRouter.register(PolicyDefinitionEvent.class, materialized);
+        return materialized;
     }
 
 }
@@ -38,7 +38,6 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -106,7 +105,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .build());
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset, Map<String, Policy> policies, String protocol) {
+    Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset, Map<String, Policy> policies, String protocol) {
 
         var distributions = distributionResolver.getDistributions(protocol, asset);
         var datasetBuilder = buildDataset(asset)
@@ -115,11 +114,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .properties(asset.getProperties());
 
         contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
+                .filter(definition -> criterionOperatorRegistry.<Asset>toPredicate(definition.getAssetsSelector()).test(asset))
                 .forEach(contractDefinition -> {
                     var policy = policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
                             Optional.ofNullable(policyDefinitionStore.findById(policyId))
@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.lang.Integer.MAX_VALUE;
+
+/**
+ * {@link DatasetResolver} that keeps the datasets in memory for every access class, i.e. for every set of contract
+ * definitions a participant qualifies for, so catalog requests don't need to query the assets and to build the
+ * offers every time.
+ * The access policies are still evaluated on every request, as their outcome depends on the participant.
+ * <p>
+ * The materialized datasets are kept up to date through events: an {@link AssetEvent} causes only the affected asset
+ * to be resolved again on the next request, any other event (contract definition and policy definition changes)
+ * discards all the access classes. As changes can happen without events being published in this runtime (e.g. by
+ * other replicas sharing the same database), an access class is also built again after a maximum age, expired access
+ * classes are evicted when new ones get materialized.
+ * <p>
+ * Events are published within the transaction that applies the change, so they can be received before the change is
+ * committed. For this reason the changes are not resolved only once: during a settle period after the event, the
+ * changed assets are resolved again on every request, and after other events the access classes are built without
+ * being kept, so that the committed state is picked up as soon as it becomes visible.
+ * <p>
+ * Queries with a filter expression are passed to the wrapped resolver.
+ */
+public class MaterializedDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private final DatasetResolverImpl delegate;
+    private final ContractDefinitionResolver contractDefinitionResolver;
+    private final AssetIndex assetIndex;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final Duration settlePeriod;
+    private final Map<AccessClassKey, AccessClass> accessClasses = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long settledAt;
+
+    public MaterializedDatasetResolver(DatasetResolverImpl delegate, ContractDefinitionResolver contractDefinitionResolver,
+                                       AssetIndex assetIndex, Clock clock, Duration maxAge, Duration settlePeriod) {
+        this.delegate = delegate;
+        this.contractDefinitionResolver = contractDefinitionResolver;
+        this.assetIndex = assetIndex;
+        this.clock = clock;
+        this.maxAge = maxAge;
+        this.settlePeriod = settlePeriod;
+    }
+
+    @Override
+    @NotNull
+    public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec, String protocol) {
+        if (!querySpec.getFilterExpression().isEmpty()) {
+            return delegate.query(agent, querySpec, protocol);
+        }
+
+        var resolved = contractDefinitionResolver.resolveFor(agent);
+        if (resolved.contractDefinitions().isEmpty()) {
+            return Stream.empty();
+        }
+
+        return accessClass(resolved, protocol).datasets().stream()
+                .skip(querySpec.getOffset())
+                .limit(querySpec.getLimit());
+    }
+
+    @Override
+    public Dataset getById(ParticipantAgent agent, String id, String protocol) {
+        var resolved = contractDefinitionResolver.resolveFor(agent);
+        if (resolved.contractDefinitions().isEmpty()) {
+            return null;
+        }
+
+        return accessClass(resolved, protocol).dataset(id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var dirtyUntil = clock.millis() + settlePeriod.toMillis();
+        synchronized (accessClasses) {
+            generation.incrementAndGet();
+            if (event.getPayload() instanceof AssetEvent assetEvent) {
+                accessClasses.values().forEach(accessClass -> accessClass.invalidate(assetEvent.getAssetId(), dirtyUntil));
+            } else {
+                settledAt = Math.max(settledAt, dirtyUntil);
+                accessClasses.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of materialized access classes.
+     *
+     * @return the number of access classes.
+     */
+    public int size() {
+        return accessClasses.size();
+    }
+
+    private AccessClass accessClass(ResolvedContractDefinitions resolved, String protocol) {
+        var key = AccessClassKey.of(protocol, resolved.contractDefinitions());
+        var now = clock.millis();
+        var existing = accessClasses.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return existing;
+        }
+
+        var generationAtStart = generation.get();
+        var accessClass = new AccessClass(resolved.contractDefinitions(), new HashMap<>(resolved.policies()), protocol, now);
+        synchronized (accessClasses) {
+            accessClasses.values().removeIf(it -> it.isExpired(now));
+            // an event arrived in the meantime, or a change notified by an event could still be uncommitted: the
+            // access class could be already stale
+            if (generation.get() == generationAtStart && now >= settledAt) {
+                accessClasses.put(key, accessClass);
+            }
+        }
+        return accessClass;
+    }
+
+    /**
+     * Identifies an access class: the protocol, as the distributions depend on it, and the ids of the contract
+     * definitions the participant qualifies for.
+     */
+    private record AccessClassKey(String protocol, List<String> contractDefinitionIds) {
+
+        static AccessClassKey of(String protocol, List<ContractDefinition> contractDefinitions) {
+            return new AccessClassKey(protocol, contractDefinitions.stream().map(ContractDefinition::getId).sorted().toList());
+        }
+    }
+
+    private final class AccessClass {
+
+        private final List<ContractDefinition> contractDefinitions;
+        private final Map<String, Policy> policies;
+        private final String protocol;
+        private final long builtAt;
+        private final Map<String, Long> invalidated = new ConcurrentHashMap<>();
+        private volatile Snapshot snapshot;
+
+        private AccessClass(List<ContractDefinition> contractDefinitions, Map<String, Policy> policies, String protocol, long builtAt) {
+            this.contractDefinitions = contractDefinitions;
+            this.policies = policies;
+            this.protocol = protocol;
+            this.builtAt = builtAt;
+
+            var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).build();
+            var built = new LinkedHashMap<String, Dataset>();
+            try (var assets = assetIndex.queryAssets(assetsQuery)) {
+                assets.map(asset -> delegate.toDataset(contractDefinitions, asset, policies, protocol))
+                        .filter(Dataset::hasOffers)
+                        .forEach(dataset -> built.put(dataset.getId(), dataset));
+            }
+            snapshot = new Snapshot(built);
+        }
+
+        List<Dataset> datasets() {
+            return refreshed().datasets();
+        }
+
+        Dataset dataset(String id) {
+            return refreshed().byId().get(id);
+        }
+
+        void invalidate(String assetId, long dirtyUntil) {
+            invalidated.merge(assetId, dirtyUntil, Math::max);
+        }
+
+        boolean isExpired(long now) {
+            return builtAt + maxAge.toMillis() <= now;
+        }
+
+        private Snapshot refreshed() {
+            if (invalidated.isEmpty()) {
+                return snapshot;
+            }
+
+            synchronized (this) {
+                var now = clock.millis();
+                var refreshed = new LinkedHashMap<>(snapshot.byId());
+                for (var entry : Map.copyOf(invalidated).entrySet()) {
+                    var assetId = entry.getKey();
+                    // the asset stays dirty, and gets resolved again, until the change is surely committed
+                    if (entry.getValue() <= now) {
+                        invalidated.remove(assetId, entry.getValue());
+                    }
+                    var asset = assetIndex.findById(assetId);
+                    var dataset = asset == null ? null : delegate.toDataset(contractDefinitions, asset, policies, protocol);
+                    if (dataset != null && dataset.hasOffers()) {
+                        refreshed.put(assetId, dataset);
+                    } else {
+                        refreshed.remove(assetId);
+                    }
+                }
+                snapshot = new Snapshot(refreshed);
+                return snapshot;
+            }
+        }
+    }
+
+    /**
+     * Immutable view of the datasets of an access class, replaced as a whole on changes.
+     */
+    private record Snapshot(Map<String, Dataset> byId, List<Dataset> datasets) {
+
+        Snapshot(LinkedHashMap<String, Dataset> byId) {
+            this(byId, List.copyOf(byId.values()));
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MaterializedDatasetResolverTest {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+    private static final Duration SETTLE_PERIOD = Duration.ofSeconds(10);
+
+    private final ContractDefinitionResolver definitionResolver = mock();
+    private final AssetIndex assetIndex = mock();
+    private final PolicyDefinitionStore policyStore = mock();
+    private final DistributionResolver distributionResolver = mock();
+    private final Clock clock = mock();
+    private MaterializedDatasetResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        var delegate = new DatasetResolverImpl(definitionResolver, assetIndex, policyStore, distributionResolver,
+                CriterionOperatorRegistryImpl.ofDefaults());
+        resolver = new MaterializedDatasetResolver(delegate, definitionResolver, assetIndex, clock, MAX_AGE, SETTLE_PERIOD);
+        when(clock.millis()).thenReturn(0L);
+        when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("definition"))));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        when(distributionResolver.getDistributions(any(), any())).thenReturn(emptyList());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.of(asset("1", "value"), asset("2", "value")));
+    }
+
+    @Test
+    void query_shouldResolveAssetsOncePerAccessClass() {
+        var first = resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        var second = resolver.query(agent(), QuerySpec.Builder.newInstance().offset(1).build(), "protocol").toList();
+
+        assertThat(first).extracting(Dataset::getId).containsExactly("1", "2");
+        assertThat(second).extracting(Dataset::getId).containsExactly("2");
+        verify(assetIndex, times(1)).queryAssets(any());
+        verify(definitionResolver, times(2)).resolveFor(any());
+    }
+
+    @Test
+    void query_shouldMaterializeEveryAccessClassSeparately() {
+        when(definitionResolver.resolveFor(any()))
+                .thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("definition"))))
+                .thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("definition"), contractDefinition("another"))));
+
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(resolver.size()).isEqualTo(2);
+        verify(assetIndex, times(2)).queryAssets(any());
+    }
+
+    @Test
+    void query_shouldDelegate_whenFilterExpressionIsSet() {
+        var querySpec = QuerySpec.Builder.newInstance().filter(new Criterion(Asset.PROPERTY_ID, "=", "1")).build();
+
+        resolver.query(agent(), querySpec, "protocol").toList();
+
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    void query_shouldReturnEmpty_whenNoValidContractDefinition() {
+        when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(emptyList()));
+
+        var datasets = resolver.query(agent(), QuerySpec.none(), "protocol");
+
+        assertThat(datasets).isEmpty();
+        verify(assetIndex, times(0)).queryAssets(any());
+    }
+
+    @Test
+    void onAssetEvent_shouldResolveOnlyTheChangedAsset() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        when(assetIndex.findById("2")).thenReturn(asset("2", "updated"));
+
+        resolver.on(envelope(AssetUpdated.Builder.newInstance().assetId("2").build()));
+        var datasets = resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(datasets).extracting(Dataset::getId).containsExactly("1", "2");
+        assertThat(datasets.get(1).getProperty("key")).isEqualTo("updated");
+        verify(assetIndex, times(1)).queryAssets(any());
+    }
+
+    @Test
+    void onAssetEvent_shouldResolveChangedAssetOnEveryRequest_untilSettlePeriodElapsed() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        when(assetIndex.findById("2")).thenReturn(asset("2", "uncommitted"));
+
+        resolver.on(envelope(AssetUpdated.Builder.newInstance().assetId("2").build()));
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        when(assetIndex.findById("2")).thenReturn(asset("2", "committed"));
+        var datasets = resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(datasets.get(1).getProperty("key")).isEqualTo("committed");
+
+        when(clock.millis()).thenReturn(SETTLE_PERIOD.toMillis());
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        verify(assetIndex, times(3)).findById("2");
+    }
+
+    @Test
+    void onAssetEvent_shouldRemoveDeletedAsset() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        resolver.on(envelope(AssetDeleted.Builder.newInstance().assetId("1").build()));
+
+        assertThat(resolver.query(agent(), QuerySpec.none(), "protocol")).extracting(Dataset::getId).containsExactly("2");
+        assertThat(resolver.getById(agent(), "1", "protocol")).isNull();
+    }
+
+    @Test
+    void onContractDefinitionEvent_shouldDiscardAccessClasses() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        resolver.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definition").build()));
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        verify(assetIndex, times(2)).queryAssets(any());
+    }
+
+    @Test
+    void onContractDefinitionEvent_shouldNotKeepAccessClasses_untilSettlePeriodElapsed() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        resolver.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definition").build()));
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(resolver.size()).isZero();
+
+        when(clock.millis()).thenReturn(SETTLE_PERIOD.toMillis());
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(resolver.size()).isEqualTo(1);
+        verify(assetIndex, times(4)).queryAssets(any());
+    }
+
+    @Test
+    void query_shouldEvictExpiredAccessClasses() {
+        when(definitionResolver.resolveFor(any()))
+                .thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("definition"))))
+                .thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("another"))))
+                .thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition("third"))));
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        when(clock.millis()).thenReturn(MAX_AGE.toMillis());
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        assertThat(resolver.size()).isEqualTo(1);
+    }
+
+    @Test
+    void query_shouldResolveAgain_whenMaxAgeExpired() {
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        when(clock.millis()).thenReturn(MAX_AGE.toMillis());
+        resolver.query(agent(), QuerySpec.none(), "protocol").toList();
+
+        verify(assetIndex, times(2)).queryAssets(any());
+    }
+
+    @Test
+    void getById_shouldReturnMaterializedDataset() {
+        var dataset = resolver.getById(agent(), "1", "protocol");
+
+        assertThat(dataset).isNotNull().extracting(Dataset::getId).isEqualTo("1");
+        assertThat(resolver.getById(agent(), "unknown", "protocol")).isNull();
+        verify(assetIndex, times(1)).queryAssets(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+
+    private ContractDefinition contractDefinition(String id) {
+        return ContractDefinition.Builder.newInstance().id(id).accessPolicyId("access").contractPolicyId("contract").build();
+    }
+
+    private Asset asset(String id, String value) {
+        return Asset.Builder.newInstance().id(id).property("key", value).build();
+    }
+
+    private ParticipantAgent agent() {
+        return new ParticipantAgent(emptyMap(), emptyMap());
+    }
+}
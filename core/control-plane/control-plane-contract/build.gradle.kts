@@ -25,6 +25,7 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
 
     implementation(project(":core:common:lib:state-machine-lib"))
+    implementation(project(":core:common:lib:util-lib"))
     implementation(project(":core:control-plane:lib:control-plane-policies-lib"))
     implementation(libs.opentelemetry.instrumentation.annotations)
 
@@ -49,6 +49,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -147,6 +148,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metricsRecorder;
+
     @Override
     public String name() {
         return NAME;
@@ -178,10 +182,22 @@ public class ContractCoreExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        consumerNegotiationManager.pause();
+        providerNegotiationManager.pause();
+    }
+
+    @Override
+    public void afterRestore() {
+        consumerNegotiationManager.resume();
+        providerNegotiationManager.resume();
+    }
+
     private void registerServices(ServiceExtensionContext context) {
         var participantId = context.getParticipantId();
 
-        var policyEquality = new PolicyEquality(typeManager);
+        var policyEquality = new PolicyEquality();
         var validationService = new ContractValidationServiceImpl(assetIndex, policyEngine, policyEquality);
         context.registerService(ContractValidationService.class, validationService);
 
@@ -205,6 +221,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsRecorder(metricsRecorder)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(consumerStateMachineBatchSize)
@@ -222,6 +239,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsRecorder(metricsRecorder)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(providerStateMachineBatchSize)
@@ -14,11 +14,13 @@
 
 package org.eclipse.edc.connector.controlplane.contract;
 
+import org.eclipse.edc.connector.controlplane.contract.agreement.ContractAgreementCacheImpl;
 import org.eclipse.edc.connector.controlplane.contract.observe.ContractNegotiationObservableImpl;
 import org.eclipse.edc.connector.controlplane.contract.offer.ConsumerOfferResolverImpl;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
@@ -27,6 +29,7 @@ import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionS
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 
 /**
@@ -37,6 +40,15 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final String DEFAULT_AGREEMENT_CACHE_SIZE = "1000";
+
+    @Setting(
+            key = "edc.contract.agreement.cache.size",
+            description = "Max number of contract agreements, and of their policies, kept in memory. Agreements are immutable, so the cache never needs to be invalidated",
+            defaultValue = DEFAULT_AGREEMENT_CACHE_SIZE
+    )
+    private int agreementCacheSize;
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -46,6 +58,8 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    private ContractAgreementCache agreementCache;
+
     @Provider
     public ConsumerOfferResolver consumerOfferResolver() {
         return new ConsumerOfferResolverImpl(contractDefinitionStore, policyStore);
@@ -56,9 +70,17 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
         return new ContractNegotiationObservableImpl();
     }
 
+    @Provider
+    public ContractAgreementCache contractAgreementCache() {
+        if (agreementCache == null) {
+            agreementCache = new ContractAgreementCacheImpl(store, agreementCacheSize);
+        }
+        return agreementCache;
+    }
+
     @Provider
     public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+        return new PolicyArchiveImpl(contractAgreementCache(), agreementCacheSize);
     }
 
     @Provider(isDefault = true)
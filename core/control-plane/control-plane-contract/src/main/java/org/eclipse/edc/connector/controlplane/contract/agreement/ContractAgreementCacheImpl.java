@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.contract.agreement;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ContractAgreementCache} that keeps up to {@code maxSize} agreements in memory, evicting the least recently
+ * used. Missing agreements are not cached, as they could be created afterward.
+ */
+public class ContractAgreementCacheImpl implements ContractAgreementCache {
+
+    private final ContractNegotiationStore store;
+    private final ConcurrentLruCache<String, ContractAgreement> agreements;
+
+    public ContractAgreementCacheImpl(ContractNegotiationStore store, int maxSize) {
+        this.store = store;
+        this.agreements = new ConcurrentLruCache<>(maxSize);
+    }
+
+    @Override
+    public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        if (contractId == null) {
+            return null;
+        }
+
+        var cached = agreements.get(contractId);
+        if (cached != null) {
+            return cached;
+        }
+
+        var agreement = store.findContractAgreement(contractId);
+        if (agreement != null) {
+            agreements.put(contractId, agreement);
+        }
+        return agreement;
+    }
+}
@@ -14,26 +14,45 @@
 
 package org.eclipse.edc.connector.controlplane.contract.policy;
 
-import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 
 import java.util.Optional;
 
+/**
+ * Resolves the policy of a contract from its agreement. Since agreements never change, the resolved policies are kept
+ * in a bounded in-memory cache.
+ */
 public class PolicyArchiveImpl implements PolicyArchive {
-    private final ContractNegotiationStore contractNegotiationStore;
+    private final ContractAgreementCache agreementCache;
+    private final ConcurrentLruCache<String, Policy> policies;
 
-    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
-        this.contractNegotiationStore = contractNegotiationStore;
+    public PolicyArchiveImpl(ContractAgreementCache agreementCache, int maxCachedPolicies) {
+        this.agreementCache = agreementCache;
+        this.policies = new ConcurrentLruCache<>(maxCachedPolicies);
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
-        return Optional.ofNullable(contractId)
-                .map(contractNegotiationStore::findContractAgreement)
+        if (contractId == null) {
+            return null;
+        }
+
+        var cached = policies.get(contractId);
+        if (cached != null) {
+            return cached;
+        }
+
+        var policy = Optional.ofNullable(agreementCache.findContractAgreement(contractId))
                 .map(this::mapAgreementPolicy)
                 .orElse(null);
+        if (policy != null) {
+            policies.put(contractId, policy);
+        }
+        return policy;
     }
 
     // TODO assignee and assigner should end up stored in the Agreement's policy as outlined here
@@ -14,31 +14,32 @@
 
 package org.eclipse.edc.connector.controlplane.contract.policy;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.types.TypeManager;
 
-import java.util.List;
 import java.util.function.BiPredicate;
 
+/**
+ * Compares the terms of two policies through their canonical {@link Policy#fingerprint()}, ignoring the policy type,
+ * the assignee and the target.
+ */
 public class PolicyEquality implements BiPredicate<Policy, Policy> {
 
-    private static final List<String> EXCLUDED_PROPERTIES = List.of("@type", "assignee", "target");
-    private final ObjectMapper mapper;
+    public PolicyEquality() {
+    }
 
+    /**
+     * Kept for compatibility, the type manager is not needed anymore.
+     *
+     * @deprecated use {@link #PolicyEquality()}.
+     */
+    @Deprecated(since = "0.13.0", forRemoval = true)
     public PolicyEquality(TypeManager typeManager) {
-        this.mapper = typeManager.getMapper();
+        this();
     }
 
     @Override
     public boolean test(Policy one, Policy two) {
-        var oneTree = mapper.<ObjectNode>valueToTree(one);
-        var twoTree = mapper.<ObjectNode>valueToTree(two);
-        EXCLUDED_PROPERTIES.forEach(property -> {
-            oneTree.remove(property);
-            twoTree.remove(property);
-        });
-        return oneTree.equals(twoTree);
+        return one.hasSameTermsAs(two);
     }
 }
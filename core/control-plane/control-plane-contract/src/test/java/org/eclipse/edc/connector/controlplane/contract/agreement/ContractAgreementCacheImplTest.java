@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.contract.agreement;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractAgreementCacheImplTest {
+
+    private final ContractNegotiationStore store = mock();
+
+    @Test
+    void shouldLoadAgreementOnce() {
+        var cache = new ContractAgreementCacheImpl(store, 10);
+        var agreement = createContractAgreement("id");
+        when(store.findContractAgreement("id")).thenReturn(agreement);
+
+        assertThat(cache.findContractAgreement("id")).isSameAs(agreement);
+        assertThat(cache.findContractAgreement("id")).isSameAs(agreement);
+
+        verify(store, times(1)).findContractAgreement("id");
+    }
+
+    @Test
+    void shouldNotCacheMissingAgreement() {
+        var cache = new ContractAgreementCacheImpl(store, 10);
+        var agreement = createContractAgreement("id");
+        when(store.findContractAgreement("id")).thenReturn(null, agreement);
+
+        assertThat(cache.findContractAgreement("id")).isNull();
+        assertThat(cache.findContractAgreement("id")).isSameAs(agreement);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAgreement() {
+        var cache = new ContractAgreementCacheImpl(store, 2);
+        when(store.findContractAgreement("1")).thenReturn(createContractAgreement("1"));
+        when(store.findContractAgreement("2")).thenReturn(createContractAgreement("2"));
+        when(store.findContractAgreement("3")).thenReturn(createContractAgreement("3"));
+
+        cache.findContractAgreement("1");
+        cache.findContractAgreement("2");
+        cache.findContractAgreement("1");
+        cache.findContractAgreement("3");
+        cache.findContractAgreement("1");
+        cache.findContractAgreement("2");
+
+        verify(store, times(1)).findContractAgreement("1");
+        verify(store, times(2)).findContractAgreement("2");
+        verify(store, times(1)).findContractAgreement("3");
+    }
+
+    private ContractAgreement createContractAgreement(String id) {
+        return ContractAgreement.Builder.newInstance()
+                .id(id)
+                .consumerId("consumer")
+                .providerId("provider")
+                .assetId("asset")
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.contract.policy;
 
+import org.eclipse.edc.connector.controlplane.contract.agreement.ContractAgreementCacheImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.policy.model.Policy;
@@ -21,12 +22,15 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
 
     private final ContractNegotiationStore contractNegotiationStore = mock(ContractNegotiationStore.class);
-    private final PolicyArchiveImpl policyArchive = new PolicyArchiveImpl(contractNegotiationStore);
+    private final PolicyArchiveImpl policyArchive = new PolicyArchiveImpl(new ContractAgreementCacheImpl(contractNegotiationStore, 10), 10);
 
     @Test
     void shouldGetPolicyFromAgreement() {
@@ -57,6 +61,26 @@ class PolicyArchiveImplTest {
     }
 
 
+    @Test
+    void shouldCachePolicy() {
+        var policy = Policy.Builder.newInstance().build();
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(createContractAgreement(policy));
+
+        var first = policyArchive.findPolicyForContract("contractId");
+        var second = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(second).isSameAs(first);
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldReturnNullIfContractIdIsNull() {
+        var result = policyArchive.findPolicyForContract(null);
+
+        assertThat(result).isNull();
+        verifyNoInteractions(contractNegotiationStore);
+    }
+
     @Test
     void shouldReturnNullIfContractDoesNotExist() {
         when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null);
@@ -14,18 +14,22 @@
 
 package org.eclipse.edc.connector.controlplane.contract.policy;
 
-import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Prohibition;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.policy.model.Operator.EQ;
 import static org.eclipse.edc.policy.model.PolicyType.CONTRACT;
 import static org.eclipse.edc.policy.model.PolicyType.OFFER;
 
 class PolicyEqualityTest {
 
-    private final PolicyEquality comparator = new PolicyEquality(new JacksonTypeManager());
+    private final PolicyEquality comparator = new PolicyEquality();
 
     @Test
     void emptyPoliciesAreEqual() {
@@ -66,4 +70,48 @@ class PolicyEqualityTest {
 
         assertThat(result).isTrue();
     }
+
+    @Test
+    void targetIsExcludedFromTheComparison() {
+        var one = Policy.Builder.newInstance().target("one").build();
+        var two = Policy.Builder.newInstance().target("other").build();
+
+        var result = comparator.test(one, two);
+
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void ruleOrderIsIgnored() {
+        var use = permission("use", "region", "eu");
+        var transfer = permission("transfer", "purpose", "research");
+        var modify = Prohibition.Builder.newInstance().action(Action.Builder.newInstance().type("modify").build()).build();
+        var one = Policy.Builder.newInstance().permission(use).permission(transfer).prohibition(modify).build();
+        var two = Policy.Builder.newInstance().permission(transfer).permission(use).prohibition(modify).build();
+
+        var result = comparator.test(one, two);
+
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void ifDifferentConstraintsPoliciesAreNotEqual() {
+        var one = Policy.Builder.newInstance().permission(permission("use", "region", "eu")).build();
+        var two = Policy.Builder.newInstance().permission(permission("use", "region", "us")).build();
+
+        var result = comparator.test(one, two);
+
+        assertThat(result).isFalse();
+    }
+
+    private Permission permission(String action, String left, String right) {
+        return Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type(action).build())
+                .constraint(AtomicConstraint.Builder.newInstance()
+                        .leftExpression(new LiteralExpression(left))
+                        .operator(EQ)
+                        .rightExpression(new LiteralExpression(right))
+                        .build())
+                .build();
+    }
 }
@@ -31,7 +31,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -142,9 +141,7 @@ public class InMemoryAssetIndex implements AssetIndex {
     }
 
     private Stream<Asset> filterBy(List<Criterion> criteria) {
-        var predicate = criteria.stream()
-                .map(criterionOperatorRegistry::toPredicate)
-                .reduce(x -> true, Predicate::and);
+        var predicate = criterionOperatorRegistry.<Asset>toPredicate(criteria);
 
         return cache.values().stream()
                 .filter(predicate);
@@ -45,6 +45,7 @@ import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -135,6 +136,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metricsRecorder;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -167,6 +171,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsRecorder(metricsRecorder)
                 .vault(vault)
                 .clock(clock)
                 .observable(observable)
@@ -199,6 +204,16 @@ public class TransferCoreExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        processManager.pause();
+    }
+
+    @Override
+    public void afterRestore() {
+        processManager.resume();
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration getEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(sendRetryLimit, () -> new ExponentialWaitStrategy(sendRetryBaseDelay));
@@ -28,8 +28,12 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -91,6 +95,16 @@ public class DataFlowManagerImpl implements DataFlowManager {
         return chooseControllerAndApply(transferProcess, controller -> controller.suspend(transferProcess));
     }
 
+    @Override
+    public @NotNull Map<String, StatusResult<Void>> terminateAll(List<TransferProcess> transferProcesses) {
+        return chooseControllersAndApply(transferProcesses, DataFlowController::terminateAll);
+    }
+
+    @Override
+    public @NotNull Map<String, StatusResult<Void>> suspendAll(List<TransferProcess> transferProcesses) {
+        return chooseControllersAndApply(transferProcesses, DataFlowController::suspendAll);
+    }
+
     @Override
     public Set<String> transferTypesFor(Asset asset) {
         return controllers.stream()
@@ -102,13 +116,40 @@ public class DataFlowManagerImpl implements DataFlowManager {
 
     @NotNull
     private <T> StatusResult<T> chooseControllerAndApply(TransferProcess transferProcess, Function<DataFlowController, StatusResult<T>> function) {
+        return chooseController(transferProcess)
+                .map(function)
+                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+    }
+
+    @NotNull
+    private <T> Map<String, StatusResult<T>> chooseControllersAndApply(List<TransferProcess> transferProcesses,
+                                                                       BiFunction<DataFlowController, List<TransferProcess>, Map<String, StatusResult<T>>> function) {
+        var results = new LinkedHashMap<String, StatusResult<T>>();
+        var processesByController = new LinkedHashMap<DataFlowController, List<TransferProcess>>();
+        for (var process : transferProcesses) {
+            chooseController(process).ifPresentOrElse(
+                    controller -> processesByController.computeIfAbsent(controller, c -> new ArrayList<>()).add(process),
+                    () -> results.put(process.getId(), StatusResult.failure(FATAL_ERROR, controllerNotFound(process.getId()))));
+        }
+
+        processesByController.forEach((controller, processes) -> {
+            try {
+                results.putAll(function.apply(controller, processes));
+            } catch (Exception e) {
+                monitor.severe(format("Data flow controller throws an exception processing %s transfers: %s", processes.size(), e.getMessage()), e);
+                processes.forEach(process -> results.put(process.getId(), StatusResult.failure(FATAL_ERROR, runtimeException(process.getId(), e.getMessage()))));
+            }
+        });
+
+        return results;
+    }
+
+    private Optional<DataFlowController> chooseController(TransferProcess transferProcess) {
         return controllers.stream()
                 .sorted(Comparator.comparingInt(a -> -a.priority))
                 .map(PrioritizedDataFlowController::controller)
                 .filter(controller -> controller.canHandle(transferProcess))
-                .findFirst()
-                .map(function)
-                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+                .findFirst();
     }
 
     private String runtimeException(String id, String message) {
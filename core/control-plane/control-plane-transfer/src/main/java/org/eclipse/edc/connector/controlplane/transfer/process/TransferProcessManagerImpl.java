@@ -57,11 +57,14 @@ import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -112,6 +115,7 @@ import static org.eclipse.edc.statemachine.retry.processor.Process.result;
  */
 public class TransferProcessManagerImpl extends AbstractStateEntityManager<TransferProcess, TransferProcessStore>
         implements TransferProcessManager {
+    private static final Consumer<Collection<TransferProcess>> NO_COALESCING = processes -> { };
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
@@ -124,6 +128,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private ProvisionResponsesHandler provisionResponsesHandler;
     private DeprovisionResponsesHandler deprovisionResponsesHandler;
     private TransferProcessPendingGuard pendingGuard = tp -> false;
+    private final Map<String, StatusResult<Void>> coalescedDataFlowSignals = new ConcurrentHashMap<>();
 
     private TransferProcessManagerImpl() {
     }
@@ -176,13 +181,13 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
                 .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting))
                 .processor(processProviderTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(SUSPENDING, this::processSuspending))
-                .processor(processTransfersInState(SUSPENDING_REQUESTED, this::processSuspending))
+                .processor(processTransfersInState(SUSPENDING, this::processSuspending, this::coalesceSuspensions))
+                .processor(processTransfersInState(SUSPENDING_REQUESTED, this::processSuspending, this::coalesceSuspensions))
                 .processor(processProviderTransfersInState(RESUMING, this::processProviderResuming))
                 .processor(processConsumerTransfersInState(RESUMING, this::processConsumerResuming))
                 .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(TERMINATING_REQUESTED, this::processTerminating))
+                .processor(processTransfersInState(TERMINATING, this::processTerminating, this::coalesceTerminations))
+                .processor(processTransfersInState(TERMINATING_REQUESTED, this::processTerminating, this::coalesceTerminations))
                 .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning));
     }
 
@@ -524,7 +529,8 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     @NotNull
     private StatusResult<Void> suspendDataFlow(TransferProcess process) {
         if (process.getType() == PROVIDER) {
-            return dataFlowManager.suspend(process);
+            return Optional.ofNullable(coalescedDataFlowSignals.remove(process.getId()))
+                    .orElseGet(() -> dataFlowManager.suspend(process));
         } else {
             return StatusResult.success();
         }
@@ -533,12 +539,47 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     @NotNull
     private StatusResult<Void> terminateDataFlow(TransferProcess process) {
         if (process.getType() == PROVIDER) {
-            return dataFlowManager.terminate(process);
+            return Optional.ofNullable(coalescedDataFlowSignals.remove(process.getId()))
+                    .orElseGet(() -> dataFlowManager.terminate(process));
         } else {
             return StatusResult.success();
         }
     }
 
+    /**
+     * Suspends in bulk the data flows of the fetched SUSPENDING providers, the results are then picked up by
+     * {@link #suspendDataFlow(TransferProcess)}.
+     */
+    private void coalesceSuspensions(Collection<TransferProcess> processes) {
+        var candidates = coalescingCandidates(processes);
+        if (candidates.size() > 1) {
+            coalescedDataFlowSignals.putAll(dataFlowManager.suspendAll(candidates));
+        }
+    }
+
+    /**
+     * Terminates in bulk the data flows of the fetched TERMINATING providers, the results are then picked up by
+     * {@link #terminateDataFlow(TransferProcess)}.
+     */
+    private void coalesceTerminations(Collection<TransferProcess> processes) {
+        var candidates = coalescingCandidates(processes);
+        if (candidates.size() > 1) {
+            coalescedDataFlowSignals.putAll(dataFlowManager.terminateAll(candidates));
+        }
+    }
+
+    /**
+     * Provider transfers bound to a data plane on their first attempt: retries are left out so that they keep
+     * honoring the retry delay, pending ones are left out since they won't be processed.
+     */
+    private List<TransferProcess> coalescingCandidates(Collection<TransferProcess> processes) {
+        return processes.stream()
+                .filter(process -> process.getType() == PROVIDER && process.getDataPlaneId() != null)
+                .filter(process -> process.getStateCount() <= 1)
+                .filter(process -> !pendingGuard.test(process))
+                .toList();
+    }
+
     private <T, M extends TransferRemoteMessage, B extends TransferRemoteMessage.Builder<M, B>> CompletableFuture<StatusResult<T>> dispatch(B messageBuilder, TransferProcess process, Class<T> responseType) {
 
         var contractPolicy = policyArchive.findPolicyForContract(process.getContractId());
@@ -580,22 +621,42 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(CONSUMER.name() + "_" + state.name(), function, filter, NO_COALESCING);
     }
 
     private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(PROVIDER.name() + "_" + state.name(), function, filter, NO_COALESCING);
     }
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+        return processTransfersInState(state, function, NO_COALESCING);
+    }
+
+    private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function,
+                                              Consumer<Collection<TransferProcess>> coalesce) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return createProcessor(function, filter);
+        return createProcessor(state.name(), function, filter, coalesce);
     }
 
-    private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, Boolean> function, Criterion[] filter) {
+    /**
+     * Creates a processor for the transfers matching the filter. The coalesce callback receives every fetched batch
+     * before its transfers get processed one by one: signals it collects in bulk are discarded once the corresponding
+     * transfer has been processed, whether it picked them up or not.
+     */
+    private ProcessorImpl<TransferProcess> createProcessor(String name, Function<TransferProcess, Boolean> function, Criterion[] filter,
+                                                           Consumer<Collection<TransferProcess>> coalesce) {
+        Function<TransferProcess, Boolean> discardingCoalesced = process -> {
+            try {
+                return function.apply(process);
+            } finally {
+                coalescedDataFlowSignals.remove(process.getId());
+            }
+        };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
+                .name(name)
+                .beforeProcess(coalesce)
+                .process(telemetry.contextPropagationMiddleware(coalesce == NO_COALESCING ? function : discardingCoalesced))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -25,6 +25,8 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -177,6 +179,45 @@ class DataFlowManagerImplTest {
             assertThat(result).isSucceeded();
             verify(controller).terminate(transferProcess);
         }
+
+        @Test
+        void terminateAll_shouldGroupProcessesByController() {
+            var controller = mock(DataFlowController.class);
+            var otherController = mock(DataFlowController.class);
+            var first = TransferProcess.Builder.newInstance().id("first").build();
+            var second = TransferProcess.Builder.newInstance().id("second").build();
+            var third = TransferProcess.Builder.newInstance().id("third").build();
+            var unhandled = TransferProcess.Builder.newInstance().id("unhandled").build();
+
+            when(controller.canHandle(any())).thenAnswer(i -> List.of("first", "third").contains(i.getArgument(0, TransferProcess.class).getId()));
+            when(otherController.canHandle(any())).thenAnswer(i -> i.getArgument(0, TransferProcess.class).getId().equals("second"));
+            when(controller.terminateAll(any())).thenReturn(Map.of("first", StatusResult.success(), "third", StatusResult.success()));
+            when(otherController.terminateAll(any())).thenReturn(Map.of("second", StatusResult.success()));
+            manager.register(controller);
+            manager.register(otherController);
+
+            var results = manager.terminateAll(List.of(first, second, third, unhandled));
+
+            assertThat(results).containsOnlyKeys("first", "second", "third", "unhandled");
+            assertThat(results.get("first")).isSucceeded();
+            assertThat(results.get("second")).isSucceeded();
+            assertThat(results.get("unhandled")).isFailed();
+            verify(controller).terminateAll(List.of(first, third));
+            verify(otherController).terminateAll(List.of(second));
+        }
+
+        @Test
+        void terminateAll_shouldReturnFailures_whenControllerThrows() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().id("id").build();
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.terminateAll(any())).thenThrow(new EdcException("error"));
+            manager.register(controller);
+
+            var results = manager.terminateAll(List.of(transferProcess));
+
+            assertThat(results.get("id")).isFailed();
+        }
     }
 
     @Nested
@@ -30,9 +30,13 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorExtension.NAME;
+import static org.eclipse.edc.connector.dataplane.selector.manager.DataPlaneSelectorManagerImpl.DEFAULT_FAILURE_THRESHOLD;
+import static org.eclipse.edc.connector.dataplane.selector.manager.DataPlaneSelectorManagerImpl.DEFAULT_PROBE_PARALLELISM;
+import static org.eclipse.edc.connector.dataplane.selector.manager.DataPlaneSelectorManagerImpl.DEFAULT_PROBE_TIMEOUT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 
@@ -42,6 +46,7 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Selector core";
 
     private static final int DEFAULT_CHECK_PERIOD = 60;
+    private static final long DEFAULT_SELECTION_CACHE_TTL = 5000;
 
     @Setting(description = "the iteration wait time in milliseconds in the data plane selector state machine.", defaultValue = DEFAULT_ITERATION_WAIT + "", key = "edc.data.plane.selector.state-machine.iteration-wait-millis")
     private long stateMachineIterationWait;
@@ -52,6 +57,18 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Setting(description = "the check period for data plane availability, in seconds", defaultValue = DEFAULT_CHECK_PERIOD + "", key = "edc.data.plane.selector.state-machine.check.period")
     private int selectorCheckPeriod;
 
+    @Setting(description = "the timeout of a data plane availability check, in milliseconds", defaultValue = DEFAULT_PROBE_TIMEOUT + "", key = "edc.data.plane.selector.state-machine.check.timeout-millis")
+    private long selectorCheckTimeout;
+
+    @Setting(description = "the maximum number of data plane availability checks executed concurrently", defaultValue = DEFAULT_PROBE_PARALLELISM + "", key = "edc.data.plane.selector.state-machine.check.parallelism")
+    private int selectorCheckParallelism;
+
+    @Setting(description = "the number of consecutive failed availability checks after which an available data plane becomes unavailable", defaultValue = DEFAULT_FAILURE_THRESHOLD + "", key = "edc.data.plane.selector.state-machine.check.failure-threshold")
+    private int selectorCheckFailureThreshold;
+
+    @Setting(description = "the time in milliseconds the available data plane instances are cached for selection, 0 disables the cache", defaultValue = DEFAULT_SELECTION_CACHE_TTL + "", key = "edc.data.plane.selector.cache.ttl-millis")
+    private long selectionCacheTtl;
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
     @Inject
@@ -60,8 +77,11 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     private SelectionStrategyRegistry selectionStrategyRegistry;
     @Inject
     private DataPlaneClientFactory clientFactory;
+    @Inject
+    private Clock clock;
 
     private DataPlaneSelectorManager manager;
+    private EmbeddedDataPlaneSelectorService selectorService;
 
     @Override
     public String name() {
@@ -74,13 +94,21 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
         var configuration = new DataPlaneSelectorManagerConfiguration(
                 new ExponentialWaitStrategy(stateMachineIterationWait),
                 stateMachineBatchSize,
-                Duration.ofSeconds(selectorCheckPeriod)
+                Duration.ofSeconds(selectorCheckPeriod),
+                Duration.ofMillis(selectorCheckTimeout),
+                selectorCheckParallelism,
+                selectorCheckFailureThreshold
         );
 
+        selectorService = new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext,
+                clock, Duration.ofMillis(selectionCacheTtl));
+
         manager = DataPlaneSelectorManagerImpl.Builder.newInstance()
                 .clientFactory(clientFactory)
+                .availabilityListener(selectorService)
                 .store(instanceStore)
                 .monitor(context.getMonitor())
+                .clock(clock)
                 .configuration(configuration)
                 .build();
     }
@@ -97,9 +125,19 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        manager.pause();
+    }
+
+    @Override
+    public void afterRestore() {
+        manager.resume();
+    }
+
     @Provider
     public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+        return selectorService;
     }
 
 }
@@ -21,6 +21,9 @@ import java.time.Duration;
 public record DataPlaneSelectorManagerConfiguration(
         WaitStrategy waitStrategy,
         int batchSize,
-        Duration checkPeriod
+        Duration checkPeriod,
+        Duration probeTimeout,
+        int probeParallelism,
+        int failureThreshold
 ) {
 }
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.manager;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+/**
+ * Notified by the {@link DataPlaneSelectorManagerImpl} with the outcome of the availability checks, so that a failing
+ * data plane can be excluded from selection before it is transitioned to UNAVAILABLE.
+ */
+public interface DataPlaneAvailabilityListener {
+
+    static DataPlaneAvailabilityListener noop() {
+        return new DataPlaneAvailabilityListener() {
+            @Override
+            public void available(DataPlaneInstance instance) {
+            }
+
+            @Override
+            public void unavailable(DataPlaneInstance instance) {
+            }
+        };
+    }
+
+    /**
+     * Called when a data plane that was not available, or that failed its previous check, responds again.
+     *
+     * @param instance the data plane instance.
+     */
+    void available(DataPlaneInstance instance);
+
+    /**
+     * Called on every failed availability check.
+     *
+     * @param instance the data plane instance.
+     */
+    void unavailable(DataPlaneInstance instance);
+}
@@ -20,59 +20,156 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates;
 import org.eclipse.edc.connector.dataplane.selector.spi.manager.DataPlaneSelectorManager;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.REGISTERED;
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.UNAVAILABLE;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
-
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Checks the availability of the registered data planes.
+ * <p>
+ * The instances fetched by every state machine iteration are probed concurrently on a dedicated executor, every probe
+ * bounded by a timeout that starts when the probe is executed, so an unreachable data plane does not delay the checks of
+ * the others. AVAILABLE and UNAVAILABLE instances are fetched only once their check period has elapsed. An AVAILABLE instance is transitioned to UNAVAILABLE
+ * after a configurable number of consecutive failed checks, in between it is checked again on every iteration and the
+ * {@link DataPlaneAvailabilityListener} is notified right away, so it can be excluded from selection.
+ */
 public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<DataPlaneInstance, DataPlaneInstanceStore> implements DataPlaneSelectorManager {
 
+    public static final int DEFAULT_PROBE_PARALLELISM = 10;
+    public static final long DEFAULT_PROBE_TIMEOUT = 5000;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    private final Map<String, StatusResult<DataPlaneLoad>> probes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> consecutiveFailures = new ConcurrentHashMap<>();
     private DataPlaneClientFactory clientFactory;
+    private DataPlaneAvailabilityListener availabilityListener = DataPlaneAvailabilityListener.noop();
     private Duration checkPeriod = Duration.ofMinutes(1);
+    private Duration probeTimeout = Duration.ofMillis(DEFAULT_PROBE_TIMEOUT);
+    private int probeParallelism = DEFAULT_PROBE_PARALLELISM;
+    private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private ExecutorService probeExecutor;
 
     private DataPlaneSelectorManagerImpl() {
     }
 
     @Override
-    protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        return builder
-                .processor(processEntriesInState(REGISTERED, this::availability))
-                .processor(processEntriesInState(AVAILABLE, this::checkAvailability))
-                .processor(processEntriesInState(UNAVAILABLE, this::checkAvailability));
+    public void start() {
+        probeExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(probeParallelism), "data-plane-availability-probes");
+        super.start();
     }
 
-    private boolean checkAvailability(DataPlaneInstance instance) {
-        if (Duration.between(Instant.ofEpochMilli(instance.getUpdatedAt()), clock.instant()).compareTo(checkPeriod) < 0) {
-            return false;
+    @Override
+    public void stop() {
+        super.stop();
+        if (probeExecutor != null) {
+            probeExecutor.shutdownNow();
         }
+    }
 
-        return availability(instance);
+    @Override
+    protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
+        Supplier<Criterion> checkPeriodElapsed = () -> new Criterion("updatedAt", "<", clock.millis() - checkPeriod.toMillis());
+        return builder
+                .processor(processEntriesInState(REGISTERED, this::availability))
+                .processor(processEntriesInState(AVAILABLE, this::availability, checkPeriodElapsed))
+                .processor(processEntriesInState(UNAVAILABLE, this::availability, checkPeriodElapsed));
     }
 
     private boolean availability(DataPlaneInstance instance) {
-        var client = clientFactory.createClient(instance);
-        if (client.checkAvailability().succeeded()) {
+        var availability = Optional.ofNullable(probes.remove(instance.getId()))
+                .orElseGet(() -> probe(instance).join());
+
+        if (availability.succeeded()) {
+            var recovered = consecutiveFailures.remove(instance.getId()) != null || instance.getState() != AVAILABLE.code();
+            instance.updateLoad(availability.getContent());
             instance.transitionToAvailable();
-        } else {
-            instance.transitionToUnavailable();
+            update(instance);
+            if (recovered) {
+                availabilityListener.available(instance);
+            }
+            return true;
         }
+
+        availabilityListener.unavailable(instance);
+        if (instance.getState() == AVAILABLE.code()) {
+            var failures = consecutiveFailures.merge(instance.getId(), 1, Integer::sum);
+            if (failures < failureThreshold) {
+                monitor.debug(() -> "Data plane %s failed %d consecutive availability checks: %s"
+                        .formatted(instance.getId(), failures, availability.getFailureDetail()));
+                return false;
+            }
+            consecutiveFailures.remove(instance.getId());
+        }
+
+        instance.updateLoad(null);
+        instance.transitionToUnavailable();
         update(instance);
         return true;
     }
 
-    private Processor processEntriesInState(DataPlaneInstanceStates state, Function<DataPlaneInstance, Boolean> function) {
-        var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+    private void probeAll(Collection<DataPlaneInstance> instances) {
+        var futures = instances.stream()
+                .map(instance -> probe(instance).thenAccept(result -> probes.put(instance.getId(), result)))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * Probes the instance on the probe executor. The timeout is passed down to the client, that bounds the remote call
+     * itself, and it's also enforced on the returned future, counting from when the probe starts running, not from when
+     * it gets submitted, so probes queued behind slower ones are not failed before having been executed.
+     */
+    private CompletableFuture<StatusResult<DataPlaneLoad>> probe(DataPlaneInstance instance) {
+        var result = new CompletableFuture<StatusResult<DataPlaneLoad>>();
+        probeExecutor.execute(() -> {
+            var timeout = StatusResult.<DataPlaneLoad>failure(FATAL_ERROR, "Availability check timed out after %d ms".formatted(probeTimeout.toMillis()));
+            result.completeOnTimeout(timeout, probeTimeout.toMillis(), MILLISECONDS);
+            try {
+                result.complete(clientFactory.createClient(instance).checkAvailability(probeTimeout));
+            } catch (Throwable throwable) {
+                result.complete(StatusResult.failure(FATAL_ERROR, "Availability check failed: " + throwable.getMessage()));
+            }
+        });
+        return result;
+    }
+
+    @SafeVarargs
+    private Processor processEntriesInState(DataPlaneInstanceStates state, Function<DataPlaneInstance, Boolean> function, Supplier<Criterion>... additionalCriteria) {
+        Supplier<Collection<DataPlaneInstance>> entitiesSupplier = () -> {
+            var additional = Arrays.stream(additionalCriteria).map(Supplier::get);
+            var filter = Stream.concat(Stream.of(hasState(state.code())), additional)
+                    .toArray(Criterion[]::new);
+            return store.nextNotLeased(batchSize, filter);
+        };
+
+        return ProcessorImpl.Builder.newInstance(entitiesSupplier)
+                .name(state.name())
+                .beforeProcess(this::probeAll)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -104,10 +201,33 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
             return this;
         }
 
+        public Builder probeTimeout(Duration probeTimeout) {
+            manager.probeTimeout = probeTimeout;
+            return this;
+        }
+
+        public Builder probeParallelism(int probeParallelism) {
+            manager.probeParallelism = probeParallelism;
+            return this;
+        }
+
+        public Builder failureThreshold(int failureThreshold) {
+            manager.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        public Builder availabilityListener(DataPlaneAvailabilityListener availabilityListener) {
+            manager.availabilityListener = availabilityListener;
+            return this;
+        }
+
         public Builder configuration(DataPlaneSelectorManagerConfiguration configuration) {
             return waitStrategy(configuration.waitStrategy())
                     .batchSize(configuration.batchSize())
-                    .checkPeriod(configuration.checkPeriod());
+                    .checkPeriod(configuration.checkPeriod())
+                    .probeTimeout(configuration.probeTimeout())
+                    .probeParallelism(configuration.probeParallelism())
+                    .failureThreshold(configuration.failureThreshold());
         }
     }
 }
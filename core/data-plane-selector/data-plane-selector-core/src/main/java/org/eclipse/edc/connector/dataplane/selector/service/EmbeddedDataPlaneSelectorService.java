@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector.service;
 
+import org.eclipse.edc.connector.dataplane.selector.manager.DataPlaneAvailabilityListener;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
@@ -24,22 +25,49 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
 
-public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
+/**
+ * {@link DataPlaneSelectorService} backed by the local {@link DataPlaneInstanceStore}.
+ * <p>
+ * Selection runs on every transfer start, so the available instances can be cached for a configurable time instead of
+ * being loaded from the store each time. The cache is dropped as soon as an instance is added, deleted or unregistered
+ * through this service, changes made by other runtimes or by the selector state machine (availability, load) are seen
+ * once it expires.
+ * <p>
+ * As {@link DataPlaneAvailabilityListener} it excludes from selection the instances that failed their last availability
+ * check, without waiting for them to become UNAVAILABLE, and drops the cache when an instance becomes available again.
+ */
+public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService, DataPlaneAvailabilityListener {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Duration cacheTtl;
+    private final Set<String> failingInstances = ConcurrentHashMap.newKeySet();
+    private volatile CachedInstances cache;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            Clock clock, Duration cacheTtl) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.cacheTtl = cacheTtl;
     }
 
     @Override
@@ -58,21 +86,17 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
         if (strategy == null) {
             return ServiceResult.badRequest("Strategy " + sanitizedSelectionStrategy + " was not found");
         }
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream
-                        .filter(it -> it.getState() == AVAILABLE.code())
-                        .filter(filter)
-                        .toList();
+        var dataPlanes = availableInstances().stream()
+                .filter(it -> !failingInstances.contains(it.getId()))
+                .filter(filter)
+                .toList();
 
-                if (dataPlanes.isEmpty()) {
-                    return ServiceResult.notFound("No dataplane found");
-                }
+        if (dataPlanes.isEmpty()) {
+            return ServiceResult.notFound("No dataplane found");
+        }
 
-                var dataPlane = strategy.apply(dataPlanes);
-                return ServiceResult.success(dataPlane);
-            }
-        });
+        var dataPlane = strategy.apply(dataPlanes);
+        return ServiceResult.success(dataPlane);
     }
 
     @Override
@@ -85,12 +109,15 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
         return transactionContext.execute(() -> {
             instance.transitionToRegistered();
             store.save(instance);
+            invalidateCache();
             return ServiceResult.success();
         });
     }
 
     @Override
     public ServiceResult<Void> delete(String instanceId) {
+        failingInstances.remove(instanceId);
+        invalidateCache();
         return transactionContext.execute(() -> ServiceResult.from(store.deleteById(instanceId))).mapEmpty();
     }
 
@@ -101,6 +128,7 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
                     .map(it -> {
                         it.transitionToUnregistered();
                         store.save(it);
+                        invalidateCache();
                         return null;
                     });
 
@@ -118,4 +146,40 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             return ServiceResult.success(instance);
         });
     }
+
+    @Override
+    public void available(DataPlaneInstance instance) {
+        failingInstances.remove(instance.getId());
+        invalidateCache();
+    }
+
+    @Override
+    public void unavailable(DataPlaneInstance instance) {
+        failingInstances.add(instance.getId());
+    }
+
+    private List<DataPlaneInstance> availableInstances() {
+        var cached = cache;
+        var now = clock.instant();
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.instances();
+        }
+
+        var instances = transactionContext.execute(() -> {
+            try (var stream = store.getAll()) {
+                return stream.filter(it -> it.getState() == AVAILABLE.code()).toList();
+            }
+        });
+        if (!cacheTtl.isZero() && !cacheTtl.isNegative()) {
+            cache = new CachedInstances(instances, now.plus(cacheTtl));
+        }
+        return instances;
+    }
+
+    private void invalidateCache() {
+        cache = null;
+    }
+
+    private record CachedInstances(List<DataPlaneInstance> instances, Instant expiresAt) {
+    }
 }
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFa
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +30,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
@@ -45,6 +47,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -53,6 +57,7 @@ class DataPlaneSelectorManagerImplTest {
 
     private final DataPlaneInstanceStore store = mock();
     private final DataPlaneClientFactory clientFactory = mock();
+    private final DataPlaneAvailabilityListener availabilityListener = mock();
     private final Duration checkPeriod = Duration.of(10, SECONDS);
     private final Instant now = Instant.now();
     private final Clock clock = Clock.fixed(now, ZoneId.systemDefault());
@@ -61,6 +66,7 @@ class DataPlaneSelectorManagerImplTest {
             .store(store)
             .clientFactory(clientFactory)
             .checkPeriod(checkPeriod)
+            .availabilityListener(availabilityListener)
             .clock(clock)
             .build();
 
@@ -73,7 +79,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.success(null));
 
             manager.start();
 
@@ -88,7 +94,7 @@ class DataPlaneSelectorManagerImplTest {
             when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
@@ -107,10 +113,10 @@ class DataPlaneSelectorManagerImplTest {
             var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            when(store.nextNotLeased(anyInt(), dueForCheck(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.success(null));
 
             manager.start();
 
@@ -120,37 +126,68 @@ class DataPlaneSelectorManagerImplTest {
         }
 
         @Test
-        void shouldTransitionToUnavailable_whenDataPlaneIsNotAvailable() {
+        void shouldTransitionToUnavailable_whenDataPlaneFailedConsecutiveChecks() {
             var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            when(store.nextNotLeased(anyInt(), dueForCheck(AVAILABLE)))
+                    .thenReturn(List.of(instance.copy()), List.of(instance.copy()), List.of(instance.copy())).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
             await().untilAsserted(() -> {
+                verify(dataPlaneClient, times(3)).checkAvailability(any());
                 verify(store).save(argThat(it -> it.getState() == UNAVAILABLE.code()));
             });
         }
 
         @Test
-        void shouldNotCheckAvailability_whenCheckPeriodIsLowerThanConfiguredOne() {
-            var updatedAt = now.minus(checkPeriod).plus(1, MILLIS);
+        void shouldRemainAvailableAndNotifyListener_whenFailuresAreBelowThreshold() {
+            var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
+            var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
+                    .updatedAt(updatedAt.toEpochMilli()).build();
+            when(store.nextNotLeased(anyInt(), dueForCheck(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            DataPlaneClient dataPlaneClient = mock();
+            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(availabilityListener).unavailable(instance);
+                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code() && it.getUpdatedAt() == updatedAt.toEpochMilli()));
+                verify(store, never()).save(argThat(it -> it.getState() == UNAVAILABLE.code()));
+            });
+        }
+
+        @Test
+        void shouldUpdateLoad_whenDataPlaneReportsIt() {
+            var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
             var instance = DataPlaneInstance.Builder.newInstance().state(AVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            var load = new DataPlaneLoad(3, 1024, 0.5);
+            when(store.nextNotLeased(anyInt(), dueForCheck(AVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.success(load));
 
             manager.start();
 
             await().untilAsserted(() -> {
+                verify(store).save(argThat(it -> it.getState() == AVAILABLE.code() && load.equals(it.getLoad())));
+            });
+        }
+
+        @Test
+        void shouldFetchOnlyInstancesWhoseCheckPeriodIsElapsed() {
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store, atLeast(2)).nextNotLeased(anyInt(), dueForCheck(AVAILABLE));
                 verifyNoInteractions(clientFactory);
-                verify(store, atLeast(2)).nextNotLeased(anyInt(), stateIs(AVAILABLE));
             });
         }
     }
@@ -163,10 +200,10 @@ class DataPlaneSelectorManagerImplTest {
             var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
             var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            when(store.nextNotLeased(anyInt(), dueForCheck(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.failure(FATAL_ERROR));
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
 
             manager.start();
 
@@ -180,10 +217,10 @@ class DataPlaneSelectorManagerImplTest {
             var updatedAt = now.minus(checkPeriod).minus(1, MILLIS);
             var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
                     .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
+            when(store.nextNotLeased(anyInt(), dueForCheck(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
             DataPlaneClient dataPlaneClient = mock();
             when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
+            when(dataPlaneClient.checkAvailability(any())).thenReturn(StatusResult.success(null));
 
             manager.start();
 
@@ -193,25 +230,61 @@ class DataPlaneSelectorManagerImplTest {
         }
 
         @Test
-        void shouldNotCheckAvailability_whenCheckPeriodIsLowerThanConfiguredOne() {
-            var updatedAt = now.minus(checkPeriod).plus(1, MILLIS);
-            var instance = DataPlaneInstance.Builder.newInstance().state(UNAVAILABLE.code()).url("http://any")
-                    .updatedAt(updatedAt.toEpochMilli()).build();
-            when(store.nextNotLeased(anyInt(), stateIs(UNAVAILABLE))).thenReturn(List.of(instance)).thenReturn(emptyList());
-            DataPlaneClient dataPlaneClient = mock();
-            when(clientFactory.createClient(any())).thenReturn(dataPlaneClient);
-            when(dataPlaneClient.checkAvailability()).thenReturn(StatusResult.success());
-
+        void shouldFetchOnlyInstancesWhoseCheckPeriodIsElapsed() {
             manager.start();
 
             await().untilAsserted(() -> {
+                verify(store, atLeast(2)).nextNotLeased(anyInt(), dueForCheck(UNAVAILABLE));
                 verifyNoInteractions(clientFactory);
-                verify(store, atLeast(2)).nextNotLeased(anyInt(), stateIs(UNAVAILABLE));
             });
         }
     }
 
+    @Nested
+    class Probing {
+
+        @Test
+        void shouldCheckInstancesConcurrently_andFailTheOnesThatTimeOut() {
+            var manager = DataPlaneSelectorManagerImpl.Builder.newInstance()
+                    .monitor(mock())
+                    .store(store)
+                    .clientFactory(clientFactory)
+                    .clock(clock)
+                    .probeTimeout(Duration.ofMillis(200))
+                    .build();
+            var unresponsive = DataPlaneInstance.Builder.newInstance().id("unresponsive").state(REGISTERED.code()).url("http://unresponsive").build();
+            var responsive = DataPlaneInstance.Builder.newInstance().id("responsive").state(REGISTERED.code()).url("http://responsive").build();
+            when(store.nextNotLeased(anyInt(), stateIs(REGISTERED))).thenReturn(List.of(unresponsive, responsive)).thenReturn(emptyList());
+            var released = new CountDownLatch(1);
+            DataPlaneClient unresponsiveClient = mock();
+            when(unresponsiveClient.checkAvailability(any())).thenAnswer(i -> {
+                released.await();
+                return StatusResult.success(null);
+            });
+            DataPlaneClient responsiveClient = mock();
+            when(responsiveClient.checkAvailability(any())).thenReturn(StatusResult.success(null));
+            when(clientFactory.createClient(unresponsive)).thenReturn(unresponsiveClient);
+            when(clientFactory.createClient(responsive)).thenReturn(responsiveClient);
+
+            manager.start();
+
+            try {
+                await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                    verify(store).save(argThat(it -> it.getId().equals("unresponsive") && it.getState() == UNAVAILABLE.code()));
+                    verify(store).save(argThat(it -> it.getId().equals("responsive") && it.getState() == AVAILABLE.code()));
+                });
+            } finally {
+                released.countDown();
+                manager.stop();
+            }
+        }
+    }
+
     private Criterion[] stateIs(DataPlaneInstanceStates state) {
         return aryEq(new Criterion[]{ hasState(state.code()) });
     }
+
+    private Criterion[] dueForCheck(DataPlaneInstanceStates state) {
+        return aryEq(new Criterion[]{ hasState(state.code()), new Criterion("updatedAt", "<", now.toEpochMilli() - checkPeriod.toMillis()) });
+    }
 }
@@ -26,6 +26,9 @@ import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -43,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -115,6 +119,91 @@ public class EmbeddedDataPlaneSelectorServiceTest {
         }
     }
 
+    @Nested
+    class SelectionCache {
+
+        private final Clock clock = mock();
+        private final DataPlaneSelectorService cachingService = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry,
+                new NoopTransactionContext(), clock, Duration.ofSeconds(5));
+
+        @Test
+        void shouldLoadInstancesOnce_whenCacheIsValid() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code()).build();
+            when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(4));
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.get(0));
+
+            assertThat(cachingService.select("strategy", it -> true)).isSucceeded();
+            assertThat(cachingService.select("strategy", it -> true)).isSucceeded();
+
+            verify(store, times(1)).getAll();
+        }
+
+        @Test
+        void shouldReloadInstances_whenCacheIsExpired() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code()).build();
+            when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(5));
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.get(0));
+
+            cachingService.select("strategy", it -> true);
+            cachingService.select("strategy", it -> true);
+
+            verify(store, times(2)).getAll();
+        }
+
+        @Test
+        void shouldReloadInstances_whenInstanceIsAdded() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code()).build();
+            when(clock.instant()).thenReturn(Instant.EPOCH);
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.get(0));
+
+            cachingService.select("strategy", it -> true);
+            cachingService.addInstance(createInstanceBuilder("new").build());
+            cachingService.select("strategy", it -> true);
+
+            verify(store, times(2)).getAll();
+        }
+    }
+
+    @Nested
+    class AvailabilityListener {
+
+        private final Clock clock = mock();
+        private final EmbeddedDataPlaneSelectorService listeningService = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry,
+                new NoopTransactionContext(), clock, Duration.ofSeconds(5));
+
+        @Test
+        void shouldExcludeInstance_whenItFailedAvailabilityCheck() {
+            var failing = createInstanceBuilder("failing").state(AVAILABLE.code()).build();
+            var healthy = createInstanceBuilder("healthy").state(AVAILABLE.code()).build();
+            when(clock.instant()).thenReturn(Instant.EPOCH);
+            when(store.getAll()).thenAnswer(i -> Stream.of(failing, healthy));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.get(0));
+
+            listeningService.unavailable(failing);
+            var result = listeningService.select("strategy", it -> true);
+
+            assertThat(result).isSucceeded().extracting(DataPlaneInstance::getId).isEqualTo("healthy");
+        }
+
+        @Test
+        void shouldIncludeInstanceAndReload_whenItIsAvailableAgain() {
+            var instance = createInstanceBuilder("instance").state(AVAILABLE.code()).build();
+            when(clock.instant()).thenReturn(Instant.EPOCH);
+            when(store.getAll()).thenAnswer(i -> Stream.of(instance));
+            when(selectionStrategyRegistry.find(any())).thenReturn(instances -> instances.get(0));
+
+            listeningService.unavailable(instance);
+            assertThat(listeningService.select("strategy", it -> true)).isFailed();
+
+            listeningService.available(instance);
+            assertThat(listeningService.select("strategy", it -> true)).isSucceeded();
+            verify(store, times(2)).getAll();
+        }
+    }
+
     @Nested
     class Delete {
 
@@ -32,6 +32,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -45,6 +46,8 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
     private Clock clock;
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
+    @Inject
+    private MetricsRecorder metricsRecorder;
 
     @Override
     public String name() {
@@ -68,7 +71,7 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public PipelineService pipelineService(ServiceExtensionContext context) {
-        return new PipelineServiceImpl(context.getMonitor());
+        return new PipelineServiceImpl(context.getMonitor(), clock, metricsRecorder);
     }
 
     // todo: should this be a default service?
@@ -15,8 +15,10 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl;
+import org.eclipse.edc.connector.dataplane.framework.pipeline.DataPlaneLoadReporterImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoadReporter;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
@@ -26,6 +28,8 @@ import org.eclipse.edc.connector.dataplane.spi.provision.ProvisionerManager;
 import org.eclipse.edc.connector.dataplane.spi.provision.ResourceDefinitionGeneratorManager;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.concurrency.TransferExecutors;
+import org.eclipse.edc.connector.dataplane.util.pipeline.BufferPool;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -33,8 +37,10 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -42,10 +48,12 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_FACTOR;
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_TIME;
+import static org.eclipse.edc.connector.dataplane.util.concurrency.TransferExecutors.VIRTUAL_THREADS_SETTING;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
@@ -95,10 +103,32 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     )
     private int numThreads;
 
+    @Setting(
+            description = "Run transfers on virtual threads instead of a fixed thread pool. Requires Java 21 or later, falls back to the fixed thread pool otherwise",
+            defaultValue = "false",
+            key = VIRTUAL_THREADS_SETTING
+    )
+    private boolean virtualThreads;
+
+    @Setting(
+            description = "Size in bytes of the buffers used to copy the data of a transfer",
+            defaultValue = BufferPool.DEFAULT_BUFFER_SIZE + "",
+            key = "edc.dataplane.transfer.buffer.size"
+    )
+    private int bufferSize;
+
+    @Setting(
+            description = "Maximum number of transfer buffers kept for reuse, it bounds the heap retained by idle buffers",
+            defaultValue = BufferPool.DEFAULT_MAX_POOLED_BUFFERS + "",
+            key = "edc.dataplane.transfer.buffer.pool.max"
+    )
+    private int maxPooledBuffers;
+
     @Configuration
     private FlowLeaseConfiguration flowLeaseConfiguration;
 
     private DataPlaneManagerImpl dataPlaneManager;
+    private ExecutorService transferExecutor;
 
     @Inject
     private TransferServiceSelectionStrategy transferServiceSelectionStrategy;
@@ -108,6 +138,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private TransferProcessApiClient transferProcessApiClient;
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private MetricsRecorder metricsRecorder;
     @Inject
     private Telemetry telemetry;
     @Inject
@@ -142,6 +175,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration())
                 .executorInstrumentation(executorInstrumentation)
+                .metricsRecorder(metricsRecorder)
                 .authorizationService(authorizationService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(store)
@@ -171,11 +205,30 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         pipelineService.closeAll();
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        dataPlaneManager.pause();
+    }
+
+    @Override
+    public void afterRestore() {
+        dataPlaneManager.resume();
+    }
+
     @Provider
     public DataTransferExecutorServiceContainer dataTransferExecutorServiceContainer(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(numThreads);
         return new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+                executorInstrumentation.instrument(transferExecutor(context.getMonitor()), "Data plane transfers"));
+    }
+
+    @Provider
+    public BufferPool bufferPool() {
+        return new BufferPool(bufferSize, maxPooledBuffers);
+    }
+
+    @Provider
+    public DataPlaneLoadReporter dataPlaneLoadReporter(ServiceExtensionContext context) {
+        return new DataPlaneLoadReporterImpl(pipelineService, transferExecutor(context.getMonitor()));
     }
 
     @Settings
@@ -207,6 +260,20 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     }
 
+    private synchronized ExecutorService transferExecutor(Monitor monitor) {
+        if (transferExecutor == null) {
+            transferExecutor = virtualThreads ? virtualThreadExecutor(monitor) : Executors.newFixedThreadPool(numThreads);
+        }
+        return transferExecutor;
+    }
+
+    private ExecutorService virtualThreadExecutor(Monitor monitor) {
+        return TransferExecutors.newVirtualThreadPerTaskExecutor().orElseGet(() -> {
+            monitor.warning("Virtual threads are not supported by the current JVM, transfers will run on a fixed pool of %d threads".formatted(numThreads));
+            return Executors.newFixedThreadPool(numThreads);
+        });
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration getEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(sendRetryLimit, () -> new ExponentialWaitStrategy(sendRetryBaseDelay));
@@ -368,6 +368,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         };
 
         return ProcessorImpl.Builder.newInstance(entitiesSupplier)
+                .name(state.name())
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoadReporter;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Reports the active flows and in-flight bytes tracked by the {@link PipelineService} and the saturation of the
+ * transfer executor. The saturation of a {@link ThreadPoolExecutor} is the ratio of running and queued tasks to the
+ * maximum pool size, executors with no upper bound (e.g. virtual threads) are never reported as saturated.
+ */
+public class DataPlaneLoadReporterImpl implements DataPlaneLoadReporter {
+
+    private final PipelineService pipelineService;
+    private final ExecutorService transferExecutor;
+
+    public DataPlaneLoadReporterImpl(PipelineService pipelineService, ExecutorService transferExecutor) {
+        this.pipelineService = pipelineService;
+        this.transferExecutor = transferExecutor;
+    }
+
+    @Override
+    public DataPlaneLoad currentLoad() {
+        return new DataPlaneLoad(pipelineService.activeFlows(), pipelineService.inFlightBytes(), saturation());
+    }
+
+    private double saturation() {
+        if (transferExecutor instanceof ThreadPoolExecutor pool && pool.getMaximumPoolSize() > 0) {
+            return (double) (pool.getActiveCount() + pool.getQueue().size()) / pool.getMaximumPoolSize();
+        }
+        return 0;
+    }
+}
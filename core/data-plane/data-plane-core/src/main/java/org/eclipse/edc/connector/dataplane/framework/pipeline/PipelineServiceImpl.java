@@ -18,16 +18,19 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
-import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.pipeline.MeteredDataSource;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -38,19 +41,39 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toSet;
 
 /**
  * Default pipeline service implementation.
+ * <p>
+ * Every source is metered, so that bytes, parts and throughput of each flow are reported when its transfer completes,
+ * both in the logs and to the {@link MetricsRecorder}, tagged with the source and destination types and the outcome.
  */
 public class PipelineServiceImpl implements PipelineService {
+    public static final String FLOW_DURATION_METRIC = "edc.dataplane.flow.duration";
+    public static final String FLOW_BYTES_METRIC = "edc.dataplane.flow.bytes";
+    public static final String FLOW_THROUGHPUT_METRIC = "edc.dataplane.flow.throughput";
+
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
-    private final Map<String, DataSource> sources = new ConcurrentHashMap<>();
+    private final Map<String, MeteredDataSource> sources = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final Clock clock;
+    private final MetricsRecorder metrics;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, Clock.systemUTC());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, Clock clock) {
+        this(monitor, clock, MetricsRecorder.noop());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, Clock clock, MetricsRecorder metrics) {
         this.monitor = monitor;
+        this.clock = clock;
+        this.metrics = metrics;
     }
 
     @Override
@@ -105,13 +128,15 @@ public class PipelineServiceImpl implements PipelineService {
             return noSourceFactory(request);
         }
 
-        var source = sourceFactory.createSource(request);
+        var source = new MeteredDataSource(sourceFactory.createSource(request));
         sources.put(request.getProcessId(), source);
         monitor.debug(() -> format("Transferring from %s to %s for flow id: %s.",
                 request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType(), request.getProcessId()));
+        var start = clock.millis();
         return sink.transfer(source)
                 .thenApply(result -> {
                     terminate(request.getProcessId());
+                    reportThroughput(request, source, clock.millis() - start, result.succeeded());
                     return result;
                 });
     }
@@ -146,6 +171,16 @@ public class PipelineServiceImpl implements PipelineService {
         return sinkFactories.stream().map(DataSinkFactory::supportedType).collect(toSet());
     }
 
+    @Override
+    public int activeFlows() {
+        return sources.size();
+    }
+
+    @Override
+    public long inFlightBytes() {
+        return sources.values().stream().mapToLong(MeteredDataSource::getBytes).sum();
+    }
+
     private StreamResult<Void> terminate(String dataFlowId) {
         var source = sources.remove(dataFlowId);
         if (source == null) {
@@ -160,6 +195,25 @@ public class PipelineServiceImpl implements PipelineService {
         }
     }
 
+    private void reportThroughput(DataFlowStartMessage request, MeteredDataSource source, long elapsedMillis, boolean succeeded) {
+        var bytesPerSecond = elapsedMillis > 0 ? source.getBytes() * 1000 / elapsedMillis : source.getBytes();
+        monitor.debug(() -> format("Flow %s transferred %d bytes in %d parts in %d ms (%d bytes/s).",
+                request.getProcessId(), source.getBytes(), source.getParts(), elapsedMillis, bytesPerSecond));
+
+        var tags = new String[]{
+                "source", typeOf(request.getSourceDataAddress()),
+                "destination", typeOf(request.getDestinationDataAddress()),
+                "outcome", succeeded ? "success" : "failure"
+        };
+        metrics.recordNanos(FLOW_DURATION_METRIC, MILLISECONDS.toNanos(elapsedMillis), tags);
+        metrics.recordValue(FLOW_BYTES_METRIC, source.getBytes(), tags);
+        metrics.recordValue(FLOW_THROUGHPUT_METRIC, bytesPerSecond, tags);
+    }
+
+    private String typeOf(@Nullable DataAddress address) {
+        return address == null || address.getType() == null ? "none" : address.getType();
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowStartMessage request) {
         return sourceFactories.stream()
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DataPlaneLoadReporterImplTest {
+
+    private final PipelineService pipelineService = mock();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final DataPlaneLoadReporterImpl reporter = new DataPlaneLoadReporterImpl(pipelineService, executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReportPipelineCounters() {
+        when(pipelineService.activeFlows()).thenReturn(3);
+        when(pipelineService.inFlightBytes()).thenReturn(1024L);
+
+        var load = reporter.currentLoad();
+
+        assertThat(load.activeFlows()).isEqualTo(3);
+        assertThat(load.inFlightBytes()).isEqualTo(1024L);
+        assertThat(load.saturation()).isZero();
+    }
+
+    @Test
+    void shouldReportExecutorSaturation() {
+        var latch = new CountDownLatch(1);
+        executor.submit(() -> {
+            latch.await();
+            return null;
+        });
+
+        await().untilAsserted(() -> assertThat(reporter.currentLoad().saturation()).isEqualTo(0.5));
+
+        latch.countDown();
+    }
+
+    @Test
+    void shouldNotReportSaturation_whenExecutorIsUnbounded() {
+        var unbounded = mock(ExecutorService.class);
+
+        var load = new DataPlaneLoadReporterImpl(pipelineService, unbounded).currentLoad();
+
+        assertThat(load.saturation()).isZero();
+    }
+}
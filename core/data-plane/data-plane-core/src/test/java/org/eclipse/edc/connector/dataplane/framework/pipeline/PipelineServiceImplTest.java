@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.pipeline.MeteredDataSource;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +47,7 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Rea
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -86,10 +88,30 @@ class PipelineServiceImplTest {
             assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
                 assertThat(result).isSucceeded();
             });
-            verify(sink).transfer(source);
+            verify(sink).transfer(isA(MeteredDataSource.class));
             verify(source).close();
         }
 
+        @Test
+        void transfer_shouldCountActiveFlow_untilCompletion() {
+            var transfer = new CompletableFuture<StreamResult<Object>>();
+            when(sourceFactory.supportedType()).thenReturn("source");
+            when(sourceFactory.createSource(any())).thenReturn(source);
+            when(sinkFactory.supportedType()).thenReturn("destination");
+            when(sinkFactory.createSink(any())).thenReturn(sink);
+            when(sink.transfer(any())).thenReturn(transfer);
+
+            var future = service.transfer(dataFlow("source", "destination").toRequest());
+
+            assertThat(service.activeFlows()).isEqualTo(1);
+            assertThat(service.inFlightBytes()).isZero();
+
+            transfer.complete(StreamResult.success());
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+            assertThat(service.activeFlows()).isZero();
+        }
+
         @Test
         void transfer_withCustomSink_shouldNotInvokeSinkFactory() throws Exception {
             var flowRequest = dataFlow("source", "custom-destination").toRequest();
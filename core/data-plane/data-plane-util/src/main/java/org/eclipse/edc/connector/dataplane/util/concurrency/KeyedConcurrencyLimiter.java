@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.concurrency;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent operations per key, e.g. per destination host. Operations exceeding the limit
+ * block the calling thread until a permit is released, which is cheap when transfers run on virtual threads.
+ * <p>
+ * A limit lower or equal to 0 disables the limiter. The permits of a key are discarded as soon as no operation is
+ * running or waiting for it, so keys seen only once do not accumulate.
+ */
+public class KeyedConcurrencyLimiter {
+
+    private final int maxConcurrency;
+    private final Map<String, Permits> permits = new ConcurrentHashMap<>();
+
+    public KeyedConcurrencyLimiter(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * A limiter that never blocks.
+     */
+    public static KeyedConcurrencyLimiter unlimited() {
+        return new KeyedConcurrencyLimiter(0);
+    }
+
+    /**
+     * Runs the operation once a permit for the key is available.
+     *
+     * @param key       the key.
+     * @param operation the operation.
+     * @return the operation result.
+     */
+    public <T> T execute(String key, Supplier<T> operation) {
+        if (maxConcurrency <= 0) {
+            return operation.get();
+        }
+
+        var semaphore = permits.compute(key, (k, existing) -> (existing == null ? new Permits(maxConcurrency) : existing).join()).semaphore;
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            leave(key);
+            throw new EdcException("Interrupted while waiting for a permit for " + key, e);
+        }
+
+        try {
+            return operation.get();
+        } finally {
+            semaphore.release();
+            leave(key);
+        }
+    }
+
+    /**
+     * Number of operations currently running for the key.
+     */
+    public int inFlight(String key) {
+        var entry = permits.get(key);
+        return entry == null ? 0 : maxConcurrency - entry.semaphore.availablePermits();
+    }
+
+    /**
+     * Number of keys that currently have operations running or waiting.
+     */
+    public int size() {
+        return permits.size();
+    }
+
+    private void leave(String key) {
+        permits.computeIfPresent(key, (k, existing) -> existing.leave());
+    }
+
+    /**
+     * The permits of a key, with the number of operations running or waiting for them. The count is only changed
+     * while holding the map entry, so an entry is never removed while another operation is about to use it.
+     */
+    private static final class Permits {
+        private final Semaphore semaphore;
+        private int users;
+
+        private Permits(int maxConcurrency) {
+            semaphore = new Semaphore(maxConcurrency, true);
+        }
+
+        private Permits join() {
+            users++;
+            return this;
+        }
+
+        private Permits leave() {
+            return --users == 0 ? null : this;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.concurrency;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory methods for the executors that run data transfers.
+ */
+public final class TransferExecutors {
+
+    /**
+     * Key of the setting that makes transfers run on virtual threads, declared by the data plane framework extension.
+     */
+    public static final String VIRTUAL_THREADS_SETTING = "edc.dataplane.transfer.virtual-threads";
+
+    private TransferExecutors() {
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread. Virtual threads are only available from Java 21
+     * on: since the codebase targets an older language level, the factory method is looked up at runtime.
+     *
+     * @return the virtual thread executor, or empty if the running JVM does not support virtual threads.
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            var factory = MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return Optional.of((ExecutorService) factory.invoke());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Optional.empty();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of reusable byte buffers used to copy part content from a source to a sink.
+ * <p>
+ * At most {@code maxPooledBuffers} buffers are retained: when the pool is empty a new buffer is allocated, when it is
+ * full a released buffer is left to the garbage collector. This keeps the retained heap bounded regardless of the
+ * number of concurrent flows. A single pool is meant to be shared by all the flows of a runtime, it is provided as a
+ * service by the data plane framework.
+ */
+public class BufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_MAX_POOLED_BUFFERS = 256;
+
+    private final int bufferSize;
+    private final BlockingQueue<byte[]> buffers;
+
+    public BufferPool(int bufferSize, int maxPooledBuffers) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+        }
+        if (maxPooledBuffers <= 0) {
+            throw new IllegalArgumentException("Invalid max pooled buffers: " + maxPooledBuffers);
+        }
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+    }
+
+    /**
+     * Takes a buffer from the pool, or allocates a new one if none is available.
+     *
+     * @return a buffer of {@link #bufferSize()} bytes.
+     */
+    public byte[] acquire() {
+        var buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * Gives a buffer back to the pool. Buffers of a different size or exceeding the pool capacity are discarded.
+     *
+     * @param buffer the buffer.
+     */
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Copies the whole input stream to the output stream using a pooled buffer.
+     *
+     * @param input  the input stream.
+     * @param output the output stream.
+     * @return the number of bytes copied.
+     * @throws IOException if reading or writing fails.
+     */
+    public long transfer(InputStream input, OutputStream output) throws IOException {
+        var buffer = acquire();
+        try {
+            long transferred = 0;
+            int read;
+            while ((read = input.read(buffer, 0, buffer.length)) >= 0) {
+                output.write(buffer, 0, read);
+                transferred += read;
+            }
+            return transferred;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Number of buffers currently available for reuse.
+     */
+    public int available() {
+        return buffers.size();
+    }
+}
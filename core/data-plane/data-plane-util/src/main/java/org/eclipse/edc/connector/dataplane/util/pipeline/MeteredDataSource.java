@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link DataSource} decorator that counts the parts and the bytes read from the wrapped source.
+ */
+public class MeteredDataSource implements DataSource {
+
+    private final DataSource source;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong parts = new AtomicLong();
+
+    public MeteredDataSource(DataSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        return source.openPartStream().map(stream -> stream.<Part>map(MeteredPart::new));
+    }
+
+    @Override
+    public void close() throws Exception {
+        source.close();
+    }
+
+    /**
+     * Number of bytes read so far from the parts of the source.
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Number of parts opened so far.
+     */
+    public long getParts() {
+        return parts.get();
+    }
+
+    private class MeteredPart implements Part {
+        private final Part part;
+
+        MeteredPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            parts.incrementAndGet();
+            return new CountingInputStream(part.openStream());
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read >= 0) {
+                bytes.incrementAndGet();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                bytes.addAndGet(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            bytes.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.pipeline.BufferPool;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.AbstractResult;
@@ -47,10 +48,12 @@ public class AsyncStreamingDataSink implements DataSink {
 
     private final AsyncResponseContext asyncContext;
     private final ExecutorService executorService;
+    private final BufferPool bufferPool;
 
-    public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService) {
+    public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService, BufferPool bufferPool) {
         this.asyncContext = asyncContext;
         this.executorService = executorService;
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -79,8 +82,8 @@ public class AsyncStreamingDataSink implements DataSink {
     @NotNull
     private StatusResult<?> transferPart(DataSource.Part part) {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
-            try {
-                part.openStream().transferTo(outputStream);
+            try (var inputStream = part.openStream()) {
+                bufferPool.transfer(inputStream, outputStream);
             } catch (IOException e) {
                 throw new EdcException(e);
             }
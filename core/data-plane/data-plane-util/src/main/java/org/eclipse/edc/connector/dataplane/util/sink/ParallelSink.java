@@ -23,23 +23,31 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.util.stream.PartitionIterator;
-import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * Parts are pulled from the source in partitions of {@code partitionSize} and at most {@code maxInFlightPartitions}
+ * partitions are transferred concurrently: the next partition is pulled from the source only when a previous one has
+ * been transferred, so the source is never read ahead of what the sink can handle.
  */
 public abstract class ParallelSink implements DataSink {
+    public static final int DEFAULT_MAX_IN_FLIGHT_PARTITIONS = 10;
+
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxInFlightPartitions = DEFAULT_MAX_IN_FLIGHT_PARTITIONS;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -48,18 +56,13 @@ public abstract class ParallelSink implements DataSink {
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
         return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), executorService)
-                .thenCompose(parts -> {
-                    try (parts) {
-                        return PartitionIterator.streamOf(parts, partitionSize)
-                                .map(this::processPartsAsync)
-                                .collect(asyncAllOf())
-                                .thenApply(results -> results.stream()
-                                        .filter(StreamResult::failed)
-                                        .findFirst()
-                                        .map(r -> StreamResult.failure(r.getFailure()))
-                                        .orElseGet(this::complete));
-                    }
-                })
+                .thenCompose(parts -> new BoundedPartitionTransfer(parts).execute()
+                        .whenComplete((results, throwable) -> parts.close())
+                        .thenApply(results -> results.stream()
+                                .filter(StreamResult::failed)
+                                .findFirst()
+                                .map(r -> StreamResult.failure(r.getFailure()))
+                                .orElseGet(this::complete)))
                 .exceptionally(throwable -> {
                     if (throwable instanceof StreamException streamException) {
                         return StreamResult.failure(streamException.failure);
@@ -69,11 +72,6 @@ public abstract class ParallelSink implements DataSink {
                 });
     }
 
-    @NotNull
-    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
-    }
-
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
         return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
     }
@@ -91,6 +89,65 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Transfers the partitions of a part stream using a fixed number of lanes. Every lane transfers one partition at a
+     * time and pulls the next one once the previous has completed, which bounds the number of open parts and queued
+     * tasks to {@code maxInFlightPartitions}. A failure on any lane stops all the lanes from pulling further partitions.
+     */
+    private class BoundedPartitionTransfer {
+        private final PartitionIterator<DataSource.Part> partitions;
+        private volatile boolean failed;
+
+        BoundedPartitionTransfer(Stream<DataSource.Part> parts) {
+            this.partitions = new PartitionIterator<>(parts.iterator(), partitionSize);
+        }
+
+        CompletableFuture<List<StreamResult<Object>>> execute() {
+            var lanes = new ArrayList<CompletableFuture<StreamResult<Object>>>(maxInFlightPartitions);
+            for (var i = 0; i < maxInFlightPartitions; i++) {
+                var lane = new CompletableFuture<StreamResult<Object>>();
+                lanes.add(lane);
+                next(lane);
+            }
+            return lanes.stream().collect(asyncAllOf());
+        }
+
+        private void next(CompletableFuture<StreamResult<Object>> lane) {
+            List<DataSource.Part> partition;
+            try {
+                partition = nextPartition();
+            } catch (Throwable throwable) {
+                failed = true;
+                lane.completeExceptionally(throwable);
+                return;
+            }
+
+            if (partition == null) {
+                lane.complete(StreamResult.success());
+                return;
+            }
+
+            supplyAsync(transfer(partition), executorService)
+                    .whenCompleteAsync((result, throwable) -> {
+                        if (throwable != null) {
+                            failed = true;
+                            lane.completeExceptionally(throwable);
+                        } else if (result.failed()) {
+                            failed = true;
+                            lane.complete(result);
+                        } else {
+                            next(lane);
+                        }
+                    }, executorService);
+        }
+
+        private List<DataSource.Part> nextPartition() {
+            synchronized (partitions) {
+                return !failed && partitions.hasNext() ? partitions.next() : null;
+            }
+        }
+    }
+
     private static class StreamException extends EdcException {
 
         private final StreamFailure failure;
@@ -119,6 +176,11 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        public B maxInFlightPartitions(int maxInFlightPartitions) {
+            sink.maxInFlightPartitions = maxInFlightPartitions;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -137,6 +199,9 @@ public abstract class ParallelSink implements DataSink {
         public T build() {
             Objects.requireNonNull(sink.requestId, "requestId");
             Objects.requireNonNull(sink.executorService, "executorService");
+            if (sink.maxInFlightPartitions <= 0) {
+                throw new IllegalArgumentException("maxInFlightPartitions must be greater than 0");
+            }
             validate();
             return sink;
         }
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedConcurrencyLimiterTest {
+
+    @Test
+    void execute_shouldLimitConcurrencyPerKey() {
+        var limiter = new KeyedConcurrencyLimiter(2);
+        var executor = Executors.newFixedThreadPool(8);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        var futures = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> limiter.execute("host", () -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleep();
+                    return inFlight.decrementAndGet();
+                }), executor))
+                .toArray(CompletableFuture[]::new);
+
+        assertThat(CompletableFuture.allOf(futures)).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(limiter.inFlight("host")).isZero();
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void execute_shouldNotLimitOtherKeys() throws InterruptedException {
+        var limiter = new KeyedConcurrencyLimiter(1);
+        var blocking = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+
+        executor.submit(() -> limiter.execute("busy-host", () -> {
+            blocking.await();
+            return null;
+        }));
+
+        var result = limiter.execute("other-host", () -> "done");
+
+        assertThat(result).isEqualTo("done");
+        blocking.countDown();
+    }
+
+    @Test
+    void execute_shouldDiscardPermits_whenNoOperationIsRunningForTheKey() {
+        var limiter = new KeyedConcurrencyLimiter(1);
+
+        var sizeWhileRunning = IntStream.range(0, 100)
+                .map(i -> limiter.execute("host-" + i, limiter::size))
+                .max();
+
+        assertThat(sizeWhileRunning).hasValue(1);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void unlimited_shouldNotTrackPermits() {
+        var limiter = KeyedConcurrencyLimiter.unlimited();
+
+        var result = limiter.execute("host", () -> limiter.inFlight("host"));
+
+        assertThat(result).isZero();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferExecutorsTest {
+
+    @Test
+    void newVirtualThreadPerTaskExecutor_shouldBeAvailable_onlyFromJava21() {
+        var executor = TransferExecutors.newVirtualThreadPerTaskExecutor();
+
+        if (Runtime.version().feature() >= 21) {
+            assertThat(executor).isPresent();
+            assertThat(CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(), executor.get()))
+                    .succeedsWithin(1, TimeUnit.SECONDS).asString().contains("VirtualThread");
+        } else {
+            assertThat(executor).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BufferPoolTest {
+
+    @Test
+    void acquire_shouldReuseReleasedBuffer() {
+        var pool = new BufferPool(16, 2);
+
+        var buffer = pool.acquire();
+        pool.release(buffer);
+
+        assertThat(pool.acquire()).isSameAs(buffer);
+    }
+
+    @Test
+    void release_shouldDiscardBuffers_whenPoolIsFull() {
+        var pool = new BufferPool(16, 1);
+
+        pool.release(new byte[16]);
+        pool.release(new byte[16]);
+
+        assertThat(pool.available()).isEqualTo(1);
+    }
+
+    @Test
+    void release_shouldDiscardBuffers_whenSizeDoesNotMatch() {
+        var pool = new BufferPool(16, 1);
+
+        pool.release(new byte[8]);
+
+        assertThat(pool.available()).isZero();
+    }
+
+    @Test
+    void transfer_shouldCopyContentAndReleaseBuffer() throws IOException {
+        var pool = new BufferPool(4, 1);
+        var content = "content larger than the buffer".getBytes();
+        var output = new ByteArrayOutputStream();
+
+        var transferred = pool.transfer(new ByteArrayInputStream(content), output);
+
+        assertThat(transferred).isEqualTo(content.length);
+        assertThat(output.toByteArray()).isEqualTo(content);
+        assertThat(pool.available()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotAcceptInvalidSizes() {
+        assertThatThrownBy(() -> new BufferPool(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BufferPool(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
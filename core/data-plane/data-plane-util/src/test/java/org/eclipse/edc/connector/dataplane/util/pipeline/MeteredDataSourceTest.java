@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MeteredDataSourceTest {
+
+    @Test
+    void shouldCountPartsAndBytes() throws IOException {
+        var content = "test-content".getBytes();
+        var source = new MeteredDataSource(new InputStreamDataSource("name", new ByteArrayInputStream(content)));
+
+        var parts = source.openPartStream().getContent().toList();
+        try (var stream = parts.get(0).openStream()) {
+            stream.readAllBytes();
+        }
+
+        assertThat(parts).hasSize(1).first().extracting(DataSource.Part::name).isEqualTo("name");
+        assertThat(source.getParts()).isEqualTo(1);
+        assertThat(source.getBytes()).isEqualTo(content.length);
+    }
+
+    @Test
+    void close_shouldCloseWrappedSource() throws Exception {
+        var wrapped = mock(DataSource.class);
+
+        new MeteredDataSource(wrapped).close();
+
+        verify(wrapped).close();
+    }
+}
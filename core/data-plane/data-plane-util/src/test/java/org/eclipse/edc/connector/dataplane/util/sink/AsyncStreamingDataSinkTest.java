@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.pipeline.BufferPool;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseContext;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
@@ -45,7 +46,8 @@ class AsyncStreamingDataSinkTest {
     private final ExecutorService executorService = newSingleThreadExecutor();
     private final Monitor monitor = mock();
 
-    private final AsyncStreamingDataSink dataSink = new AsyncStreamingDataSink(asyncContext, executorService);
+    private final AsyncStreamingDataSink dataSink = new AsyncStreamingDataSink(asyncContext, executorService,
+            new BufferPool(BufferPool.DEFAULT_BUFFER_SIZE, 1));
 
     @Test
     void verify_streaming() {
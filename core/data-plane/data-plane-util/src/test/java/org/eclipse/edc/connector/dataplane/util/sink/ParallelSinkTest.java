@@ -24,6 +24,7 @@ import java.io.ByteArrayInputStream;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -125,6 +126,61 @@ class ParallelSinkTest {
         assertThat(future).isNotNull();
     }
 
+    @Test
+    void transfer_shouldBoundInFlightPartitions() {
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(8))
+                .partitionSize(1)
+                .maxInFlightPartitions(2)
+                .requestId(dataFlowRequestId).build();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var transferred = new AtomicInteger();
+        sink.transferResultSupplier = () -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            transferred.incrementAndGet();
+            return StreamResult.success();
+        };
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, 20).mapToObj(i -> mock(DataSource.Part.class))));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        assertThat(transferred).hasValue(20);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(sink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_shouldStopPullingParts_whenPartitionFails() {
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(2))
+                .partitionSize(1)
+                .maxInFlightPartitions(1)
+                .requestId(dataFlowRequestId).build();
+        var pulled = new AtomicInteger();
+        sink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, 20)
+                .peek(i -> pulled.incrementAndGet())
+                .mapToObj(i -> mock(DataSource.Part.class))));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        assertThat(pulled).hasValue(1);
+        assertThat(sink.complete).isEqualTo(0);
+    }
+
     private InputStreamDataSource dataSource() {
         return new InputStreamDataSource(
                 "test-datasource-name",
@@ -33,6 +33,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -62,6 +63,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsRecorder metricsRecorder;
+
     @Inject
     private Telemetry telemetry;
 
@@ -102,6 +106,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .batchSize(batchSize)
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsRecorder(metricsRecorder)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
                 .contractAgreementService(contractAgreementService)
@@ -127,4 +132,14 @@ public class PolicyMonitorExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        manager.pause();
+    }
+
+    @Override
+    public void afterRestore() {
+        manager.resume();
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.catalog.http.api.v2025;
 
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
@@ -21,12 +22,15 @@ import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolVers
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.Base64continuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.ContinuationTokenManagerImpl;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.streaming.StreamingCatalogResponseBodyProvider;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.controller.DspCatalogApiController20251;
 import org.eclipse.edc.protocol.dsp.catalog.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseBodyProvider;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
@@ -57,6 +61,9 @@ public class DspCatalogApi2025Extension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol 2025/1 API Catalog Extension";
 
+    @Setting(description = "If true the datasets of a catalog response are transformed, compacted and written one at a time instead of building the whole catalog JSON-LD in memory", defaultValue = "false", key = "edc.dsp.catalog.streaming.enabled")
+    private boolean streamingEnabled;
+
     @Inject
     private WebService webService;
     @Inject
@@ -91,7 +98,7 @@ public class DspCatalogApi2025Extension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         registerValidators();
 
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20251(service, dspRequestHandler, continuationTokenManager(monitor)));
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20251(service, dspRequestHandler, continuationTokenManager(monitor), catalogBodyProvider()));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController20251.class, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, DSP_SCOPE_V_2025_1));
 
         versionRegistry.register(V_2025_1);
@@ -102,6 +109,10 @@ public class DspCatalogApi2025Extension implements ServiceExtension {
         return new ContinuationTokenManagerImpl(continuationTokenSerDes, DSP_NAMESPACE_V_2025_1, monitor);
     }
 
+    private ResponseBodyProvider<Catalog> catalogBodyProvider() {
+        return streamingEnabled ? new StreamingCatalogResponseBodyProvider(jsonLd, DSP_SCOPE_V_2025_1, monitor) : null;
+    }
+
     private void registerValidators() {
         validatorRegistry.register(DSP_NAMESPACE_V_2025_1.toIri(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE_TERM), CatalogRequestMessageValidator.instance(criterionOperatorRegistry, DSP_NAMESPACE_V_2025_1));
     }
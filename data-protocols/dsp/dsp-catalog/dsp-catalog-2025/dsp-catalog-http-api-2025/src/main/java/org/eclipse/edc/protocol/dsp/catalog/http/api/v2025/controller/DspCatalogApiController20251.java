@@ -17,10 +17,12 @@ package org.eclipse.edc.protocol.dsp.catalog.http.api.v2025.controller;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.BaseDspCatalogApiController;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseBodyProvider;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.BASE_PATH;
@@ -40,4 +42,10 @@ public class DspCatalogApiController20251 extends BaseDspCatalogApiController {
                                         ContinuationTokenManager responseDecorator) {
         super(service, dspRequestHandler, responseDecorator, DATASPACE_PROTOCOL_HTTP_V_2025_1, DSP_NAMESPACE_V_2025_1);
     }
+
+    public DspCatalogApiController20251(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
+                                        ContinuationTokenManager responseDecorator,
+                                        ResponseBodyProvider<Catalog> catalogBodyProvider) {
+        super(service, dspRequestHandler, responseDecorator, DATASPACE_PROTOCOL_HTTP_V_2025_1, DSP_NAMESPACE_V_2025_1, catalogBodyProvider);
+    }
 }
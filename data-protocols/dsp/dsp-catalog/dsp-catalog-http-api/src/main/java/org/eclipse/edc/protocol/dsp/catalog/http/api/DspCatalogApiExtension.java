@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.catalog.http.api;
 
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
@@ -24,11 +25,14 @@ import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiCon
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiController20241;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.Base64continuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.ContinuationTokenManagerImpl;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.streaming.StreamingCatalogResponseBodyProvider;
 import org.eclipse.edc.protocol.dsp.catalog.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseBodyProvider;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
@@ -62,6 +66,9 @@ public class DspCatalogApiExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Catalog Extension";
 
+    @Setting(description = "If true the datasets of a catalog response are transformed, compacted and written one at a time instead of building the whole catalog JSON-LD in memory", defaultValue = "false", key = "edc.dsp.catalog.streaming.enabled")
+    private boolean streamingEnabled;
+
     @Inject
     private WebService webService;
     @Inject
@@ -97,8 +104,8 @@ public class DspCatalogApiExtension implements ServiceExtension {
         registerValidators(DSP_NAMESPACE_V_08);
         registerValidators(DSP_NAMESPACE_V_2024_1);
 
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_08, DSP_NAMESPACE_V_08)));
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_2024_1, DSP_NAMESPACE_V_2024_1)));
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_08, DSP_NAMESPACE_V_08), catalogBodyProvider(DSP_SCOPE_V_08)));
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_2024_1, DSP_NAMESPACE_V_2024_1), catalogBodyProvider(DSP_SCOPE_V_2024_1)));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController.class, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, DSP_SCOPE_V_08));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController20241.class, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, DSP_SCOPE_V_2024_1));
 
@@ -127,6 +134,10 @@ public class DspCatalogApiExtension implements ServiceExtension {
         return new ContinuationTokenManagerImpl(continuationTokenSerDes, namespace, monitor);
     }
 
+    private ResponseBodyProvider<Catalog> catalogBodyProvider(String scope) {
+        return streamingEnabled ? new StreamingCatalogResponseBodyProvider(jsonLd, scope, monitor) : null;
+    }
+
     private void registerValidators(JsonLdNamespace namespace) {
         validatorRegistry.register(namespace.toIri(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE_TERM), CatalogRequestMessageValidator.instance(criterionOperatorRegistry, namespace));
     }
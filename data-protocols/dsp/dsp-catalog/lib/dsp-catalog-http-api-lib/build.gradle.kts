@@ -22,6 +22,7 @@ dependencies {
     api(project(":data-protocols:dsp:dsp-http-spi"))
     api(project(":spi:common:json-ld-spi"))
 
+    testImplementation(project(":core:common:lib:json-ld-lib"))
     testImplementation(project(":core:common:lib:transform-lib"))
     testImplementation(project(":data-protocols:dsp:dsp-catalog:dsp-catalog-transform"))
     testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
@@ -35,6 +35,8 @@ import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseBodyProvider;
+import org.jetbrains.annotations.Nullable;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.CATALOG_REQUEST;
@@ -49,14 +51,21 @@ public abstract class BaseDspCatalogApiController {
     private final ContinuationTokenManager continuationTokenManager;
     private final String protocol;
     private final JsonLdNamespace namespace;
+    private final ResponseBodyProvider<Catalog> catalogBodyProvider;
 
 
     public BaseDspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager, String protocol, JsonLdNamespace namespace) {
+        this(service, dspRequestHandler, continuationTokenManager, protocol, namespace, null);
+    }
+
+    public BaseDspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager, String protocol, JsonLdNamespace namespace,
+                                       @Nullable ResponseBodyProvider<Catalog> catalogBodyProvider) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
         this.continuationTokenManager = continuationTokenManager;
         this.protocol = protocol;
         this.namespace = namespace;
+        this.catalogBodyProvider = catalogBodyProvider;
     }
 
     @POST
@@ -71,14 +80,19 @@ public abstract class BaseDspCatalogApiController {
                     .orElseThrow(f -> new BadRequestException(f.getFailureDetail()));
         }
 
-        var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class, CatalogError.class)
+        var requestBuilder = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class, CatalogError.class)
                 .token(token)
                 .expectedMessageType(namespace.toIri(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE_TERM))
                 .message(messageJson)
                 .serviceCall(service::getCatalog)
                 .errorProvider(CatalogError.Builder::newInstance)
-                .protocol(protocol)
-                .build();
+                .protocol(protocol);
+
+        if (catalogBodyProvider != null) {
+            requestBuilder.responseBodyProvider(catalogBodyProvider);
+        }
+
+        var request = requestBuilder.build();
 
         var responseDecorator = continuationTokenManager.createResponseDecorator(uriInfo.getAbsolutePath().toString());
         return dspRequestHandler.createResource(request, responseDecorator);
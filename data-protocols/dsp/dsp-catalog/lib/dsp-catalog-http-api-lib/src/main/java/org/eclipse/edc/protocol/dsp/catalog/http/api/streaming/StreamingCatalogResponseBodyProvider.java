@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.streaming;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseBodyProvider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Writes the catalog to the response one dataset at a time, instead of building the whole expanded and compacted
+ * JSON-LD trees in memory.
+ * The catalog without its datasets is transformed and compacted upfront, with a placeholder in place of the datasets
+ * to find out the compacted property name. Every dataset is then transformed and compacted on its own while writing
+ * the response, using the same JSON-LD scope, and written without its {@code @context}, which is the same as the one
+ * of the catalog.
+ * <p>
+ * As the response status is sent before the datasets are transformed, a dataset that cannot be transformed causes the
+ * response to be truncated instead of an error response.
+ */
+public class StreamingCatalogResponseBodyProvider implements ResponseBodyProvider<Catalog> {
+
+    private static final String DATASETS_PLACEHOLDER = "urn:edc:streaming:datasets";
+
+    private final JsonLd jsonLd;
+    private final String scope;
+    private final Monitor monitor;
+
+    public StreamingCatalogResponseBodyProvider(JsonLd jsonLd, String scope, Monitor monitor) {
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<?> provide(Catalog catalog, TypeTransformerRegistry transformerRegistry) {
+        // sub catalogs are serialized in a different property, they stay in the envelope
+        var datasets = catalog.getDatasets().stream().filter(dataset -> dataset.getClass().equals(Dataset.class)).toList();
+        var subCatalogs = catalog.getDatasets().stream().filter(dataset -> !dataset.getClass().equals(Dataset.class)).toList();
+        var envelope = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .properties(catalog.getProperties())
+                .distributions(catalog.getDistributions())
+                .dataServices(catalog.getDataServices())
+                .participantId(catalog.getParticipantId())
+                .datasets(subCatalogs)
+                .build();
+
+        return transformerRegistry.transform(envelope, JsonObject.class)
+                .map(expanded -> Json.createObjectBuilder(expanded)
+                        .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder().add(Json.createObjectBuilder().add(ID, DATASETS_PLACEHOLDER)))
+                        .build())
+                .compose(expanded -> jsonLd.compact(expanded, scope))
+                .compose(compacted -> compacted.entrySet().stream()
+                        .filter(entry -> containsPlaceholder(entry.getValue()))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .map(datasetsProperty -> Result.success(streamingOutput(compacted, datasetsProperty, datasets, transformerRegistry)))
+                        .orElseGet(() -> Result.failure("Cannot find the datasets property in the compacted catalog")));
+    }
+
+    private StreamingOutput streamingOutput(JsonObject envelope, String datasetsProperty, List<Dataset> datasets, TypeTransformerRegistry transformerRegistry) {
+        return output -> write(output, envelope, datasetsProperty, datasets, transformerRegistry);
+    }
+
+    private void write(OutputStream output, JsonObject envelope, String datasetsProperty, List<Dataset> datasets, TypeTransformerRegistry transformerRegistry) {
+        var generator = Json.createGenerator(output);
+        generator.writeStartObject();
+        for (var entry : envelope.entrySet()) {
+            if (entry.getKey().equals(datasetsProperty)) {
+                generator.writeStartArray(datasetsProperty);
+                datasets.forEach(dataset -> writeDataset(generator, dataset, transformerRegistry));
+                generator.writeEnd();
+            } else {
+                generator.write(entry.getKey(), entry.getValue());
+            }
+        }
+        generator.writeEnd();
+        generator.flush();
+    }
+
+    private void writeDataset(JsonGenerator generator, Dataset dataset, TypeTransformerRegistry transformerRegistry) {
+        var compacted = transformerRegistry.transform(dataset, JsonObject.class)
+                .compose(expanded -> jsonLd.compact(expanded, scope))
+                .orElseThrow(failure -> {
+                    var errorCode = UUID.randomUUID();
+                    monitor.warning("Error transforming dataset %s, error id %s: %s".formatted(dataset.getId(), errorCode, failure.getFailureDetail()));
+                    return new EdcException("Error code %s".formatted(errorCode));
+                });
+
+        generator.write(Json.createObjectBuilder(compacted).remove(CONTEXT).build());
+    }
+
+    private boolean containsPlaceholder(JsonValue value) {
+        return switch (value.getValueType()) {
+            case ARRAY -> value.asJsonArray().stream().anyMatch(this::containsPlaceholder);
+            case OBJECT -> value.asJsonObject().values().stream()
+                    .anyMatch(it -> it instanceof JsonString string && DATASETS_PLACEHOLDER.equals(string.getString()));
+            default -> false;
+        };
+    }
+}
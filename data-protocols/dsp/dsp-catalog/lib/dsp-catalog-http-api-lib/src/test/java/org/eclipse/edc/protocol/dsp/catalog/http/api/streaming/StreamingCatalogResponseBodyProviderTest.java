@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.streaming;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_CATALOG_TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingCatalogResponseBodyProviderTest {
+
+    private static final String SCOPE = "scope";
+
+    private final JsonLd jsonLd = new TitaniumJsonLd(mock());
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final StreamingCatalogResponseBodyProvider provider = new StreamingCatalogResponseBodyProvider(jsonLd, SCOPE, mock());
+
+    @BeforeEach
+    void setUp() {
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE, SCOPE);
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenAnswer(i -> {
+            var argument = i.getArgument(0);
+            if (argument instanceof Catalog catalog) {
+                return Result.success(expand(catalog));
+            }
+            return Result.success(expand((Dataset) argument));
+        });
+    }
+
+    @Test
+    void shouldWriteSameJsonAsCompactingTheWholeCatalog() throws IOException {
+        var catalog = Catalog.Builder.newInstance()
+                .id("catalogId")
+                .datasets(List.of(dataset("dataset1"), dataset("dataset2")))
+                .build();
+
+        var result = provider.provide(catalog, transformerRegistry);
+
+        assertThat(result.succeeded()).isTrue();
+        var expected = jsonLd.compact(expand(catalog), SCOPE).getContent();
+        assertThat(write(result.getContent())).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldWriteEmptyDatasets_whenCatalogHasNoDatasets() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId").build();
+
+        var result = provider.provide(catalog, transformerRegistry);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(write(result.getContent()).getJsonArray(DCAT_PREFIX + ":dataset")).isEmpty();
+    }
+
+    @Test
+    void shouldFail_whenCatalogTransformationFails() {
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+
+        var result = provider.provide(Catalog.Builder.newInstance().build(), transformerRegistry);
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private JsonObject write(Object entity) throws IOException {
+        assertThat(entity).isInstanceOf(StreamingOutput.class);
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) entity).write(output);
+        try (var reader = Json.createReader(new ByteArrayInputStream(output.toByteArray()))) {
+            return reader.readObject();
+        }
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).property(EDC_NAMESPACE + "name", "name of " + id).build();
+    }
+
+    private JsonObject expand(Catalog catalog) {
+        var datasets = Json.createArrayBuilder();
+        catalog.getDatasets().stream().map(this::expand).forEach(datasets::add);
+        return Json.createObjectBuilder()
+                .add(ID, catalog.getId())
+                .add(TYPE, DCAT_CATALOG_TYPE)
+                .add(DCAT_DATASET_ATTRIBUTE, datasets)
+                .build();
+    }
+
+    private JsonObject expand(Dataset dataset) {
+        return Json.createObjectBuilder()
+                .add(ID, dataset.getId())
+                .add(TYPE, DCAT_DATASET_TYPE)
+                .add(EDC_NAMESPACE + "name", dataset.getProperty(EDC_NAMESPACE + "name").toString())
+                .build();
+    }
+}
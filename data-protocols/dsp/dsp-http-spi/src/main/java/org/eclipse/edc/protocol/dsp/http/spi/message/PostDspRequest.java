@@ -26,6 +26,7 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
     private JsonObject message;
     private String processId;
     private String expectedMessageType;
+    private ResponseBodyProvider<R> responseBodyProvider = (responseBody, registry) -> registry.transform(responseBody, JsonObject.class);
 
     private PostDspRequest(Class<I> messageClass, Class<R> resultClass, Class<E> errorClass) {
         super(messageClass, resultClass, errorClass);
@@ -43,6 +44,10 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
         return expectedMessageType;
     }
 
+    public ResponseBodyProvider<R> getResponseBodyProvider() {
+        return responseBodyProvider;
+    }
+
     public static class Builder<I extends RemoteMessage, R, E extends ErrorMessage> extends DspRequest.Builder<I, R, PostDspRequest<I, R, E>, E, Builder<I, R, E>> {
 
         private Builder(Class<I> inputClass, Class<R> resultClass, Class<E> errorClass) {
@@ -68,6 +73,11 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
             return this;
         }
 
+        public Builder<I, R, E> responseBodyProvider(ResponseBodyProvider<R> responseBodyProvider) {
+            super.message.responseBodyProvider = responseBodyProvider;
+            return this;
+        }
+
         @Override
         protected Builder<I, R, E> self() {
             return this;
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.spi.message;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+/**
+ * Creates the entity of a successful DSP response from the object returned by the service call.
+ */
+@FunctionalInterface
+public interface ResponseBodyProvider<R> {
+
+    /**
+     * Create the response entity.
+     *
+     * @param responseBody        the object returned by the service call.
+     * @param transformerRegistry the transformer registry of the protocol version.
+     * @return the response entity, failure if it could not be created.
+     */
+    Result<?> provide(R responseBody, TypeTransformerRegistry transformerRegistry);
+}
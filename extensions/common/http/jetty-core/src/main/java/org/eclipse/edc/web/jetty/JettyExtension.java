@@ -106,6 +106,16 @@ public class JettyExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        jettyService.closeConnectors();
+    }
+
+    @Override
+    public void afterRestore() {
+        jettyService.openConnectors();
+    }
+
     @Provider
     @Deprecated(since = "0.11.0")
     public WebServiceConfigurer webServiceContextConfigurator(ServiceExtensionContext context) {
@@ -106,6 +106,38 @@ public class JettyService implements WebServer {
         }
     }
 
+    /**
+     * Closes the listening sockets without stopping the server, e.g. before a checkpoint of the runtime is taken.
+     */
+    public void closeConnectors() {
+        if (server == null) {
+            return;
+        }
+        for (var connector : server.getConnectors()) {
+            try {
+                connector.stop();
+            } catch (Exception e) {
+                throw new EdcException("Error closing Jetty connector " + connector, e);
+            }
+        }
+    }
+
+    /**
+     * Reopens the listening sockets closed by {@link #closeConnectors()}.
+     */
+    public void openConnectors() {
+        if (server == null) {
+            return;
+        }
+        for (var connector : server.getConnectors()) {
+            try {
+                connector.start();
+            } catch (Exception e) {
+                throw new EdcException("Error opening Jetty connector " + connector, e);
+            }
+        }
+    }
+
     @Override
     public void registerServlet(String contextName, Servlet servlet) {
         var servletHolder = new ServletHolder(Source.EMBEDDED);
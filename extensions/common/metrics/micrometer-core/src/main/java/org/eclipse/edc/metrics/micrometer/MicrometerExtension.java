@@ -27,10 +27,11 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
-@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class })
+@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class, MetricsRecorder.class })
 @Extension(value = MicrometerExtension.NAME)
 public class MicrometerExtension implements ServiceExtension {
 
@@ -42,6 +43,8 @@ public class MicrometerExtension implements ServiceExtension {
     public static final String ENABLE_OKHTTP_METRICS = "edc.metrics.okhttp.enabled";
     @Setting
     public static final String ENABLE_EXECUTOR_METRICS = "edc.metrics.executor.enabled";
+    @Setting
+    public static final String ENABLE_DOMAIN_METRICS = "edc.metrics.domain.enabled";
     public static final String NAME = "Micrometer Metrics";
     private static final String OKHTTP_REQUESTS_METRIC_NAME = "okhttp.requests";
 
@@ -59,6 +62,7 @@ public class MicrometerExtension implements ServiceExtension {
         var enableSystemMetrics = context.getSetting(ENABLE_SYSTEM_METRICS, true);
         var enableOkHttpMetrics = context.getSetting(ENABLE_OKHTTP_METRICS, true);
         var enableExecutorMetrics = context.getSetting(ENABLE_EXECUTOR_METRICS, true);
+        var enableDomainMetrics = context.getSetting(ENABLE_DOMAIN_METRICS, true);
 
         if (!enableMetrics) {
             return; // metrics disabled
@@ -75,6 +79,10 @@ public class MicrometerExtension implements ServiceExtension {
         if (enableExecutorMetrics) {
             enableExecutorMetrics(context, registry);
         }
+
+        if (enableDomainMetrics) {
+            enableDomainMetrics(context, registry);
+        }
     }
 
     private void enableSystemMetrics(MeterRegistry registry) {
@@ -87,10 +95,14 @@ public class MicrometerExtension implements ServiceExtension {
 
     private void enableOkHttpMetrics(ServiceExtensionContext context, MeterRegistry registry) {
         var listener = OkHttpMetricsEventListener.builder(registry, OKHTTP_REQUESTS_METRIC_NAME).build();
-        context.registerService(EventListener.class, listener);
+        context.registerService(EventListener.class, new OkHttpConnectionMetricsEventListener(listener, registry));
     }
 
     private void enableExecutorMetrics(ServiceExtensionContext context, MeterRegistry registry) {
         context.registerService(ExecutorInstrumentation.class, new MicrometerExecutorInstrumentation(registry));
     }
+
+    private void enableDomainMetrics(ServiceExtensionContext context, MeterRegistry registry) {
+        context.registerService(MetricsRecorder.class, new MicrometerMetricsRecorder(registry));
+    }
 }
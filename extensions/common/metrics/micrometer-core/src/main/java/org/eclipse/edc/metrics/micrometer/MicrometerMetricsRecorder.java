@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.eclipse.edc.spi.system.MetricsRecorder;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@link MetricsRecorder} that maps measurements on Micrometer counters, timers and distribution summaries of the
+ * given {@link MeterRegistry}.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+    private final MeterRegistry registry;
+
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        registry.counter(name, Tags.of(tags)).increment(amount);
+    }
+
+    @Override
+    public void recordNanos(String name, long nanos, String... tags) {
+        registry.timer(name, Tags.of(tags)).record(nanos, NANOSECONDS);
+    }
+
+    @Override
+    public void recordValue(String name, double value, String... tags) {
+        registry.summary(name, Tags.of(tags)).record(value);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OkHttp {@link EventListener} that records connection pool usage, i.e. how many connections are opened and how many
+ * calls are served by an already established (pooled or multiplexed) connection, and forwards the call lifecycle
+ * events to the wrapped request metrics listener.
+ */
+public class OkHttpConnectionMetricsEventListener extends EventListener {
+
+    public static final String CONNECTIONS_CREATED = "okhttp.connections.created";
+    public static final String CONNECTIONS_FAILED = "okhttp.connections.failed";
+    public static final String CONNECTIONS_ACQUIRED = "okhttp.connections.acquired";
+
+    private final EventListener delegate;
+    private final MeterRegistry registry;
+    private final Set<Call> connectingCalls = ConcurrentHashMap.newKeySet();
+
+    public OkHttpConnectionMetricsEventListener(EventListener delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        delegate.callStart(call);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        connectingCalls.add(call);
+        registry.counter(CONNECTIONS_CREATED, Tags.of("host", host(call), "protocol", String.valueOf(protocol))).increment();
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        registry.counter(CONNECTIONS_FAILED, Tags.of("host", host(call))).increment();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        var reused = !connectingCalls.remove(call);
+        registry.counter(CONNECTIONS_ACQUIRED, Tags.of("host", host(call), "protocol", connection.protocol().toString(), "reused", String.valueOf(reused))).increment();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        delegate.requestHeadersEnd(call, request);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        delegate.responseHeadersEnd(call, response);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        connectingCalls.remove(call);
+        delegate.callEnd(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        connectingCalls.remove(call);
+        delegate.callFailed(call, ioe);
+    }
+
+    @Override
+    public void canceled(Call call) {
+        delegate.canceled(call);
+    }
+
+    private String host(Call call) {
+        return call.request().url().host();
+    }
+}
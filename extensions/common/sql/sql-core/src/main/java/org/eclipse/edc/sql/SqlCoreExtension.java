@@ -19,12 +19,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_FETCH_SIZE;
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE;
 
 @Extension(value = SqlCoreExtension.NAME)
 public class SqlCoreExtension implements ServiceExtension {
@@ -34,9 +36,15 @@ public class SqlCoreExtension implements ServiceExtension {
     @Setting(description = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE, key = "edc.sql.fetch.size")
     private int fetchSize;
 
+    @Setting(description = "Max number of prepared statements cached per database connection, 0 disables the cache", defaultValue = DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE, key = "edc.sql.statement.cache.size")
+    private int statementCacheSize;
+
     @Inject
     private TransactionContext transactionContext;
 
+    @Inject
+    private MetricsRecorder metricsRecorder;
+
     @Override
     public String name() {
         return NAME;
@@ -51,8 +59,8 @@ public class SqlCoreExtension implements ServiceExtension {
 
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
-        return new SqlQueryExecutor(configuration);
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, statementCacheSize);
+        return new SqlQueryExecutor(configuration, metricsRecorder);
     }
 
     @Provider(isDefault = true)
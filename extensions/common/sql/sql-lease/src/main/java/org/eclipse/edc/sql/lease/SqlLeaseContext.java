@@ -17,6 +17,7 @@ package org.eclipse.edc.sql.lease;
 
 
 import org.eclipse.edc.spi.persistence.LeaseContext;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +36,7 @@ import java.util.UUID;
  * Breaking a lease is implemented by deleting the respective entry
  */
 public class SqlLeaseContext implements LeaseContext {
+    public static final String LEASE_CONFLICTS_METRIC = "edc.store.lease.conflicts";
     private static final long DEFAULT_LEASE_DURATION = 60_000;
     private final TransactionContext trxContext;
     private final LeaseStatements statements;
@@ -43,8 +45,11 @@ public class SqlLeaseContext implements LeaseContext {
     private final Clock clock;
     private final Duration leaseDuration;
     private final QueryExecutor queryExecutor;
+    private final MetricsRecorder metrics;
+    private final String entityType;
 
-    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
+    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection,
+                    QueryExecutor queryExecutor, MetricsRecorder metrics, String entityType) {
         this.trxContext = trxContext;
         this.statements = statements;
         this.leaseHolder = leaseHolder;
@@ -52,6 +57,8 @@ public class SqlLeaseContext implements LeaseContext {
         this.leaseDuration = leaseDuration;
         this.connection = connection;
         this.queryExecutor = queryExecutor;
+        this.metrics = metrics;
+        this.entityType = entityType;
     }
 
     @Override
@@ -79,6 +86,7 @@ public class SqlLeaseContext implements LeaseContext {
             var lease = getLease(entityId);
 
             if (lease != null && !lease.isExpired(clock)) {
+                metrics.increment(LEASE_CONFLICTS_METRIC, 1, "entity", entityType);
                 throw new IllegalStateException("Entity is currently leased!");
             }
 
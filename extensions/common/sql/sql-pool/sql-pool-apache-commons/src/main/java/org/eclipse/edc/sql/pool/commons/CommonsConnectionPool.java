@@ -84,6 +84,13 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         connectionObjectPool.close();
     }
 
+    /**
+     * Closes all the idle connections, the pool stays usable and opens new connections on demand.
+     */
+    public void clear() {
+        connectionObjectPool.clear();
+    }
+
     public CommonsConnectionPoolConfig getPoolConfig() {
         return poolConfig;
     }
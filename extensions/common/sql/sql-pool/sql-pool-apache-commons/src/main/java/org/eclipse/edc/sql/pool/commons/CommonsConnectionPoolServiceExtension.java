@@ -106,6 +106,11 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         commonsConnectionPools.forEach(CommonsConnectionPool::close);
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        commonsConnectionPools.forEach(CommonsConnectionPool::clear);
+    }
+
     private DataSource createDataSource(Config config) {
         var rootPath = EDC_DATASOURCE_PREFIX + "." + config.currentNode();
 
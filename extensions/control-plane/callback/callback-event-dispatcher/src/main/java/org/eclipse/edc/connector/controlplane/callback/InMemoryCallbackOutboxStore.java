@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of the {@link CallbackOutboxStore}. Entries don't survive a restart, so it is meant to be
+ * used only for testing and development.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackOutboxEntry> entries = new HashMap<>();
+    private final Clock clock;
+
+    public InMemoryCallbackOutboxStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void save(CallbackOutboxEntry entry) {
+        entries.put(entry.getId(), entry);
+    }
+
+    @Override
+    public synchronized List<CallbackOutboxEntry> claimDue(int max, long claimMillis) {
+        var now = clock.millis();
+        var claimed = entries.values().stream()
+                .filter(entry -> entry.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(CallbackOutboxEntry::getCreatedAt))
+                .limit(max)
+                .map(entry -> entry.toBuilder().nextAttemptAt(now + claimMillis).build())
+                .toList();
+        claimed.forEach(entry -> entries.put(entry.getId(), entry));
+        return claimed;
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        entries.remove(id);
+    }
+}
@@ -15,17 +15,25 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.callback.CallbackProtocolResolverRegistryImpl;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +41,40 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    @Setting(
+            key = "edc.callback.outbox.enabled",
+            description = "When true, non-transactional callback events are written to the callback outbox in the transaction that generated them and delivered by a background worker, instead of being dispatched in memory",
+            defaultValue = "false"
+    )
+    private boolean outboxEnabled;
+
+    @Setting(key = "edc.callback.outbox.iteration-wait-millis", description = "Interval between two polls of the callback outbox", defaultValue = "1000")
+    private long outboxIterationWaitMillis;
+
+    @Setting(key = "edc.callback.outbox.claim-size", description = "Max number of callback outbox entries claimed at every poll", defaultValue = "100")
+    private int outboxClaimSize;
+
+    @Setting(key = "edc.callback.outbox.claim-millis", description = "How long claimed callback outbox entries are hidden from other workers", defaultValue = "60000")
+    private long outboxClaimMillis;
+
+    @Setting(key = "edc.callback.outbox.batch.uris", description = "Comma-separated callback URIs that accept a JSON array of events in a single request", required = false)
+    private String outboxBatchUris;
+
+    @Setting(key = "edc.callback.outbox.batch.max-size", description = "Max number of events sent in a single request to a batching callback URI", defaultValue = "50")
+    private int outboxMaxBatchSize;
+
+    @Setting(key = "edc.callback.outbox.max-concurrent-requests-per-uri", description = "Max number of concurrent requests towards the same callback URI", defaultValue = "4")
+    private int outboxMaxConcurrentRequestsPerUri;
+
+    @Setting(key = "edc.callback.outbox.retry.max-attempts", description = "Number of attempts after which a callback event is dropped", defaultValue = "10")
+    private int outboxMaxAttempts;
+
+    @Setting(key = "edc.callback.outbox.retry.base-delay-millis", description = "Delay before the first retry of a failed callback delivery, doubled at every attempt", defaultValue = "1000")
+    private long outboxRetryBaseDelayMillis;
+
+    @Setting(key = "edc.callback.outbox.retry.max-delay-millis", description = "Max delay between two attempts of a failed callback delivery", defaultValue = "300000")
+    private long outboxRetryMaxDelayMillis;
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +87,17 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    CallbackOutboxStore outboxStore;
+
+    @Inject
+    TypeManager typeManager;
+
+    @Inject
+    Clock clock;
+
+    private CallbackOutboxDeliveryWorker outboxWorker;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +111,50 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
 
+        if (outboxEnabled) {
+            router.registerSync(Event.class, new CallbackOutboxWriter(outboxStore, callbackRegistry, resolverRegistry, typeManager, clock, monitor));
+            outboxWorker = CallbackOutboxDeliveryWorker.Builder.newInstance()
+                    .store(outboxStore)
+                    .dispatcher(dispatcherRegistry)
+                    .monitor(monitor)
+                    .clock(clock)
+                    .iterationWaitMillis(outboxIterationWaitMillis)
+                    .claimSize(outboxClaimSize)
+                    .claimMillis(outboxClaimMillis)
+                    .batchUris(parseUris(outboxBatchUris))
+                    .maxBatchSize(outboxMaxBatchSize)
+                    .maxConcurrentRequestsPerUri(outboxMaxConcurrentRequestsPerUri)
+                    .maxAttempts(outboxMaxAttempts)
+                    .retryBaseDelayMillis(outboxRetryBaseDelayMillis)
+                    .retryMaxDelayMillis(outboxRetryMaxDelayMillis)
+                    .build();
+        } else {
+            router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (outboxWorker != null) {
+            outboxWorker.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (outboxWorker != null) {
+            outboxWorker.stop();
+        }
+    }
+
+    private Set<String> parseUris(String uris) {
+        if (uris == null || uris.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(uris.split(","))
+                .map(String::trim)
+                .filter(uri -> !uri.isEmpty())
+                .collect(Collectors.toSet());
     }
 }
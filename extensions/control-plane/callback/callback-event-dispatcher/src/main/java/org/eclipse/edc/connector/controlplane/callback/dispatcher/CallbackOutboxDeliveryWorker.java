@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically claims the due entries of the {@link CallbackOutboxStore} and delivers them.
+ * <p>
+ * Entries are grouped by target (URI, protocol and authentication): for the URIs that opted in to batching, up to
+ * {@code maxBatchSize} events are sent in a single request, for the others every event is sent on its own. The number
+ * of concurrent requests towards the same URI is bounded; entries that can't be sent because the limit is reached are
+ * put back and picked up again at the next iteration. Delivered entries are deleted, failed ones are retried with an
+ * exponential backoff until {@code maxAttempts} is reached, after that they are dropped.
+ */
+public class CallbackOutboxDeliveryWorker {
+
+    private final Map<String, Semaphore> permitsByUri = new ConcurrentHashMap<>();
+    private CallbackOutboxStore store;
+    private RemoteMessageDispatcherRegistry dispatcher;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private long iterationWaitMillis = 1000;
+    private int claimSize = 100;
+    private long claimMillis = 60_000;
+    private int maxBatchSize = 50;
+    private Set<String> batchUris = Set.of();
+    private int maxConcurrentRequestsPerUri = 4;
+    private int maxAttempts = 10;
+    private long retryBaseDelayMillis = 1000;
+    private long retryMaxDelayMillis = 300_000;
+    private ScheduledExecutorService executor;
+
+    private CallbackOutboxDeliveryWorker() {
+    }
+
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "callback-outbox"));
+        executor.scheduleWithFixedDelay(this::deliverDue, 0, iterationWaitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Claims the due entries and dispatches them. Dispatching is asynchronous: the outcome of every request is
+     * recorded in the store when it completes.
+     *
+     * @return the number of requests that have been dispatched.
+     */
+    public int deliverDue() {
+        try {
+            var entries = store.claimDue(claimSize, claimMillis);
+            var byTarget = new LinkedHashMap<Target, List<CallbackOutboxEntry>>();
+            entries.forEach(entry -> byTarget.computeIfAbsent(Target.of(entry), k -> new ArrayList<>()).add(entry));
+
+            var dispatched = 0;
+            for (var group : byTarget.entrySet()) {
+                var batched = batchUris.contains(group.getKey().uri());
+                var chunkSize = batched ? maxBatchSize : 1;
+                var groupEntries = group.getValue();
+                for (var i = 0; i < groupEntries.size(); i += chunkSize) {
+                    if (deliver(group.getKey(), groupEntries.subList(i, Math.min(i + chunkSize, groupEntries.size())), batched)) {
+                        dispatched++;
+                    }
+                }
+            }
+            return dispatched;
+        } catch (Throwable e) {
+            monitor.severe("Error delivering callback outbox entries", e);
+            return 0;
+        }
+    }
+
+    private boolean deliver(Target target, List<CallbackOutboxEntry> entries, boolean batched) {
+        var permits = permitsByUri.computeIfAbsent(target.uri(), k -> new Semaphore(maxConcurrentRequestsPerUri));
+        if (!permits.tryAcquire()) {
+            var now = clock.millis();
+            entries.forEach(entry -> store.save(entry.toBuilder().nextAttemptAt(now).build()));
+            return false;
+        }
+
+        var payloads = entries.stream().map(CallbackOutboxEntry::getPayload).toList();
+        var message = new CallbackEventBatchRemoteMessage(target.protocol(), target.uri(), target.authKey(), target.authCodeId(), payloads, batched);
+
+        CompletableFuture<StatusResult<Object>> future;
+        try {
+            future = dispatcher.dispatch(Object.class, message);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((result, throwable) -> {
+            try {
+                if (throwable == null && result.succeeded()) {
+                    entries.forEach(entry -> store.delete(entry.getId()));
+                } else {
+                    var reason = throwable != null ? throwable.getMessage() : result.getFailureDetail();
+                    entries.forEach(entry -> retry(entry, reason));
+                }
+            } catch (Throwable e) {
+                monitor.severe(format("Error recording the outcome of the callback delivery to %s", target.uri()), e);
+            } finally {
+                permits.release();
+            }
+        });
+        return true;
+    }
+
+    private void retry(CallbackOutboxEntry entry, String reason) {
+        var attempts = entry.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            monitor.severe(format("Dropping callback event %s for URI %s after %s failed attempts: %s", entry.getEventName(), entry.getUri(), attempts, reason));
+            store.delete(entry.getId());
+            return;
+        }
+
+        monitor.debug(() -> format("Failed to deliver callback event %s to URI %s (attempt %s): %s", entry.getEventName(), entry.getUri(), attempts, reason));
+        store.save(entry.toBuilder()
+                .attempts(attempts)
+                .nextAttemptAt(clock.millis() + backoffMillis(attempts))
+                .build());
+    }
+
+    private long backoffMillis(int attempts) {
+        var exponent = Math.min(attempts - 1, 30);
+        return Math.min(retryBaseDelayMillis << exponent, retryMaxDelayMillis);
+    }
+
+    private record Target(String uri, String protocol, String authKey, String authCodeId) {
+        static Target of(CallbackOutboxEntry entry) {
+            return new Target(entry.getUri(), entry.getProtocol(), entry.getAuthKey(), entry.getAuthCodeId());
+        }
+    }
+
+    public static class Builder {
+        private final CallbackOutboxDeliveryWorker worker;
+
+        private Builder() {
+            worker = new CallbackOutboxDeliveryWorker();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(CallbackOutboxStore store) {
+            worker.store = store;
+            return this;
+        }
+
+        public Builder dispatcher(RemoteMessageDispatcherRegistry dispatcher) {
+            worker.dispatcher = dispatcher;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            worker.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            worker.clock = clock;
+            return this;
+        }
+
+        public Builder iterationWaitMillis(long iterationWaitMillis) {
+            worker.iterationWaitMillis = iterationWaitMillis;
+            return this;
+        }
+
+        public Builder claimSize(int claimSize) {
+            worker.claimSize = claimSize;
+            return this;
+        }
+
+        public Builder claimMillis(long claimMillis) {
+            worker.claimMillis = claimMillis;
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            worker.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder batchUris(Set<String> batchUris) {
+            worker.batchUris = batchUris;
+            return this;
+        }
+
+        public Builder maxConcurrentRequestsPerUri(int maxConcurrentRequestsPerUri) {
+            worker.maxConcurrentRequestsPerUri = maxConcurrentRequestsPerUri;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            worker.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder retryBaseDelayMillis(long retryBaseDelayMillis) {
+            worker.retryBaseDelayMillis = retryBaseDelayMillis;
+            return this;
+        }
+
+        public Builder retryMaxDelayMillis(long retryMaxDelayMillis) {
+            worker.retryMaxDelayMillis = retryMaxDelayMillis;
+            return this;
+        }
+
+        public CallbackOutboxDeliveryWorker build() {
+            Objects.requireNonNull(worker.store, "store");
+            Objects.requireNonNull(worker.dispatcher, "dispatcher");
+            Objects.requireNonNull(worker.monitor, "monitor");
+            if (worker.claimSize <= 0 || worker.maxBatchSize <= 0 || worker.maxConcurrentRequestsPerUri <= 0 || worker.maxAttempts <= 0) {
+                throw new IllegalArgumentException("Callback outbox claim size, max batch size, max concurrent requests per URI and max attempts must be positive");
+            }
+            return worker;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Synchronous subscriber that, instead of invoking the non-transactional callbacks that match an {@link Event},
+ * stores them in the {@link CallbackOutboxStore}. Being registered as synchronous, the entries are written in the same
+ * transaction as the state change that generated the event, and they are delivered later by the
+ * {@link CallbackOutboxDeliveryWorker}.
+ */
+public class CallbackOutboxWriter implements EventSubscriber {
+    private final CallbackOutboxStore store;
+    private final CallbackRegistry callbackRegistry;
+    private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final TypeManager typeManager;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    public CallbackOutboxWriter(CallbackOutboxStore store, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolverRegistry,
+                                TypeManager typeManager, Clock clock, Monitor monitor) {
+        this.store = store;
+        this.callbackRegistry = callbackRegistry;
+        this.resolverRegistry = resolverRegistry;
+        this.typeManager = typeManager;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var eventName = eventEnvelope.getPayload().name();
+        var callbacks = Stream.concat(callbackRegistry.resolve(eventName).stream(), eventEnvelope.getPayload().getCallbackAddresses().stream())
+                .filter(callback -> !callback.isTransactional())
+                .filter(callback -> matches(eventName, callback))
+                .toList();
+
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        var payload = typeManager.writeValueAsString(eventEnvelope);
+        var now = clock.millis();
+        for (var callback : callbacks) {
+            var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
+            if (protocol == null) {
+                monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                continue;
+            }
+            store.save(CallbackOutboxEntry.Builder.newInstance()
+                    .uri(callback.getUri())
+                    .protocol(protocol)
+                    .authKey(callback.getAuthKey())
+                    .authCodeId(callback.getAuthCodeId())
+                    .eventName(eventName)
+                    .payload(payload)
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+        }
+    }
+
+    private boolean matches(String eventName, CallbackAddress callbackAddress) {
+        return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
+    }
+}
@@ -18,17 +18,25 @@ import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
@@ -41,12 +49,11 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
-
-        extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
 
     @Test
-    void initialize_shouldRegisterBothListeners(ServiceExtensionContext context) {
+    void initialize_shouldRegisterBothListeners(ServiceExtensionContext context, ObjectFactory factory) {
+        extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
 
         extension.initialize(context);
 
@@ -55,7 +62,19 @@ public class CallbackEventDispatcherExtensionTest {
 
     }
 
-    private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
-        return dispatcher -> dispatcher.isTransactional() == transactional;
+    @Test
+    void initialize_shouldRegisterOutboxWriter_whenOutboxEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.callback.outbox.enabled", "true")));
+        extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
+
+        extension.initialize(context);
+
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router).registerSync(eq(Event.class), isA(CallbackOutboxWriter.class));
+        verify(router, never()).register(eq(Event.class), any());
+    }
+
+    private ArgumentMatcher<EventSubscriber> callbackEventDispatcherMatcher(boolean transactional) {
+        return subscriber -> subscriber instanceof CallbackEventDispatcher dispatcher && dispatcher.isTransactional() == transactional;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.callback.InMemoryCallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxDeliveryWorkerTest {
+
+    private static final long NOW = 10_000;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    private final InMemoryCallbackOutboxStore store = spy(new InMemoryCallbackOutboxStore(clock));
+    private final RemoteMessageDispatcherRegistry dispatcher = mock();
+
+    @Test
+    void deliverDue_shouldSendEventsOneByOne_andDeleteThem() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success(null)));
+        store.save(entry("1", "http://callback"));
+        store.save(entry("2", "http://callback"));
+
+        var dispatched = worker().build().deliverDue();
+
+        assertThat(dispatched).isEqualTo(2);
+        var captor = ArgumentCaptor.forClass(CallbackEventBatchRemoteMessage.class);
+        verify(dispatcher, times(2)).dispatch(eq(Object.class), captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(message -> {
+            assertThat(message.isBatched()).isFalse();
+            assertThat(message.getPayloads()).hasSize(1);
+            assertThat(message.getCounterPartyAddress()).isEqualTo("http://callback");
+        });
+        verify(store).delete("1");
+        verify(store).delete("2");
+        assertThat(store.claimDue(10, 0)).isEmpty();
+    }
+
+    @Test
+    void deliverDue_shouldBatchEvents_whenUriOptedIn() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success(null)));
+        store.save(entry("1", "http://batch"));
+        store.save(entry("2", "http://batch"));
+        store.save(entry("3", "http://batch"));
+
+        var dispatched = worker().batchUris(Set.of("http://batch")).maxBatchSize(2).build().deliverDue();
+
+        assertThat(dispatched).isEqualTo(2);
+        var captor = ArgumentCaptor.forClass(CallbackEventBatchRemoteMessage.class);
+        verify(dispatcher, times(2)).dispatch(eq(Object.class), captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(message -> assertThat(message.isBatched()).isTrue());
+        assertThat(captor.getAllValues()).extracting(message -> message.getPayloads().size()).containsExactly(2, 1);
+    }
+
+    @Test
+    void deliverDue_shouldRescheduleWithBackoff_whenDispatchFails() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "error")));
+        store.save(entry("1", "http://callback").toBuilder().attempts(2).build());
+
+        worker().retryBaseDelayMillis(1000).retryMaxDelayMillis(3000).build().deliverDue();
+
+        var captor = ArgumentCaptor.forClass(CallbackOutboxEntry.class);
+        verify(store, times(2)).save(captor.capture());
+        var rescheduled = captor.getAllValues().get(1);
+        assertThat(rescheduled.getAttempts()).isEqualTo(3);
+        assertThat(rescheduled.getNextAttemptAt()).isEqualTo(NOW + 3000);
+    }
+
+    @Test
+    void deliverDue_shouldDropEntry_whenMaxAttemptsReached() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        store.save(entry("1", "http://callback").toBuilder().attempts(2).build());
+
+        worker().maxAttempts(3).build().deliverDue();
+
+        verify(store).delete("1");
+    }
+
+    @Test
+    void deliverDue_shouldLimitConcurrentRequestsPerUri() {
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(dispatcher.dispatch(any(), any())).thenReturn(pending);
+        store.save(entry("1", "http://callback"));
+        store.save(entry("2", "http://callback"));
+        var worker = worker().maxConcurrentRequestsPerUri(1).build();
+
+        assertThat(worker.deliverDue()).isEqualTo(1);
+        assertThat(worker.deliverDue()).isZero();
+
+        pending.complete(StatusResult.success(null));
+
+        assertThat(worker.deliverDue()).isEqualTo(1);
+        verify(dispatcher, times(2)).dispatch(any(), any());
+    }
+
+    private CallbackOutboxDeliveryWorker.Builder worker() {
+        return CallbackOutboxDeliveryWorker.Builder.newInstance()
+                .store(store)
+                .dispatcher(dispatcher)
+                .monitor(mock(Monitor.class))
+                .clock(clock);
+    }
+
+    private CallbackOutboxEntry entry(String id, String uri) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .uri(uri)
+                .protocol("callback-http")
+                .eventName("transfer.process.completed")
+                .payload("{\"id\":\"" + id + "\"}")
+                .createdAt(Long.parseLong(id))
+                .nextAttemptAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxWriterTest {
+
+    private final CallbackOutboxStore store = mock();
+    private final CallbackRegistry callbackRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final TypeManager typeManager = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+    private final CallbackOutboxWriter writer = new CallbackOutboxWriter(store, callbackRegistry, resolverRegistry, typeManager, clock, mock(Monitor.class));
+
+    @Test
+    void on_shouldStoreMatchingNonTransactionalCallbacks() {
+        when(resolverRegistry.resolve("http")).thenReturn("callback-http");
+        when(typeManager.writeValueAsString(any())).thenReturn("{\"serialized\":true}");
+        var staticCallback = callback("http://static", false, "transfer.process");
+        when(callbackRegistry.resolve("transfer.process.completed")).thenReturn(List.of(staticCallback));
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id")
+                .callbackAddresses(List.of(
+                        callback("http://dynamic", false, "transfer.process.completed"),
+                        callback("http://transactional", true, "transfer.process.completed"),
+                        callback("http://other", false, "contract.negotiation")))
+                .build();
+
+        writer.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(CallbackOutboxEntry.class);
+        verify(store, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(CallbackOutboxEntry::getUri).containsExactly("http://static", "http://dynamic");
+        assertThat(captor.getAllValues()).allSatisfy(entry -> {
+            assertThat(entry.getProtocol()).isEqualTo("callback-http");
+            assertThat(entry.getEventName()).isEqualTo("transfer.process.completed");
+            assertThat(entry.getPayload()).isEqualTo("{\"serialized\":true}");
+            assertThat(entry.getAttempts()).isZero();
+            assertThat(entry.getNextAttemptAt()).isEqualTo(1000);
+        });
+        verify(typeManager, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    void on_shouldNotStore_whenNoCallbackMatches() {
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id")
+                .callbackAddresses(List.of(callback("http://transactional", true, "transfer.process.completed")))
+                .build();
+
+        writer.on(envelope(event));
+
+        verifyNoInteractions(store, typeManager);
+    }
+
+    @Test
+    void on_shouldSkipCallback_whenProtocolCannotBeResolved() {
+        when(typeManager.writeValueAsString(any())).thenReturn("{}");
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id")
+                .callbackAddresses(List.of(callback("unknown://callback", false, "transfer.process.completed")))
+                .build();
+
+        writer.on(envelope(event));
+
+        verifyNoInteractions(store);
+    }
+
+    private CallbackAddress callback(String uri, boolean transactional, String event) {
+        return CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of(event))
+                .transactional(transactional)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Event> EventEnvelope<T> envelope(T event) {
+        return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+    }
+}
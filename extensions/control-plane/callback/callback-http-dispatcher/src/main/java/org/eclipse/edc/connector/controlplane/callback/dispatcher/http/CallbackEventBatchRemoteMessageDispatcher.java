@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Implementation of {@link GenericHttpDispatcherDelegate} that works for message of type
+ * {@link CallbackEventBatchRemoteMessage}: a batched message is posted as a JSON array of events, a non-batched one as
+ * the single event it contains.
+ */
+public class CallbackEventBatchRemoteMessageDispatcher implements GenericHttpDispatcherDelegate<CallbackEventBatchRemoteMessage, Void> {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final Vault vault;
+
+    public CallbackEventBatchRemoteMessageDispatcher(Vault vault) {
+        this.vault = vault;
+    }
+
+    @Override
+    public Class<CallbackEventBatchRemoteMessage> getMessageType() {
+        return CallbackEventBatchRemoteMessage.class;
+    }
+
+    @Override
+    public Request buildRequest(CallbackEventBatchRemoteMessage message) {
+        var body = message.isBatched()
+                ? "[" + String.join(",", message.getPayloads()) + "]"
+                : message.getPayloads().get(0);
+
+        var builder = new Request.Builder()
+                .url(message.getCounterPartyAddress())
+                .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)));
+
+        if (message.getAuthKey() != null) {
+            builder.addHeader(message.getAuthKey(), extractAuthCode(message.getCounterPartyAddress(), message.getAuthCodeId()));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Function<Response, Void> parseResponse() {
+        return response -> {
+            if (response.isSuccessful()) {
+                return null;
+            } else {
+                throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s", response.code(), response.request().url().url().toString()));
+            }
+        };
+    }
+
+    private String extractAuthCode(String uri, String authCodeId) {
+        if (authCodeId == null) {
+            throw new EdcException(format("Error dispatching events to %s: Auth Code Id cannot be null when the Auth Key was provided", uri));
+        }
+        return Optional.ofNullable(vault.resolveSecret(authCodeId))
+                .orElseThrow(() -> new EdcException(format("Error dispatching events to %s: no secret found in vault with name %s", uri, authCodeId)));
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventBatchRemoteMessage;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -69,6 +70,7 @@ public class GenericHttpRemoteDispatcherWrapperTest {
     void setup() {
         receiverEndpointServer = startClientAndServer(CALLBACK_PORT);
         dispatcher.registerDelegate(new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault));
+        dispatcher.registerDelegate(new CallbackEventBatchRemoteMessageDispatcher(vault));
     }
 
     @AfterEach
@@ -154,6 +156,35 @@ public class GenericHttpRemoteDispatcherWrapperTest {
         verify(httpClient, atMostOnce()).execute(any());
     }
 
+    @Test
+    public void send_shouldPostJsonArray_whenBatchMessage() {
+        var payloads = List.of("{\"id\":\"1\"}", "{\"id\":\"2\"}");
+        var request = request().withPath("/" + CALLBACK_PATH)
+                .withMethod(HttpMethod.POST.name())
+                .withBody("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+        receiverEndpointServer.when(request).respond(successfulResponse());
+
+        var message = new CallbackEventBatchRemoteMessage(CALLBACK_EVENT_HTTP, callbackUrl(), null, null, payloads, true);
+        var future = dispatcher.dispatch(Object.class, message);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        receiverEndpointServer.verify(request);
+    }
+
+    @Test
+    public void send_shouldPostSingleEvent_whenMessageIsNotBatched() {
+        var request = request().withPath("/" + CALLBACK_PATH)
+                .withMethod(HttpMethod.POST.name())
+                .withBody("{\"id\":\"1\"}");
+        receiverEndpointServer.when(request).respond(successfulResponse());
+
+        var message = new CallbackEventBatchRemoteMessage(CALLBACK_EVENT_HTTP, callbackUrl(), null, null, List.of("{\"id\":\"1\"}"), false);
+        var future = dispatcher.dispatch(Object.class, message);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        receiverEndpointServer.verify(request);
+    }
+
     private HttpResponse successfulResponse() {
         return response()
                 .withStatusCode(HttpStatusCode.OK_200.code())
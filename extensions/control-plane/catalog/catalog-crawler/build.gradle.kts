@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:common:core-spi"))
+    api(project(":spi:common:json-ld-spi"))
+    api(project(":spi:control-plane:catalog-crawler-spi"))
+    api(project(":spi:control-plane:control-plane-spi"))
+
+    implementation(project(":core:common:lib:store-lib"))
+
+    testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:common:lib:query-lib"))
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CatalogDelta;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTarget;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTargetDirectory;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledDataset;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Crawls the catalogs of the participants provided by the {@link CrawlTargetDirectory} and stores their datasets
+ * in the {@link CrawledCatalogIndex}.
+ * Participants are crawled concurrently on the passed executor, so its size bounds the number of participants
+ * crawled at the same time. The catalog of a single participant is requested page by page, every page is written to
+ * the index as soon as it arrives. Datasets that are not offered anymore are removed only when the whole catalog
+ * has been crawled successfully, a failing participant keeps its last known datasets. The datasets of participants
+ * that are not provided by the directory anymore are removed at the beginning of every run.
+ */
+public class CatalogCrawler {
+
+    private final CatalogService catalogService;
+    private final CrawlTargetDirectory directory;
+    private final CrawledCatalogIndex index;
+    private final JsonLd jsonLd;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final int pageSize;
+    private final Duration requestTimeout;
+
+    public CatalogCrawler(CatalogService catalogService, CrawlTargetDirectory directory, CrawledCatalogIndex index,
+                          JsonLd jsonLd, ExecutorService executor, Clock clock, Monitor monitor, int pageSize,
+                          Duration requestTimeout) {
+        this.catalogService = catalogService;
+        this.directory = directory;
+        this.index = index;
+        this.jsonLd = jsonLd;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.pageSize = pageSize;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Crawls all the participants and waits for completion.
+     *
+     * @return the changes applied to the index.
+     */
+    public CatalogDelta run() {
+        var targets = directory.getAll();
+        var departed = index.retainParticipants(targets.stream().map(CrawlTarget::participantId).collect(Collectors.toSet()));
+
+        var crawls = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> crawl(target), executor)
+                        .exceptionally(throwable -> {
+                            monitor.warning("Crawling catalog of %s failed".formatted(target.participantId()), throwable);
+                            return CatalogDelta.NONE;
+                        }))
+                .toList();
+
+        return crawls.stream()
+                .map(CompletableFuture::join)
+                .reduce(departed, CatalogDelta::plus);
+    }
+
+    /**
+     * Crawls the whole catalog of a participant.
+     *
+     * @param target the participant.
+     * @return the changes applied to the index.
+     */
+    public CatalogDelta crawl(CrawlTarget target) {
+        var seen = new HashSet<String>();
+        var delta = CatalogDelta.NONE;
+        var offset = 0;
+        while (true) {
+            var page = requestPage(target, offset);
+            if (page.failed()) {
+                monitor.warning("Crawling catalog of %s failed at offset %d, keeping indexed datasets: %s"
+                        .formatted(target.participantId(), offset, page.getFailureDetail()));
+                return delta;
+            }
+
+            var datasets = page.getContent();
+            var newIds = datasets.stream().map(CrawledDataset::id).filter(seen::add).count();
+            delta = delta.plus(index.save(target.participantId(), datasets));
+
+            if (datasets.size() < pageSize || newIds == 0) {
+                break;
+            }
+            offset += pageSize;
+        }
+
+        var total = delta.plus(index.retain(target.participantId(), seen));
+        if (total.hasChanges()) {
+            monitor.debug(() -> "Crawled catalog of %s: %d added, %d updated, %d removed"
+                    .formatted(target.participantId(), total.added(), total.updated(), total.removed()));
+        }
+        return total;
+    }
+
+    private Result<List<CrawledDataset>> requestPage(CrawlTarget target, int offset) {
+        var querySpec = QuerySpec.Builder.newInstance().offset(offset).limit(pageSize).build();
+        try {
+            var result = catalogService.requestCatalog(target.participantId(), target.address(), target.protocol(), querySpec)
+                    .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (result.failed()) {
+                return Result.failure(result.getFailureDetail());
+            }
+            return parse(target, result.getContent());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.failure("Interrupted");
+        } catch (Exception e) {
+            return Result.failure(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private Result<List<CrawledDataset>> parse(CrawlTarget target, byte[] bytes) {
+        JsonObject catalog;
+        try (var reader = Json.createReader(new ByteArrayInputStream(bytes))) {
+            catalog = reader.readObject();
+        }
+
+        return jsonLd.expand(catalog).map(expanded -> {
+            var now = clock.millis();
+            var datasets = new ArrayList<CrawledDataset>();
+            var array = expanded.getJsonArray(DCAT_DATASET_ATTRIBUTE);
+            if (array != null) {
+                for (var value : array) {
+                    if (value.getValueType() == JsonValue.ValueType.OBJECT && value.asJsonObject().containsKey(ID)) {
+                        var dataset = value.asJsonObject();
+                        datasets.add(new CrawledDataset(dataset.getString(ID), target.participantId(), target.address(),
+                                target.protocol(), dataset, digest(dataset), now));
+                    }
+                }
+            }
+            return datasets;
+        });
+    }
+
+    private String digest(JsonObject dataset) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(dataset.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import org.eclipse.edc.connector.controlplane.catalog.crawler.defaults.InMemoryCrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTarget;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTargetDirectory;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledCatalogIndex;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+
+/**
+ * Provides default service implementations for fallback
+ * Omitted {@link org.eclipse.edc.runtime.metamodel.annotation.Extension} since this module contains the extension {@link CatalogCrawlerExtension}
+ */
+public class CatalogCrawlerDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Catalog Crawler Default Services";
+
+    public static final String DEFAULT_PROTOCOL = "dataspace-protocol-http";
+    public static final String CONFIG_PREFIX = "edc.catalog.crawler.partners";
+    public static final String CONFIG_ALIAS = CONFIG_PREFIX + ".<partnerAlias>.";
+
+    @Setting(context = CONFIG_ALIAS, value = "Participant id of the partner.", required = true)
+    public static final String ID_SUFFIX = "id";
+    @Setting(context = CONFIG_ALIAS, value = "Protocol address of the partner.", required = true)
+    public static final String ADDRESS_SUFFIX = "address";
+    @Setting(context = CONFIG_ALIAS, value = "Protocol used to request the catalog of the partner.", defaultValue = DEFAULT_PROTOCOL)
+    public static final String PROTOCOL_SUFFIX = "protocol";
+
+    @Inject
+    private CriterionOperatorRegistry criterionOperatorRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public CrawledCatalogIndex crawledCatalogIndex() {
+        return new InMemoryCrawledCatalogIndex(criterionOperatorRegistry);
+    }
+
+    @Provider(isDefault = true)
+    public CrawlTargetDirectory crawlTargetDirectory(ServiceExtensionContext context) {
+        var targets = context.getConfig(CONFIG_PREFIX).partition()
+                .map(this::toTarget)
+                .toList();
+        return () -> targets;
+    }
+
+    private CrawlTarget toTarget(Config config) {
+        return new CrawlTarget(config.getString(ID_SUFFIX), config.getString(ADDRESS_SUFFIX), config.getString(PROTOCOL_SUFFIX, DEFAULT_PROTOCOL));
+    }
+}
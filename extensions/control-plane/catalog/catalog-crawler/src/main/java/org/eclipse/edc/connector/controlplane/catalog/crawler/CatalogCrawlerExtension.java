@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTargetDirectory;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.controlplane.catalog.crawler.CatalogCrawlerExtension.NAME;
+
+/**
+ * Periodically crawls the catalogs of the partners provided by the {@link CrawlTargetDirectory} into the
+ * {@link CrawledCatalogIndex}.
+ */
+@Extension(NAME)
+public class CatalogCrawlerExtension implements ServiceExtension {
+
+    public static final String NAME = "Catalog Crawler";
+
+    private static final int DEFAULT_PERIOD_SECONDS = 300;
+    private static final int DEFAULT_INITIAL_DELAY_SECONDS = 10;
+    private static final int DEFAULT_PARALLELISM = 10;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 30_000;
+
+    @Setting(description = "the time in seconds between the end of a crawl run and the start of the next one", defaultValue = DEFAULT_PERIOD_SECONDS + "", key = "edc.catalog.crawler.period-seconds")
+    private int periodSeconds;
+
+    @Setting(description = "the time in seconds before the first crawl run", defaultValue = DEFAULT_INITIAL_DELAY_SECONDS + "", key = "edc.catalog.crawler.initial-delay-seconds")
+    private int initialDelaySeconds;
+
+    @Setting(description = "the maximum number of partners crawled concurrently", defaultValue = DEFAULT_PARALLELISM + "", key = "edc.catalog.crawler.parallelism")
+    private int parallelism;
+
+    @Setting(description = "the number of datasets requested per catalog page", defaultValue = DEFAULT_PAGE_SIZE + "", key = "edc.catalog.crawler.page-size")
+    private int pageSize;
+
+    @Setting(description = "the time in milliseconds to wait for a single catalog page", defaultValue = DEFAULT_REQUEST_TIMEOUT_MILLIS + "", key = "edc.catalog.crawler.request-timeout-millis")
+    private long requestTimeoutMillis;
+
+    @Inject
+    private CatalogService catalogService;
+
+    @Inject
+    private CrawlTargetDirectory crawlTargetDirectory;
+
+    @Inject
+    private CrawledCatalogIndex crawledCatalogIndex;
+
+    @Inject
+    private JsonLd jsonLd;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private Monitor monitor;
+
+    private ExecutorService crawlExecutor;
+    private ScheduledExecutorService scheduler;
+    private CatalogCrawler crawler;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        crawlExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), "catalog-crawler");
+        crawler = new CatalogCrawler(catalogService, crawlTargetDirectory, crawledCatalogIndex, jsonLd, crawlExecutor,
+                clock, monitor, pageSize, Duration.ofMillis(requestTimeoutMillis));
+    }
+
+    @Override
+    public void start() {
+        scheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "catalog-crawler-scheduler");
+        scheduler.scheduleWithFixedDelay(this::crawl, initialDelaySeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (crawlExecutor != null) {
+            crawlExecutor.shutdownNow();
+        }
+    }
+
+    @Provider
+    public CatalogCrawler catalogCrawler() {
+        return crawler;
+    }
+
+    private void crawl() {
+        try {
+            var delta = crawler.run();
+            monitor.debug(() -> "Catalog crawl completed: %d added, %d updated, %d unchanged, %d removed"
+                    .formatted(delta.added(), delta.updated(), delta.unchanged(), delta.removed()));
+        } catch (Throwable throwable) {
+            monitor.severe("Catalog crawl failed", throwable);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.defaults;
+
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CatalogDelta;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledDataset;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In memory implementation of {@link CrawledCatalogIndex}
+ */
+public class InMemoryCrawledCatalogIndex implements CrawledCatalogIndex {
+
+    private final QueryResolver<CrawledDataset> queryResolver;
+    private final Map<String, Map<String, CrawledDataset>> datasetsByParticipant = new ConcurrentHashMap<>();
+
+    public InMemoryCrawledCatalogIndex(CriterionOperatorRegistry criterionOperatorRegistry) {
+        queryResolver = new ReflectionBasedQueryResolver<>(CrawledDataset.class, criterionOperatorRegistry);
+    }
+
+    @Override
+    public Stream<CrawledDataset> query(QuerySpec querySpec) {
+        var all = datasetsByParticipant.values().stream().flatMap(it -> it.values().stream()).toList();
+        return queryResolver.query(all.stream(), querySpec);
+    }
+
+    @Override
+    public CatalogDelta save(String participantId, Collection<CrawledDataset> datasets) {
+        var indexed = datasetsByParticipant.computeIfAbsent(participantId, k -> new ConcurrentHashMap<>());
+        int added = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (var dataset : datasets) {
+            var existing = indexed.get(dataset.id());
+            if (existing == null) {
+                added++;
+            } else if (existing.digest().equals(dataset.digest())) {
+                unchanged++;
+                continue;
+            } else {
+                updated++;
+            }
+            indexed.put(dataset.id(), dataset);
+        }
+        return new CatalogDelta(added, updated, unchanged, 0);
+    }
+
+    @Override
+    public CatalogDelta retain(String participantId, Set<String> datasetIds) {
+        var indexed = datasetsByParticipant.get(participantId);
+        if (indexed == null) {
+            return CatalogDelta.NONE;
+        }
+        var removed = indexed.keySet().stream().filter(id -> !datasetIds.contains(id)).toList();
+        removed.forEach(indexed::remove);
+        return new CatalogDelta(0, 0, 0, removed.size());
+    }
+
+    @Override
+    public CatalogDelta retainParticipants(Set<String> participantIds) {
+        var removed = 0;
+        for (var participantId : datasetsByParticipant.keySet()) {
+            if (!participantIds.contains(participantId)) {
+                var datasets = datasetsByParticipant.remove(participantId);
+                removed += datasets == null ? 0 : datasets.size();
+            }
+        }
+        return new CatalogDelta(0, 0, 0, removed);
+    }
+}
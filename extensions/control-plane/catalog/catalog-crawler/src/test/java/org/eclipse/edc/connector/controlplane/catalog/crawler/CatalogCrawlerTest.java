@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.defaults.InMemoryCrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CatalogDelta;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTarget;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawlTargetDirectory;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledCatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledDataset;
+import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogCrawlerTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final CatalogService catalogService = mock();
+    private final CrawlTargetDirectory directory = mock();
+    private final JsonLd jsonLd = mock();
+    private final CrawledCatalogIndex index = new InMemoryCrawledCatalogIndex(CriterionOperatorRegistryImpl.ofDefaults());
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private CatalogCrawler crawler;
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLd.expand(any())).thenAnswer(i -> Result.success(i.getArgument(0)));
+        crawler = new CatalogCrawler(catalogService, directory, index, jsonLd, executor, Clock.systemUTC(), mock(Monitor.class),
+                PAGE_SIZE, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void run_shouldCrawlAllPagesOfAllTargets() {
+        when(directory.getAll()).thenReturn(List.of(target("provider1"), target("provider2")));
+        when(catalogService.requestCatalog(eq("provider1"), any(), any(), argThat(offset(0)))).thenReturn(page("1", "2"));
+        when(catalogService.requestCatalog(eq("provider1"), any(), any(), argThat(offset(2)))).thenReturn(page("3"));
+        when(catalogService.requestCatalog(eq("provider2"), any(), any(), argThat(offset(0)))).thenReturn(page("4"));
+
+        var delta = crawler.run();
+
+        assertThat(delta).isEqualTo(new CatalogDelta(4, 0, 0, 0));
+        assertThat(index.query(QuerySpec.max())).extracting(CrawledDataset::id).containsExactlyInAnyOrder("1", "2", "3", "4");
+        verify(catalogService, times(2)).requestCatalog(eq("provider1"), any(), any(), any());
+    }
+
+    @Test
+    void run_shouldRemoveDatasetsOfTargetsNotInDirectoryAnymore() {
+        when(directory.getAll()).thenReturn(List.of(target("provider1"), target("provider2")), List.of(target("provider2")));
+        when(catalogService.requestCatalog(eq("provider1"), any(), any(), any())).thenReturn(page("1"));
+        when(catalogService.requestCatalog(eq("provider2"), any(), any(), any())).thenReturn(page("2"));
+
+        crawler.run();
+        var delta = crawler.run();
+
+        assertThat(delta).isEqualTo(new CatalogDelta(0, 0, 1, 1));
+        assertThat(index.query(QuerySpec.max())).extracting(CrawledDataset::participantId).containsExactly("provider2");
+    }
+
+    @Test
+    void crawl_shouldRemoveDatasetsNotOfferedAnymore() {
+        when(catalogService.requestCatalog(any(), any(), any(), any())).thenReturn(page("1"), page("2"));
+
+        crawler.crawl(target("provider"));
+        var delta = crawler.crawl(target("provider"));
+
+        assertThat(delta).isEqualTo(new CatalogDelta(1, 0, 0, 1));
+        assertThat(index.query(QuerySpec.max())).extracting(CrawledDataset::id).containsExactly("2");
+    }
+
+    @Test
+    void crawl_shouldReportUnchangedDatasets() {
+        when(catalogService.requestCatalog(any(), any(), any(), any())).thenReturn(page("1"), page("1"));
+
+        crawler.crawl(target("provider"));
+        var delta = crawler.crawl(target("provider"));
+
+        assertThat(delta).isEqualTo(new CatalogDelta(0, 0, 1, 0));
+        assertThat(delta.hasChanges()).isFalse();
+    }
+
+    @Test
+    void crawl_shouldKeepIndexedDatasets_whenRequestFails() {
+        when(catalogService.requestCatalog(any(), any(), any(), any()))
+                .thenReturn(page("1", "2"))
+                .thenReturn(page("3"))
+                .thenReturn(page("1", "2"))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "error")));
+
+        crawler.crawl(target("provider"));
+        crawler.crawl(target("provider"));
+
+        assertThat(index.query(QuerySpec.max())).extracting(CrawledDataset::id).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    void crawl_shouldStop_whenPageContainsNoNewDatasets() {
+        when(catalogService.requestCatalog(any(), any(), any(), any())).thenReturn(page("1", "2"));
+
+        var delta = crawler.crawl(target("provider"));
+
+        assertThat(delta.added()).isEqualTo(2);
+        verify(catalogService, times(2)).requestCatalog(any(), any(), any(), any());
+    }
+
+    private CrawlTarget target(String participantId) {
+        return new CrawlTarget(participantId, "http://" + participantId, "protocol");
+    }
+
+    private ArgumentMatcher<QuerySpec> offset(int offset) {
+        return querySpec -> querySpec != null && querySpec.getOffset() == offset && querySpec.getLimit() == PAGE_SIZE;
+    }
+
+    private CompletableFuture<StatusResult<byte[]>> page(String... datasetIds) {
+        var datasets = Json.createArrayBuilder();
+        Arrays.stream(datasetIds).map(this::dataset).forEach(datasets::add);
+        var catalog = Json.createObjectBuilder().add(DCAT_DATASET_ATTRIBUTE, datasets).build();
+        return CompletableFuture.completedFuture(StatusResult.success(catalog.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private JsonObject dataset(String id) {
+        return Json.createObjectBuilder().add(ID, id).build();
+    }
+}
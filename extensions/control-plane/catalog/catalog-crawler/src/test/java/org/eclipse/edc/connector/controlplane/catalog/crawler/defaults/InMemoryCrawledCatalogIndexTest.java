@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.defaults;
+
+import jakarta.json.Json;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CatalogDelta;
+import org.eclipse.edc.connector.controlplane.catalog.crawler.spi.CrawledDataset;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCrawledCatalogIndexTest {
+
+    private final InMemoryCrawledCatalogIndex index = new InMemoryCrawledCatalogIndex(CriterionOperatorRegistryImpl.ofDefaults());
+
+    @Test
+    void save_shouldReportAddedUpdatedAndUnchanged() {
+        index.save("participant", List.of(dataset("participant", "1", "a"), dataset("participant", "2", "a")));
+
+        var delta = index.save("participant", List.of(dataset("participant", "1", "a"), dataset("participant", "2", "b"), dataset("participant", "3", "a")));
+
+        assertThat(delta).isEqualTo(new CatalogDelta(1, 1, 1, 0));
+        assertThat(index.query(QuerySpec.max())).hasSize(3)
+                .filteredOn(it -> it.id().equals("2")).first().extracting(CrawledDataset::digest).isEqualTo("b");
+    }
+
+    @Test
+    void retain_shouldRemoveDatasetsNotInIdsOfThatParticipantOnly() {
+        index.save("participant", List.of(dataset("participant", "1", "a"), dataset("participant", "2", "a")));
+        index.save("other", List.of(dataset("other", "1", "a")));
+
+        var delta = index.retain("participant", Set.of("1"));
+
+        assertThat(delta).isEqualTo(new CatalogDelta(0, 0, 0, 1));
+        assertThat(index.query(QuerySpec.max())).hasSize(2)
+                .extracting(CrawledDataset::participantId).containsExactlyInAnyOrder("participant", "other");
+    }
+
+    @Test
+    void retain_shouldDoNothing_whenParticipantUnknown() {
+        assertThat(index.retain("unknown", Set.of())).isEqualTo(CatalogDelta.NONE);
+    }
+
+    @Test
+    void retainParticipants_shouldRemoveDatasetsOfOtherParticipants() {
+        index.save("participant", List.of(dataset("participant", "1", "a")));
+        index.save("departed", List.of(dataset("departed", "1", "a"), dataset("departed", "2", "a")));
+
+        var delta = index.retainParticipants(Set.of("participant"));
+
+        assertThat(delta).isEqualTo(new CatalogDelta(0, 0, 0, 2));
+        assertThat(index.query(QuerySpec.max())).extracting(CrawledDataset::participantId).containsExactly("participant");
+    }
+
+    @Test
+    void query_shouldFilterByParticipant() {
+        index.save("participant", List.of(dataset("participant", "1", "a")));
+        index.save("other", List.of(dataset("other", "2", "a")));
+
+        var result = index.query(QuerySpec.Builder.newInstance().filter(new Criterion("participantId", "=", "other")).build());
+
+        assertThat(result).hasSize(1).first().extracting(CrawledDataset::id).isEqualTo("2");
+    }
+
+    private CrawledDataset dataset(String participantId, String id, String digest) {
+        return new CrawledDataset(id, participantId, "http://address", "protocol", Json.createObjectBuilder().build(), digest, 0);
+    }
+}
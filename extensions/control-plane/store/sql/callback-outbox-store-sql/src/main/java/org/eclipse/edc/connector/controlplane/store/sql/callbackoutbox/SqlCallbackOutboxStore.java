@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * SQL implementation of the {@link CallbackOutboxStore}. Due entries are claimed with {@code SELECT ... FOR UPDATE}
+ * (plus {@code SKIP LOCKED} where the dialect supports it), so that multiple runtimes sharing the same database never
+ * deliver the same entry concurrently.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    private final CallbackOutboxStatements statements;
+    private final Clock clock;
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(CallbackOutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getUpsertTemplate(),
+                        entry.getId(), entry.getUri(), entry.getProtocol(), entry.getAuthKey(), entry.getAuthCodeId(),
+                        entry.getEventName(), entry.getPayload(), entry.getCreatedAt(), entry.getAttempts(), entry.getNextAttemptAt());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> claimDue(int max, long claimMillis) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                List<CallbackOutboxEntry> due;
+                try (var stream = queryExecutor.query(connection, false, this::mapResultSet, statements.getClaimDueTemplate(), now, max)) {
+                    due = stream.toList();
+                }
+
+                var claimedUntil = now + claimMillis;
+                var updates = due.stream().map(entry -> new Object[]{ claimedUntil, entry.getId() }).toList();
+                queryExecutor.executeBatch(connection, statements.getUpdateNextAttemptTemplate(), updates);
+                return due.stream().map(entry -> entry.toBuilder().nextAttemptAt(claimedUntil).build()).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private CallbackOutboxEntry mapResultSet(ResultSet resultSet) throws Exception {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .uri(resultSet.getString(statements.getUriColumn()))
+                .protocol(resultSet.getString(statements.getProtocolColumn()))
+                .authKey(resultSet.getString(statements.getAuthKeyColumn()))
+                .authCodeId(resultSet.getString(statements.getAuthCodeIdColumn()))
+                .eventName(resultSet.getString(statements.getEventNameColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements CallbackOutboxStatements {
+
+    /**
+     * Standard SQL {@code MERGE}; dialects with a native upsert should override this.
+     */
+    @Override
+    public String getUpsertTemplate() {
+        var columns = columns();
+        var placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        var sourceColumns = columns.stream().map(column -> "s." + column).collect(Collectors.joining(", "));
+        return format("MERGE INTO %s t USING (VALUES (%s)) AS s (%s) ON t.%s = s.%s " +
+                        "WHEN MATCHED THEN UPDATE SET %s = s.%s, %s = s.%s " +
+                        "WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)",
+                getCallbackOutboxTable(), placeholders, String.join(", ", columns), getIdColumn(), getIdColumn(),
+                getAttemptsColumn(), getAttemptsColumn(), getNextAttemptAtColumn(), getNextAttemptAtColumn(),
+                String.join(", ", columns), sourceColumns);
+    }
+
+    /**
+     * Locks the due rows with a plain {@code FOR UPDATE}; dialects that can skip rows locked by other claimers should
+     * override this.
+     */
+    @Override
+    public String getClaimDueTemplate() {
+        return format("SELECT * FROM %s WHERE %s <= ? ORDER BY %s LIMIT ? FOR UPDATE",
+                getCallbackOutboxTable(), getNextAttemptAtColumn(), getCreatedAtColumn());
+    }
+
+    @Override
+    public String getUpdateNextAttemptTemplate() {
+        return executeStatement()
+                .column(getNextAttemptAtColumn())
+                .update(getCallbackOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getCallbackOutboxTable(), getIdColumn());
+    }
+
+    /**
+     * All columns of the outbox table, in the order in which the upsert binds its parameters.
+     */
+    protected List<String> columns() {
+        return List.of(getIdColumn(), getUriColumn(), getProtocolColumn(), getAuthKeyColumn(), getAuthCodeIdColumn(),
+                getEventNameColumn(), getPayloadColumn(), getCreatedAtColumn(), getAttemptsColumn(), getNextAttemptAtColumn());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines all statements that are needed for the {@link org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry} store
+ */
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    default String getCallbackOutboxTable() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getUriColumn() {
+        return "uri";
+    }
+
+    default String getProtocolColumn() {
+        return "protocol";
+    }
+
+    default String getAuthKeyColumn() {
+        return "auth_key";
+    }
+
+    default String getAuthCodeIdColumn() {
+        return "auth_code_id";
+    }
+
+    default String getEventNameColumn() {
+        return "event_name";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    String getUpsertTemplate();
+
+    String getClaimDueTemplate();
+
+    String getUpdateNextAttemptTemplate();
+
+    String getDeleteByIdTemplate();
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema.postgres;
+
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+import java.util.Collections;
+
+import static java.lang.String.format;
+
+/**
+ * Contains Postgres-specific SQL statements
+ */
+public class PostgresDialectStatements extends BaseSqlDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+
+    @Override
+    public String getUpsertTemplate() {
+        var columns = columns();
+        return format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s",
+                getCallbackOutboxTable(), String.join(", ", columns), String.join(", ", Collections.nCopies(columns.size(), "?")),
+                getIdColumn(), getAttemptsColumn(), getAttemptsColumn(), getNextAttemptAtColumn(), getNextAttemptAtColumn());
+    }
+
+    /**
+     * Skips rows already locked by another claimer, so concurrent runtimes claim disjoint entries instead of blocking.
+     */
+    @Override
+    public String getClaimDueTemplate() {
+        return super.getClaimDueTemplate() + " SKIP LOCKED";
+    }
+}
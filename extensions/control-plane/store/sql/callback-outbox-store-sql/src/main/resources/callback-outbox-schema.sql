@@ -0,0 +1,30 @@
+--
+--  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id              VARCHAR NOT NULL PRIMARY KEY,
+    uri             VARCHAR NOT NULL,
+    protocol        VARCHAR NOT NULL,
+    auth_key        VARCHAR,
+    auth_code_id    VARCHAR,
+    event_name      VARCHAR NOT NULL,
+    payload         TEXT    NOT NULL,
+    created_at      BIGINT  NOT NULL,
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at BIGINT  NOT NULL -- epoch millis before which the entry must not be delivered
+);
+
+CREATE INDEX IF NOT EXISTS callback_outbox_next_attempt_at_index ON edc_callback_outbox (next_attempt_at, created_at);
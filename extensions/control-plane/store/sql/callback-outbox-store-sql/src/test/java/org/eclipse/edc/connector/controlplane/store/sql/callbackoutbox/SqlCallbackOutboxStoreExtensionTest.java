@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class SqlCallbackOutboxStoreExtensionTest {
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(TypeManager.class, new JacksonTypeManager());
+    }
+
+    @Test
+    void shouldInitializeTheStore(SqlCallbackOutboxStoreExtension extension, ServiceExtensionContext context) {
+        extension.initialize(context);
+
+        assertThat(context.getService(CallbackOutboxStore.class)).isInstanceOf(SqlCallbackOutboxStore.class);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback.CallbackOutboxStoreTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlCallbackOutboxStoreTest extends CallbackOutboxStoreTestBase {
+
+    private final BaseSqlDialectStatements statements = new PostgresDialectStatements();
+
+    private SqlCallbackOutboxStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        store = new SqlCallbackOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new ObjectMapper(), statements, queryExecutor, clock);
+        var schema = TestUtils.getResourceFileContentAsString("callback-outbox-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCallbackOutboxTable() + " CASCADE");
+    }
+
+    @Override
+    protected CallbackOutboxStore getStore() {
+        return store;
+    }
+}
@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
@@ -61,10 +62,18 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String leaseHolderName, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor, MetricsRecorder.noop());
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String leaseHolderName, Clock clock,
+                                       QueryExecutor queryExecutor, MetricsRecorder metrics) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .metrics(metrics, ContractNegotiation.class.getSimpleName());
     }
 
     @Override
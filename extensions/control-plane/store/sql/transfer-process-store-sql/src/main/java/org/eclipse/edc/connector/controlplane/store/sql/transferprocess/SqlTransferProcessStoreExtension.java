@@ -22,6 +22,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -55,6 +56,9 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private MetricsRecorder metricsRecorder;
+
     @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
@@ -62,7 +66,7 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
 
         var store = new SqlTransferProcessStore(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getRuntimeId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getRuntimeId(), clock, queryExecutor, metricsRecorder);
         context.registerService(TransferProcessStore.class, store);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "transfer-process-schema.sql");
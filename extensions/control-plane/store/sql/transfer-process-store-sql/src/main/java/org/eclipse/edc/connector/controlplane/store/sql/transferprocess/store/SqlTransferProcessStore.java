@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
@@ -63,11 +64,19 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor, MetricsRecorder.noop());
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, MetricsRecorder metrics) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .metrics(metrics, TransferProcess.class.getSimpleName());
     }
 
     @Override
@@ -32,10 +32,15 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.web.spi.configuration.context.ControlApiUrl;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
@@ -176,6 +181,24 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 });
     }
 
+    @Override
+    public Map<String, StatusResult<Void>> suspendAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.stream().filter(it -> it.getDataPlaneId() == null)
+                .forEach(process -> results.put(process.getId(), suspend(process)));
+        results.putAll(applyPerDataPlane(transferProcesses, "suspending", DataPlaneClient::suspendAll));
+        return results;
+    }
+
+    @Override
+    public Map<String, StatusResult<Void>> terminateAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.stream().filter(it -> it.getDataPlaneId() == null)
+                .forEach(process -> results.put(process.getId(), StatusResult.success()));
+        results.putAll(applyPerDataPlane(transferProcesses, "terminating", DataPlaneClient::terminateAll));
+        return results;
+    }
+
     @Override
     public Set<String> transferTypesFor(Asset asset) {
         var result = selectorClient.getAll();
@@ -198,6 +221,30 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .build();
     }
 
+    /**
+     * Groups the transfer processes that have a data plane assigned by data plane and applies the bulk operation once
+     * per data plane.
+     */
+    private Map<String, StatusResult<Void>> applyPerDataPlane(List<TransferProcess> transferProcesses, String action,
+                                                              BiFunction<DataPlaneClient, List<String>, Map<String, StatusResult<Void>>> operation) {
+        var idsByDataPlane = new LinkedHashMap<String, List<String>>();
+        transferProcesses.stream()
+                .filter(it -> it.getDataPlaneId() != null)
+                .forEach(it -> idsByDataPlane.computeIfAbsent(it.getDataPlaneId(), k -> new ArrayList<>()).add(it.getId()));
+
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        idsByDataPlane.forEach((dataPlaneId, ids) -> {
+            var client = getClientForDataplane(dataPlaneId);
+            if (client.succeeded()) {
+                results.putAll(operation.apply(client.getContent(), ids));
+            } else {
+                ids.forEach(id -> results.put(id, StatusResult.failure(FATAL_ERROR, "Failed to select the data plane for %s the transfer process %s. %s"
+                        .formatted(action, id, client.getFailureDetail()))));
+            }
+        });
+        return results;
+    }
+
     private StatusResult<DataPlaneClient> getClientForDataplane(String id) {
         return selectorClient.findById(id)
                 .map(clientFactory::createClient)
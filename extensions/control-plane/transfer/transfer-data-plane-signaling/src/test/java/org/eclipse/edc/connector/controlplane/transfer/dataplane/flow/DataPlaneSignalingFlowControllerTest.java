@@ -353,6 +353,35 @@ public class DataPlaneSignalingFlowControllerTest {
             assertThat(result).isSucceeded();
             verifyNoInteractions(dataPlaneClient, dataPlaneClientFactory, selectorService);
         }
+
+        @Test
+        void terminateAll_shouldCallTerminateAllOncePerDataPlane() {
+            var dataPlaneInstance = dataPlaneInstanceBuilder().id("dataPlaneId").build();
+            var first = transferProcessBuilder().id("first").contentDataAddress(testDataAddress()).dataPlaneId("dataPlaneId").build();
+            var second = transferProcessBuilder().id("second").contentDataAddress(testDataAddress()).dataPlaneId("dataPlaneId").build();
+            var notStarted = transferProcessBuilder().id("notStarted").contentDataAddress(testDataAddress()).dataPlaneId(null).build();
+            when(dataPlaneClient.terminateAll(any())).thenReturn(Map.of("first", StatusResult.success(), "second", StatusResult.success()));
+            when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+            when(selectorService.findById(any())).thenReturn(ServiceResult.success(dataPlaneInstance));
+
+            var results = flowController.terminateAll(List.of(first, second, notStarted));
+
+            assertThat(results).containsOnlyKeys("first", "second", "notStarted");
+            assertThat(results.values()).allSatisfy(result -> assertThat(result).isSucceeded());
+            verify(dataPlaneClient).terminateAll(List.of("first", "second"));
+            verify(selectorService).findById("dataPlaneId");
+        }
+
+        @Test
+        void terminateAll_shouldFail_whenDataPlaneNotFound() {
+            var transferProcess = transferProcessBuilder().id("transferProcessId").contentDataAddress(testDataAddress()).dataPlaneId("invalid").build();
+            when(selectorService.findById(any())).thenReturn(ServiceResult.notFound("not found"));
+
+            var results = flowController.terminateAll(List.of(transferProcess));
+
+            assertThat(results.get("transferProcessId")).isFailed().detail().contains("Failed to select the data plane for terminating the transfer process");
+            verifyNoInteractions(dataPlaneClient);
+        }
     }
 
     @Nested
@@ -10,6 +10,7 @@ dependencies {
 
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":core:common:lib:sql-lib"))
+    implementation(project(":core:common:lib:util-lib"))
     implementation(project(":extensions:common:sql:sql-lease"))
     implementation(project(":extensions:common:sql:sql-bootstrapper"))
 
@@ -17,6 +17,9 @@ package org.eclipse.edc.connector.dataplane.selector.store.sql.schema;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates;
 import org.eclipse.edc.sql.lease.StatefulEntityMapping;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.List;
 
 /**
  * Maps fields of a {@link org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance} onto the
@@ -31,8 +34,25 @@ public class DataPlaneInstanceMapping extends StatefulEntityMapping {
         add("stateCount", data);
         add("stateTimestamp", data);
         add("createdAt", data);
+        add("updatedAt", new EpochMillisFieldTranslator(statements.getDataColumn()));
         add("traceContext", new JsonFieldTranslator(statements.getTraceContextColumn()));
         add("errorDetail", data);
     }
 
+    /**
+     * Translates a timestamp stored in the JSON column, so that it can be compared with epoch millis. The standard SQL
+     * cast is used rather than a dialect specific one.
+     */
+    private static class EpochMillisFieldTranslator extends JsonFieldTranslator {
+
+        EpochMillisFieldTranslator(String columnName) {
+            super(columnName);
+        }
+
+        @Override
+        public String getLeftOperand(List<PathItem> path, Class<?> type) {
+            return "CAST(%s AS BIGINT)".formatted(super.getLeftOperand(path, Object.class));
+        }
+    }
+
 }
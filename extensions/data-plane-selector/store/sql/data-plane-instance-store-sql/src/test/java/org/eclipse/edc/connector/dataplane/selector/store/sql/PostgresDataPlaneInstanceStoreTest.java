@@ -22,17 +22,22 @@ import org.eclipse.edc.connector.dataplane.selector.store.sql.schema.postgres.Po
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstanceStates.AVAILABLE;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -61,6 +66,17 @@ public class PostgresDataPlaneInstanceStoreTest extends DataPlaneInstanceStoreTe
         extension.runQuery("DROP TABLE " + statements.getDataPlaneInstanceTable() + " CASCADE");
     }
 
+    @Test
+    void nextNotLeased_shouldCompareUpdatedAtAsEpochMillis() {
+        store.save(createInstance("stale", 9_000L));
+        store.save(createInstance("fresh", 10_000L));
+        store.save(createInstance("recent", 100_000L));
+
+        var leased = store.nextNotLeased(10, hasState(AVAILABLE.code()), new Criterion("updatedAt", "<", 10_000L));
+
+        assertThat(leased).extracting(DataPlaneInstance::getId).containsExactly("stale");
+    }
+
     @Override
     protected DataPlaneInstanceStore getStore() {
         return store;
@@ -76,4 +92,9 @@ public class PostgresDataPlaneInstanceStoreTest extends DataPlaneInstanceStoreTe
         return leaseUtil.isLeased(entityId, owner);
     }
 
+    private DataPlaneInstance createInstance(String id, long updatedAt) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://" + id).state(AVAILABLE.code())
+                .createdAt(updatedAt).updatedAt(updatedAt).build();
+    }
+
 }
@@ -22,6 +22,8 @@ import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.concurrency.KeyedConcurrencyLimiter;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -44,6 +46,12 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting(description = "Number of partitions for parallel message push in the HttpDataSink", defaultValue = DEFAULT_PARTITION_SIZE + "", key = "edc.dataplane.http.sink.partition.size")
     private int partitionSize;
 
+    @Setting(description = "Maximum number of partitions of a single flow that the HttpDataSink pushes concurrently", defaultValue = ParallelSink.DEFAULT_MAX_IN_FLIGHT_PARTITIONS + "", key = "edc.dataplane.http.sink.max-in-flight-partitions")
+    private int maxInFlightPartitions;
+
+    @Setting(description = "Maximum number of concurrent requests the HttpDataSink sends to a single destination host. 0 means unlimited", defaultValue = "0", key = "edc.dataplane.http.sink.max-concurrent-requests-per-host")
+    private int maxConcurrentRequestsPerHost;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -76,7 +84,9 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, monitor, paramsProvider, httpRequestFactory);
+        var hostLimiter = new KeyedConcurrencyLimiter(maxConcurrentRequestsPerHost);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, maxInFlightPartitions,
+                hostLimiter, monitor, paramsProvider, httpRequestFactory);
         pipelineService.registerFactory(sinkFactory);
     }
 
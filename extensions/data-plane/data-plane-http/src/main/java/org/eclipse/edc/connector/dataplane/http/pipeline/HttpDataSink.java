@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.concurrency.KeyedConcurrencyLimiter;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 
@@ -36,20 +37,27 @@ public class HttpDataSink extends ParallelSink {
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private KeyedConcurrencyLimiter hostLimiter = KeyedConcurrencyLimiter.unlimited();
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
             var request = requestFactory.toRequest(params, part);
-            try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
+            var result = hostLimiter.execute(request.url().host(), () -> {
+                try (var response = httpClient.execute(request)) {
+                    if (!response.isSuccessful()) {
+                        monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                                response.code(), response.message(), part.name(), request.url().url(), request));
+                        return ERROR_WRITING_DATA;
+                    }
+                    return StreamResult.success();
+                } catch (Exception e) {
+                    monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                     return ERROR_WRITING_DATA;
                 }
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
-                return ERROR_WRITING_DATA;
+            });
+            if (result.failed()) {
+                return result;
             }
         }
         return StreamResult.success();
@@ -83,9 +91,15 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        public Builder hostLimiter(KeyedConcurrencyLimiter hostLimiter) {
+            sink.hostLimiter = hostLimiter;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
+            Objects.requireNonNull(sink.hostLimiter, "hostLimiter");
         }
     }
 }
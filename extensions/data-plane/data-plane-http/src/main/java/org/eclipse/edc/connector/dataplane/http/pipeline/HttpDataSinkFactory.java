@@ -19,6 +19,8 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.connector.dataplane.util.concurrency.KeyedConcurrencyLimiter;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -40,15 +42,30 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final int maxInFlightPartitions;
+    private final KeyedConcurrencyLimiter hostLimiter;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+        this(httpClient, executorService, partitionSize, ParallelSink.DEFAULT_MAX_IN_FLIGHT_PARTITIONS, KeyedConcurrencyLimiter.unlimited(),
+                monitor, requestParamsProvider, requestFactory);
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               int maxInFlightPartitions,
+                               KeyedConcurrencyLimiter hostLimiter,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
+        this.maxInFlightPartitions = maxInFlightPartitions;
+        this.hostLimiter = hostLimiter;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
@@ -75,6 +92,8 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .params(requestParamsProvider.provideSinkParams(request))
                 .requestId(request.getId())
                 .partitionSize(partitionSize)
+                .maxInFlightPartitions(maxInFlightPartitions)
+                .hostLimiter(hostLimiter)
                 .httpClient(httpClient)
                 .executorService(executorService)
                 .monitor(monitor)
@@ -19,6 +19,8 @@ import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.concurrency.TransferExecutors;
+import org.eclipse.edc.connector.dataplane.util.pipeline.BufferPool;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -35,6 +37,8 @@ import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
 import java.util.concurrent.Executors;
 
+import static org.eclipse.edc.connector.dataplane.util.concurrency.TransferExecutors.VIRTUAL_THREADS_SETTING;
+
 /**
  * This extension provides generic endpoints which are open to public participants of the Dataspace to execute
  * requests on the actual data source.
@@ -77,6 +81,8 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     private PublicEndpointGeneratorService generatorService;
     @Inject
     private Hostname hostname;
+    @Inject
+    private BufferPool bufferPool;
 
     @Override
     public String name() {
@@ -90,8 +96,10 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
 
         var portMapping = new PortMapping(ApiContext.PUBLIC, apiConfiguration.port(), apiConfiguration.path());
         portMappingRegistry.register(portMapping);
+        // proxy transfers follow the transfer executor setting of the data plane framework
+        var virtualThreads = context.getSetting(VIRTUAL_THREADS_SETTING, false);
         var executorService = executorInstrumentation.instrument(
-                Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
+                virtualThreads ? TransferExecutors.newVirtualThreadPerTaskExecutor().orElseGet(() -> Executors.newFixedThreadPool(DEFAULT_THREAD_POOL)) : Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
                 "Data plane proxy transfers"
         );
 
@@ -106,7 +114,7 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
             generatorService.addGeneratorFunction("HttpData", () -> Endpoint.url(publicApiResponseUrl));
         }
 
-        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService);
+        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService, bufferPool);
         webService.registerResource(ApiContext.PUBLIC, publicApiController);
     }
 
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.registration;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.provision.ResourceDefinitionGeneratorManager;
@@ -92,6 +93,7 @@ public class DataplaneSelfRegistrationExtension implements ServiceExtension {
                 .allowedSourceTypes(pipelineService.supportedSourceTypes())
                 .allowedTransferType(transferTypes.collect(toSet()))
                 .destinationProvisionTypes(resourceDefinitionGeneratorManager.destinationTypes())
+                .property(SignalingWireFormat.SIGNALING_WIRE_FORMATS, SignalingWireFormat.advertise(SignalingWireFormat.JSON_LD, SignalingWireFormat.JSON))
                 .build();
 
         var monitor = context.getMonitor().withPrefix("DataPlaneHealthCheck");
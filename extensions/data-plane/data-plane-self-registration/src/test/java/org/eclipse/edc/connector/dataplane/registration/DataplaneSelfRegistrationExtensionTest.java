@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.registration;
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.provision.ResourceDefinitionGeneratorManager;
@@ -105,6 +106,8 @@ class DataplaneSelfRegistrationExtensionTest {
                         "sinkType-PUSH-responseType",
                         "sinkType-PUSH");
         assertThat(dataPlaneInstance.getDestinationProvisionTypes()).containsOnly("supportedDestinationProvisionType");
+        assertThat(SignalingWireFormat.parse(dataPlaneInstance.getProperties().get(SignalingWireFormat.SIGNALING_WIRE_FORMATS)))
+                .containsExactly(SignalingWireFormat.JSON_LD, SignalingWireFormat.JSON);
 
         verify(healthCheckService).addStartupStatusProvider(any());
         verify(healthCheckService).addLivenessProvider(any());
@@ -20,9 +20,11 @@ import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlow
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowSuspendMessageTransformer;
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowTerminateMessageTransformer;
 import org.eclipse.edc.connector.dataplane.api.controller.v1.DataPlaneSignalingApiController;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoadReporter;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -42,6 +44,10 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
 
     public static final String NAME = "DataPlane Signaling API extension";
 
+    @Setting(description = "Maximum number of signals accepted in a single batch call", defaultValue = DataPlaneSignalingApiController.DEFAULT_MAX_BATCH_SIZE + "",
+            key = "edc.dataplane.signaling.batch.max.size", min = 1)
+    private int maxBatchSize;
+
     @Inject
     private WebService webService;
     @Inject
@@ -50,6 +56,8 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
     private DataPlaneManager dataPlaneManager;
     @Inject
     private TypeManager typeManager;
+    @Inject(required = false)
+    private DataPlaneLoadReporter loadReporter;
 
     @Override
     public String name() {
@@ -69,7 +77,7 @@ public class DataPlaneSignalingApiExtension implements ServiceExtension {
         signalingApiTypeTransformerRegistry.register(new JsonObjectFromDataAddressDspaceTransformer(factory, typeManager, JSON_LD));
 
         var controller = new DataPlaneSignalingApiController(signalingApiTypeTransformerRegistry,
-                dataPlaneManager, context.getMonitor().withPrefix("SignalingAPI"));
+                dataPlaneManager, context.getMonitor().withPrefix("SignalingAPI"), maxBatchSize, loadReporter);
 
         webService.registerResource(ApiContext.CONTROL, controller);
     }
@@ -24,8 +24,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.dataplane.api.model.DataFlowState;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchMessage;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchResult;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
 
@@ -52,6 +57,17 @@ public interface DataPlaneSignalingApi {
     )
     JsonObject start(JsonObject dataFlowStartMessage);
 
+    @Operation(description = "Initiates a data transfer like the JSON-LD start operation, with the start message and the response " +
+            "exchanged in the plain JSON wire format (" + SignalingWireFormat.JSON_MEDIA_TYPE + "), which skips JSON-LD processing.",
+            requestBody = @RequestBody(content = @Content(mediaType = SignalingWireFormat.JSON_MEDIA_TYPE, schema = @Schema(implementation = DataFlowStartMessage.class))),
+            responses = {
+                    @ApiResponse(responseCode = "400", description = "Failed to validate request"),
+                    @ApiResponse(responseCode = "200", description = "Data transfer initiated",
+                            content = @Content(mediaType = SignalingWireFormat.JSON_MEDIA_TYPE, schema = @Schema(implementation = DataFlowResponseMessage.class))),
+            }
+    )
+    DataFlowResponseMessage startJson(DataFlowStartMessage startMessage);
+
     @Operation(description = "Get the current state of a data transfer.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "State of the data transfer",
@@ -71,6 +87,17 @@ public interface DataPlaneSignalingApi {
     )
     void terminate(String transferProcessId, JsonObject terminationMessage);
 
+    @Operation(description = "Terminates a data transfer, with the termination message in the plain JSON wire format (" +
+            SignalingWireFormat.JSON_MEDIA_TYPE + "). The message is optional, it only carries the termination reason.",
+            requestBody = @RequestBody(content = @Content(mediaType = SignalingWireFormat.JSON_MEDIA_TYPE, schema = @Schema(implementation = DataFlowTerminateMessage.class))),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Data transfer terminated"),
+                    @ApiResponse(responseCode = "404", description = "Data transfer not handled by the data plane"),
+                    @ApiResponse(responseCode = "409", description = "Cannot terminate the transfer"),
+            }
+    )
+    void terminateJson(String transferProcessId, DataFlowTerminateMessage terminationMessage);
+
     @Operation(description = "Suspend a data transfer.",
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowSuspendMessageSchema.class))),
             responses = {
@@ -81,12 +108,37 @@ public interface DataPlaneSignalingApi {
     )
     void suspend(String transferProcessId, JsonObject suspendMessage);
 
-    @Operation(description = "Check if data plane is available.",
+    @Operation(description = "Suspend a data transfer, with the suspend message in the plain JSON wire format (" +
+            SignalingWireFormat.JSON_MEDIA_TYPE + "). The message is optional.",
+            requestBody = @RequestBody(content = @Content(mediaType = SignalingWireFormat.JSON_MEDIA_TYPE, schema = @Schema(implementation = DataFlowSuspendMessage.class))),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Data transfer suspended"),
+                    @ApiResponse(responseCode = "404", description = "Data transfer not handled by the data plane"),
+                    @ApiResponse(responseCode = "409", description = "Cannot suspend the transfer"),
+            }
+    )
+    void suspendJson(String transferProcessId, DataFlowSuspendMessage suspendMessage);
+
+    @Operation(description = "Applies a batch of start, suspend and terminate signals in a single call. Every signal is applied " +
+            "independently and gets its own result, a failing signal does not prevent the others from being applied. " +
+            "The batch is exchanged in the plain JSON wire format (" + SignalingWireFormat.JSON_MEDIA_TYPE + "), not in JSON-LD.",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowBatchMessage.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Batch applied, the body contains the outcome of every signal",
+                            content = @Content(schema = @Schema(implementation = DataFlowBatchResult.class))),
+                    @ApiResponse(responseCode = "400", description = "The batch is missing or contains more signals than allowed"),
+            }
+    )
+    DataFlowBatchResult batch(DataFlowBatchMessage batch);
+
+    @Operation(description = "Check if data plane is available and report its current load.",
             responses = {
-                    @ApiResponse(responseCode = "204", description = "Data plane is available"),
+                    @ApiResponse(responseCode = "200", description = "Data plane is available, the body contains its current load",
+                            content = @Content(schema = @Schema(implementation = DataPlaneLoad.class))),
+                    @ApiResponse(responseCode = "204", description = "Data plane is available, it does not report its load"),
             }
     )
-    void checkAvailability();
+    DataPlaneLoad checkAvailability();
 
     @Schema(name = "DataFlowStartMessage", example = DataFlowStartMessageSchema.DATA_FLOW_START_EXAMPLE)
     record DataFlowStartMessageSchema(
@@ -23,14 +23,23 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchMessage;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchResult;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoadReporter;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
@@ -40,14 +49,29 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 @Path("/v1/dataflows")
 public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
     private final TypeTransformerRegistry typeTransformerRegistry;
     private final DataPlaneManager dataPlaneManager;
     private final Monitor monitor;
+    private final int maxBatchSize;
+    private final DataPlaneLoadReporter loadReporter;
 
     public DataPlaneSignalingApiController(TypeTransformerRegistry typeTransformerRegistry, DataPlaneManager dataPlaneManager, Monitor monitor) {
+        this(typeTransformerRegistry, dataPlaneManager, monitor, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public DataPlaneSignalingApiController(TypeTransformerRegistry typeTransformerRegistry, DataPlaneManager dataPlaneManager, Monitor monitor, int maxBatchSize) {
+        this(typeTransformerRegistry, dataPlaneManager, monitor, maxBatchSize, null);
+    }
+
+    public DataPlaneSignalingApiController(TypeTransformerRegistry typeTransformerRegistry, DataPlaneManager dataPlaneManager, Monitor monitor, int maxBatchSize,
+                                           @Nullable DataPlaneLoadReporter loadReporter) {
         this.typeTransformerRegistry = typeTransformerRegistry;
         this.dataPlaneManager = dataPlaneManager;
         this.monitor = monitor;
+        this.maxBatchSize = maxBatchSize;
+        this.loadReporter = loadReporter;
     }
 
     @POST
@@ -57,19 +81,23 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
                 .onFailure(f -> monitor.warning("Error transforming %s: %s".formatted(DataFlowStartMessage.class, f.getFailureDetail())))
                 .orElseThrow(InvalidRequestException::new);
 
-        dataPlaneManager.validate(startMsg)
-                .onFailure(f -> monitor.warning("Failed to validate request: %s".formatted(f.getFailureDetail())))
-                .orElseThrow(f -> f.getMessages().isEmpty() ?
-                        new InvalidRequestException("Failed to validate request: %s".formatted(startMsg.getId())) :
-                        new InvalidRequestException(f.getMessages()));
-
-        var response = dataPlaneManager.start(startMsg)
-                .orElseThrow(f -> new InvalidRequestException(f.getFailureDetail()));
+        var response = startDataFlow(startMsg);
 
         return typeTransformerRegistry.transform(response, JsonObject.class)
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    @POST
+    @Override
+    @Consumes(SignalingWireFormat.JSON_MEDIA_TYPE)
+    @Produces(SignalingWireFormat.JSON_MEDIA_TYPE)
+    public DataFlowResponseMessage startJson(DataFlowStartMessage startMsg) {
+        if (startMsg == null) {
+            throw new InvalidRequestException("Missing %s".formatted(DataFlowStartMessage.class.getSimpleName()));
+        }
+        return startDataFlow(startMsg);
+    }
+
     @GET
     @Path("/{id}/state")
     @Override
@@ -95,6 +123,15 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
         dataPlaneManager.terminate(dataFlowId, msg.getReason()).orElseThrow(InvalidRequestException::new);
     }
 
+    @POST
+    @Path("/{id}/terminate")
+    @Override
+    @Consumes(SignalingWireFormat.JSON_MEDIA_TYPE)
+    public void terminateJson(@PathParam("id") String dataFlowId, DataFlowTerminateMessage terminationMessage) {
+        var reason = terminationMessage == null ? null : terminationMessage.getReason();
+        dataPlaneManager.terminate(dataFlowId, reason).orElseThrow(InvalidRequestException::new);
+    }
+
     @POST
     @Path("/{id}/suspend")
     @Override
@@ -106,10 +143,69 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
         dataPlaneManager.suspend(id).orElseThrow(InvalidRequestException::new);
     }
 
+    @POST
+    @Path("/{id}/suspend")
+    @Override
+    @Consumes(SignalingWireFormat.JSON_MEDIA_TYPE)
+    public void suspendJson(@PathParam("id") String id, DataFlowSuspendMessage suspendMessage) {
+        dataPlaneManager.suspend(id).orElseThrow(InvalidRequestException::new);
+    }
+
+    /**
+     * Applies a batch of start, suspend and terminate signals. Every signal is applied independently and gets its own
+     * result, a failing signal does not prevent the others from being applied.
+     *
+     * @param batch the batch, with at most {@code maxBatchSize} signals.
+     * @return the per-signal results.
+     */
+    @POST
+    @Override
+    @Path("/batch")
+    @Consumes(SignalingWireFormat.JSON_MEDIA_TYPE)
+    @Produces(SignalingWireFormat.JSON_MEDIA_TYPE)
+    public DataFlowBatchResult batch(DataFlowBatchMessage batch) {
+        if (batch == null) {
+            throw new InvalidRequestException("Missing %s".formatted(DataFlowBatchMessage.class.getSimpleName()));
+        }
+        if (batch.signalCount() > maxBatchSize) {
+            throw new InvalidRequestException("Batch contains %d signals, the maximum is %d".formatted(batch.signalCount(), maxBatchSize));
+        }
+
+        var items = new ArrayList<DataFlowBatchResult.Item>(batch.signalCount());
+        batch.start().forEach(startMsg -> items.add(startItem(startMsg)));
+        batch.suspend().forEach(id -> items.add(dataPlaneManager.suspend(id)
+                .map(it -> DataFlowBatchResult.Item.success(id, DataFlowBatchResult.Operation.SUSPEND, null))
+                .orElse(f -> DataFlowBatchResult.Item.failure(id, DataFlowBatchResult.Operation.SUSPEND, f.getFailureDetail()))));
+        batch.terminate().forEach(id -> items.add(dataPlaneManager.terminate(id, null)
+                .map(it -> DataFlowBatchResult.Item.success(id, DataFlowBatchResult.Operation.TERMINATE, null))
+                .orElse(f -> DataFlowBatchResult.Item.failure(id, DataFlowBatchResult.Operation.TERMINATE, f.getFailureDetail()))));
+
+        return new DataFlowBatchResult(items);
+    }
+
     @Override
     @Path("/check")
     @GET
-    public void checkAvailability() {
+    public DataPlaneLoad checkAvailability() {
+        return loadReporter == null ? null : loadReporter.currentLoad();
+    }
+
+    private DataFlowBatchResult.Item startItem(DataFlowStartMessage startMsg) {
+        try {
+            return DataFlowBatchResult.Item.success(startMsg.getProcessId(), DataFlowBatchResult.Operation.START, startDataFlow(startMsg));
+        } catch (InvalidRequestException e) {
+            return DataFlowBatchResult.Item.failure(startMsg.getProcessId(), DataFlowBatchResult.Operation.START, e.getMessage());
+        }
+    }
+
+    private DataFlowResponseMessage startDataFlow(DataFlowStartMessage startMsg) {
+        dataPlaneManager.validate(startMsg)
+                .onFailure(f -> monitor.warning("Failed to validate request: %s".formatted(f.getFailureDetail())))
+                .orElseThrow(f -> f.getMessages().isEmpty() ?
+                        new InvalidRequestException("Failed to validate request: %s".formatted(startMsg.getId())) :
+                        new InvalidRequestException(f.getMessages()));
 
+        return dataPlaneManager.start(startMsg)
+                .orElseThrow(f -> new InvalidRequestException(f.getFailureDetail()));
     }
 }
@@ -14,12 +14,18 @@
 
 package org.eclipse.edc.connector.dataplane.api.controller.v1;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchMessage;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchResult;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoadReporter;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.response.ResponseStatus;
@@ -39,6 +45,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,9 +54,11 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -58,6 +68,7 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
 
     private final TypeTransformerRegistry transformerRegistry = mock();
     private final DataPlaneManager dataplaneManager = mock();
+    private final DataPlaneLoadReporter loadReporter = mock();
 
     @DisplayName("Expect HTTP 200 and the correct EDR when a data flow is started")
     @Test
@@ -262,6 +273,101 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
 
     }
 
+    @Nested
+    class JsonWireFormat {
+
+        @Test
+        void start_shouldNotUseTransformers() throws JsonProcessingException {
+            var flowStartMessage = createFlowStartMessage();
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("test-edr").build()).build();
+            when(dataplaneManager.validate(any())).thenReturn(success(true));
+            when(dataplaneManager.start(any())).thenReturn(success(flowResponse));
+
+            var body = baseRequest()
+                    .contentType(SignalingWireFormat.JSON_MEDIA_TYPE)
+                    .body(objectMapper.writeValueAsString(flowStartMessage))
+                    .post("/v1/dataflows")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().asString();
+
+            var response = objectMapper.readValue(body, DataFlowResponseMessage.class);
+            assertThat(response.getDataAddress().getType()).isEqualTo("test-edr");
+            verify(dataplaneManager).start(argThat(message -> message.getProcessId().equals(flowStartMessage.getProcessId()) &&
+                    message.getSourceDataAddress().getType().equals("sourceType")));
+            verify(transformerRegistry, never()).transform(any(), any());
+        }
+
+        @Test
+        void terminate_shouldPassReason() throws JsonProcessingException {
+            var flowId = "test-id";
+            when(dataplaneManager.terminate(eq(flowId), any())).thenReturn(StatusResult.success());
+
+            baseRequest()
+                    .contentType(SignalingWireFormat.JSON_MEDIA_TYPE)
+                    .body(objectMapper.writeValueAsString(DataFlowTerminateMessage.Builder.newInstance().reason("test-reason").build()))
+                    .post("/v1/dataflows/%s/terminate".formatted(flowId))
+                    .then()
+                    .statusCode(204);
+
+            verify(dataplaneManager).terminate(flowId, "test-reason");
+        }
+
+        @Test
+        void suspend() throws JsonProcessingException {
+            var flowId = "test-id";
+            when(dataplaneManager.suspend(eq(flowId))).thenReturn(StatusResult.success());
+
+            baseRequest()
+                    .contentType(SignalingWireFormat.JSON_MEDIA_TYPE)
+                    .body(objectMapper.writeValueAsString(DataFlowSuspendMessage.Builder.newInstance().build()))
+                    .post("/v1/dataflows/%s/suspend".formatted(flowId))
+                    .then()
+                    .statusCode(204);
+
+            verify(dataplaneManager).suspend(flowId);
+        }
+
+        @Test
+        void batch_shouldReturnResultPerSignal() throws JsonProcessingException {
+            when(dataplaneManager.suspend("to-suspend")).thenReturn(StatusResult.success());
+            when(dataplaneManager.terminate("to-terminate", null)).thenReturn(StatusResult.success());
+            when(dataplaneManager.terminate("unknown", null)).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR, "not found"));
+            var batch = new DataFlowBatchMessage(null, List.of("to-suspend"), List.of("to-terminate", "unknown"));
+
+            var body = baseRequest()
+                    .contentType(SignalingWireFormat.JSON_MEDIA_TYPE)
+                    .body(objectMapper.writeValueAsString(batch))
+                    .post("/v1/dataflows/batch")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().asString();
+
+            var result = objectMapper.readValue(body, DataFlowBatchResult.class);
+            assertThat(result.items()).hasSize(3).anySatisfy(item -> {
+                assertThat(item.processId()).isEqualTo("unknown");
+                assertThat(item.succeeded()).isFalse();
+                assertThat(item.failureDetail()).contains("not found");
+            });
+            assertThat(result.items()).filteredOn(DataFlowBatchResult.Item::succeeded)
+                    .extracting(DataFlowBatchResult.Item::processId).containsExactly("to-suspend", "to-terminate");
+        }
+
+        @Test
+        void batch_shouldReturnBadRequest_whenBatchIsTooLarge() throws JsonProcessingException {
+            var ids = IntStream.rangeClosed(0, DataPlaneSignalingApiController.DEFAULT_MAX_BATCH_SIZE).mapToObj(String::valueOf).toList();
+
+            baseRequest()
+                    .contentType(SignalingWireFormat.JSON_MEDIA_TYPE)
+                    .body(objectMapper.writeValueAsString(new DataFlowBatchMessage(null, null, ids)))
+                    .post("/v1/dataflows/batch")
+                    .then()
+                    .statusCode(400);
+
+            verifyNoMoreInteractions(dataplaneManager);
+        }
+    }
+
     @Nested
     class CheckAvailability {
         @Test
@@ -271,11 +377,26 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
                     .then()
                     .statusCode(204);
         }
+
+        @Test
+        void shouldReturnLoad_whenReported() throws JsonProcessingException {
+            var load = new DataPlaneLoad(2, 2048, 0.5);
+            when(loadReporter.currentLoad()).thenReturn(load);
+
+            var body = baseRequest()
+                    .get("/v1/dataflows/check")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().asString();
+
+            assertThat(objectMapper.readValue(body, DataPlaneLoad.class)).isEqualTo(load);
+        }
     }
 
     @Override
     protected Object controller() {
-        return new DataPlaneSignalingApiController(transformerRegistry, dataplaneManager, mock());
+        return new DataPlaneSignalingApiController(transformerRegistry, dataplaneManager, mock(),
+                DataPlaneSignalingApiController.DEFAULT_MAX_BATCH_SIZE, loadReporter);
     }
 
     private DataFlowStartMessage createFlowStartMessage() {
@@ -22,6 +22,10 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchMessage;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchResult;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
@@ -38,17 +42,27 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * Implementation of a {@link DataPlaneClient} that uses a remote {@link DataPlaneManager} accessible from a REST API using
- * the data plane signaling protocol.
+ * the data plane signaling protocol. Messages are sent in the given {@link SignalingWireFormat}: with
+ * {@link SignalingWireFormat#JSON} they are serialized as they are, without JSON-LD transformation and compaction, and
+ * the bulk operations are sent to the batch endpoint in chunks of at most {@code batchSize} signals.
  */
 public class DataPlaneSignalingClient implements DataPlaneClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    public static final int DEFAULT_BATCH_SIZE = 100;
     private final ControlApiHttpClient httpClient;
     private final String typeContext;
     private final DataPlaneInstance dataPlane;
@@ -57,9 +71,25 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
 
     private final String jsonLdScope;
     private final TypeManager typeManager;
+    private final SignalingWireFormat wireFormat;
+    private final int batchSize;
 
     public DataPlaneSignalingClient(ControlApiHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope,
                                     TypeManager typeManager, String typeContext, DataPlaneInstance dataPlane) {
+        this(httpClient, transformerRegistry, jsonLd, jsonLdScope, typeManager, typeContext, dataPlane, SignalingWireFormat.JSON_LD);
+    }
+
+    public DataPlaneSignalingClient(ControlApiHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope,
+                                    TypeManager typeManager, String typeContext, DataPlaneInstance dataPlane, SignalingWireFormat wireFormat) {
+        this(httpClient, transformerRegistry, jsonLd, jsonLdScope, typeManager, typeContext, dataPlane, wireFormat, DEFAULT_BATCH_SIZE);
+    }
+
+    public DataPlaneSignalingClient(ControlApiHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope,
+                                    TypeManager typeManager, String typeContext, DataPlaneInstance dataPlane, SignalingWireFormat wireFormat,
+                                    int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
         this.httpClient = httpClient;
         this.transformerRegistry = transformerRegistry;
         this.jsonLd = jsonLd;
@@ -67,6 +97,8 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         this.typeManager = typeManager;
         this.typeContext = typeContext;
         this.dataPlane = dataPlane;
+        this.wireFormat = wireFormat;
+        this.batchSize = batchSize;
     }
 
     private static <T> @NotNull StatusResult<T> failedResult(String processId, ServiceFailure failure) {
@@ -109,18 +141,133 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
     }
 
     @Override
-    public StatusResult<Void> checkAvailability() {
+    public Map<String, StatusResult<DataFlowResponseMessage>> startAll(Collection<DataFlowStartMessage> requests) {
+        if (wireFormat != SignalingWireFormat.JSON) {
+            return DataPlaneClient.super.startAll(requests);
+        }
+        return sendInBatches(List.copyOf(requests), DataFlowStartMessage::getProcessId, DataFlowBatchResult.Operation.START,
+                chunk -> new DataFlowBatchMessage(chunk, null, null), DataFlowBatchResult.Item::response);
+    }
+
+    @Override
+    public Map<String, StatusResult<Void>> suspendAll(Collection<String> transferProcessIds) {
+        if (wireFormat != SignalingWireFormat.JSON) {
+            return DataPlaneClient.super.suspendAll(transferProcessIds);
+        }
+        return sendInBatches(List.copyOf(transferProcessIds), Function.identity(), DataFlowBatchResult.Operation.SUSPEND,
+                chunk -> new DataFlowBatchMessage(null, chunk, null), item -> null);
+    }
+
+    @Override
+    public Map<String, StatusResult<Void>> terminateAll(Collection<String> transferProcessIds) {
+        if (wireFormat != SignalingWireFormat.JSON) {
+            return DataPlaneClient.super.terminateAll(transferProcessIds);
+        }
+        return sendInBatches(List.copyOf(transferProcessIds), Function.identity(), DataFlowBatchResult.Operation.TERMINATE,
+                chunk -> new DataFlowBatchMessage(null, null, chunk), item -> null);
+    }
+
+    @Override
+    public StatusResult<DataPlaneLoad> checkAvailability() {
+        return checkAvailability(httpClient);
+    }
+
+    @Override
+    public StatusResult<DataPlaneLoad> checkAvailability(Duration timeout) {
+        return checkAvailability(httpClient.withCallTimeout(timeout));
+    }
+
+    private StatusResult<DataPlaneLoad> checkAvailability(ControlApiHttpClient client) {
         var requestBuilder = new Request.Builder().get().url(dataPlane.getUrl() + "/check");
-        return httpClient.request(requestBuilder)
-                .flatMap(result -> result.map(it -> StatusResult.success())
+        return client.request(requestBuilder)
+                .flatMap(result -> result.map(this::deserializeLoad)
                         .orElse(failure -> failedResult(null, failure)));
     }
 
+    private <S, R> Map<String, StatusResult<R>> sendInBatches(List<S> signals, Function<S, String> processId, DataFlowBatchResult.Operation operation,
+                                                           Function<List<S>, DataFlowBatchMessage> toMessage, Function<DataFlowBatchResult.Item, R> content) {
+        var results = new LinkedHashMap<String, StatusResult<R>>();
+        for (var from = 0; from < signals.size(); from += batchSize) {
+            var chunk = signals.subList(from, Math.min(from + batchSize, signals.size()));
+            var items = sendBatch(toMessage.apply(chunk), operation);
+
+            for (var signal : chunk) {
+                var id = processId.apply(signal);
+                results.put(id, toStatusResult(id, items, content));
+            }
+        }
+        return results;
+    }
+
+    private <R> StatusResult<R> toStatusResult(String id, Result<Map<String, DataFlowBatchResult.Item>> items, Function<DataFlowBatchResult.Item, R> content) {
+        if (items.failed()) {
+            return StatusResult.failure(FATAL_ERROR, format("Transfer request for process %s failed: %s", id, items.getFailureDetail()));
+        }
+
+        var item = items.getContent().get(id);
+        if (item == null) {
+            return StatusResult.failure(FATAL_ERROR, format("Transfer request for process %s failed: missing in batch response", id));
+        }
+        if (!item.succeeded()) {
+            return StatusResult.failure(FATAL_ERROR, format("Transfer request for process %s failed: %s", id, item.failureDetail()));
+        }
+        return StatusResult.success(content.apply(item));
+    }
+
+    private Result<Map<String, DataFlowBatchResult.Item>> sendBatch(DataFlowBatchMessage message, DataFlowBatchResult.Operation operation) {
+        var url = dataPlane.getUrl() + "/batch";
+        return serializeMessage(message)
+                .map(raw -> new Request.Builder().post(RequestBody.create(raw, MediaType.get(SignalingWireFormat.JSON_MEDIA_TYPE))).url(url))
+                .compose(builder -> {
+                    var response = httpClient.request(builder);
+                    return response.succeeded() ? Result.success(response.getContent()) : Result.<String>failure(response.getFailureDetail());
+                })
+                .compose(this::deserializeBatchResult)
+                .map(result -> {
+                    var items = new HashMap<String, DataFlowBatchResult.Item>();
+                    result.items().stream()
+                            .filter(item -> item.operation() == operation)
+                            .forEach(item -> items.put(item.processId(), item));
+                    return items;
+                });
+    }
+
+    private Result<DataFlowBatchResult> deserializeBatchResult(String body) {
+        if (body == null) {
+            return Result.failure("Body missing");
+        }
+        try {
+            return Result.success(typeManager.getMapper(typeContext).readValue(body, DataFlowBatchResult.class));
+        } catch (IOException e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    /**
+     * Data planes that do not report their load answer with an empty body. The load is informative only, so an
+     * unreadable report doesn't make the data plane unavailable.
+     */
+    private StatusResult<DataPlaneLoad> deserializeLoad(String body) {
+        DataPlaneLoad load = null;
+        if (body != null && !body.isBlank()) {
+            try {
+                load = typeManager.getMapper(typeContext).readValue(body, DataPlaneLoad.class);
+            } catch (IOException ignored) {
+                // the load is reported as unknown
+            }
+        }
+        return StatusResult.success(load);
+    }
+
     private StatusResult<Request.Builder> createRequestBuilder(Object message, String url) {
-        return transformerRegistry.transform(message, JsonObject.class)
-                .compose(this::compact)
-                .compose(this::serializeMessage)
-                .map(rawBody -> RequestBody.create(rawBody, TYPE_JSON))
+        var rawBody = wireFormat == SignalingWireFormat.JSON ?
+                serializeMessage(message) :
+                transformerRegistry.transform(message, JsonObject.class)
+                        .compose(this::compact)
+                        .compose(this::serializeMessage);
+
+        return rawBody
+                .map(raw -> RequestBody.create(raw, MediaType.get(wireFormat.mediaType())))
                 .map(body -> new Request.Builder().post(body).url(url))
                 .flatMap(it -> {
                     if (it.succeeded()) {
@@ -138,6 +285,14 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
     }
 
     private StatusResult<DataFlowResponseMessage> deserializeStartMessage(String responseBody) {
+        if (wireFormat == SignalingWireFormat.JSON) {
+            try {
+                return StatusResult.success(typeManager.getMapper(typeContext).readValue(responseBody, DataFlowResponseMessage.class));
+            } catch (IOException e) {
+                return StatusResult.failure(FATAL_ERROR, e.getMessage());
+            }
+        }
+
         try {
             var jsonObject = typeManager.getMapper(typeContext).readValue(responseBody, JsonObject.class);
             var result = jsonLd.expand(jsonObject)
@@ -16,12 +16,15 @@ package org.eclipse.edc.connector.dataplane.client;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClientFactory;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -44,6 +47,15 @@ import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 public class DataPlaneSignalingClientExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Signaling Client";
     public static final String CONTROL_CLIENT_SCOPE = "CONTROL_CLIENT_SCOPE";
+    public static final boolean DEFAULT_JSON_WIRE_FORMAT_ENABLED = true;
+
+    @Setting(description = "If true, the plain JSON signaling wire format is used with the data planes that advertise it, otherwise JSON-LD is always used",
+            defaultValue = DEFAULT_JSON_WIRE_FORMAT_ENABLED + "", key = "edc.dataplane.client.signaling.json.enabled")
+    private boolean jsonWireFormatEnabled;
+
+    @Setting(description = "Maximum number of signals sent to a data plane in a single batch call, only used with the plain JSON signaling wire format",
+            defaultValue = DataPlaneSignalingClient.DEFAULT_BATCH_SIZE + "", key = "edc.dataplane.client.signaling.batch.size", min = 1)
+    private int batchSize;
 
     @Inject(required = false)
     private ControlApiHttpClient httpClient;
@@ -78,7 +90,14 @@ public class DataPlaneSignalingClientExtension implements ServiceExtension {
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, a ControlApiHttpClient instance must be registered");
         var signalingApiTypeTransformerRegistry = transformerRegistry.forContext("signaling-api");
         return instance -> new DataPlaneSignalingClient(httpClient, signalingApiTypeTransformerRegistry, jsonLd, CONTROL_CLIENT_SCOPE, typeManager, JSON_LD,
-                instance);
+                instance, wireFormat(instance), batchSize);
+    }
+
+    private SignalingWireFormat wireFormat(DataPlaneInstance instance) {
+        if (jsonWireFormatEnabled && SignalingWireFormat.parse(instance.getProperties().get(SignalingWireFormat.SIGNALING_WIRE_FORMATS)).contains(SignalingWireFormat.JSON)) {
+            return SignalingWireFormat.JSON;
+        }
+        return SignalingWireFormat.JSON_LD;
     }
 }
 
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.client;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
@@ -71,7 +72,7 @@ public class EmbeddedDataPlaneClient implements DataPlaneClient {
     }
 
     @Override
-    public StatusResult<Void> checkAvailability() {
-        return StatusResult.success();
+    public StatusResult<DataPlaneLoad> checkAvailability() {
+        return StatusResult.success(null);
     }
 }
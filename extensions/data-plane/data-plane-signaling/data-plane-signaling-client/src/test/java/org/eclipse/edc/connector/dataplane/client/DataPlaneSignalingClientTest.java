@@ -25,6 +25,9 @@ import org.eclipse.edc.connector.api.signaling.transform.from.JsonObjectFromData
 import org.eclipse.edc.connector.api.signaling.transform.to.JsonObjectToDataFlowResponseMessageTransformer;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowBatchResult;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.SignalingWireFormat;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.http.client.ControlApiHttpClientImpl;
 import org.eclipse.edc.http.spi.ControlApiHttpClient;
@@ -57,6 +60,7 @@ import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -78,6 +82,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.matchers.Times.once;
+import static org.mockserver.model.Delay.seconds;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.HttpStatusCode.CONFLICT_409;
@@ -384,6 +389,30 @@ class DataPlaneSignalingClientTest {
             var result = dataPlaneClient.checkAvailability();
 
             assertThat(result).isSucceeded();
+            assertThat(result.getContent()).isNull();
+        }
+
+        @Test
+        void shouldReturnLoad_whenDataPlaneReportsIt() throws JsonProcessingException {
+            var load = new DataPlaneLoad(3, 1024, 0.25);
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(load)));
+
+            var result = dataPlaneClient.checkAvailability();
+
+            assertThat(result).isSucceeded();
+            assertThat(result.getContent()).isEqualTo(load);
+        }
+
+        @Test
+        void shouldSucceedWithoutLoad_whenLoadIsUnreadable() {
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(200).withBody("not a load report"));
+
+            var result = dataPlaneClient.checkAvailability();
+
+            assertThat(result).isSucceeded();
+            assertThat(result.getContent()).isNull();
         }
 
         @Test
@@ -394,5 +423,91 @@ class DataPlaneSignalingClientTest {
 
             assertThat(result).isFailed();
         }
+
+        @Test
+        void shouldFail_whenCheckTakesLongerThanTimeout() {
+            dataPlane.when(request().withPath(DATA_PLANE_PATH + "/check").withMethod("GET"))
+                    .respond(response().withStatusCode(204).withDelay(seconds(10)));
+
+            var start = System.currentTimeMillis();
+            var result = dataPlaneClient.checkAvailability(Duration.ofMillis(200));
+
+            assertThat(result).isFailed();
+            assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+        }
+    }
+
+    @Nested
+    class JsonWireFormat {
+
+        private final DataPlaneClient jsonClient = new DataPlaneSignalingClient(httpClient, TRANSFORMER_REGISTRY,
+                JSON_LD, CONTROL_CLIENT_SCOPE, TYPE_MANAGER, "test", instance, SignalingWireFormat.JSON);
+
+        @Test
+        void start_shouldSendMessageWithoutJsonLdProcessing() throws JsonProcessingException {
+            var flowRequest = DataFlowStartMessage.Builder.newInstance()
+                    .processId("456")
+                    .transferType(new TransferType("DestinationType", FlowType.PULL))
+                    .sourceDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                    .build();
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("edr").build()).build();
+
+            var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH)
+                    .withHeader("Content-Type", SignalingWireFormat.JSON_MEDIA_TYPE + ".*")
+                    .withBody(MAPPER.writeValueAsString(flowRequest));
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(flowResponse)).withStatusCode(HttpStatusCode.OK_200.code()));
+
+            var result = jsonClient.start(flowRequest);
+
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+            assertThat(result).isSucceeded();
+            assertThat(result.getContent().getDataAddress().getType()).isEqualTo("edr");
+        }
+
+        @Test
+        void terminate_shouldSendMessageWithJsonMediaType() {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/processId/terminate")
+                    .withHeader("Content-Type", SignalingWireFormat.JSON_MEDIA_TYPE + ".*");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(NO_CONTENT_204.code()));
+
+            var result = jsonClient.terminate("processId");
+
+            assertThat(result).isSucceeded();
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+        }
+
+        @Test
+        void terminateAll_shouldSendSignalsInBatches() throws JsonProcessingException {
+            var batchClient = new DataPlaneSignalingClient(httpClient, TRANSFORMER_REGISTRY, JSON_LD, CONTROL_CLIENT_SCOPE,
+                    TYPE_MANAGER, "test", instance, SignalingWireFormat.JSON, 2);
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/batch")
+                    .withHeader("Content-Type", SignalingWireFormat.JSON_MEDIA_TYPE + ".*");
+            var firstBatch = new DataFlowBatchResult(List.of(
+                    DataFlowBatchResult.Item.success("1", DataFlowBatchResult.Operation.TERMINATE, null),
+                    DataFlowBatchResult.Item.failure("2", DataFlowBatchResult.Operation.TERMINATE, "cannot terminate")));
+            var secondBatch = new DataFlowBatchResult(List.of(
+                    DataFlowBatchResult.Item.success("3", DataFlowBatchResult.Operation.TERMINATE, null)));
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(firstBatch)).withStatusCode(HttpStatusCode.OK_200.code()));
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(secondBatch)).withStatusCode(HttpStatusCode.OK_200.code()));
+
+            var results = batchClient.terminateAll(List.of("1", "2", "3"));
+
+            dataPlane.verify(httpRequest, VerificationTimes.exactly(2));
+            assertThat(results).containsOnlyKeys("1", "2", "3");
+            assertThat(results.get("1")).isSucceeded();
+            assertThat(results.get("2")).isFailed().detail().contains("cannot terminate");
+            assertThat(results.get("3")).isSucceeded();
+        }
+
+        @Test
+        void terminateAll_shouldFailAllSignals_whenBatchRequestFails() {
+            var httpRequest = new HttpRequest().withMethod("POST").withPath(DATA_PLANE_PATH + "/batch");
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.BAD_REQUEST_400.code()));
+
+            var results = jsonClient.terminateAll(List.of("1", "2"));
+
+            assertThat(results).containsOnlyKeys("1", "2");
+            assertThat(results.values()).allSatisfy(result -> assertThat(result).isFailed());
+        }
     }
 }
@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.spi.types.domain.transfer.TransferType;
@@ -60,11 +61,18 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                              DataFlowStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
                              String leaseHolderName) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, statements, objectMapper, clock, queryExecutor, leaseHolderName, MetricsRecorder.noop());
+    }
+
+    public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                             DataFlowStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
+                             String leaseHolderName, MetricsRecorder metrics) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
         this.leaseHolderName = leaseHolderName;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .metrics(metrics, DataFlow.class.getSimpleName());
     }
 
     @Override
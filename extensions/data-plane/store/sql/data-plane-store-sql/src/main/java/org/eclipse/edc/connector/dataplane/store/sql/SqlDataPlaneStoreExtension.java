@@ -21,6 +21,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.MetricsRecorder;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -60,6 +61,8 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
     @Inject
+    private MetricsRecorder metricsRecorder;
+    @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
     @Override
@@ -71,7 +74,7 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     public DataPlaneStore dataPlaneStore(ServiceExtensionContext context) {
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "dataplane-schema.sql");
         return new SqlDataPlaneStore(dataSourceRegistry, dataSourceName, transactionContext,
-                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getRuntimeId());
+                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getRuntimeId(), metricsRecorder);
     }
 
     /**
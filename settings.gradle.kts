@@ -42,6 +42,7 @@ dependencyResolutionManagement {
 
 // EDC core modules --------------------------------------------------------------------------------
 include(":core:common:boot")
+include(":core:common:boot-processor")
 include(":core:common:connector-core")
 include(":core:common:edr-store-core")
 include(":core:common:junit")
@@ -204,6 +205,7 @@ include(":extensions:control-plane:transfer:transfer-data-plane-signaling")
 include(":extensions:control-plane:provision:provision-http")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-outbox-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -213,6 +215,7 @@ include(":extensions:control-plane:callback:callback-event-dispatcher")
 include(":extensions:control-plane:callback:callback-http-dispatcher")
 include(":extensions:control-plane:callback:callback-static-endpoint")
 include(":extensions:control-plane:edr:edr-store-receiver")
+include(":extensions:control-plane:catalog:catalog-crawler")
 
 
 include(":extensions:data-plane:data-plane-self-registration")
@@ -274,6 +277,7 @@ include(":spi:common:vault-hashicorp-spi")
 
 include(":spi:control-plane:asset-spi")
 include(":spi:control-plane:catalog-spi")
+include(":spi:control-plane:catalog-crawler-spi")
 include(":spi:control-plane:contract-spi")
 include(":spi:control-plane:control-plane-spi")
 include(":spi:control-plane:policy-spi")
@@ -308,6 +312,8 @@ include(":system-tests:sts-api:sts-api-test-runner")
 include(":system-tests:sts-api:sts-api-test-runtime")
 include(":system-tests:telemetry:telemetry-test-runner")
 include(":system-tests:telemetry:telemetry-test-runtime")
+include(":system-tests:benchmarks")
+include(":system-tests:load-test")
 include(":system-tests:bom-tests")
 include(":system-tests:dsp-compatibility-tests:connector-under-test")
 include(":system-tests:dsp-compatibility-tests:compatibility-test-runner")
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Records domain metrics, such as the entities processed by the state machines, the statements executed by the SQL
+ * stores or the bytes transferred by the data flows, independently of the metrics library in use.
+ * <p>
+ * Tags are passed as alternating key and value pairs, e.g. {@code "machine", "TransferProcessManagerImpl"}. The default
+ * implementation discards every measurement, extension modules can provide implementations backed by a metrics
+ * library.
+ */
+@ExtensionPoint
+public interface MetricsRecorder {
+
+    /**
+     * Default implementation that discards every measurement.
+     *
+     * @return a default {@link MetricsRecorder} implementation.
+     */
+    static MetricsRecorder noop() {
+        return new MetricsRecorder() {
+        };
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param name   the metric name.
+     * @param amount the amount to add.
+     * @param tags   the tags, as key and value pairs.
+     */
+    default void increment(String name, long amount, String... tags) {
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param name  the metric name.
+     * @param nanos the duration in nanoseconds.
+     * @param tags  the tags, as key and value pairs.
+     */
+    default void recordNanos(String name, long nanos, String... tags) {
+    }
+
+    /**
+     * Records a sample of a distribution, such as a payload size or a throughput.
+     *
+     * @param name  the metric name.
+     * @param value the sample.
+     * @param tags  the tags, as key and value pairs.
+     */
+    default void recordValue(String name, double value, String... tags) {
+    }
+}
@@ -49,4 +49,18 @@ public interface ServiceExtension extends SystemExtension {
      */
     default void prepare() {
     }
+
+    /**
+     * Signals the extension that a checkpoint of the runtime is about to be taken (e.g. with CRaC): open sockets,
+     * connection pools and file handles should be released here. Extensions are notified in reverse boot order.
+     */
+    default void beforeCheckpoint() {
+    }
+
+    /**
+     * Signals the extension that the runtime has been restored from a checkpoint: resources released in
+     * {@link #beforeCheckpoint()} can be reacquired. Extensions are notified in boot order.
+     */
+    default void afterRestore() {
+    }
 }
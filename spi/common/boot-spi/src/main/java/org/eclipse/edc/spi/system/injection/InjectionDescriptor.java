@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.system.injection;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Injection metadata of a {@link ServiceExtension} class, generated at build time and registered as a
+ * {@link java.util.ServiceLoader} service. When the runtime finds a descriptor for an extension class it uses it in
+ * place of scanning the class reflectively for injection points and provider methods.
+ * <p>
+ * Descriptors only cover the members declared by the target class itself, exactly like the reflective scan.
+ */
+public interface InjectionDescriptor {
+
+    /**
+     * Creates a setter for a (typically private) instance field of the target class. Meant to be called by generated
+     * descriptors, which live in the package of the target class and pass their own lookup. The field is only resolved
+     * when the setter is called, as building the dependency graph needs the field types but no setter, and injection
+     * sets every field once.
+     *
+     * @param lookup the lookup of the generated descriptor.
+     * @param target the class that declares the field.
+     * @param name   the field name.
+     * @param type   the erased field type.
+     * @return the setter, that takes the target instance and the value.
+     */
+    static BiConsumer<Object, Object> setter(MethodHandles.Lookup lookup, Class<?> target, String name, Class<?> type) {
+        return (instance, value) -> {
+            try {
+                MethodHandles.privateLookupIn(target, lookup).findVarHandle(target, name, type).set(instance, value);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new EdcException(e);
+            }
+        };
+    }
+
+    /**
+     * The described class.
+     */
+    Class<?> target();
+
+    /**
+     * The fields annotated with {@code @Inject}, in declaration order.
+     */
+    List<ServiceField> services();
+
+    /**
+     * The fields annotated with {@code @Setting} that declare a key, in declaration order.
+     */
+    List<SettingField> settings();
+
+    /**
+     * The fields annotated with {@code @Configuration}, in declaration order.
+     */
+    List<ConfigurationField> configurations();
+
+    /**
+     * The methods annotated with {@code @Provider}, in declaration order.
+     */
+    List<ServiceProviderMethod> providers();
+
+    /**
+     * A service injection point.
+     *
+     * @param name     the field name.
+     * @param type     the erased field type.
+     * @param required whether the service is required.
+     * @param setter   sets the field on a target instance.
+     */
+    record ServiceField(String name, Class<?> type, boolean required, BiConsumer<Object, Object> setter) {
+    }
+
+    /**
+     * A configuration value injection point.
+     *
+     * @param name                the field name.
+     * @param type                the erased field type.
+     * @param key                 the configuration key.
+     * @param required            whether the value is required.
+     * @param defaultValue        the default value, the {@code Setting.NULL} marker if there is none.
+     * @param warnOnMissingConfig whether to warn when the default value is used.
+     * @param setter              sets the field on a target instance.
+     */
+    record SettingField(String name, Class<?> type, String key, boolean required, String defaultValue,
+                        boolean warnOnMissingConfig, BiConsumer<Object, Object> setter) {
+    }
+
+    /**
+     * A configuration object injection point.
+     *
+     * @param name   the field name.
+     * @param type   the erased field type.
+     * @param setter sets the field on a target instance.
+     */
+    record ConfigurationField(String name, Class<?> type, BiConsumer<Object, Object> setter) {
+    }
+
+    /**
+     * A service provider method.
+     *
+     * @param name       the method name.
+     * @param returnType the erased return type, the type of the provided service.
+     * @param isDefault  whether the provider is a default one.
+     * @param invoker    invokes the method on a target instance.
+     */
+    record ServiceProviderMethod(String name, Class<?> returnType, boolean isDefault,
+                                 BiFunction<Object, ServiceExtensionContext, Object> invoker) {
+    }
+}
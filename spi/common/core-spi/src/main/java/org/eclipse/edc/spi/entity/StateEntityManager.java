@@ -28,4 +28,16 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * pause the manager, e.g. before a checkpoint is taken. It can be resumed with {@link #resume()}.
+     */
+    default void pause() {
+    }
+
+    /**
+     * resume a paused manager.
+     */
+    default void resume() {
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.spi.query;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -59,6 +60,20 @@ public interface CriterionOperatorRegistry {
      */
     <T> Predicate<T> toPredicate(Criterion criterion);
 
+    /**
+     * Convert a list of {@link Criterion} into a {@link Predicate} that is satisfied when all of them are satisfied.
+     * An empty list is always satisfied.
+     *
+     * @param criteria the criteria.
+     * @param <T>      The type of object which the store requires to perform its query.
+     * @throws IllegalArgumentException if a criterion cannot be converted.
+     */
+    default <T> Predicate<T> toPredicate(List<Criterion> criteria) {
+        return criteria.stream()
+                .map(this::<T>toPredicate)
+                .reduce(x -> true, Predicate::and);
+    }
+
     /**
      * Tell if the operator is supported.
      *
@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.spi.types.domain.transfer;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
@@ -21,6 +24,7 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 /**
  * A response message from the data plane upon receiving a {@link DataFlowStartMessage}
  */
+@JsonDeserialize(builder = DataFlowResponseMessage.Builder.class)
 public class DataFlowResponseMessage {
 
     public static final String DATA_FLOW_RESPONSE_MESSAGE_SIMPLE_TYPE = "DataFlowResponseMessage";
@@ -41,6 +45,7 @@ public class DataFlowResponseMessage {
         return provisioning;
     }
 
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         DataFlowResponseMessage response;
@@ -49,6 +54,7 @@ public class DataFlowResponseMessage {
             response = new DataFlowResponseMessage();
         }
 
+        @JsonCreator
         public static Builder newInstance() {
             return new Builder();
         }
@@ -17,6 +17,8 @@ package org.eclipse.edc.http.spi;
 import okhttp3.Request;
 import org.eclipse.edc.spi.result.ServiceResult;
 
+import java.time.Duration;
+
 /**
  * Http client that provides a way to communicate over the "control" api
  */
@@ -38,4 +40,12 @@ public interface ControlApiHttpClient {
      */
     ServiceResult<String> request(Request.Builder requestBuilder);
 
+    /**
+     * Returns a new client instance whose calls are cancelled once they take longer than the given timeout.
+     *
+     * @param timeout the call timeout.
+     * @return a new client instance with the call timeout set.
+     */
+    ControlApiHttpClient withCallTimeout(Duration timeout);
+
 }
@@ -19,6 +19,7 @@ import okhttp3.Response;
 import org.eclipse.edc.spi.result.Result;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -86,4 +87,13 @@ public interface EdcHttpClient {
      */
     EdcHttpClient withDns(String dnsServer);
 
+    /**
+     * Returns a new client instance whose calls are cancelled once they take longer than the given timeout. The
+     * timeout spans the whole call: DNS resolution, connecting, writing the request and reading the response.
+     *
+     * @param timeout the call timeout.
+     * @return a new client instance with the call timeout set.
+     */
+    EdcHttpClient withCallTimeout(Duration timeout);
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.policy.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -46,6 +47,9 @@ public class Policy {
     @JsonProperty("@type")
     private PolicyType type = PolicyType.SET;
 
+    @JsonIgnore
+    private volatile String fingerprint;
+
     private Policy() {
     }
 
@@ -94,6 +98,34 @@ public class Policy {
         return visitor.visitPolicy(this);
     }
 
+    /**
+     * Returns the canonical fingerprint of the terms of this policy. Two policies with the same rules, profiles,
+     * assigner, parent policy and extensible properties have the same fingerprint regardless of the order of their
+     * rules and constraints; the type, the assignee and the target are not taken into account.
+     * <p>
+     * The fingerprint is computed on first access and cached, so the policy must not be modified afterward.
+     *
+     * @return the hex encoded fingerprint.
+     */
+    public String fingerprint() {
+        var result = fingerprint;
+        if (result == null) {
+            result = PolicyFingerprint.of(this);
+            fingerprint = result;
+        }
+        return result;
+    }
+
+    /**
+     * Whether this policy has the same terms as the other one, as defined by {@link #fingerprint()}.
+     *
+     * @param other the other policy.
+     * @return true if the terms are the same, false otherwise.
+     */
+    public boolean hasSameTermsAs(Policy other) {
+        return other != null && fingerprint().equals(other.fingerprint());
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(permissions, prohibitions, obligations, extensibleProperties, inheritsFrom, assigner, assignee, target, type);
@@ -119,7 +151,7 @@ public class Policy {
      * @return a copy with the specified target.
      */
     public Policy withTarget(String target) {
-        return Builder.newInstance()
+        var copy = Builder.newInstance()
                 .prohibitions(prohibitions)
                 .permissions(permissions)
                 .duties(obligations)
@@ -131,6 +163,8 @@ public class Policy {
                 .target(target)
                 .profiles(profiles)
                 .build();
+        copy.fingerprint = fingerprint;
+        return copy;
     }
 
     /**
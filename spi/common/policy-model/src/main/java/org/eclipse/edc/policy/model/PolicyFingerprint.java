@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.policy.model;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the canonical fingerprint of the terms of a {@link Policy}.
+ * <p>
+ * The policy is rendered to a canonical form in which rules, constraints of logical constraints, profiles and map
+ * entries are sorted, so that policies differing only in the order of those elements yield the same fingerprint.
+ * Ordered values, such as lists in literal expressions or extensible properties, keep their order. The policy type,
+ * the assignee and the target are not part of the fingerprint, as they bind the terms to a specific offer or agreement.
+ * The canonical form is then digested with SHA-256.
+ */
+final class PolicyFingerprint implements Rule.Visitor<String>, Constraint.Visitor<String>, Expression.Visitor<String> {
+
+    private static final PolicyFingerprint INSTANCE = new PolicyFingerprint();
+
+    private PolicyFingerprint() {
+    }
+
+    static String of(Policy policy) {
+        var canonical = INSTANCE.canonicalForm(policy);
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String canonicalForm(Policy policy) {
+        return "policy{" +
+                "permissions=" + unordered(policy.getPermissions().stream().map(this::visitPermission).toList()) +
+                ",prohibitions=" + unordered(policy.getProhibitions().stream().map(this::visitProhibition).toList()) +
+                ",obligations=" + unordered(policy.getObligations().stream().map(this::visitDuty).toList()) +
+                ",profiles=" + unordered(policy.getProfiles().stream().map(PolicyFingerprint::string).toList()) +
+                ",inheritsFrom=" + string(policy.getInheritsFrom()) +
+                ",assigner=" + string(policy.getAssigner()) +
+                ",extensibleProperties=" + value(policy.getExtensibleProperties()) +
+                "}";
+    }
+
+    @Override
+    public String visitPermission(Permission permission) {
+        return "permission{" + rule(permission) + ",duties=" + duties(permission.getDuties()) + "}";
+    }
+
+    @Override
+    public String visitProhibition(Prohibition prohibition) {
+        return "prohibition{" + rule(prohibition) + ",remedies=" + duties(prohibition.getRemedies()) + "}";
+    }
+
+    @Override
+    public String visitDuty(Duty duty) {
+        return "duty{" + rule(duty) + ",consequences=" + duties(duty.getConsequences()) + "}";
+    }
+
+    @Override
+    public String visitAndConstraint(AndConstraint constraint) {
+        return "and" + constraints(constraint.getConstraints());
+    }
+
+    @Override
+    public String visitOrConstraint(OrConstraint constraint) {
+        return "or" + constraints(constraint.getConstraints());
+    }
+
+    @Override
+    public String visitXoneConstraint(XoneConstraint constraint) {
+        return "xone" + constraints(constraint.getConstraints());
+    }
+
+    @Override
+    public String visitAtomicConstraint(AtomicConstraint constraint) {
+        return "atomic{" + expression(constraint.getLeftExpression()) +
+                "," + constraint.getOperator() +
+                "," + expression(constraint.getRightExpression()) + "}";
+    }
+
+    @Override
+    public String visitLiteralExpression(LiteralExpression expression) {
+        return "literal{" + value(expression.getValue()) + "}";
+    }
+
+    private String rule(Rule rule) {
+        return "action=" + action(rule.getAction()) + ",constraints=" + constraints(rule.getConstraints());
+    }
+
+    private String action(Action action) {
+        if (action == null) {
+            return "null";
+        }
+        var constraint = action.getConstraint() == null ? "null" : action.getConstraint().accept(this);
+        return "action{" + string(action.getType()) + "," + string(action.getIncludedIn()) + "," + constraint + "}";
+    }
+
+    private String duties(List<Duty> duties) {
+        return unordered(duties.stream().map(this::visitDuty).toList());
+    }
+
+    private String constraints(List<Constraint> constraints) {
+        return unordered(constraints.stream().map(constraint -> constraint.accept(this)).toList());
+    }
+
+    private String expression(Expression expression) {
+        return expression == null ? "null" : expression.accept(this);
+    }
+
+    private String value(Object value) {
+        if (value == null) {
+            return "null";
+        } else if (value instanceof String string) {
+            return string(string);
+        } else if (value instanceof Number number) {
+            return number(number);
+        } else if (value instanceof Map<?, ?> map) {
+            var sorted = new TreeMap<String, String>();
+            map.forEach((key, entry) -> sorted.put(string(String.valueOf(key)), value(entry)));
+            return sorted.entrySet().stream()
+                    .map(entry -> entry.getKey() + ":" + entry.getValue())
+                    .collect(Collectors.joining(",", "{", "}"));
+        } else if (value instanceof Collection<?> collection) {
+            return collection.stream().map(this::value).collect(Collectors.joining(",", "[", "]"));
+        } else {
+            return value.getClass().getSimpleName() + string(value.toString());
+        }
+    }
+
+    private static String number(Number number) {
+        try {
+            return new BigDecimal(number.toString()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            // NaN and infinities
+            return number.toString();
+        }
+    }
+
+    private static String string(String value) {
+        return value == null ? "null" : "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String unordered(List<String> elements) {
+        return elements.stream().sorted().collect(Collectors.joining(",", "[", "]"));
+    }
+}
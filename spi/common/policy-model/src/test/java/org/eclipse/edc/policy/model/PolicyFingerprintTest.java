@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.policy.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyFingerprintTest {
+
+    @Test
+    void shouldIgnoreOrderOfRulesAndConstraints() {
+        var region = atomic("region", "eu");
+        var purpose = atomic("purpose", "research");
+        var one = Policy.Builder.newInstance()
+                .permission(permission("use", AndConstraint.Builder.newInstance().constraint(region).constraint(purpose).build()))
+                .permission(permission("transfer", region))
+                .profiles(List.of("profile-a", "profile-b"))
+                .build();
+        var two = Policy.Builder.newInstance()
+                .permission(permission("transfer", region))
+                .permission(permission("use", AndConstraint.Builder.newInstance().constraint(purpose).constraint(region).build()))
+                .profiles(List.of("profile-b", "profile-a"))
+                .build();
+
+        assertThat(one.fingerprint()).isEqualTo(two.fingerprint());
+        assertThat(one.hasSameTermsAs(two)).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreTypeAssigneeAndTarget() {
+        var one = Policy.Builder.newInstance().permission(permission("use", atomic("region", "eu")))
+                .type(PolicyType.OFFER).assignee("one").target("target-one").build();
+        var two = Policy.Builder.newInstance().permission(permission("use", atomic("region", "eu")))
+                .type(PolicyType.CONTRACT).assignee("two").target("target-two").build();
+
+        assertThat(one.fingerprint()).isEqualTo(two.fingerprint());
+    }
+
+    @Test
+    void shouldDistinguishDifferentTerms() {
+        var eu = Policy.Builder.newInstance().permission(permission("use", atomic("region", "eu"))).build();
+        var us = Policy.Builder.newInstance().permission(permission("use", atomic("region", "us"))).build();
+        var prohibited = Policy.Builder.newInstance().prohibition(Prohibition.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build()).constraint(atomic("region", "eu")).build()).build();
+        var or = Policy.Builder.newInstance().permission(permission("use", OrConstraint.Builder.newInstance()
+                .constraint(atomic("region", "eu")).build())).build();
+        var and = Policy.Builder.newInstance().permission(permission("use", AndConstraint.Builder.newInstance()
+                .constraint(atomic("region", "eu")).build())).build();
+
+        assertThat(List.of(eu, us, prohibited, or, and)).extracting(Policy::fingerprint).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldDistinguishStringFromNumberLiterals() {
+        var string = Policy.Builder.newInstance().permission(permission("use", atomic("count", "1"))).build();
+        var number = Policy.Builder.newInstance().permission(permission("use", atomic("count", 1))).build();
+
+        assertThat(string.fingerprint()).isNotEqualTo(number.fingerprint());
+    }
+
+    @Test
+    void shouldIgnoreOrderOfExtensibleProperties() {
+        var one = Policy.Builder.newInstance().extensibleProperty("a", 1).extensibleProperty("b", Map.of("x", 1.0, "y", "z")).build();
+        var two = Policy.Builder.newInstance().extensibleProperty("b", Map.of("y", "z", "x", 1)).extensibleProperty("a", 1L).build();
+
+        assertThat(one.fingerprint()).isEqualTo(two.fingerprint());
+    }
+
+    @Test
+    void shouldBeStableAcrossSerialization() throws JsonProcessingException {
+        var mapper = new ObjectMapper();
+        var policy = Policy.Builder.newInstance().permission(permission("use", atomic("region", "eu"))).assigner("assigner").build();
+
+        var serialized = mapper.writeValueAsString(policy);
+        var deserialized = mapper.readValue(serialized, Policy.class);
+
+        assertThat(serialized).doesNotContain("fingerprint");
+        assertThat(deserialized.fingerprint()).isEqualTo(policy.fingerprint());
+    }
+
+    @Test
+    void withTarget_shouldKeepFingerprint() {
+        var policy = Policy.Builder.newInstance().permission(permission("use", atomic("region", "eu"))).build();
+
+        var copy = policy.withTarget("target");
+
+        assertThat(copy.fingerprint()).isEqualTo(policy.fingerprint());
+    }
+
+    private Permission permission(String action, Constraint constraint) {
+        return Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type(action).build())
+                .constraint(constraint)
+                .build();
+    }
+
+    private AtomicConstraint atomic(String left, Object right) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(left))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(right))
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.spi;
+
+/**
+ * Changes applied to the {@link CrawledCatalogIndex} by a crawl.
+ *
+ * @param added     number of new datasets.
+ * @param updated   number of changed datasets.
+ * @param unchanged number of datasets that did not change.
+ * @param removed   number of datasets that are not offered anymore.
+ */
+public record CatalogDelta(int added, int updated, int unchanged, int removed) {
+
+    public static final CatalogDelta NONE = new CatalogDelta(0, 0, 0, 0);
+
+    public CatalogDelta plus(CatalogDelta other) {
+        return new CatalogDelta(added + other.added, updated + other.updated, unchanged + other.unchanged, removed + other.removed);
+    }
+
+    public boolean hasChanges() {
+        return added > 0 || updated > 0 || removed > 0;
+    }
+}
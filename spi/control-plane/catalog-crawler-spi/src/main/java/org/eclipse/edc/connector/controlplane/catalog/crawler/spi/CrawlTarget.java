@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.spi;
+
+/**
+ * A participant whose catalog gets crawled.
+ *
+ * @param participantId the participant id.
+ * @param address       the protocol address of the participant.
+ * @param protocol      the protocol used to request the catalog.
+ */
+public record CrawlTarget(String participantId, String address, String protocol) {
+}
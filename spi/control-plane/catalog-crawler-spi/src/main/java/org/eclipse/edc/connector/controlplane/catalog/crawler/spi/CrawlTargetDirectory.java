@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Provides the participants whose catalogs get crawled. The default implementation returns the participants
+ * configured in the settings, other implementations can discover them, e.g. from a registration service.
+ */
+@ExtensionPoint
+@FunctionalInterface
+public interface CrawlTargetDirectory {
+
+    /**
+     * Returns the participants to be crawled. Called at the beginning of every crawl run.
+     *
+     * @return the crawl targets.
+     */
+    List<CrawlTarget> getAll();
+}
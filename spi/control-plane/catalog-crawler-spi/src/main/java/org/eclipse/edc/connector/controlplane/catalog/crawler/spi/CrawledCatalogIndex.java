@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Local index of the datasets crawled from the catalogs of other participants.
+ */
+@ExtensionPoint
+public interface CrawledCatalogIndex {
+
+    /**
+     * Queries the crawled datasets.
+     *
+     * @param querySpec the query.
+     * @return the matching datasets.
+     */
+    Stream<CrawledDataset> query(QuerySpec querySpec);
+
+    /**
+     * Adds or replaces the datasets of a participant. Datasets with the same digest as the indexed ones are left
+     * untouched.
+     *
+     * @param participantId the participant id.
+     * @param datasets      the datasets.
+     * @return the changes applied to the index.
+     */
+    CatalogDelta save(String participantId, Collection<CrawledDataset> datasets);
+
+    /**
+     * Removes the datasets of a participant that are not in the passed ids.
+     *
+     * @param participantId the participant id.
+     * @param datasetIds    the ids of the datasets to keep.
+     * @return the changes applied to the index.
+     */
+    CatalogDelta retain(String participantId, Set<String> datasetIds);
+
+    /**
+     * Removes the datasets of the participants that are not in the passed ids, e.g. partners that are not crawled
+     * anymore.
+     *
+     * @param participantIds the ids of the participants to keep.
+     * @return the changes applied to the index.
+     */
+    CatalogDelta retainParticipants(Set<String> participantIds);
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.crawler.spi;
+
+import jakarta.json.JsonObject;
+
+/**
+ * A dataset of a crawled catalog.
+ *
+ * @param id            the dataset id.
+ * @param participantId the id of the participant that offers the dataset.
+ * @param address       the protocol address of the participant.
+ * @param protocol      the protocol the catalog has been requested with.
+ * @param dataset       the expanded JSON-LD representation of the dataset.
+ * @param digest        the digest of the dataset representation, used to detect changes.
+ * @param updatedAt     the time the dataset has been added or last changed, in epoch millis.
+ */
+public record CrawledDataset(String id, String participantId, String address, String protocol, JsonObject dataset,
+                             String digest, long updatedAt) {
+}
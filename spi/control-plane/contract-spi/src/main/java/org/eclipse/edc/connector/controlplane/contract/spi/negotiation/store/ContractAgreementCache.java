@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-through cache of the {@link ContractAgreement}s stored in the {@link ContractNegotiationStore}. Agreements are
+ * immutable once created, so cached entries never need to be invalidated, not even across multiple replicas.
+ */
+@FunctionalInterface
+@ExtensionPoint
+public interface ContractAgreementCache {
+
+    /**
+     * Returns the agreement with the given id, loading it from the {@link ContractNegotiationStore} if it is not
+     * cached yet.
+     *
+     * @param contractId the agreement id.
+     * @return the agreement, null if it does not exist.
+     */
+    @Nullable
+    ContractAgreement findContractAgreement(String contractId);
+}
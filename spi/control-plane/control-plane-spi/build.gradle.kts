@@ -14,6 +14,7 @@
 
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -23,6 +24,8 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
     api(project(":spi:control-plane:transfer-spi"))
     api(project(":spi:control-plane:protocol-version-spi"))
+
+    testFixturesImplementation(project(":core:common:junit"))
 }
 
 
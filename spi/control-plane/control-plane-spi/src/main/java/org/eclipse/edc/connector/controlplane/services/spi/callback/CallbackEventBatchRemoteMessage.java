@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+
+import java.util.List;
+
+/**
+ * Carries one or more serialized callback events for the same callback URI, as stored in the
+ * {@link CallbackOutboxStore}. When {@link #isBatched()} is true the events are sent as a single JSON array, otherwise
+ * the message contains exactly one event, which is sent as-is.
+ */
+public class CallbackEventBatchRemoteMessage implements RemoteMessage {
+
+    private final String protocol;
+    private final String uri;
+    private final String authKey;
+    private final String authCodeId;
+    private final List<String> payloads;
+    private final boolean batched;
+
+    public CallbackEventBatchRemoteMessage(String protocol, String uri, String authKey, String authCodeId, List<String> payloads, boolean batched) {
+        if (!batched && payloads.size() != 1) {
+            throw new IllegalArgumentException("A non-batched callback message must contain exactly one event");
+        }
+        this.protocol = protocol;
+        this.uri = uri;
+        this.authKey = authKey;
+        this.authCodeId = authCodeId;
+        this.payloads = List.copyOf(payloads);
+        this.batched = batched;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getCounterPartyAddress() {
+        return uri;
+    }
+
+    @Override
+    public String getCounterPartyId() {
+        return null;
+    }
+
+    public String getAuthKey() {
+        return authKey;
+    }
+
+    public String getAuthCodeId() {
+        return authCodeId;
+    }
+
+    public List<String> getPayloads() {
+        return payloads;
+    }
+
+    public boolean isBatched() {
+        return batched;
+    }
+}
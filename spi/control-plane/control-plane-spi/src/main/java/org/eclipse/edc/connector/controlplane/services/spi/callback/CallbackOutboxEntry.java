@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A callback event waiting to be delivered. The event is stored already serialized, in the same transaction as the
+ * state change that generated it, so it survives a restart of the runtime.
+ */
+public class CallbackOutboxEntry {
+
+    private String id;
+    private String uri;
+    private String protocol;
+    private String authKey;
+    private String authCodeId;
+    private String eventName;
+    private String payload;
+    private long createdAt;
+    private int attempts;
+    private long nextAttemptAt;
+
+    private CallbackOutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The callback URI the event has to be delivered to.
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * The protocol used to dispatch the event, as resolved from the URI scheme.
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getAuthKey() {
+        return authKey;
+    }
+
+    public String getAuthCodeId() {
+        return authCodeId;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * The serialized event envelope.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Epoch millis before which the entry must not be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .uri(uri)
+                .protocol(protocol)
+                .authKey(authKey)
+                .authCodeId(authCodeId)
+                .eventName(eventName)
+                .payload(payload)
+                .createdAt(createdAt)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt);
+    }
+
+    public static class Builder {
+        private final CallbackOutboxEntry entry;
+
+        private Builder() {
+            entry = new CallbackOutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder uri(String uri) {
+            entry.uri = uri;
+            return this;
+        }
+
+        public Builder protocol(String protocol) {
+            entry.protocol = protocol;
+            return this;
+        }
+
+        public Builder authKey(String authKey) {
+            entry.authKey = authKey;
+            return this;
+        }
+
+        public Builder authCodeId(String authCodeId) {
+            entry.authCodeId = authCodeId;
+            return this;
+        }
+
+        public Builder eventName(String eventName) {
+            entry.eventName = eventName;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            entry.payload = payload;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            entry.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public CallbackOutboxEntry build() {
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(entry.uri, "uri");
+            Objects.requireNonNull(entry.protocol, "protocol");
+            Objects.requireNonNull(entry.eventName, "eventName");
+            Objects.requireNonNull(entry.payload, "payload");
+            return entry;
+        }
+    }
+}
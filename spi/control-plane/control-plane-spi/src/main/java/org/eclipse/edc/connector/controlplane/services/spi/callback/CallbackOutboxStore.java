@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Persists the callback events that still have to be delivered.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    /**
+     * Inserts or updates an entry. Implementations must join the current transaction, if any, so that the entry is
+     * written atomically with the state change that generated the event.
+     *
+     * @param entry the entry.
+     */
+    void save(CallbackOutboxEntry entry);
+
+    /**
+     * Returns at most {@code max} entries whose next attempt is due, ordered by creation time. The returned entries
+     * are claimed for {@code claimMillis}: they won't be returned again, to this or any other runtime, before that
+     * time has passed, unless they are saved again.
+     *
+     * @param max         the max number of entries.
+     * @param claimMillis how long the entries are claimed for.
+     * @return the due entries.
+     */
+    List<CallbackOutboxEntry> claimDue(int max, long claimMillis);
+
+    /**
+     * Deletes an entry after it has been delivered.
+     *
+     * @param id the entry id.
+     */
+    void delete(String id);
+}
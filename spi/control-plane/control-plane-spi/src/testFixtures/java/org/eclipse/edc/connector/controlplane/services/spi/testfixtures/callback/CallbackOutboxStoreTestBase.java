@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.testfixtures.callback;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class CallbackOutboxStoreTestBase {
+
+    protected final Clock clock = Clock.systemUTC();
+
+    protected abstract CallbackOutboxStore getStore();
+
+    @Test
+    void claimDue_shouldReturnDueEntries() {
+        var entry = createEntry("id", clock.millis());
+        getStore().save(entry);
+
+        var claimed = getStore().claimDue(10, 60_000);
+
+        assertThat(claimed).hasSize(1).first().satisfies(e -> {
+            assertThat(e.getId()).isEqualTo("id");
+            assertThat(e.getUri()).isEqualTo(entry.getUri());
+            assertThat(e.getProtocol()).isEqualTo(entry.getProtocol());
+            assertThat(e.getAuthKey()).isEqualTo(entry.getAuthKey());
+            assertThat(e.getAuthCodeId()).isEqualTo(entry.getAuthCodeId());
+            assertThat(e.getEventName()).isEqualTo(entry.getEventName());
+            assertThat(e.getPayload()).isEqualTo(entry.getPayload());
+            assertThat(e.getAttempts()).isEqualTo(entry.getAttempts());
+        });
+    }
+
+    @Test
+    void claimDue_shouldNotReturnClaimedEntries() {
+        getStore().save(createEntry("id", clock.millis()));
+
+        getStore().claimDue(10, 60_000);
+
+        assertThat(getStore().claimDue(10, 60_000)).isEmpty();
+    }
+
+    @Test
+    void claimDue_shouldReturnEntryAgain_whenClaimExpired() {
+        getStore().save(createEntry("id", clock.millis()));
+
+        getStore().claimDue(10, 0);
+
+        assertThat(getStore().claimDue(10, 0)).extracting(CallbackOutboxEntry::getId).containsExactly("id");
+    }
+
+    @Test
+    void claimDue_shouldNotReturnEntriesNotDue() {
+        getStore().save(createEntry("id", clock.millis() + 60_000));
+
+        assertThat(getStore().claimDue(10, 60_000)).isEmpty();
+    }
+
+    @Test
+    void claimDue_shouldReturnOldestEntriesFirst_limitedToMax() {
+        var now = clock.millis();
+        getStore().save(createEntry("third", now).toBuilder().createdAt(now - 1000).build());
+        getStore().save(createEntry("first", now).toBuilder().createdAt(now - 3000).build());
+        getStore().save(createEntry("second", now).toBuilder().createdAt(now - 2000).build());
+
+        var claimed = getStore().claimDue(2, 60_000);
+
+        assertThat(claimed).extracting(CallbackOutboxEntry::getId).containsExactly("first", "second");
+    }
+
+    @Test
+    void save_shouldUpdateExistingEntry() {
+        var entry = createEntry("id", clock.millis());
+        getStore().save(entry);
+        getStore().claimDue(10, 60_000);
+
+        getStore().save(entry.toBuilder().attempts(3).nextAttemptAt(clock.millis()).build());
+
+        assertThat(getStore().claimDue(10, 60_000)).hasSize(1).first()
+                .extracting(CallbackOutboxEntry::getAttempts).isEqualTo(3);
+    }
+
+    @Test
+    void delete_shouldRemoveEntry() {
+        getStore().save(createEntry("id", clock.millis()));
+
+        getStore().delete("id");
+
+        assertThat(getStore().claimDue(10, 60_000)).isEmpty();
+    }
+
+    @Test
+    void delete_shouldDoNothing_whenEntryDoesNotExist() {
+        getStore().delete("unknown");
+
+        assertThat(getStore().claimDue(10, 60_000)).isEmpty();
+    }
+
+    protected CallbackOutboxEntry createEntry(String id, long nextAttemptAt) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .uri("http://callback/" + id)
+                .protocol("callback-http")
+                .authKey("authKey")
+                .authCodeId("authCodeId")
+                .eventName("transfer.process.completed")
+                .payload("{\"id\":\"" + id + "\"}")
+                .createdAt(clock.millis())
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -22,6 +22,9 @@ import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -67,6 +70,30 @@ public interface DataFlowController {
      */
     StatusResult<Void> terminate(TransferProcess transferProcess);
 
+    /**
+     * Suspend many data flows. Implementations may coalesce the calls, the default one suspends them one by one.
+     *
+     * @param transferProcesses the transfer processes.
+     * @return the result for every transfer process, keyed by id.
+     */
+    default Map<String, StatusResult<Void>> suspendAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.forEach(process -> results.put(process.getId(), suspend(process)));
+        return results;
+    }
+
+    /**
+     * Terminate many data flows. Implementations may coalesce the calls, the default one terminates them one by one.
+     *
+     * @param transferProcesses the transfer processes.
+     * @return the result for every transfer process, keyed by id.
+     */
+    default Map<String, StatusResult<Void>> terminateAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.forEach(process -> results.put(process.getId(), terminate(process)));
+        return results;
+    }
+
     /**
      * Returns transfer types that the controller can handle for the specified Asset.
      *
@@ -22,6 +22,9 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -83,6 +86,32 @@ public interface DataFlowManager {
     @NotNull
     StatusResult<Void> suspend(TransferProcess transferProcess);
 
+    /**
+     * Terminates many data flows, letting the controllers coalesce the calls that target the same data plane.
+     *
+     * @param transferProcesses the transfer processes.
+     * @return the result for every transfer process, keyed by id.
+     */
+    @NotNull
+    default Map<String, StatusResult<Void>> terminateAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.forEach(process -> results.put(process.getId(), terminate(process)));
+        return results;
+    }
+
+    /**
+     * Suspends many transfers, letting the controllers coalesce the calls that target the same data plane.
+     *
+     * @param transferProcesses the transfer processes.
+     * @return the result for every transfer process, keyed by id.
+     */
+    @NotNull
+    default Map<String, StatusResult<Void>> suspendAll(List<TransferProcess> transferProcesses) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcesses.forEach(process -> results.put(process.getId(), suspend(process)));
+        return results;
+    }
+
     /**
      * Returns the transfer types available for a specific asset.
      *
@@ -14,12 +14,18 @@
 
 package org.eclipse.edc.connector.dataplane.selector.spi.client;
 
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowProvisionMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF.
  */
@@ -55,10 +61,60 @@ public interface DataPlaneClient {
      */
     StatusResult<Void> terminate(String transferProcessId);
 
+    /**
+     * Delegates many data transfers to the Data Plane. Implementations may send them in batches, the default one
+     * starts them one by one.
+     *
+     * @param requests the requests.
+     * @return the result for every request, keyed by transfer process id.
+     */
+    default Map<String, StatusResult<DataFlowResponseMessage>> startAll(Collection<DataFlowStartMessage> requests) {
+        var results = new LinkedHashMap<String, StatusResult<DataFlowResponseMessage>>();
+        requests.forEach(request -> results.put(request.getProcessId(), start(request)));
+        return results;
+    }
+
+    /**
+     * Suspend many transfers. Implementations may send them in batches, the default one suspends them one by one.
+     *
+     * @param transferProcessIds the transfer process ids.
+     * @return the result for every transfer, keyed by transfer process id.
+     */
+    default Map<String, StatusResult<Void>> suspendAll(Collection<String> transferProcessIds) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcessIds.forEach(id -> results.put(id, suspend(id)));
+        return results;
+    }
+
+    /**
+     * Terminate many transfers. Implementations may send them in batches, the default one terminates them one by one.
+     *
+     * @param transferProcessIds the transfer process ids.
+     * @return the result for every transfer, keyed by transfer process id.
+     */
+    default Map<String, StatusResult<Void>> terminateAll(Collection<String> transferProcessIds) {
+        var results = new LinkedHashMap<String, StatusResult<Void>>();
+        transferProcessIds.forEach(id -> results.put(id, terminate(id)));
+        return results;
+    }
+
     /**
      * Check Data Plane availability to accept new transfer flows.
      *
-     * @return success if available, failure if not available.
+     * @return success if available, failure if not available. The content is the current {@link DataPlaneLoad} if the
+     *         data plane reports it, null otherwise.
+     */
+    StatusResult<DataPlaneLoad> checkAvailability();
+
+    /**
+     * Check Data Plane availability, giving up once the check takes longer than the given timeout. Clients that reach
+     * the data plane remotely should bound the underlying call, so that a slow data plane does not hold on to the
+     * caller's thread. The default implementation ignores the timeout.
+     *
+     * @param timeout the maximum time the check may take.
+     * @return success if available, failure if not available or if the check timed out.
      */
-    StatusResult<Void> checkAvailability();
+    default StatusResult<DataPlaneLoad> checkAvailability(Duration timeout) {
+        return checkAvailability();
+    }
 }
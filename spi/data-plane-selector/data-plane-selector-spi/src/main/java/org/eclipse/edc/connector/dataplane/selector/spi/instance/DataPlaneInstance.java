@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.selector.spi.instance;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -68,6 +69,7 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
     private int turnCount = 0;
     private long lastActive = Instant.now().toEpochMilli();
     private URL url;
+    private DataPlaneLoad load;
 
     private DataPlaneInstance() {
     }
@@ -82,7 +84,8 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
                 .allowedSourceTypes(allowedSourceTypes)
                 .allowedTransferType(allowedTransferTypes)
                 .properties(properties)
-                .destinationProvisionTypes(destinationProvisionTypes);
+                .destinationProvisionTypes(destinationProvisionTypes)
+                .load(load);
 
         return copy(builder);
     }
@@ -141,6 +144,20 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
         return destinationProvisionTypes;
     }
 
+    /**
+     * The load reported by the data plane on the last availability check.
+     *
+     * @return the load, null if the data plane doesn't report it.
+     */
+    @Nullable
+    public DataPlaneLoad getLoad() {
+        return load;
+    }
+
+    public void updateLoad(@Nullable DataPlaneLoad load) {
+        this.load = load;
+    }
+
     public boolean canProvisionDestination(DataAddress destination) {
         return destinationProvisionTypes.contains(destination.getType());
     }
@@ -214,6 +231,11 @@ public class DataPlaneInstance extends StatefulEntity<DataPlaneInstance> {
             return this;
         }
 
+        public Builder load(DataPlaneLoad load) {
+            entity.load = load;
+            return this;
+        }
+
         public Builder property(String key, Object value) {
             entity.properties.put(key, value);
             return this;
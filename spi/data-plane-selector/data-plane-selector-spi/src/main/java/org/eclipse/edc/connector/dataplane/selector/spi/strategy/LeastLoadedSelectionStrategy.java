@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Prefers the least loaded data plane, based on the {@link DataPlaneLoad} reported on the last availability check.
+ * <p>
+ * Load reports are only refreshed periodically, so always picking the global minimum would send every transfer started
+ * between two checks to the same data plane. Instead, two distinct instances are picked at random and the less loaded
+ * one wins ("power of two choices"): this spreads the transfers while steering them away from saturated data planes.
+ * Instances that don't report their load are considered more loaded than any instance that does.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "leastLoaded";
+
+    private static final Comparator<DataPlaneInstance> LEAST_LOADED_FIRST =
+            Comparator.comparing(DataPlaneInstance::getLoad, Comparator.nullsLast(DataPlaneLoad.LEAST_LOADED_FIRST));
+
+    /**
+     * Guaranteed to always produce a non-null result given that the instances list is not empty
+     */
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(instances.size());
+        var second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var candidate = instances.get(first);
+        var other = instances.get(second);
+        return LEAST_LOADED_FIRST.compare(candidate, other) <= 0 ? candidate : other;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.DataPlaneLoad;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @Test
+    void shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void shouldReturnTheOnlyInstance() {
+        var instance = instance("only", null);
+
+        assertThat(strategy.apply(List.of(instance))).isSameAs(instance);
+    }
+
+    // with two instances both are always compared, so the less loaded must always win
+    @RepeatedTest(100)
+    void shouldPreferLessSaturatedInstance() {
+        var idle = instance("idle", new DataPlaneLoad(10, 0, 0.1));
+        var busy = instance("busy", new DataPlaneLoad(1, 0, 0.9));
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @RepeatedTest(100)
+    void shouldPreferFewerActiveFlows_whenSaturationIsEqual() {
+        var idle = instance("idle", new DataPlaneLoad(1, 1000, 0.5));
+        var busy = instance("busy", new DataPlaneLoad(5, 0, 0.5));
+
+        assertThat(strategy.apply(List.of(idle, busy))).isSameAs(idle);
+    }
+
+    @RepeatedTest(100)
+    void shouldPreferInstanceReportingLoad() {
+        var reporting = instance("reporting", new DataPlaneLoad(100, 0, 1));
+        var unknown = instance("unknown", null);
+
+        assertThat(strategy.apply(List.of(unknown, reporting))).isSameAs(reporting);
+    }
+
+    @RepeatedTest(100)
+    void shouldNeverSelectTheMostLoadedInstance() {
+        var instances = List.of(
+                instance("1", new DataPlaneLoad(0, 0, 0.1)),
+                instance("2", new DataPlaneLoad(0, 0, 0.2)),
+                instance("3", new DataPlaneLoad(0, 0, 0.3)),
+                instance("4", new DataPlaneLoad(0, 0, 0.9)));
+
+        assertThat(strategy.apply(instances)).isNotNull().isNotSameAs(instances.get(3));
+    }
+
+    private DataPlaneInstance instance(String id, DataPlaneLoad load) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any/" + id).load(load).build();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.util.List;
+
+/**
+ * Batch of signals sent to a data plane in a single call. Batches are exchanged in the plain JSON
+ * {@link SignalingWireFormat} only.
+ *
+ * @param start     the data flows to be started.
+ * @param suspend   the ids of the data flows to be suspended.
+ * @param terminate the ids of the data flows to be terminated.
+ */
+public record DataFlowBatchMessage(List<DataFlowStartMessage> start, List<String> suspend, List<String> terminate) {
+
+    public DataFlowBatchMessage {
+        start = start == null ? List.of() : List.copyOf(start);
+        suspend = suspend == null ? List.of() : List.copyOf(suspend);
+        terminate = terminate == null ? List.of() : List.copyOf(terminate);
+    }
+
+    /**
+     * Total number of signals in the batch.
+     */
+    public int signalCount() {
+        return start.size() + suspend.size() + terminate.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Per-signal outcome of a {@link DataFlowBatchMessage}. A failed item does not affect the other items of the batch.
+ *
+ * @param items the outcome of every signal of the batch.
+ */
+public record DataFlowBatchResult(List<Item> items) {
+
+    public DataFlowBatchResult {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    /**
+     * The kind of signal.
+     */
+    public enum Operation {
+        START, SUSPEND, TERMINATE
+    }
+
+    /**
+     * Outcome of a single signal.
+     *
+     * @param processId     the transfer process id.
+     * @param operation     the signal.
+     * @param succeeded     whether the signal has been applied.
+     * @param failureDetail the failure detail, null on success.
+     * @param response      the start response, only for successful {@link Operation#START} signals.
+     */
+    public record Item(String processId, Operation operation, boolean succeeded, @Nullable String failureDetail,
+                       @Nullable DataFlowResponseMessage response) {
+
+        public static Item success(String processId, Operation operation, @Nullable DataFlowResponseMessage response) {
+            return new Item(processId, operation, true, null, response);
+        }
+
+        public static Item failure(String processId, Operation operation, String failureDetail) {
+            return new Item(processId, operation, false, failureDetail, null);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+import java.util.Comparator;
+
+/**
+ * Point-in-time load of a data plane, reported to the control plane on availability checks and used by load-aware
+ * selection strategies.
+ *
+ * @param activeFlows   number of data flows currently being transferred.
+ * @param inFlightBytes number of bytes moved so far by the data flows currently being transferred.
+ * @param saturation    usage of the transfer executor, between 0 (idle) and 1 (every worker busy).
+ */
+public record DataPlaneLoad(int activeFlows, long inFlightBytes, double saturation) {
+
+    /**
+     * Orders loads from the least to the most loaded: by saturation first, then by active flows and in-flight bytes.
+     */
+    public static final Comparator<DataPlaneLoad> LEAST_LOADED_FIRST = Comparator.comparingDouble(DataPlaneLoad::saturation)
+            .thenComparingInt(DataPlaneLoad::activeFlows)
+            .thenComparingLong(DataPlaneLoad::inFlightBytes);
+
+    public DataPlaneLoad {
+        if (activeFlows < 0 || inFlightBytes < 0) {
+            throw new IllegalArgumentException("Load values cannot be negative");
+        }
+        saturation = Math.max(0, Math.min(1, saturation));
+    }
+
+}
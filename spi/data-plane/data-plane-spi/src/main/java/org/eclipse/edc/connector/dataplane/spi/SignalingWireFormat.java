@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Wire formats supported by the data plane signaling API. JSON-LD is the interoperable format, the plain JSON format
+ * carries the Jackson-serialized messages and skips the JSON-LD expansion/compaction on both ends, it is meant for the
+ * internal traffic between a control plane and its data planes.
+ * <p>
+ * A data plane advertises the formats it accepts through the {@link #SIGNALING_WIRE_FORMATS} property of its instance.
+ */
+public enum SignalingWireFormat {
+
+    JSON_LD("jsonld", "application/json"),
+    JSON("json", SignalingWireFormat.JSON_MEDIA_TYPE);
+
+    public static final String SIGNALING_WIRE_FORMATS = EDC_NAMESPACE + "signalingWireFormats";
+    public static final String JSON_MEDIA_TYPE = "application/vnd.eclipse.edc.signaling+json";
+
+    private final String wireName;
+    private final String mediaType;
+
+    SignalingWireFormat(String wireName, String mediaType) {
+        this.wireName = wireName;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Parses the value of the {@link #SIGNALING_WIRE_FORMATS} property. A missing value means that only JSON-LD is
+     * supported, unknown formats are ignored.
+     *
+     * @param advertised the property value, either a comma separated string or a collection of strings.
+     * @return the supported formats.
+     */
+    public static List<SignalingWireFormat> parse(Object advertised) {
+        Stream<String> names;
+        if (advertised instanceof Collection<?> collection) {
+            names = collection.stream().map(String::valueOf);
+        } else if (advertised != null) {
+            names = Arrays.stream(advertised.toString().split(","));
+        } else {
+            return List.of(JSON_LD);
+        }
+
+        var formats = names.map(String::trim)
+                .flatMap(name -> Arrays.stream(values()).filter(format -> format.wireName.equals(name)))
+                .distinct()
+                .toList();
+
+        return formats.isEmpty() ? List.of(JSON_LD) : formats;
+    }
+
+    /**
+     * Formats the given wire formats as value for the {@link #SIGNALING_WIRE_FORMATS} property.
+     *
+     * @param formats the supported formats.
+     * @return the property value.
+     */
+    public static String advertise(SignalingWireFormat... formats) {
+        return Arrays.stream(formats).map(SignalingWireFormat::wireName).collect(joining(","));
+    }
+
+    public String wireName() {
+        return wireName;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+}
@@ -49,4 +49,22 @@ public interface PipelineService extends TransferService {
      */
     Set<String> supportedSinkTypes();
 
+    /**
+     * Number of data flows currently being transferred by this service.
+     *
+     * @return the number of active flows, 0 if not tracked.
+     */
+    default int activeFlows() {
+        return 0;
+    }
+
+    /**
+     * Number of bytes moved so far by the data flows currently being transferred by this service.
+     *
+     * @return the in-flight bytes, 0 if not tracked.
+     */
+    default long inFlightBytes() {
+        return 0;
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core:common:boot"))
+    jmh(project(":core:common:connector-core"))
+    jmh(project(":core:common:lib:json-ld-lib"))
+    jmh(project(":core:common:lib:json-lib"))
+    jmh(project(":core:common:lib:policy-engine-lib"))
+    jmh(project(":core:common:lib:query-lib"))
+    jmh(project(":core:common:lib:sql-lib"))
+    jmh(project(":core:common:lib:store-lib"))
+    jmh(project(":core:common:lib:token-lib"))
+    jmh(project(":core:common:lib:transform-lib"))
+    jmh(project(":core:control-plane:control-plane-contract"))
+    jmh(project(":core:control-plane:control-plane-core"))
+    jmh(project(":core:control-plane:control-plane-transfer"))
+    jmh(project(":core:control-plane:control-plane-transform"))
+    jmh(project(":core:data-plane:data-plane-core"))
+    jmh(project(":core:data-plane:data-plane-util"))
+    jmh(project(":data-protocols:dsp:dsp-catalog:lib:dsp-catalog-transform-lib"))
+    jmh(project(":data-protocols:dsp:dsp-negotiation:lib:dsp-negotiation-transform-lib"))
+    jmh(project(":data-protocols:dsp:dsp-spi"))
+    jmh(project(":extensions:common:json-ld"))
+    jmh(project(":spi:control-plane:catalog-spi"))
+    jmh(project(":spi:control-plane:contract-spi"))
+    jmh(libs.h2)
+    jmh(libs.nimbus.jwt)
+}
+
+// benchmarks can be filtered with -PjmhIncludes=<regex>, and results written elsewhere with -PjmhResultsFile=<path>,
+// e.g. to keep one file per commit and compare them
+val jmhIncludes: String? by project
+val jmhResultsFile: String? by project
+
+// the virtual thread executor of TransferExecutorBenchmark needs a Java 21 or later JVM, it is benchmarked only when the
+// benchmarks run on one
+val jmhJavaVersion = javaToolchains.launcherFor(java.toolchain).get().metadata.languageVersion.asInt()
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    includes.set(listOfNotNull(jmhIncludes))
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("us")
+    fork.set(2)
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    jvmArgs.set(listOf("-Xms1g", "-Xmx1g", "-XX:+UseG1GC"))
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResultsFile?.let { layout.projectDirectory.file(it) } ?: layout.buildDirectory.file("results/jmh/results.json").get())
+    if (jmhJavaVersion < 21) {
+        benchmarkParameters.put("executor", objects.listProperty<String>().value(listOf("fixed")))
+    }
+}
+
+edcBuild {
+    publish.set(false)
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.participant.spi.ParticipantIdMapper;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.util.Map;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_NAMESPACE_V_2024_1;
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE_V_2024_1;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_PREFIX;
+
+/**
+ * Shared setup of the benchmarks. Everything is built from classpath resources, so that runs do not depend on the
+ * network and are comparable across commits.
+ */
+final class BenchmarkFixtures {
+
+    static final ParticipantIdMapper PARTICIPANT_ID_MAPPER = new ParticipantIdMapper() {
+        @Override
+        public String toIri(String participantId) {
+            return participantId;
+        }
+
+        @Override
+        public String fromIri(String iriParticipantId) {
+            return iriParticipantId;
+        }
+    };
+
+    private static final Map<String, String> CACHED_DOCUMENTS = Map.of(
+            "http://www.w3.org/ns/odrl.jsonld", "document/odrl.jsonld",
+            "https://w3id.org/dspace/2024/1/context.json", "document/dspace.jsonld"
+    );
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Json-ld service configured as the DSP 2024/1 protocol endpoints do, with remote document resolution disabled.
+     */
+    static TitaniumJsonLd dspJsonLd() {
+        var jsonLd = new TitaniumJsonLd(new ConsoleMonitor(ConsoleMonitor.Level.SEVERE, false));
+        CACHED_DOCUMENTS.forEach((url, resource) -> {
+            try {
+                jsonLd.registerCachedDocument(url, BenchmarkFixtures.class.getClassLoader().getResource(resource).toURI());
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, DSP_SCOPE_V_2024_1);
+        jsonLd.registerNamespace(DCT_PREFIX, DCT_SCHEMA, DSP_SCOPE_V_2024_1);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA, DSP_SCOPE_V_2024_1);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSP_NAMESPACE_V_2024_1.namespace(), DSP_SCOPE_V_2024_1);
+        jsonLd.registerNamespace(VOCAB, EDC_NAMESPACE, DSP_SCOPE_V_2024_1);
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE, DSP_SCOPE_V_2024_1);
+        return jsonLd;
+    }
+
+    /**
+     * Reads a json resource of the benchmarks.
+     */
+    static JsonObject readJson(String resource) {
+        try (var stream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resource);
+             var reader = Json.createReader(stream)) {
+            return reader.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.boot.system.DefaultServiceExtensionContext;
+import org.eclipse.edc.boot.system.DependencyGraph;
+import org.eclipse.edc.boot.system.ServiceLocatorImpl;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.spi.system.injection.InjectionDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Construction of the {@link DependencyGraph} of the core extensions on boot, with the injection points and provider
+ * methods scanned reflectively or taken from the injection descriptors generated at build time.
+ * <p>
+ * The reflective scan is measured once the JVM caches the reflection data of the extension classes, so the difference
+ * on an actual (cold) boot is larger than the one reported here.
+ */
+@State(Scope.Benchmark)
+public class BootBenchmark {
+
+    @Param({ "reflection", "descriptors" })
+    public String scan;
+
+    private ServiceExtensionContext context;
+    private List<ServiceExtension> extensions;
+    private List<InjectionDescriptor> descriptors;
+
+    @Setup
+    public void setup() {
+        var serviceLocator = new ServiceLocatorImpl();
+        extensions = serviceLocator.loadImplementors(ServiceExtension.class, true);
+        descriptors = "descriptors".equals(scan) ? serviceLocator.loadImplementors(InjectionDescriptor.class, true) : List.of();
+        context = new DefaultServiceExtensionContext(new ConsoleMonitor(ConsoleMonitor.Level.SEVERE, false), ConfigFactory.empty());
+    }
+
+    @Benchmark
+    public DependencyGraph dependencyGraph() {
+        return DependencyGraph.of(context, extensions, descriptors);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Filtering of entities with criteria converted to predicates by the {@link CriterionOperatorRegistryImpl}, which
+ * resolve the properties by reflection, as the in-memory stores do.
+ */
+@State(Scope.Benchmark)
+public class CriterionPredicateBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({ "1000", "10000" })
+    public int entities;
+
+    private List<Entity> store;
+    private List<Criterion> criteria;
+    private Predicate<Entity> predicate;
+    private ReflectionBasedQueryResolver<Entity> queryResolver;
+
+    @Setup
+    public void setup() {
+        var random = new Random(SEED);
+        var states = List.of("REQUESTED", "STARTED", "COMPLETED", "TERMINATED");
+        store = IntStream.range(0, entities)
+                .mapToObj(i -> new Entity("entity-" + i, states.get(random.nextInt(states.size())), random.nextLong(1_000_000),
+                        Map.of("contenttype", i % 2 == 0 ? "application/json" : "text/csv", "region", i % 3 == 0 ? "EU" : "US")))
+                .toList();
+
+        criteria = List.of(
+                criterion("state", "in", List.of("STARTED", "COMPLETED")),
+                criterion("properties.contenttype", "=", "application/json"),
+                criterion("id", "like", "entity-1%")
+        );
+
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        predicate = criteria.stream()
+                .map(criterionOperatorRegistry::<Entity>toPredicate)
+                .reduce(x -> true, Predicate::and);
+        queryResolver = new ReflectionBasedQueryResolver<>(Entity.class, criterionOperatorRegistry);
+    }
+
+    @Benchmark
+    public long filter() {
+        return store.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public long query() {
+        var querySpec = QuerySpec.Builder.newInstance().filter(criteria).limit(Integer.MAX_VALUE).build();
+        return queryResolver.query(store.stream(), querySpec).count();
+    }
+
+    /**
+     * Entity read by reflection, as the stored domain objects are.
+     */
+    public static class Entity {
+        private final String id;
+        private final String state;
+        private final long createdAt;
+        private final Map<String, Object> properties;
+
+        Entity(String id, String state, long createdAt, Map<String, Object> properties) {
+            this.id = id;
+            this.state = state;
+            this.createdAt = createdAt;
+            this.properties = properties;
+        }
+    }
+}
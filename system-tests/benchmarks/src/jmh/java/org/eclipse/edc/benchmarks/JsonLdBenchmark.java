@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE_V_2024_1;
+
+/**
+ * Expansion and compaction of DSP 2024/1 messages, as done for every incoming and outgoing protocol message.
+ */
+@State(Scope.Benchmark)
+public class JsonLdBenchmark {
+
+    @Param({ "dsp/catalog.json", "dsp/contract-request-message.json" })
+    public String message;
+
+    private TitaniumJsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setup() {
+        jsonLd = BenchmarkFixtures.dspJsonLd();
+        compacted = BenchmarkFixtures.readJson(message);
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public JsonObject expand() {
+        return jsonLd.expand(compacted).getContent();
+    }
+
+    @Benchmark
+    public JsonObject compact() {
+        return jsonLd.compact(expanded, DSP_SCOPE_V_2024_1).getContent();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.stream.IntStream;
+
+/**
+ * Evaluation of a policy with a growing number of constraints, each one bound to a constraint function.
+ */
+@State(Scope.Benchmark)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+
+    @Param({ "1", "10", "50" })
+    public int constraints;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setup() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry));
+        policyEngine.registerScope(SCOPE, BenchmarkContext.class);
+        bindingRegistry.bind("use", SCOPE);
+
+        var permissionConstraints = IntStream.range(0, constraints).mapToObj(i -> {
+            var key = "key-" + i;
+            bindingRegistry.bind(key, SCOPE);
+            policyEngine.registerFunction(BenchmarkContext.class, Permission.class, key,
+                    (operator, rightValue, rule, context) -> operator == Operator.EQ && ("value-" + i).equals(rightValue));
+            return atomic(key, "value-" + i);
+        }).toList();
+
+        policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(AndConstraint.Builder.newInstance().constraints(permissionConstraints).build())
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(policy, new BenchmarkContext());
+    }
+
+    private static AtomicConstraint atomic(String left, String right) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(left))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(right))
+                .build();
+    }
+
+    public static class BenchmarkContext extends PolicyContextImpl {
+        @Override
+        public String scope() {
+            return SCOPE;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.SqlQueryExecutorConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Statements run through the {@link SqlQueryExecutor} against an in-memory H2 database in PostgreSQL mode, which
+ * stands in for Postgres to keep the network and the database server out of the measurement. The statement cache can
+ * be switched off by setting its size to 0.
+ */
+@State(Scope.Benchmark)
+public class SqlQueryExecutorBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 100;
+    private static final String SELECT_BY_ID = "SELECT * FROM edc_benchmark_entity WHERE id = ?";
+    private static final String SELECT_BY_STATE = "SELECT * FROM edc_benchmark_entity WHERE state = ? ORDER BY created_at LIMIT 50";
+    private static final String UPDATE_STATE = "UPDATE edc_benchmark_entity SET state = ?, properties = ? WHERE id = ?";
+
+    @Param({ "0", "64" })
+    public int statementCacheSize;
+
+    private Connection connection;
+    private SqlQueryExecutor queryExecutor;
+    private List<Object[]> batch;
+    private int counter;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:benchmark-" + statementCacheSize + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        queryExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(5000, statementCacheSize));
+
+        queryExecutor.execute(connection, "CREATE TABLE IF NOT EXISTS edc_benchmark_entity (id VARCHAR PRIMARY KEY, state INTEGER NOT NULL, created_at BIGINT NOT NULL, properties VARCHAR)");
+        queryExecutor.execute(connection, "DELETE FROM edc_benchmark_entity");
+        queryExecutor.executeBatch(connection, "INSERT INTO edc_benchmark_entity (id, state, created_at, properties) VALUES (?, ?, ?, ?)",
+                IntStream.range(0, ROWS).mapToObj(i -> new Object[]{ "entity-" + i, i % 10, (long) i, "{\"index\":" + i + "}" }).toList());
+
+        batch = IntStream.range(0, BATCH_SIZE).mapToObj(i -> new Object[]{ 1, "{}", "entity-" + i }).toList();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public String selectById() {
+        return queryExecutor.single(connection, false, resultSet -> resultSet.getString("properties"), SELECT_BY_ID, "entity-" + (counter++ % ROWS));
+    }
+
+    @Benchmark
+    public long selectPage() {
+        try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString("id"), SELECT_BY_STATE, counter++ % 10)) {
+            return stream.count();
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        var id = counter++ % ROWS;
+        return queryExecutor.execute(connection, UPDATE_STATE, id % 10, "{}", "entity-" + id);
+    }
+
+    @Benchmark
+    public int[] updateBatch() {
+        return queryExecutor.executeBatch(connection, UPDATE_STATE, batch);
+    }
+}
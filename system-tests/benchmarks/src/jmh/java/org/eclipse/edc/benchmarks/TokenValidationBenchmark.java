@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.eclipse.edc.token.rules.AudienceValidationRule;
+import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
+import org.eclipse.edc.token.rules.NotBeforeValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Validation of an ES256 signed token with the rules applied to protocol requests.
+ */
+@State(Scope.Benchmark)
+public class TokenValidationBenchmark {
+
+    private static final String KEY_ID = "did:web:provider#key-1";
+    private static final String AUDIENCE = "did:web:consumer";
+
+    private final TokenValidationServiceImpl tokenValidationService = new TokenValidationServiceImpl();
+    private TokenRepresentation token;
+    private PublicKeyResolver publicKeyResolver;
+    private List<TokenValidationRule> rules;
+
+    @Setup
+    public void setup() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).keyID(KEY_ID).generate();
+        var publicKey = key.toECPublicKey();
+        publicKeyResolver = id -> KEY_ID.equals(id) ? Result.success(publicKey) : Result.failure("Unknown key " + id);
+
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer("did:web:provider")
+                .subject("did:web:provider")
+                .audience(AUDIENCE)
+                .jwtID("token-id")
+                .issueTime(Date.from(now))
+                .notBeforeTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .claim("scope", "catalog:read contract:negotiate")
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(KEY_ID).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+        token = TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+
+        var clock = Clock.systemUTC();
+        rules = List.of(
+                new AudienceValidationRule(AUDIENCE),
+                new NotBeforeValidationRule(clock, 5, false),
+                new ExpirationIssuedAtValidationRule(clock, 5, false)
+        );
+    }
+
+    @Benchmark
+    public Result<ClaimToken> validate() {
+        return tokenValidationService.validate(token, publicKeyResolver, rules);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.dataplane.util.concurrency.TransferExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the data transfer executors with transfers that mostly wait on I/O: the fixed pool used by default
+ * against the virtual thread per task executor enabled by {@code edc.dataplane.transfer.virtual-threads}.
+ * The virtual thread variant needs a Java 21 or later JVM: the build leaves it out when the benchmarks run on an older
+ * one, and it fails at setup if requested explicitly there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransferExecutorBenchmark {
+
+    private static final int FIXED_POOL_SIZE = 20;
+    private static final long IO_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({ "fixed", "virtual" })
+    public String executor;
+
+    @Param({ "100", "1000" })
+    public int transfers;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setup() {
+        executorService = switch (executor) {
+            case "fixed" -> Executors.newFixedThreadPool(FIXED_POOL_SIZE);
+            case "virtual" -> TransferExecutors.newVirtualThreadPerTaskExecutor()
+                    .orElseThrow(() -> new IllegalStateException("Virtual threads require Java 21 or later"));
+            default -> throw new IllegalArgumentException("Unknown executor " + executor);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public void transfer() {
+        var futures = IntStream.range(0, transfers)
+                .mapToObj(i -> CompletableFuture.runAsync(TransferExecutorBenchmark::transferParts, executorService))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static void transferParts() {
+        for (var part = 0; part < 4; part++) {
+            Blackhole.consumeCPU(1_000);
+            LockSupport.parkNanos(IO_WAIT_NANOS);
+        }
+    }
+}
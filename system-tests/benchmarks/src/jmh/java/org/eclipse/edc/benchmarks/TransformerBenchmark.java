@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractRequestMessage;
+import org.eclipse.edc.connector.controlplane.transform.odrl.OdrlTransformersFactory;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.v2024.from.JsonObjectFromCatalogV2024Transformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.to.JsonObjectToContractRequestMessageTransformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.v2024.from.JsonObjectFromContractRequestMessageV2024Transformer;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_NAMESPACE_V_2024_1;
+import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_TRANSFORMER_CONTEXT_V_2024_1;
+import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
+
+/**
+ * Transformation of catalogs and negotiation messages through the {@link TypeTransformerRegistry}, with the DSP
+ * 2024/1 transformers registered as the protocol extensions do.
+ */
+@State(Scope.Benchmark)
+public class TransformerBenchmark {
+
+    @Param({ "10", "100" })
+    public int datasets;
+
+    private TypeTransformerRegistry registry;
+    private Catalog catalog;
+    private JsonObject expandedContractRequest;
+
+    @Setup
+    public void setup() {
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerContext(JSON_LD, JacksonJsonLd.createObjectMapper());
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+        var participantIdMapper = BenchmarkFixtures.PARTICIPANT_ID_MAPPER;
+
+        registry = new TypeTransformerRegistryImpl().forContext(DSP_TRANSFORMER_CONTEXT_V_2024_1);
+        registry.register(new JsonObjectFromCatalogV2024Transformer(jsonFactory, typeManager, JSON_LD, participantIdMapper, DSP_NAMESPACE_V_2024_1));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, typeManager, JSON_LD));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory, participantIdMapper, true));
+        registry.register(new JsonObjectFromContractRequestMessageV2024Transformer(jsonFactory));
+        registry.register(new JsonObjectToContractRequestMessageTransformer(DSP_NAMESPACE_V_2024_1));
+        registry.register(new JsonValueToGenericTypeTransformer(typeManager, JSON_LD));
+        OdrlTransformersFactory.jsonObjectToOdrlTransformers(participantIdMapper).forEach(registry::register);
+
+        catalog = catalog(datasets);
+
+        var jsonLd = BenchmarkFixtures.dspJsonLd();
+        expandedContractRequest = jsonLd.expand(BenchmarkFixtures.readJson("dsp/contract-request-message.json"))
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public JsonObject catalogToJson() {
+        return registry.transform(catalog, JsonObject.class).getContent();
+    }
+
+    @Benchmark
+    public ContractRequestMessage contractRequestFromJson() {
+        return registry.transform(expandedContractRequest, ContractRequestMessage.class).getContent();
+    }
+
+    @Benchmark
+    public JsonObject contractRequestRoundTrip() {
+        var message = registry.transform(expandedContractRequest, ContractRequestMessage.class).getContent();
+        return registry.transform(message, JsonObject.class).getContent();
+    }
+
+    private static Catalog catalog(int datasets) {
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service")
+                .endpointDescription("dspace:connector")
+                .endpointUrl("https://provider.example.com/protocol")
+                .build();
+        var builder = Catalog.Builder.newInstance()
+                .id("catalog")
+                .participantId("provider")
+                .dataService(dataService);
+        IntStream.range(0, datasets).forEach(i -> builder.dataset(Dataset.Builder.newInstance()
+                .id("asset-" + i)
+                .offer("offer-" + i, policy())
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .property("name", "asset " + i)
+                .property("contenttype", "application/json")
+                .build()));
+        return builder.build();
+    }
+
+    private static Policy policy() {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("spatial"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("EU"))
+                .build();
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(constraint)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+plugins {
+    java
+}
+
+dependencies {
+    testImplementation(project(":spi:common:core-spi"))
+    testImplementation(project(":spi:control-plane:contract-spi"))
+    testImplementation(project(":spi:control-plane:transfer-spi"))
+    testImplementation(project(":spi:data-plane:data-plane-spi"))
+    testImplementation(project(":core:common:lib:sql-lib"))
+    testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":extensions:common:sql:sql-test-fixtures")))
+    testImplementation(testFixtures(project(":extensions:control-plane:api:management-api:management-api-test-fixtures")))
+    testImplementation(project(":extensions:common:json-ld"))
+
+    testImplementation(libs.postgres)
+    testImplementation(libs.restAssured)
+    testImplementation(libs.awaitility)
+    testImplementation(libs.jackson.databind)
+    testImplementation(libs.testcontainers.junit)
+    testImplementation(libs.testcontainers.postgres)
+
+    testCompileOnly(project(":system-tests:e2e-transfer-test:control-plane"))
+    testCompileOnly(project(":system-tests:e2e-transfer-test:data-plane"))
+}
+
+// forward the load scenario parameters (-Dedc.load.*) from the Gradle invocation to the test JVM
+tasks.withType<Test> {
+    System.getProperties()
+        .filterKeys { it.toString().startsWith("edc.load.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+}
+
+edcBuild {
+    publish.set(false)
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link QueryExecutor} decorator that counts the statements issued by a runtime. It replaces the runtime executor,
+ * so every store using the {@link QueryExecutor} service is accounted for.
+ */
+public class CountingQueryExecutor implements QueryExecutor {
+
+    private final QueryExecutor delegate;
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedStatements = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+
+    public CountingQueryExecutor() {
+        this(new SqlQueryExecutor());
+    }
+
+    public CountingQueryExecutor(QueryExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int execute(Connection connection, String sql, Object... arguments) {
+        executions.incrementAndGet();
+        return delegate.execute(connection, sql, arguments);
+    }
+
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        batches.incrementAndGet();
+        batchedStatements.addAndGet(argumentsList.size());
+        return delegate.executeBatch(connection, sql, argumentsList);
+    }
+
+    @Override
+    public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        queries.incrementAndGet();
+        return delegate.query(connection, closeConnection, resultSetMapper, sql, arguments);
+    }
+
+    @Override
+    public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        queries.incrementAndGet();
+        return delegate.single(connection, closeConnection, resultSetMapper, sql, arguments);
+    }
+
+    /**
+     * Resets the counters, to be called between runs.
+     */
+    public void reset() {
+        executions.set(0);
+        batches.set(0);
+        batchedStatements.set(0);
+        queries.set(0);
+    }
+
+    /**
+     * Statement counts since the last reset, with the average per flow.
+     *
+     * @param flows number of flows run since the last reset.
+     */
+    public Map<String, Object> summary(int flows) {
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("queries", queries.get());
+        summary.put("updates", executions.get());
+        summary.put("batches", batches.get());
+        summary.put("batchedStatements", batchedStatements.get());
+        var total = queries.get() + executions.get() + batches.get();
+        summary.put("roundTripsPerFlow", flows == 0 ? 0 : (double) total / flows);
+        return summary;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Thread-safe collector of latency samples, expressed in nanoseconds.
+ */
+public class LatencySamples {
+
+    private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+
+    public void record(long nanos) {
+        samples.add(nanos);
+    }
+
+    public int count() {
+        return samples.size();
+    }
+
+    /**
+     * Summary of the collected samples: count, mean, p50, p90, p99 and max, in milliseconds.
+     */
+    public Map<String, Object> summary() {
+        var sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("count", sorted.length);
+        if (sorted.length == 0) {
+            return summary;
+        }
+        summary.put("meanMs", millis((long) Arrays.stream(sorted).average().orElse(0)));
+        summary.put("p50Ms", millis(percentile(sorted, 50)));
+        summary.put("p90Ms", millis(percentile(sorted, 90)));
+        summary.put("p99Ms", millis(percentile(sorted, 99)));
+        summary.put("maxMs", millis(sorted[sorted.length - 1]));
+        return summary;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        var index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private double millis(long nanos) {
+        return nanos / (double) MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a load run. It is printed on the standard output and written as JSON in {@code build/reports/load}, so
+ * that runs with different parameters or on different revisions can be compared.
+ */
+public class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Object> content = new LinkedHashMap<>();
+
+    public LoadReport(String variant, LoadScenario scenario) {
+        content.put("variant", variant);
+        content.put("scenario", scenario.asMap());
+    }
+
+    public LoadReport put(String key, Object value) {
+        content.put(key, value);
+        return this;
+    }
+
+    /**
+     * Prints the report and writes it to {@code build/reports/load/<variant>.json}.
+     *
+     * @return the path of the written file.
+     */
+    public Path publish() {
+        try {
+            var json = MAPPER.writeValueAsString(content);
+            System.out.println(json);
+
+            var directory = Path.of(System.getProperty("user.dir"), "build", "reports", "load");
+            Files.createDirectories(directory);
+            return Files.writeString(directory.resolve(content.get("variant") + ".json"), json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write load report", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+
+/**
+ * Parameters of a load run. Every value can be overridden through a {@code edc.load.*} system property, e.g.
+ * {@code ./gradlew -p system-tests/load-test test -DincludeTags="LoadTest" -Dedc.load.flows=1000}.
+ *
+ * @param flows               total number of catalog-negotiation-transfer flows to run.
+ * @param warmupFlows         number of flows run, and discarded from the report, before the measured ones.
+ * @param concurrency         number of flows in flight at the same time.
+ * @param assets              number of assets offered by the provider, flows are distributed among them round-robin.
+ * @param batchSize           batch size of the negotiation, transfer and data plane state machines.
+ * @param iterationWaitMillis wait time of the state machines when an iteration processed no entity.
+ * @param timeout             maximum time a single flow is allowed to take.
+ */
+public record LoadScenario(int flows, int warmupFlows, int concurrency, int assets, int batchSize, long iterationWaitMillis, Duration timeout) {
+
+    private static final String PREFIX = "edc.load.";
+
+    /**
+     * Reads the scenario from the {@code edc.load.*} system properties, falling back to defaults suited for a quick
+     * local run.
+     */
+    public static LoadScenario fromSystemProperties() {
+        return new LoadScenario(
+                parseInt(property("flows", "200")),
+                parseInt(property("warmup-flows", "20")),
+                parseInt(property("concurrency", "20")),
+                parseInt(property("assets", "10")),
+                parseInt(property("batch-size", "20")),
+                parseLong(property("iteration-wait-millis", "50")),
+                Duration.ofSeconds(parseLong(property("timeout-seconds", "60")))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    /**
+     * State machine settings derived from the scenario, to be applied on every runtime taking part in the run.
+     */
+    public Config stateMachineConfig() {
+        var settings = new LinkedHashMap<String, String>();
+        settings.put("edc.negotiation.state-machine.iteration-wait-millis", String.valueOf(iterationWaitMillis));
+        settings.put("edc.negotiation.consumer.state-machine.batch-size", String.valueOf(batchSize));
+        settings.put("edc.negotiation.provider.state-machine.batch-size", String.valueOf(batchSize));
+        settings.put("edc.transfer.state-machine.iteration-wait-millis", String.valueOf(iterationWaitMillis));
+        settings.put("edc.transfer.state-machine.batch-size", String.valueOf(batchSize));
+        settings.put("edc.dataplane.state-machine.iteration-wait-millis", String.valueOf(iterationWaitMillis));
+        settings.put("edc.dataplane.state-machine.batch-size", String.valueOf(batchSize));
+        return ConfigFactory.fromMap(settings);
+    }
+
+    /**
+     * Scenario parameters, as they are written in the report.
+     */
+    public Map<String, Object> asMap() {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("flows", flows);
+        map.put("warmupFlows", warmupFlows);
+        map.put("concurrency", concurrency);
+        map.put("assets", assets);
+        map.put("batchSize", batchSize);
+        map.put("iterationWaitMillis", iterationWaitMillis);
+        map.put("timeoutSeconds", timeout.toSeconds());
+        return map;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.test.system.utils.LazySupplier;
+import org.eclipse.edc.connector.controlplane.test.system.utils.Participant;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+
+import java.net.URI;
+import java.util.HashMap;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static java.io.File.separator;
+import static org.eclipse.edc.boot.BootServicesExtension.PARTICIPANT_ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_ASSIGNER_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_POLICY_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_TARGET_ATTRIBUTE;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+
+/**
+ * Participant of the load test: a control plane with an embedded data plane.
+ * Unlike the end-to-end participants, the steps of a flow are exposed separately so that the driver can time them.
+ */
+public class LoadTestParticipant extends Participant {
+
+    private final LazySupplier<URI> control = new LazySupplier<>(() -> URI.create("http://localhost:" + getFreePort() + "/control"));
+
+    protected LoadTestParticipant() {
+        super();
+    }
+
+    /**
+     * Configuration of the runtime, the state machine settings come from the scenario.
+     *
+     * @param scenario the load scenario.
+     * @return the runtime configuration.
+     */
+    public Config runtimeConfig(LoadScenario scenario) {
+        var settings = new HashMap<String, String>() {
+            {
+                put(PARTICIPANT_ID, id);
+                put("web.http.port", String.valueOf(getFreePort()));
+                put("web.http.path", "/api");
+                put("web.http.version.port", String.valueOf(getFreePort()));
+                put("web.http.protocol.port", String.valueOf(controlPlaneProtocol.get().getPort()));
+                put("web.http.protocol.path", controlPlaneProtocol.get().getPath());
+                put("web.http.management.port", String.valueOf(controlPlaneManagement.get().getPort()));
+                put("web.http.management.path", controlPlaneManagement.get().getPath());
+                put("web.http.control.port", String.valueOf(control.get().getPort()));
+                put("web.http.control.path", control.get().getPath());
+                put("edc.dsp.callback.address", controlPlaneProtocol.get().toString());
+                put("edc.keystore", resourceAbsolutePath("certs/cert.pfx"));
+                put("edc.keystore.password", "123456");
+                put("edc.transfer.proxy.token.signer.privatekey.alias", "private-key");
+                put("edc.transfer.proxy.token.verifier.publickey.alias", "public-key");
+                put("edc.dpf.selector.url", control.get() + "/v1/dataplanes");
+            }
+        };
+
+        return ConfigFactory.fromMap(settings).merge(scenario.stateMachineConfig());
+    }
+
+    /**
+     * Fetches the dataset of the asset from the provider catalog and builds the offer to be negotiated.
+     *
+     * @param provider the provider.
+     * @param assetId  the asset id.
+     * @return the offer.
+     */
+    public JsonObject getOffer(Participant provider, String assetId) {
+        var dataset = getDatasetForAsset(provider, assetId);
+        var policy = dataset.getJsonArray(ODRL_POLICY_ATTRIBUTE).get(0).asJsonObject();
+        return createObjectBuilder(policy)
+                .add(ODRL_ASSIGNER_ATTRIBUTE, createObjectBuilder().add(ID, provider.getId()))
+                .add(ODRL_TARGET_ATTRIBUTE, createObjectBuilder().add(ID, dataset.get(ID)))
+                .build();
+    }
+
+    /**
+     * Returns the agreement id of a finalized negotiation.
+     *
+     * @param negotiationId the negotiation id.
+     * @return the agreement id.
+     */
+    public String getContractAgreementId(String negotiationId) {
+        return getContractNegotiationField(negotiationId, "contractAgreementId");
+    }
+
+    private String resourceAbsolutePath(String filename) {
+        return System.getProperty("user.dir") + separator + "build" + separator + "resources" + separator + "test" + separator + filename;
+    }
+
+    public static class Builder extends Participant.Builder<LoadTestParticipant, Builder> {
+
+        protected Builder() {
+            super(new LoadTestParticipant());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+    }
+}
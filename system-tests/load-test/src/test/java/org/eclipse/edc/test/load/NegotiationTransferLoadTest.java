@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationFinalized;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.junit.annotations.LoadTest;
+import org.eclipse.edc.junit.extensions.RuntimeExtension;
+import org.eclipse.edc.junit.extensions.RuntimePerClassExtension;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Drives concurrent catalog-negotiation-transfer flows between a consumer and a provider and reports throughput,
+ * per-phase and per-state-transition latencies and, for the PostgreSQL variant, the number of statements issued.
+ * See the module README for the available parameters.
+ */
+class NegotiationTransferLoadTest {
+
+    private static final LoadScenario SCENARIO = LoadScenario.fromSystemProperties();
+
+    private static final LoadTestParticipant CONSUMER = LoadTestParticipant.Builder.newInstance()
+            .name("consumer")
+            .id("urn:connector:consumer")
+            .timeout(SCENARIO.timeout())
+            .build();
+    private static final LoadTestParticipant PROVIDER = LoadTestParticipant.Builder.newInstance()
+            .name("provider")
+            .id("urn:connector:provider")
+            .timeout(SCENARIO.timeout())
+            .build();
+
+    abstract static class Tests {
+
+        private static final String ASSET_ID_PREFIX = "load-asset-";
+
+        private final StateTransitionRecorder consumerRecorder = new StateTransitionRecorder("consumer");
+        private final StateTransitionRecorder providerRecorder = new StateTransitionRecorder("provider");
+        private final Map<String, LatencySamples> phases = new ConcurrentHashMap<>();
+
+        @Test
+        void negotiateAndTransfer() {
+            getProviderRuntime().getService(Vault.class).storeSecret("private-key", getResourceFileContentAsString("certs/key.pem"));
+            getProviderRuntime().getService(Vault.class).storeSecret("public-key", getResourceFileContentAsString("certs/cert.pem"));
+            consumerRecorder.subscribeTo(getConsumerRuntime().getService(EventRouter.class));
+            providerRecorder.subscribeTo(getProviderRuntime().getService(EventRouter.class));
+            seedProvider();
+
+            run(SCENARIO.warmupFlows());
+            consumerRecorder.reset();
+            providerRecorder.reset();
+            phases.clear();
+            resetStatementCounts();
+
+            var start = System.nanoTime();
+            var errors = run(SCENARIO.flows());
+            var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            var completed = SCENARIO.flows() - errors.size();
+            var report = new LoadReport(variant(), SCENARIO)
+                    .put("elapsedSeconds", elapsedSeconds)
+                    .put("completedFlows", completed)
+                    .put("failedFlows", errors.size())
+                    .put("flowsPerSecond", completed / elapsedSeconds)
+                    .put("phases", summary(phases))
+                    .put("consumerTransitions", consumerRecorder.summary())
+                    .put("providerTransitions", providerRecorder.summary())
+                    .put("statements", statementCounts(SCENARIO.flows()))
+                    .put("errors", errors.stream().distinct().limit(10).toList());
+            report.publish();
+
+            assertThat(errors).isEmpty();
+        }
+
+        protected abstract RuntimeExtension getConsumerRuntime();
+
+        protected abstract RuntimeExtension getProviderRuntime();
+
+        protected abstract String variant();
+
+        protected Map<String, Object> statementCounts(int flows) {
+            return Map.of();
+        }
+
+        protected void resetStatementCounts() {
+        }
+
+        private void seedProvider() {
+            var policyId = PROVIDER.createPolicyDefinition(noConstraintPolicy());
+            for (var i = 0; i < SCENARIO.assets(); i++) {
+                var assetId = ASSET_ID_PREFIX + i;
+                PROVIDER.createAsset(assetId, Map.of("description", "load test asset"), Map.of(
+                        EDC_NAMESPACE + "name", "load-test",
+                        EDC_NAMESPACE + "baseUrl", "http://any/source",
+                        EDC_NAMESPACE + "type", "HttpData"
+                ));
+                PROVIDER.createContractDefinition(assetId, UUID.randomUUID().toString(), policyId, policyId);
+            }
+        }
+
+        /**
+         * Runs the given number of flows, keeping {@link LoadScenario#concurrency()} of them in flight.
+         *
+         * @return the error messages of the failed flows.
+         */
+        private List<String> run(int flows) {
+            var errors = new ArrayList<String>();
+            var executor = Executors.newFixedThreadPool(SCENARIO.concurrency());
+            try {
+                var futures = IntStream.range(0, flows)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> flow(ASSET_ID_PREFIX + (i % SCENARIO.assets())), executor))
+                        .toList();
+
+                for (var future : futures) {
+                    try {
+                        future.join();
+                    } catch (CompletionException e) {
+                        errors.add(e.getCause().getMessage());
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            return errors;
+        }
+
+        private void flow(String assetId) {
+            var start = System.nanoTime();
+
+            var offer = CONSUMER.getOffer(PROVIDER, assetId);
+            var catalogDone = record("catalog", start);
+
+            var negotiationId = CONSUMER.initContractNegotiation(PROVIDER, offer);
+            consumerRecorder.await(negotiationId, ContractNegotiationFinalized.class, SCENARIO.timeout());
+            var negotiationDone = record("negotiation", catalogDone);
+
+            var agreementId = CONSUMER.getContractAgreementId(negotiationId);
+            var transferProcessId = CONSUMER.initiateTransfer(PROVIDER, agreementId, null, null, "HttpData-PULL");
+            consumerRecorder.await(transferProcessId, TransferProcessStarted.class, SCENARIO.timeout());
+            record("transfer", negotiationDone);
+
+            record("flow", start);
+        }
+
+        private long record(String phase, long since) {
+            var now = System.nanoTime();
+            phases.computeIfAbsent(phase, k -> new LatencySamples()).record(now - since);
+            return now;
+        }
+
+        private Map<String, Object> summary(Map<String, LatencySamples> samples) {
+            var summary = new LinkedHashMap<String, Object>();
+            List.of("catalog", "negotiation", "transfer", "flow").forEach(phase -> {
+                var phaseSamples = samples.get(phase);
+                if (phaseSamples != null) {
+                    summary.put(phase, phaseSamples.summary());
+                }
+            });
+            return summary;
+        }
+    }
+
+    @Nested
+    @LoadTest
+    class InMemory extends Tests {
+
+        @RegisterExtension
+        static final RuntimeExtension CONSUMER_RUNTIME = new RuntimePerClassExtension(
+                Runtimes.IN_MEMORY.create("consumer")
+                        .configurationProvider(() -> CONSUMER.runtimeConfig(SCENARIO))
+        );
+
+        @RegisterExtension
+        static final RuntimeExtension PROVIDER_RUNTIME = new RuntimePerClassExtension(
+                Runtimes.IN_MEMORY.create("provider")
+                        .configurationProvider(() -> PROVIDER.runtimeConfig(SCENARIO))
+                        .registerSystemExtension(ServiceExtension.class, new PublicEndpointStubExtension())
+        );
+
+        @Override
+        protected RuntimeExtension getConsumerRuntime() {
+            return CONSUMER_RUNTIME;
+        }
+
+        @Override
+        protected RuntimeExtension getProviderRuntime() {
+            return PROVIDER_RUNTIME;
+        }
+
+        @Override
+        protected String variant() {
+            return "in-memory";
+        }
+    }
+
+    @Nested
+    @LoadTest
+    class Postgres extends Tests {
+
+        private static final CountingQueryExecutor CONSUMER_STATEMENTS = new CountingQueryExecutor();
+        private static final CountingQueryExecutor PROVIDER_STATEMENTS = new CountingQueryExecutor();
+
+        @Order(0)
+        @RegisterExtension
+        static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = new PostgresqlEndToEndExtension();
+
+        @Order(1)
+        @RegisterExtension
+        static final BeforeAllCallback CREATE_DATABASES = context -> {
+            POSTGRESQL_EXTENSION.createDatabase(CONSUMER.getName());
+            POSTGRESQL_EXTENSION.createDatabase(PROVIDER.getName());
+        };
+
+        @RegisterExtension
+        static final RuntimeExtension CONSUMER_RUNTIME = new RuntimePerClassExtension(
+                Runtimes.POSTGRES.create("consumer")
+                        .configurationProvider(() -> CONSUMER.runtimeConfig(SCENARIO))
+                        .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(CONSUMER.getName()))
+                        .registerServiceMock(QueryExecutor.class, CONSUMER_STATEMENTS)
+        );
+
+        @RegisterExtension
+        static final RuntimeExtension PROVIDER_RUNTIME = new RuntimePerClassExtension(
+                Runtimes.POSTGRES.create("provider")
+                        .configurationProvider(() -> PROVIDER.runtimeConfig(SCENARIO))
+                        .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(PROVIDER.getName()))
+                        .registerServiceMock(QueryExecutor.class, PROVIDER_STATEMENTS)
+                        .registerSystemExtension(ServiceExtension.class, new PublicEndpointStubExtension())
+        );
+
+        @Override
+        protected RuntimeExtension getConsumerRuntime() {
+            return CONSUMER_RUNTIME;
+        }
+
+        @Override
+        protected RuntimeExtension getProviderRuntime() {
+            return PROVIDER_RUNTIME;
+        }
+
+        @Override
+        protected String variant() {
+            return "postgres";
+        }
+
+        @Override
+        protected Map<String, Object> statementCounts(int flows) {
+            return Map.of(
+                    "consumer", CONSUMER_STATEMENTS.summary(flows),
+                    "provider", PROVIDER_STATEMENTS.summary(flows)
+            );
+        }
+
+        @Override
+        protected void resetStatementCounts() {
+            CONSUMER_STATEMENTS.reset();
+            PROVIDER_STATEMENTS.reset();
+        }
+    }
+}
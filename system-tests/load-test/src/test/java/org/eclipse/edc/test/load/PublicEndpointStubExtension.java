@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.connector.dataplane.spi.Endpoint;
+import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * Registers a public endpoint for {@code HttpData} sources, so that PULL transfers can be started. The load test does
+ * not fetch the data, so the endpoint does not need to be served.
+ */
+public class PublicEndpointStubExtension implements ServiceExtension {
+
+    @Inject
+    private PublicEndpointGeneratorService generatorService;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        generatorService.addGeneratorFunction("HttpData", address -> Endpoint.url("http://localhost/public"));
+    }
+}
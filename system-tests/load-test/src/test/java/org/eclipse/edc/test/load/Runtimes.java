@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.junit.extensions.ClasspathReader;
+import org.eclipse.edc.junit.extensions.EmbeddedRuntime;
+
+import java.net.URL;
+
+/**
+ * Runtimes for the load test: control planes with an embedded data plane, backed either by the in-memory stores or by
+ * the PostgreSQL ones.
+ */
+public enum Runtimes {
+
+    IN_MEMORY(
+            ":system-tests:e2e-transfer-test:control-plane",
+            ":system-tests:e2e-transfer-test:data-plane"
+    ),
+
+    POSTGRES(
+            ":system-tests:e2e-transfer-test:control-plane",
+            ":system-tests:e2e-transfer-test:data-plane",
+            ":dist:bom:controlplane-feature-sql-bom",
+            ":dist:bom:dataplane-feature-sql-bom"
+    );
+
+    private URL[] classpathEntries;
+    private final String[] modules;
+
+    Runtimes(String... modules) {
+        this.modules = modules;
+    }
+
+    public EmbeddedRuntime create(String name) {
+        if (classpathEntries == null) {
+            classpathEntries = ClasspathReader.classpathFor(modules);
+        }
+        return new EmbeddedRuntime(name, classpathEntries);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.test.load;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationTerminated;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Records the time spent by negotiations and transfer processes between two subsequent state transitions, using the
+ * events published synchronously by the runtime. It also lets the load driver wait for a given transition without
+ * polling the management API, which would otherwise add load to the runtime under test.
+ */
+public class StateTransitionRecorder implements EventSubscriber {
+
+    private final String name;
+    private final Map<String, ProcessTrace> traces = new ConcurrentHashMap<>();
+    private final Map<String, LatencySamples> transitions = new ConcurrentHashMap<>();
+
+    public StateTransitionRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Subscribes the recorder to the negotiation and transfer process events of a runtime.
+     *
+     * @param eventRouter the runtime event router.
+     */
+    public void subscribeTo(EventRouter eventRouter) {
+        eventRouter.registerSync(ContractNegotiationEvent.class, this);
+        eventRouter.registerSync(TransferProcessEvent.class, this);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var now = System.nanoTime();
+        var payload = event.getPayload();
+        var processId = processId(payload);
+        if (processId == null) {
+            return;
+        }
+
+        var previous = traces.computeIfAbsent(processId, id -> new ProcessTrace()).transition(payload, now);
+        if (previous != null) {
+            var transition = "%s -> %s".formatted(previous.name(), payload.name());
+            transitions.computeIfAbsent(transition, k -> new LatencySamples()).record(now - previous.at());
+        }
+    }
+
+    /**
+     * Waits until the process has published the event.
+     *
+     * @param processId the negotiation or transfer process id.
+     * @param eventType the expected event type.
+     * @param timeout   the maximum wait time.
+     * @throws IllegalStateException if the process gets terminated or the timeout expires.
+     */
+    public void await(String processId, Class<? extends Event> eventType, Duration timeout) {
+        var future = traces.computeIfAbsent(processId, id -> new ProcessTrace()).future(eventType);
+        try {
+            future.get(timeout.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("%s: %s did not reach %s within %s".formatted(name, processId, eventType.getSimpleName(), timeout));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("%s: %s".formatted(name, e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Drops the traces of the processes, to be called between runs.
+     */
+    public void reset() {
+        traces.clear();
+        transitions.clear();
+    }
+
+    /**
+     * Latency summary by state transition, sorted by transition name.
+     */
+    public Map<String, Object> summary() {
+        var summary = new TreeMap<String, Object>();
+        transitions.forEach((transition, samples) -> summary.put(transition, samples.summary()));
+        return summary;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private String processId(Event event) {
+        if (event instanceof ContractNegotiationEvent negotiationEvent) {
+            return negotiationEvent.getContractNegotiationId();
+        }
+        if (event instanceof TransferProcessEvent transferProcessEvent) {
+            return transferProcessEvent.getTransferProcessId();
+        }
+        return null;
+    }
+
+    private record Mark(String name, long at) {
+    }
+
+    /**
+     * Events received for a single process, and the futures completed by them.
+     */
+    private static class ProcessTrace {
+        private final Map<Class<?>, CompletableFuture<Void>> futures = new HashMap<>();
+        private Mark last;
+        private String terminationReason;
+
+        synchronized Mark transition(Event event, long at) {
+            var previous = last;
+            last = new Mark(event.name(), at);
+
+            if (event instanceof ContractNegotiationTerminated || event instanceof TransferProcessTerminated) {
+                terminationReason = "%s terminated after %s".formatted(event.name(), previous == null ? "start" : previous.name());
+                futures.values().forEach(future -> future.completeExceptionally(new IllegalStateException(terminationReason)));
+            } else {
+                futures.computeIfAbsent(event.getClass(), k -> new CompletableFuture<>()).complete(null);
+            }
+            return previous;
+        }
+
+        synchronized CompletableFuture<Void> future(Class<? extends Event> eventType) {
+            var future = futures.computeIfAbsent(eventType, k -> new CompletableFuture<>());
+            if (terminationReason != null) {
+                future.completeExceptionally(new IllegalStateException(terminationReason));
+            }
+            return future;
+        }
+    }
+}